@@ -55,7 +55,6 @@ public class DataSourceConfig {
         config.addDataSourceProperty("prepStmtCacheSize", "250");
         config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
         config.addDataSourceProperty("useServerPrepStmts", "true");
-        config.addDataSourceProperty("rewriteBatchedStatements", "true");
 
         config.setConnectionTestQuery("SELECT 1");
         config.setValidationTimeout(5000);
@@ -84,7 +83,6 @@ public class DataSourceConfig {
         config.addDataSourceProperty("prepStmtCacheSize", "500");
         config.addDataSourceProperty("prepStmtCacheSqlLimit", "4096");
         config.addDataSourceProperty("useServerPrepStmts", "true");
-        config.addDataSourceProperty("rewriteBatchedStatements", "true");
         config.addDataSourceProperty("useLocalSessionState", "true");
         
         config.setConnectionTestQuery("SELECT 1");
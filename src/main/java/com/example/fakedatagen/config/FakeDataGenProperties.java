@@ -1,8 +1,14 @@
 package com.example.fakedatagen.config;
 
+import com.example.fakedatagen.generator.FanOutDistribution;
+import com.example.fakedatagen.generator.JunctionPairs;
+import com.example.fakedatagen.generator.ParentDistribution;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * FakeDataGen 애플리케이션 설정을 외부화하는 Properties 클래스
  * application.properties에서 설정값을 읽어옵니다.
@@ -61,6 +67,86 @@ public class FakeDataGenProperties {
      */
     private MemoryMonitoring memoryMonitoring = new MemoryMonitoring();
     
+    /**
+     * 스트리밍 생성/삽입 설정
+     */
+    private Streaming streaming = new Streaming();
+    
+    /**
+     * 병렬 행 생성 설정
+     */
+    private Generation generation = new Generation();
+    
+    /**
+     * 테이블 스케줄링 설정
+     */
+    private Scheduling scheduling = new Scheduling();
+    
+    /**
+     * 테이블 파티션 삽입 설정
+     */
+    private Partitioning partitioning = new Partitioning();
+    
+    /**
+     * DB 삽입 커밋 정책 설정
+     */
+    private Commit commit = new Commit();
+    
+    /**
+     * 적재 전 기존 데이터 초기화 설정
+     */
+    private Reset reset = new Reset();
+    
+    /**
+     * 벌크 적재 설정
+     */
+    private BulkLoad bulkLoad = new BulkLoad();
+    
+    /**
+     * AUTO_INCREMENT 키 할당 설정
+     */
+    private KeyAllocation keyAllocation = new KeyAllocation();
+    
+    /**
+     * 부모 테이블 키 저장소 설정
+     */
+    private KeySpill keySpill = new KeySpill();
+    
+    /**
+     * 다중 행 INSERT 설정
+     */
+    private MultiRowInsert multiRowInsert = new MultiRowInsert();
+    
+    /**
+     * DB 적재 체크포인트 설정
+     */
+    private Checkpoint checkpoint = new Checkpoint();
+    
+    /**
+     * 파일 출력(export) 설정
+     */
+    private Export export = new Export();
+    
+    /**
+     * 부모당 자식 수 분포 설정 (fk-distribution type이 FAN_OUT인 컬럼)
+     */
+    private FanOut fanOut = new FanOut();
+    
+    /**
+     * 외래키/관계 컬럼의 부모 배정 분포 설정
+     */
+    private FkDistribution fkDistribution = new FkDistribution();
+    
+    /**
+     * 생성 값 샘플 추적 설정
+     */
+    private Trace trace = new Trace();
+    
+    /**
+     * 다대다 연결 테이블의 외래키 쌍 생성 설정
+     */
+    private Junction junction = new Junction();
+    
     // Getters and Setters
     public int getBatchSize() {
         return batchSize;
@@ -142,6 +228,134 @@ public class FakeDataGenProperties {
         this.memoryMonitoring = memoryMonitoring;
     }
     
+    public Streaming getStreaming() {
+        return streaming;
+    }
+    
+    public void setStreaming(Streaming streaming) {
+        this.streaming = streaming;
+    }
+    
+    public Generation getGeneration() {
+        return generation;
+    }
+    
+    public void setGeneration(Generation generation) {
+        this.generation = generation;
+    }
+    
+    public Scheduling getScheduling() {
+        return scheduling;
+    }
+    
+    public void setScheduling(Scheduling scheduling) {
+        this.scheduling = scheduling;
+    }
+    
+    public Partitioning getPartitioning() {
+        return partitioning;
+    }
+    
+    public void setPartitioning(Partitioning partitioning) {
+        this.partitioning = partitioning;
+    }
+    
+    public Commit getCommit() {
+        return commit;
+    }
+    
+    public void setCommit(Commit commit) {
+        this.commit = commit;
+    }
+    
+    public Reset getReset() {
+        return reset;
+    }
+    
+    public void setReset(Reset reset) {
+        this.reset = reset;
+    }
+    
+    public BulkLoad getBulkLoad() {
+        return bulkLoad;
+    }
+    
+    public void setBulkLoad(BulkLoad bulkLoad) {
+        this.bulkLoad = bulkLoad;
+    }
+    
+    public KeyAllocation getKeyAllocation() {
+        return keyAllocation;
+    }
+    
+    public void setKeyAllocation(KeyAllocation keyAllocation) {
+        this.keyAllocation = keyAllocation;
+    }
+    
+    public KeySpill getKeySpill() {
+        return keySpill;
+    }
+    
+    public void setKeySpill(KeySpill keySpill) {
+        this.keySpill = keySpill;
+    }
+    
+    public MultiRowInsert getMultiRowInsert() {
+        return multiRowInsert;
+    }
+    
+    public void setMultiRowInsert(MultiRowInsert multiRowInsert) {
+        this.multiRowInsert = multiRowInsert;
+    }
+    
+    public Checkpoint getCheckpoint() {
+        return checkpoint;
+    }
+    
+    public void setCheckpoint(Checkpoint checkpoint) {
+        this.checkpoint = checkpoint;
+    }
+    
+    public Export getExport() {
+        return export;
+    }
+    
+    public void setExport(Export export) {
+        this.export = export;
+    }
+    
+    public FanOut getFanOut() {
+        return fanOut;
+    }
+    
+    public void setFanOut(FanOut fanOut) {
+        this.fanOut = fanOut;
+    }
+    
+    public FkDistribution getFkDistribution() {
+        return fkDistribution;
+    }
+    
+    public void setFkDistribution(FkDistribution fkDistribution) {
+        this.fkDistribution = fkDistribution;
+    }
+    
+    public Trace getTrace() {
+        return trace;
+    }
+    
+    public void setTrace(Trace trace) {
+        this.trace = trace;
+    }
+    
+    public Junction getJunction() {
+        return junction;
+    }
+    
+    public void setJunction(Junction junction) {
+        this.junction = junction;
+    }
+    
     /**
      * Connection Pool 크기 설정
      */
@@ -324,4 +538,538 @@ public class FakeDataGenProperties {
             this.criticalThreshold = criticalThreshold;
         }
     }
+    
+    /**
+     * 스트리밍 생성/삽입 설정
+     * 활성화 시 테이블 전체를 메모리에 만들지 않고 배치 크기 단위로 생성 → INSERT → 폐기합니다.
+     */
+    public static class Streaming {
+        private boolean enabled = true;
+        private int previewRowCount = 100; // 결과 화면에 남길 테이블별 미리보기 행 수
+        private boolean pipeline = true; // 생성 스레드가 다음 청크를 만드는 동안 앞 청크를 INSERT
+        private int queueCapacity = 0; // 생성 → INSERT 대기열에 둘 최대 청크 수 (0 이하이면 병렬 생성 작업자 수)
+        
+        public boolean isEnabled() {
+            return enabled;
+        }
+        
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+        
+        public int getPreviewRowCount() {
+            return previewRowCount;
+        }
+        
+        public void setPreviewRowCount(int previewRowCount) {
+            this.previewRowCount = previewRowCount;
+        }
+        
+        public boolean isPipeline() {
+            return pipeline;
+        }
+        
+        public void setPipeline(boolean pipeline) {
+            this.pipeline = pipeline;
+        }
+        
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+        
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+    }
+    
+    /**
+     * 병렬 행 생성 설정
+     * 테이블의 행 인덱스 구간을 나누어 작업자 스레드들이 동시에 생성합니다.
+     */
+    public static class Generation {
+        private int parallelism = 0; // 0 이하이면 CPU 코어 수 사용
+        private int minRowsPerTask = 10_000; // 작업 하나가 맡는 최소 행 수 (이보다 작은 테이블은 순차 생성)
+        
+        public int getParallelism() {
+            return parallelism;
+        }
+        
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+        
+        public int getMinRowsPerTask() {
+            return minRowsPerTask;
+        }
+        
+        public void setMinRowsPerTask(int minRowsPerTask) {
+            this.minRowsPerTask = minRowsPerTask;
+        }
+    }
+    
+    /**
+     * 테이블 스케줄링 설정
+     * 의존성 단계가 같은 테이블들을 서로 다른 커넥션에서 동시에 생성/삽입합니다.
+     * 부모 테이블 데이터가 다른 커넥션에서 보이려면 테이블마다 커밋해야 하므로 커밋 정책이 ALL_OR_NOTHING이면 순차 처리합니다.
+     * 기본값은 순차 처리(1)이며, 커밋 정책을 PER_TABLE/PER_ROWS로 바꾼 경우에만 2 이상으로 올려 사용합니다.
+     */
+    public static class Scheduling {
+        private int tableParallelism = 1; // 동시에 처리할 최대 테이블 수 (1이면 순차 처리)
+        
+        public int getTableParallelism() {
+            return tableParallelism;
+        }
+        
+        public void setTableParallelism(int tableParallelism) {
+            this.tableParallelism = tableParallelism;
+        }
+    }
+    
+    /**
+     * 테이블 파티션 삽입 설정
+     * AUTO_INCREMENT가 없는 테이블의 행 범위를 나누어 풀의 여러 커넥션에서 동시에 INSERT하고 파티션마다 커밋합니다.
+     * 커밋 정책이 ALL_OR_NOTHING이 아닌 경우의 스트리밍 삽입에만 적용됩니다.
+     */
+    public static class Partitioning {
+        private int partitions = 4; // 테이블 하나를 나눌 최대 파티션 수 (1이면 사용 안 함)
+        private int minRowsPerPartition = 100_000; // 파티션 하나가 맡는 최소 행 수 (이보다 작은 테이블은 나누지 않음)
+        
+        public int getPartitions() {
+            return partitions;
+        }
+        
+        public void setPartitions(int partitions) {
+            this.partitions = partitions;
+        }
+        
+        public int getMinRowsPerPartition() {
+            return minRowsPerPartition;
+        }
+        
+        public void setMinRowsPerPartition(int minRowsPerPartition) {
+            this.minRowsPerPartition = minRowsPerPartition;
+        }
+    }
+    
+    /**
+     * DB 삽입 커밋 정책 설정
+     * ALL_OR_NOTHING은 기존 데이터 삭제와 모든 테이블 삽입을 하나의 트랜잭션으로 처리하여 실패 시 전체를 롤백하지만,
+     * 서버의 undo 로그와 잠금이 전체 적재량만큼 커지고 테이블 동시 처리/파티션 삽입을 사용할 수 없습니다.
+     * PER_TABLE은 테이블마다, PER_ROWS는 테이블 안에서 rows 행마다 커밋합니다.
+     * 기본값은 실패 시 이전 상태로 돌아가는 ALL_OR_NOTHING이며, 대량 적재에서 부분 커밋을 감수할 때만 다른 정책을 선택합니다.
+     */
+    public static class Commit {
+        
+        public enum Policy {
+            ALL_OR_NOTHING, PER_TABLE, PER_ROWS
+        }
+        
+        private Policy policy = Policy.ALL_OR_NOTHING;
+        private int rows = 100_000; // PER_ROWS: 커밋 간격 (행 수, 스트리밍 삽입 시 배치 단위로 적용)
+        
+        public Policy getPolicy() {
+            return policy;
+        }
+        
+        public void setPolicy(Policy policy) {
+            this.policy = policy;
+        }
+        
+        public int getRows() {
+            return rows;
+        }
+        
+        public void setRows(int rows) {
+            this.rows = rows;
+        }
+    }
+    
+    /**
+     * 적재 전 기존 데이터 초기화 설정
+     * DELETE는 행마다 로그를 남기므로 큰 테이블에서는 적재만큼 오래 걸릴 수 있습니다.
+     * TRUNCATE는 다른 테이블이 참조하지 않는 테이블만 TRUNCATE하고, DISABLE_FOREIGN_KEYS는 FK를 삭제했다가
+     * 다시 추가하며 모든 테이블을 TRUNCATE하고, RECREATE는 파싱한 스키마로 테이블을 다시 만듭니다.
+     * 요청마다 초기화 방식을 지정하지 않으면 strategy를 사용합니다.
+     */
+    public static class Reset {
+        
+        public enum Strategy {
+            DELETE, TRUNCATE, DISABLE_FOREIGN_KEYS, RECREATE
+        }
+        
+        private Strategy strategy = Strategy.DELETE;
+        
+        public Strategy getStrategy() {
+            return strategy;
+        }
+        
+        public void setStrategy(Strategy strategy) {
+            this.strategy = strategy;
+        }
+    }
+    
+    /**
+     * 벌크 적재 설정
+     * 적재 전에 파싱한 스키마의 UNIQUE/FK 제약조건(과 그 인덱스)을 삭제하고 적재가 끝난 뒤 다시 만들어,
+     * 행마다 보조 인덱스를 갱신하는 비용을 적재 후 한 번의 인덱스 생성으로 바꿉니다. PRIMARY KEY는 유지합니다.
+     * 적재한 데이터가 UNIQUE를 위반하면 재생성 단계에서 실패합니다.
+     */
+    public static class BulkLoad {
+        private boolean enabled = false;
+        
+        public boolean isEnabled() {
+            return enabled;
+        }
+        
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+    
+    /**
+     * AUTO_INCREMENT 키 할당 설정
+     * CLIENT는 생성기가 만든 행 번호 기반 키(1..N)를 INSERT에 직접 넣고 적재 후 AUTO_INCREMENT 시작값을 N+1로 맞추므로,
+     * 자식 테이블이 부모 키를 DB에서 돌려받지 않고 결정적으로 참조하며 AUTO_INCREMENT 테이블도 파티션/구간 단위로 나누어 적재할 수 있습니다.
+     * GENERATED는 DB가 키를 할당하고 getGeneratedKeys로 돌려받으며, 드라이버가 키를 일부만 돌려주면 실패합니다.
+     */
+    public static class KeyAllocation {
+        
+        public enum Mode {
+            CLIENT, GENERATED
+        }
+        
+        private Mode mode = Mode.CLIENT;
+        
+        public Mode getMode() {
+            return mode;
+        }
+        
+        public void setMode(Mode mode) {
+            this.mode = mode;
+        }
+    }
+    
+    /**
+     * 부모 테이블 키 저장소 설정
+     * 연속 키나 키가 없는 테이블은 개수만 보관하고, 그 밖의 키는 long 배열에 보관합니다.
+     * 한 테이블의 키가 threshold 행을 넘으면 directory(비어 있으면 시스템 임시 디렉터리)의 임시 파일로 옮겨 메모리 매핑으로 조회합니다.
+     */
+    public static class KeySpill {
+        private int threshold = 5000000;
+        private String directory = "";
+        
+        public int getThreshold() {
+            return threshold;
+        }
+        
+        public void setThreshold(int threshold) {
+            this.threshold = threshold;
+        }
+        
+        public String getDirectory() {
+            return directory;
+        }
+        
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+    }
+    
+    /**
+     * 다중 행 INSERT 설정
+     * 생성 키를 돌려받지 않는 INSERT는 rows-per-statement개 행을 INSERT ... VALUES (...), (...) 한 문장으로 묶어
+     * 서버 왕복과 문장 파싱 횟수를 줄입니다. 한 문장의 바인딩 파라미터 수(행 수 × 컬럼 수)는 max-parameters를 넘지 않습니다.
+     * (CUBRID 드라이버는 rewriteBatchedStatements를 지원하지 않으므로 문장을 직접 만듭니다)
+     */
+    public static class MultiRowInsert {
+        private boolean enabled = true;
+        private int rowsPerStatement = 100;
+        private int maxParameters = 10000;
+        
+        public boolean isEnabled() {
+            return enabled;
+        }
+        
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+        
+        public int getRowsPerStatement() {
+            return rowsPerStatement;
+        }
+        
+        public void setRowsPerStatement(int rowsPerStatement) {
+            this.rowsPerStatement = rowsPerStatement;
+        }
+        
+        public int getMaxParameters() {
+            return maxParameters;
+        }
+        
+        public void setMaxParameters(int maxParameters) {
+            this.maxParameters = maxParameters;
+        }
+    }
+    
+    /**
+     * DB 적재 체크포인트 설정
+     * 커밋이 끝난 행 범위와 테이블을 작업별 저널 파일에 기록하여, 중단된 적재를 같은 시드로 이어서 진행합니다.
+     * 커밋 정책이 ALL_OR_NOTHING이면 실패 시 전체가 롤백되므로 사용하지 않습니다.
+     * 기본값은 사용 안 함이며, PER_TABLE/PER_ROWS 정책과 함께 enabled=true로 켭니다.
+     */
+    public static class Checkpoint {
+        private boolean enabled = false;
+        private String directory = "checkpoint"; // 저널 파일 디렉터리 (적재가 끝나면 파일 삭제)
+        
+        public boolean isEnabled() {
+            return enabled;
+        }
+        
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+        
+        public String getDirectory() {
+            return directory;
+        }
+        
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+    }
+    
+    /**
+     * 파일 출력(export) 설정
+     * 실행마다 directory 아래에 "형식-날짜시각" 하위 디렉터리를 만들어 파일을 기록합니다.
+     */
+    public static class Export {
+        private String directory = "export"; // 출력 파일 기본 디렉터리
+        private int bufferSize = 1 << 20; // 파일별 쓰기 버퍼 크기 (바이트)
+        private int sqlRowsPerStatement = 1000; // SQL 스크립트에서 INSERT 문 하나에 묶을 행 수
+        
+        public String getDirectory() {
+            return directory;
+        }
+        
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+        
+        public int getBufferSize() {
+            return bufferSize;
+        }
+        
+        public void setBufferSize(int bufferSize) {
+            this.bufferSize = bufferSize;
+        }
+        
+        public int getSqlRowsPerStatement() {
+            return sqlRowsPerStatement;
+        }
+        
+        public void setSqlRowsPerStatement(int sqlRowsPerStatement) {
+            this.sqlRowsPerStatement = sqlRowsPerStatement;
+        }
+    }
+    
+    /**
+     * 부모당 자식 수 분포 설정 (fakedatagen.fk-distribution type이 FAN_OUT인 외래키/관계 컬럼에 적용)
+     * 분포는 컬럼마다 한 번만 계산되며, 행 생성 시에는 자식 인덱스로 부모를 바로 찾습니다.
+     */
+    public static class FanOut {
+        private FanOutDistribution.Type distribution = FanOutDistribution.Type.FIXED; // FIXED, UNIFORM, ZIPF
+        private int children = 3; // FIXED: 부모당 자식 수, ZIPF: 평균 자식 수
+        private int min = 2; // UNIFORM: 최소 자식 수
+        private int max = 5; // UNIFORM: 최대 자식 수
+        private double zipfExponent = 1.0; // ZIPF: 지수 (클수록 앞쪽 부모에 자식이 몰림)
+        
+        public FanOutDistribution.Type getDistribution() {
+            return distribution;
+        }
+        
+        public void setDistribution(FanOutDistribution.Type distribution) {
+            this.distribution = distribution;
+        }
+        
+        public int getChildren() {
+            return children;
+        }
+        
+        public void setChildren(int children) {
+            this.children = children;
+        }
+        
+        public int getMin() {
+            return min;
+        }
+        
+        public void setMin(int min) {
+            this.min = min;
+        }
+        
+        public int getMax() {
+            return max;
+        }
+        
+        public void setMax(int max) {
+            this.max = max;
+        }
+        
+        public double getZipfExponent() {
+            return zipfExponent;
+        }
+        
+        public void setZipfExponent(double zipfExponent) {
+            this.zipfExponent = zipfExponent;
+        }
+    }
+    
+    /**
+     * 외래키/관계 컬럼의 부모 배정 분포 설정
+     * 최상위 값은 모든 외래키 컬럼의 기본값이고, columns[테이블.컬럼]에 컬럼별 설정을 따로 둘 수 있습니다.
+     * 관계 분석으로 만들어진 관계 컬럼도 일반 외래키 컬럼과 같은 규칙으로 이 분포를 사용합니다.
+     */
+    public static class FkDistribution {
+        private ParentDistribution.Type type = ParentDistribution.Type.ROUND_ROBIN; // ROUND_ROBIN, UNIFORM, ZIPF, HOT_KEY, FAN_OUT
+        private double zipfExponent = 1.0; // ZIPF: 지수 (클수록 앞쪽 부모에 자식이 몰림)
+        private double hotKeyPercent = 1.0; // HOT_KEY: 자식이 몰리는 부모 비율 (%)
+        private double hotTrafficPercent = 80.0; // HOT_KEY: 몰리는 부모에 배정할 자식 비율 (%)
+        private double emptyParentPercent = 0.0; // 자식을 받지 않는 부모 비율 (%)
+        private Map<String, FkDistribution> columns = new HashMap<>(); // 테이블.컬럼별 설정
+        
+        public ParentDistribution.Type getType() {
+            return type;
+        }
+        
+        public void setType(ParentDistribution.Type type) {
+            this.type = type;
+        }
+        
+        public double getZipfExponent() {
+            return zipfExponent;
+        }
+        
+        public void setZipfExponent(double zipfExponent) {
+            this.zipfExponent = zipfExponent;
+        }
+        
+        public double getHotKeyPercent() {
+            return hotKeyPercent;
+        }
+        
+        public void setHotKeyPercent(double hotKeyPercent) {
+            this.hotKeyPercent = hotKeyPercent;
+        }
+        
+        public double getHotTrafficPercent() {
+            return hotTrafficPercent;
+        }
+        
+        public void setHotTrafficPercent(double hotTrafficPercent) {
+            this.hotTrafficPercent = hotTrafficPercent;
+        }
+        
+        public double getEmptyParentPercent() {
+            return emptyParentPercent;
+        }
+        
+        public void setEmptyParentPercent(double emptyParentPercent) {
+            this.emptyParentPercent = emptyParentPercent;
+        }
+        
+        public Map<String, FkDistribution> getColumns() {
+            return columns;
+        }
+        
+        public void setColumns(Map<String, FkDistribution> columns) {
+            this.columns = columns;
+        }
+    }
+    
+    /**
+     * 생성 값 샘플 추적 설정 (시작 시 기본값이며, 실행 중에는 /api/trace로 변경)
+     * 켜져 있으면 FK/관계 컬럼마다 sampleEvery개 중 하나의 값을 DEBUG로, 테이블이 끝날 때 컬럼별 생성 수를 INFO로 남깁니다.
+     */
+    public static class Trace {
+        private boolean enabled = false;
+        private int sampleEvery = 10000;
+        
+        public boolean isEnabled() {
+            return enabled;
+        }
+        
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+        
+        public int getSampleEvery() {
+            return sampleEvery;
+        }
+        
+        public void setSampleEvery(int sampleEvery) {
+            this.sampleEvery = sampleEvery;
+        }
+    }
+    
+    /**
+     * 다대다 연결 테이블의 외래키 쌍 생성 설정
+     * 복합 기본키에 두 외래키 컬럼이 포함된 테이블은 행마다 서로 다른 (왼쪽 부모, 오른쪽 부모) 쌍을 받습니다.
+     * 만들 수 있는 쌍의 수를 넘는 행 수를 요청하면 기본키 중복 대신 생성 오류가 납니다.
+     */
+    public static class Junction {
+        private boolean enabled = true;
+        private JunctionPairs.Type distribution = JunctionPairs.Type.SPREAD; // SPREAD, FIXED, UNIFORM, ZIPF
+        private int pairs = 3; // FIXED: 왼쪽 부모당 쌍 수, ZIPF: 평균 쌍 수
+        private int min = 1; // UNIFORM: 최소 쌍 수
+        private int max = 5; // UNIFORM: 최대 쌍 수
+        private double zipfExponent = 1.0; // ZIPF: 지수 (클수록 앞쪽 부모에 쌍이 몰림)
+        
+        public boolean isEnabled() {
+            return enabled;
+        }
+        
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+        
+        public JunctionPairs.Type getDistribution() {
+            return distribution;
+        }
+        
+        public void setDistribution(JunctionPairs.Type distribution) {
+            this.distribution = distribution;
+        }
+        
+        public int getPairs() {
+            return pairs;
+        }
+        
+        public void setPairs(int pairs) {
+            this.pairs = pairs;
+        }
+        
+        public int getMin() {
+            return min;
+        }
+        
+        public void setMin(int min) {
+            this.min = min;
+        }
+        
+        public int getMax() {
+            return max;
+        }
+        
+        public void setMax(int max) {
+            this.max = max;
+        }
+        
+        public double getZipfExponent() {
+            return zipfExponent;
+        }
+        
+        public void setZipfExponent(double zipfExponent) {
+            this.zipfExponent = zipfExponent;
+        }
+    }
 }
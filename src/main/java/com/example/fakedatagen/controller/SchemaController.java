@@ -1,9 +1,13 @@
 package com.example.fakedatagen.controller;
 
 import com.example.fakedatagen.service.SchemaAnalysisService;
+import com.example.fakedatagen.service.DataExportService;
 import com.example.fakedatagen.service.DataGenerationService;
 import com.example.fakedatagen.model.*;
 import com.example.fakedatagen.config.FakeDataGenProperties;
+import com.example.fakedatagen.export.DumpFormat;
+import com.example.fakedatagen.generator.GenerationSeed;
+import com.example.fakedatagen.generator.GenerationTracer;
 import com.example.fakedatagen.exception.DataGenerationException;
 import com.example.fakedatagen.exception.DatabaseConnectionException;
 import com.example.fakedatagen.exception.SchemaParseException;
@@ -16,8 +20,14 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -26,16 +36,28 @@ public class SchemaController {
     
     private static final Logger log = LoggerFactory.getLogger(SchemaController.class);
     
+    /** 출력 방식: 화면 미리보기 (DB INSERT 선택 시 DB 삽입) */
+    private static final String OUTPUT_SCREEN = "screen";
+    /** 출력 방식: CUBRID loaddb 객체 파일 */
+    private static final String OUTPUT_LOADDB = "loaddb";
+    private static final DateTimeFormatter DOWNLOAD_FILE_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    
     private final SchemaAnalysisService schemaAnalysisService;
     private final DataGenerationService dataGenerationService;
+    private final DataExportService dataExportService;
     private final FakeDataGenProperties properties;
+    private final GenerationTracer generationTracer;
     
     public SchemaController(SchemaAnalysisService schemaAnalysisService, 
                            DataGenerationService dataGenerationService,
-                           FakeDataGenProperties properties) {
+                           DataExportService dataExportService,
+                           FakeDataGenProperties properties,
+                           GenerationTracer generationTracer) {
         this.schemaAnalysisService = schemaAnalysisService;
         this.dataGenerationService = dataGenerationService;
+        this.dataExportService = dataExportService;
         this.properties = properties;
+        this.generationTracer = generationTracer;
     }
     
     @GetMapping("/")
@@ -48,6 +70,9 @@ public class SchemaController {
                              @RequestParam(value = "recordCount", defaultValue = "100000") int recordCount,
                              @RequestParam(value = "insertToDatabase", defaultValue = "false") boolean insertToDatabase,
                              @RequestParam(value = "cubridVersion112", defaultValue = "false") boolean cubridVersion112,
+                             @RequestParam(value = "outputTarget", defaultValue = OUTPUT_SCREEN) String outputTarget,
+                             @RequestParam(value = "seed", required = false) Long seed,
+                             @RequestParam(value = "resetStrategy", required = false) FakeDataGenProperties.Reset.Strategy resetStrategy,
                              @RequestParam(value = "dbHost", required = false) String dbHost,
                              @RequestParam(value = "dbPort", required = false) Integer dbPort,
                              @RequestParam(value = "dbName", required = false) String dbName,
@@ -56,8 +81,13 @@ public class SchemaController {
                              Model model) {
         validateRequestParameters(schemaText, recordCount);
         try {
-            log.info("Starting data generation process - recordCount={}, insertToDatabase={}, cubridVersion={}", 
-                    recordCount, insertToDatabase, cubridVersion112 ? "11.2+" : "11.1");
+            GenerationSeed generationSeed = GenerationSeed.ofNullable(seed);
+            log.info("Starting data generation process - recordCount={}, insertToDatabase={}, outputTarget={}, seed={}, cubridVersion={}", 
+                    recordCount, insertToDatabase, outputTarget, generationSeed, cubridVersion112 ? "11.2+" : "11.1");
+            boolean exportLoaddb = OUTPUT_LOADDB.equals(outputTarget);
+            if (exportLoaddb && insertToDatabase) {
+                throw new IllegalArgumentException("loaddb 파일 출력과 DB INSERT는 함께 선택할 수 없습니다.");
+            }
             
             DatabaseConnectionInfo dbInfo = buildDatabaseConnectionInfo(dbHost, dbPort, dbName, dbUsername, dbPassword);
             
@@ -68,8 +98,10 @@ public class SchemaController {
             DatabaseSchema schema = schemaAnalysisService.parseSchema(schemaText, cubridVersion112);
             log.info("Schema parsing completed - found {} tables", schema.getTables().size());
             
-            DataGenerationService.DataGenerationResult result = 
-                    dataGenerationService.generateAndInsertData(schema, recordCount, insertToDatabase, dbInfo);
+            DataGenerationService.DataGenerationResult result = exportLoaddb
+                    ? dataExportService.exportLoaddb(schema, recordCount, generationSeed)
+                    : dataGenerationService.generateAndInsertData(schema, recordCount, insertToDatabase, dbInfo, generationSeed,
+                            resetStrategy);
             
             log.info("Data generation process completed - totalInserted={}", result.getTotalInserted());
             
@@ -79,9 +111,14 @@ public class SchemaController {
             model.addAttribute("recordCount", recordCount);
             model.addAttribute("schemaText", schemaText);
             model.addAttribute("insertToDatabase", insertToDatabase);
+            model.addAttribute("outputTarget", outputTarget);
+            model.addAttribute("seed", seed);
             model.addAttribute("totalInserted", result.getTotalInserted());
             model.addAttribute("insertMessage", result.getInsertMessage());
             model.addAttribute("tableInsertCounts", result.getTableInsertCounts());
+            model.addAttribute("resetStrategy", resetStrategy != null ? resetStrategy : properties.getReset().getStrategy());
+            model.addAttribute("resetTimings", result.getResetTimings() != null ? result.getResetTimings() : java.util.Collections.emptyMap());
+            model.addAttribute("rebuildTimings", result.getRebuildTimings() != null ? result.getRebuildTimings() : java.util.Collections.emptyMap());
             model.addAttribute("warnings", result.getWarnings() != null ? result.getWarnings() : java.util.Collections.emptyList());
             model.addAttribute("memoryInfo", MemoryMonitor.getMemoryInfo());
             
@@ -105,6 +142,50 @@ public class SchemaController {
         return "result";
     }
     
+    /**
+     * 생성한 데이터를 CSV(ZIP) 또는 INSERT 스크립트로 내려받습니다.
+     * 응답 본문은 행을 생성하는 즉시 출력 스트림에 기록되며(chunked 전송), 화면 렌더링이나 DB 삽입은 하지 않습니다.
+     * 본문 전송이 시작되기 전에 입력값과 스키마를 검증하여 오류는 400 응답으로 돌려줍니다.
+     */
+    @PostMapping("/download")
+    public ResponseEntity<StreamingResponseBody> downloadData(@RequestParam("schemaText") String schemaText,
+                                                              @RequestParam(value = "recordCount", defaultValue = "100000") int recordCount,
+                                                              @RequestParam(value = "cubridVersion112", defaultValue = "false") boolean cubridVersion112,
+                                                              @RequestParam("outputTarget") String outputTarget,
+                                                              @RequestParam(value = "seed", required = false) Long seed) {
+        DumpFormat format;
+        DatabaseSchema schema;
+        try {
+            validateRequestParameters(schemaText, recordCount);
+            format = DumpFormat.fromValue(outputTarget);
+            schema = schemaAnalysisService.parseSchema(schemaText, cubridVersion112);
+        } catch (SchemaParseException e) {
+            log.error("Schema parsing failed", e);
+            return textResponse("스키마 파싱 오류: " + e.getMessage());
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid input parameter", e);
+            return textResponse("입력 오류: " + e.getMessage());
+        }
+        
+        GenerationSeed generationSeed = GenerationSeed.ofNullable(seed);
+        log.info("Starting data download - recordCount={}, format={}, seed={}, tables={}", 
+                recordCount, format, generationSeed, schema.getTables().size());
+        String fileName = "fakedata-" + LocalDateTime.now().format(DOWNLOAD_FILE_SUFFIX) + "." + format.getExtension();
+        StreamingResponseBody body = outputStream -> {
+            try {
+                dataExportService.exportDump(schema, recordCount, generationSeed, format, outputStream);
+            } catch (RuntimeException e) {
+                // 이미 응답 헤더가 전송된 뒤이므로 오류 화면 대신 로그만 남기고 연결을 끊음
+                log.error("Data download failed - format={}", format, e);
+                throw e;
+            }
+        };
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .body(body);
+    }
+    
     @GetMapping("/api/memory")
     @ResponseBody
     public ResponseEntity<Map<String, Object>> getMemoryInfo() {
@@ -131,6 +212,40 @@ public class SchemaController {
         }
     }
     
+    /**
+     * 생성 값 샘플 추적 상태와 생성 중인 테이블의 컬럼별 생성 수를 조회합니다.
+     */
+    @GetMapping("/api/trace")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> getTrace() {
+        return ResponseEntity.ok(traceResponse());
+    }
+    
+    /**
+     * 재시작 없이 생성 값 샘플 추적을 켜거나 끕니다.
+     * 
+     * @param sampleEvery 값 몇 개마다 하나를 남길지 (생략하면 현재 값 유지)
+     */
+    @PostMapping("/api/trace")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> updateTrace(@RequestParam("enabled") boolean enabled,
+                                                           @RequestParam(value = "sampleEvery", required = false) Integer sampleEvery) {
+        generationTracer.configure(enabled, sampleEvery != null ? sampleEvery : generationTracer.getSampleEvery());
+        return ResponseEntity.ok(traceResponse());
+    }
+    
+    private Map<String, Object> traceResponse() {
+        Map<String, Object> data = new HashMap<>();
+        data.put("enabled", generationTracer.isEnabled());
+        data.put("sampleEvery", generationTracer.getSampleEvery());
+        data.put("counts", generationTracer.snapshot());
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", data);
+        return response;
+    }
+    
     @PostMapping("/test-connection")
     @ResponseBody
     public ResponseEntity<Map<String, Object>> testConnection(@RequestParam("dbHost") String dbHost,
@@ -171,6 +286,12 @@ public class SchemaController {
         }
     }
     
+    private ResponseEntity<StreamingResponseBody> textResponse(String message) {
+        return ResponseEntity.badRequest()
+                .contentType(MediaType.parseMediaType("text/plain;charset=UTF-8"))
+                .body(outputStream -> outputStream.write(message.getBytes(StandardCharsets.UTF_8)));
+    }
+    
     private void validateRequestParameters(String schemaText, int recordCount) {
         if (schemaText == null || schemaText.trim().isEmpty()) {
             throw new IllegalArgumentException("스키마 텍스트가 비어있습니다");
@@ -0,0 +1,70 @@
+package com.example.fakedatagen.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 채널 앞에 직접 버퍼를 두고 UTF-8 텍스트를 기록하는 writer
+ * 행 단위의 작은 write 호출을 버퍼에 모았다가 버퍼가 찰 때만 채널에 기록합니다.
+ */
+public class BufferedChannelWriter implements Closeable {
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer;
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    private long bytesWritten;
+
+    public BufferedChannelWriter(WritableByteChannel channel, int bufferSize) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(Math.max(4096, bufferSize));
+    }
+
+    public void write(CharSequence text) throws IOException {
+        CharBuffer chars = CharBuffer.wrap(text);
+        encoder.reset();
+        while (true) {
+            CoderResult result = encoder.encode(chars, buffer, true);
+            if (result.isOverflow()) {
+                drain();
+            } else if (result.isError()) {
+                result.throwException();
+            } else {
+                break;
+            }
+        }
+    }
+
+    public void flush() throws IOException {
+        drain();
+    }
+
+    /**
+     * 지금까지 채널에 기록된 바이트 수 (버퍼에 남은 바이트 제외)
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            drain();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            bytesWritten += channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
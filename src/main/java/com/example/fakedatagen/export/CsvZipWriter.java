@@ -0,0 +1,148 @@
+package com.example.fakedatagen.export;
+
+import com.example.fakedatagen.generator.RowBatch;
+import com.example.fakedatagen.model.Column;
+import com.example.fakedatagen.model.Table;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 테이블별 CSV 파일을 하나의 ZIP으로 출력
+ * 엔트리명은 "001_테이블명.csv" 형태로 적재 순서(위상 정렬 순서)를 앞에 붙이며,
+ * 첫 줄은 컬럼명, NULL은 빈 값으로 기록합니다. (RFC 4180 따옴표 규칙)
+ */
+public class CsvZipWriter implements TableDataWriter {
+
+    private static final DateTimeFormatter DATETIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+    private static final int LINE_FLUSH_THRESHOLD = 64 * 1024;
+
+    private final ZipOutputStream zip;
+    private final BufferedChannelWriter out;
+    private final StringBuilder line = new StringBuilder(LINE_FLUSH_THRESHOLD + 1024);
+    private int tableCount;
+    private boolean entryOpen;
+
+    /**
+     * @param outputStream 출력 스트림 (close 시 함께 닫힘)
+     * @param bufferSize 쓰기 버퍼 크기 (바이트)
+     */
+    public CsvZipWriter(OutputStream outputStream, int bufferSize) {
+        this.zip = new ZipOutputStream(outputStream);
+        this.out = new BufferedChannelWriter(Channels.newChannel(zip), bufferSize);
+    }
+
+    @Override
+    public void beginTable(Table table, String tableName) throws IOException {
+        endTable();
+        zip.putNextEntry(new ZipEntry(String.format("%03d_%s.csv", ++tableCount, tableName)));
+        entryOpen = true;
+
+        List<Column> columns = table.getColumns();
+        for (int c = 0; c < columns.size(); c++) {
+            if (c > 0) {
+                line.append(',');
+            }
+            appendText(columns.get(c).getName());
+        }
+        line.append("\r\n");
+        out.write(line);
+        line.setLength(0);
+    }
+
+    @Override
+    public void writeBatch(RowBatch batch) throws IOException {
+        if (!entryOpen) {
+            throw new IllegalStateException("beginTable이 호출되지 않았습니다");
+        }
+        int columnCount = batch.getColumnCount();
+        for (int row = 0; row < batch.size(); row++) {
+            for (int c = 0; c < columnCount; c++) {
+                if (c > 0) {
+                    line.append(',');
+                }
+                appendValue(batch, row, c);
+            }
+            line.append("\r\n");
+            if (line.length() >= LINE_FLUSH_THRESHOLD) {
+                out.write(line);
+                line.setLength(0);
+            }
+        }
+        if (line.length() > 0) {
+            out.write(line);
+            line.setLength(0);
+        }
+    }
+
+    /**
+     * 버퍼를 비운 뒤 현재 ZIP 엔트리를 닫습니다.
+     */
+    @Override
+    public void endTable() throws IOException {
+        if (entryOpen) {
+            out.flush();
+            zip.closeEntry();
+            entryOpen = false;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        endTable();
+        out.flush();
+        zip.finish();
+        out.close();
+    }
+
+    private void appendValue(RowBatch batch, int row, int c) {
+        if (batch.isNull(row, c)) {
+            return;
+        }
+        switch (batch.getKind(c)) {
+            case INT -> line.append(batch.getInt(row, c));
+            case LONG -> line.append(batch.getLong(row, c));
+            case DOUBLE -> line.append(batch.getDouble(row, c));
+            case DECIMAL -> line.append(batch.getDecimal(row, c).toPlainString());
+            case BOOLEAN -> line.append(batch.getBoolean(row, c) ? '1' : '0');
+            case DATE -> line.append(batch.getDate(row, c));
+            case TIME -> line.append(batch.getTime(row, c));
+            case DATETIME -> line.append(DATETIME_FORMAT.format(batch.getDateTime(row, c)));
+            case STRING -> appendText(batch.getString(row, c));
+            default -> {
+                Object value = batch.get(row, c);
+                appendText(value instanceof BigDecimal decimal ? decimal.toPlainString() : String.valueOf(value));
+            }
+        }
+    }
+
+    /**
+     * 쉼표, 큰따옴표, 줄바꿈이 있으면 큰따옴표로 감싸고 내부 큰따옴표는 두 번 씁니다.
+     */
+    private void appendText(String value) {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char ch = value.charAt(i);
+            quote = ch == ',' || ch == '"' || ch == '\n' || ch == '\r';
+        }
+        if (!quote) {
+            line.append(value);
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (ch == '"') {
+                line.append('"');
+            }
+            line.append(ch);
+        }
+        line.append('"');
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.fakedatagen.export;
+
+import com.example.fakedatagen.generator.ColumnType;
+import com.example.fakedatagen.generator.RowBatch;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * RowBatch 값을 CUBRID 리터럴로 기록하는 도우미
+ * loaddb 객체 파일과 INSERT 스크립트의 값 표기가 같으므로 두 출력에서 함께 사용합니다.
+ */
+final class CubridLiterals {
+
+    private static final DateTimeFormatter DATETIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private CubridLiterals() {
+    }
+
+    /**
+     * 값 하나를 리터럴로 덧붙입니다.
+     *
+     * @param type 컬럼 선언 타입 (DATETIME/TIMESTAMP, BIT 구분용)
+     */
+    static void append(StringBuilder out, RowBatch batch, int row, int column, ColumnType type) {
+        if (batch.isNull(row, column)) {
+            out.append("NULL");
+            return;
+        }
+        switch (batch.getKind(column)) {
+            case INT -> out.append(batch.getInt(row, column));
+            case LONG -> out.append(batch.getLong(row, column));
+            case DOUBLE -> out.append(batch.getDouble(row, column));
+            case DECIMAL -> out.append(batch.getDecimal(row, column).toPlainString());
+            case BOOLEAN -> out.append(batch.getBoolean(row, column) ? '1' : '0');
+            case DATE -> out.append("date '").append(batch.getDate(row, column)).append('\'');
+            case TIME -> out.append("time '").append(batch.getTime(row, column)).append('\'');
+            case DATETIME -> appendDateTime(out, batch.getDateTime(row, column), type);
+            case STRING -> appendString(out, batch.getString(row, column), type);
+            default -> appendObject(out, batch.get(row, column), type);
+        }
+    }
+
+    /**
+     * "스키마.테이블" 형태는 각각 대괄호로 감쌉니다. (11.2 이상 스키마명 유지 모드)
+     */
+    static String quoteTableName(String tableName) {
+        int dot = tableName.lastIndexOf('.');
+        if (dot < 0) {
+            return "[" + tableName + "]";
+        }
+        return "[" + tableName.substring(0, dot) + "].[" + tableName.substring(dot + 1) + "]";
+    }
+
+    private static void appendDateTime(StringBuilder out, LocalDateTime value, ColumnType type) {
+        if (type == ColumnType.TIMESTAMP) {
+            out.append("timestamp '").append(TIMESTAMP_FORMAT.format(value)).append('\'');
+        } else {
+            out.append("datetime '").append(DATETIME_FORMAT.format(value)).append('\'');
+        }
+    }
+
+    private static void appendObject(StringBuilder out, Object value, ColumnType type) {
+        if (value instanceof Number number) {
+            out.append(number instanceof BigDecimal decimal ? decimal.toPlainString() : number.toString());
+        } else if (value instanceof Boolean bool) {
+            out.append(bool ? '1' : '0');
+        } else {
+            appendString(out, value.toString(), type);
+        }
+    }
+
+    /**
+     * 문자열은 작은따옴표로 감싸고 내부 작은따옴표는 두 번 써서 이스케이프합니다.
+     * BIT 계열은 비트 문자열 리터럴(B'0101')로 기록합니다.
+     */
+    private static void appendString(StringBuilder out, String value, ColumnType type) {
+        if (type == ColumnType.BIT || type == ColumnType.BIT_VARYING) {
+            out.append("B'").append(value).append('\'');
+            return;
+        }
+        out.append('\'');
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (ch == '\'') {
+                out.append('\'');
+            }
+            out.append(ch);
+        }
+        out.append('\'');
+    }
+}
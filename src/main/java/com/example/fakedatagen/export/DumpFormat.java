@@ -0,0 +1,47 @@
+package com.example.fakedatagen.export;
+
+/**
+ * 다운로드 덤프 형식
+ */
+public enum DumpFormat {
+    /** 테이블별 CSV를 묶은 ZIP */
+    CSV("csv", "zip", "application/zip"),
+    /** INSERT 문 SQL 스크립트 */
+    SQL("sql", "sql", "application/sql");
+
+    private final String value;
+    private final String extension;
+    private final String contentType;
+
+    DumpFormat(String value, String extension, String contentType) {
+        this.value = value;
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    /**
+     * 요청 파라미터 값으로 형식을 찾습니다.
+     *
+     * @throws IllegalArgumentException 지원하지 않는 형식인 경우
+     */
+    public static DumpFormat fromValue(String value) {
+        for (DumpFormat format : values()) {
+            if (format.value.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 다운로드 형식입니다: " + value);
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.fakedatagen.export;
+
+import com.example.fakedatagen.generator.ColumnType;
+import com.example.fakedatagen.generator.RowBatch;
+import com.example.fakedatagen.model.Column;
+import com.example.fakedatagen.model.Table;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * CUBRID loaddb 객체 파일(.obj) 출력
+ * 테이블마다 "%class [스키마].[테이블] ([컬럼] ...)" 헤더와 한 줄에 한 행씩 값을 기록하며,
+ * 테이블 하나당 파일 하나를 만들고 파일명 앞에 적재 순서(위상 정렬 순서)를 붙입니다.
+ *
+ * <p>적재 순서는 {@value #LOAD_ORDER_FILE_NAME} 파일에도 기록되므로 순서대로
+ * {@code cubrid loaddb -u dba -d <파일> <db>}를 실행하면 FK 제약을 만족하며 적재됩니다.</p>
+ */
+public class LoaddbObjectWriter implements TableDataWriter {
+
+    public static final String LOAD_ORDER_FILE_NAME = "load_order.txt";
+
+    private static final int LINE_FLUSH_THRESHOLD = 64 * 1024;
+
+    private final Path directory;
+    private final int bufferSize;
+    private final List<Path> files = new ArrayList<>();
+
+    private BufferedChannelWriter current;
+    private ColumnType[] columnTypes;
+    private final StringBuilder line = new StringBuilder(LINE_FLUSH_THRESHOLD + 1024);
+
+    /**
+     * @param directory 객체 파일을 만들 디렉터리 (없으면 생성)
+     * @param bufferSize 파일별 쓰기 버퍼 크기 (바이트)
+     */
+    public LoaddbObjectWriter(Path directory, int bufferSize) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public void beginTable(Table table, String tableName) throws IOException {
+        endTable();
+
+        Path file = directory.resolve(String.format("%03d_%s.obj", files.size() + 1, tableName));
+        current = new BufferedChannelWriter(FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE), bufferSize);
+        files.add(file);
+
+        List<Column> columns = table.getColumns();
+        columnTypes = new ColumnType[columns.size()];
+        line.setLength(0);
+        line.append("%class ").append(CubridLiterals.quoteTableName(tableName)).append(" (");
+        for (int c = 0; c < columns.size(); c++) {
+            columnTypes[c] = ColumnType.resolve(columns.get(c).getDataType());
+            if (c > 0) {
+                line.append(' ');
+            }
+            line.append('[').append(columns.get(c).getName()).append(']');
+        }
+        line.append(")\n");
+        current.write(line);
+        line.setLength(0);
+    }
+
+    @Override
+    public void writeBatch(RowBatch batch) throws IOException {
+        if (current == null) {
+            throw new IllegalStateException("beginTable이 호출되지 않았습니다");
+        }
+        int columnCount = batch.getColumnCount();
+        for (int row = 0; row < batch.size(); row++) {
+            for (int c = 0; c < columnCount; c++) {
+                if (c > 0) {
+                    line.append(' ');
+                }
+                CubridLiterals.append(line, batch, row, c, columnTypes[c]);
+            }
+            line.append('\n');
+            if (line.length() >= LINE_FLUSH_THRESHOLD) {
+                current.write(line);
+                line.setLength(0);
+            }
+        }
+        if (line.length() > 0) {
+            current.write(line);
+            line.setLength(0);
+        }
+    }
+
+    @Override
+    public void endTable() throws IOException {
+        if (current != null) {
+            BufferedChannelWriter writer = current;
+            current = null;
+            writer.close();
+        }
+    }
+
+    /**
+     * 모든 테이블 파일을 닫고 적재 순서 파일을 기록합니다.
+     */
+    @Override
+    public void close() throws IOException {
+        endTable();
+        StringBuilder order = new StringBuilder();
+        for (Path file : files) {
+            order.append(file.getFileName()).append('\n');
+        }
+        try (BufferedChannelWriter writer = new BufferedChannelWriter(FileChannel.open(directory.resolve(LOAD_ORDER_FILE_NAME),
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE), 4096)) {
+            writer.write(order);
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * 생성된 객체 파일 목록 (적재 순서)
+     */
+    public List<Path> getFiles() {
+        return Collections.unmodifiableList(files);
+    }
+}
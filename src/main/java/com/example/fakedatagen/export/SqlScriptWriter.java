@@ -0,0 +1,103 @@
+package com.example.fakedatagen.export;
+
+import com.example.fakedatagen.generator.ColumnType;
+import com.example.fakedatagen.generator.RowBatch;
+import com.example.fakedatagen.model.Column;
+import com.example.fakedatagen.model.Table;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.util.List;
+
+/**
+ * 모든 테이블을 하나의 INSERT 스크립트(.sql)로 출력
+ * 여러 행을 하나의 INSERT ... VALUES (...), (...) 문으로 묶고 테이블이 끝날 때마다 COMMIT을 넣습니다.
+ * 테이블은 호출 순서(위상 정렬 순서)대로 기록되므로 스크립트를 처음부터 실행하면 FK 제약을 만족합니다.
+ */
+public class SqlScriptWriter implements TableDataWriter {
+
+    private static final int LINE_FLUSH_THRESHOLD = 64 * 1024;
+
+    private final BufferedChannelWriter out;
+    private final int rowsPerStatement;
+    private final StringBuilder line = new StringBuilder(LINE_FLUSH_THRESHOLD + 1024);
+
+    private String insertPrefix;
+    private ColumnType[] columnTypes;
+    private int statementRows;
+
+    /**
+     * @param outputStream 출력 스트림 (close 시 함께 닫힘)
+     * @param bufferSize 쓰기 버퍼 크기 (바이트)
+     * @param rowsPerStatement INSERT 문 하나에 묶을 최대 행 수
+     */
+    public SqlScriptWriter(OutputStream outputStream, int bufferSize, int rowsPerStatement) {
+        this.out = new BufferedChannelWriter(Channels.newChannel(outputStream), bufferSize);
+        this.rowsPerStatement = Math.max(1, rowsPerStatement);
+    }
+
+    @Override
+    public void beginTable(Table table, String tableName) throws IOException {
+        List<Column> columns = table.getColumns();
+        columnTypes = new ColumnType[columns.size()];
+        StringBuilder prefix = new StringBuilder("INSERT INTO ").append(CubridLiterals.quoteTableName(tableName)).append(" (");
+        for (int c = 0; c < columns.size(); c++) {
+            columnTypes[c] = ColumnType.resolve(columns.get(c).getDataType());
+            if (c > 0) {
+                prefix.append(", ");
+            }
+            prefix.append('[').append(columns.get(c).getName()).append(']');
+        }
+        insertPrefix = prefix.append(") VALUES\n").toString();
+        statementRows = 0;
+        out.write("-- " + tableName + "\n");
+    }
+
+    @Override
+    public void writeBatch(RowBatch batch) throws IOException {
+        if (insertPrefix == null) {
+            throw new IllegalStateException("beginTable이 호출되지 않았습니다");
+        }
+        int columnCount = batch.getColumnCount();
+        for (int row = 0; row < batch.size(); row++) {
+            line.append(statementRows == 0 ? insertPrefix : ",\n");
+            line.append('(');
+            for (int c = 0; c < columnCount; c++) {
+                if (c > 0) {
+                    line.append(", ");
+                }
+                CubridLiterals.append(line, batch, row, c, columnTypes[c]);
+            }
+            line.append(')');
+            if (++statementRows == rowsPerStatement) {
+                line.append(";\n");
+                statementRows = 0;
+            }
+            if (line.length() >= LINE_FLUSH_THRESHOLD) {
+                out.write(line);
+                line.setLength(0);
+            }
+        }
+        if (line.length() > 0) {
+            out.write(line);
+            line.setLength(0);
+        }
+    }
+
+    @Override
+    public void endTable() throws IOException {
+        if (insertPrefix == null) {
+            return;
+        }
+        out.write(statementRows > 0 ? ";\nCOMMIT;\n\n" : "COMMIT;\n\n");
+        insertPrefix = null;
+        statementRows = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        endTable();
+        out.close();
+    }
+}
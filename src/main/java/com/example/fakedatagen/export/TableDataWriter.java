@@ -0,0 +1,33 @@
+package com.example.fakedatagen.export;
+
+import com.example.fakedatagen.generator.RowBatch;
+import com.example.fakedatagen.model.Table;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 생성된 테이블 데이터를 파일/스트림으로 기록하는 출력 대상
+ * 테이블마다 beginTable → writeBatch(여러 번) → endTable 순서로 호출되며,
+ * 배치는 기록 후 바로 버려지므로 테이블 전체를 메모리에 둘 필요가 없습니다.
+ */
+public interface TableDataWriter extends Closeable {
+
+    /**
+     * 테이블 출력을 시작합니다.
+     *
+     * @param table 테이블 정의
+     * @param tableName 출력에 사용할 테이블명 (스키마명.테이블명 형태일 수 있음)
+     */
+    void beginTable(Table table, String tableName) throws IOException;
+
+    /**
+     * 행 배치를 기록합니다. 배치는 행 인덱스 순서로 전달됩니다.
+     */
+    void writeBatch(RowBatch batch) throws IOException;
+
+    /**
+     * 현재 테이블 출력을 마칩니다.
+     */
+    void endTable() throws IOException;
+}
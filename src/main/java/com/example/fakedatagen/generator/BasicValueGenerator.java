@@ -6,13 +6,25 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.Map;
+import java.util.Random;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class BasicValueGenerator {
     private static final Logger log = LoggerFactory.getLogger(BasicValueGenerator.class);
-    private static final ThreadLocal<Faker> FAKER = ThreadLocal.withInitial(Faker::new);
+    private static final String ALPHANUMERIC_LOWER = "abcdefghijklmnopqrstuvwxyz0123456789";
+    private static final String ALPHANUMERIC_UPPER = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+
+    // 행마다 위치를 다시 지정하는 스레드별 난수 생성기 (값은 시드/테이블/컬럼/행 인덱스로만 결정됨)
+    private static final ThreadLocal<SeededRandom> RANDOM = ThreadLocal.withInitial(SeededRandom::new);
+    // lorem 문장 등 Faker가 필요한 값은 행 난수로 Random을 다시 시드한 뒤 생성
+    private static final ThreadLocal<SeededFaker> FAKER = ThreadLocal.withInitial(SeededFaker::new);
     
     // 정규식 패턴 캐싱
     private static final java.util.regex.Pattern MAX_LENGTH_PATTERN = java.util.regex.Pattern.compile("\\((\\d+)\\)");
@@ -25,12 +37,61 @@ public class BasicValueGenerator {
     
     private final Map<String, Map<String, String>> tableColumnFakerMap = new ConcurrentHashMap<>();
     
-    private Faker getFaker() {
-        return FAKER.get();
+    /**
+     * 난수 생성기를 스트림의 index번째 행 위치로 옮겨 반환합니다.
+     */
+    private static SeededRandom random(long streamKey, int index) {
+        return RANDOM.get().position(streamKey, index);
+    }
+
+    /**
+     * 행 난수로 다시 시드한 Faker를 반환합니다.
+     */
+    private static Faker faker(long streamKey, int index) {
+        return FAKER.get().reseed(random(streamKey, index).nextLong());
     }
 
+    /**
+     * 컬럼 값 하나를 생성합니다. (임의 시드)
+     * 매 호출마다 컬럼 계획을 새로 만들므로, 여러 행을 생성할 때는 compile()로 만든 계획을 재사용하세요.
+     */
     public Object generate(Column column, int index, Table table) {
-        return generateBasicValue(column, index, table);
+        return compile(column, table).generate(index);
+    }
+
+    /**
+     * 임의 시드로 컬럼을 컴파일합니다.
+     */
+    public ColumnGenerator compile(Column column, Table table) {
+        return compile(column, table, GenerationSeed.random());
+    }
+
+    /**
+     * 컬럼을 값 생성 계획으로 컴파일합니다.
+     * 타입 판별, 길이/정밀도 파싱, PK/UNIQUE 여부 확인, Faker 생성 방식 선택을 여기서 한 번만 수행합니다.
+     *
+     * 값은 (시드, 테이블명, 컬럼명, 행 인덱스)만으로 결정되므로 어떤 행이든 단독으로 다시 생성할 수 있습니다.
+     *
+     * @param column 대상 컬럼
+     * @param table 컬럼이 속한 테이블
+     * @param seed 생성 시드
+     * @return 불변 컬럼 생성 계획
+     */
+    public ColumnGenerator compile(Column column, Table table, GenerationSeed seed) {
+        String dataType = column.getDataType().toLowerCase();
+        ColumnType type = ColumnType.resolve(dataType);
+        boolean unique = isPrimaryKeyColumn(table, column.getName()) || hasUniqueConstraint(table, column.getName());
+        int length = extractMaxLength(dataType);
+        int[] precisionScale = type == ColumnType.NUMERIC ? extractNumericPrecisionScale(dataType) : new int[]{0, 0};
+
+        ColumnGenerator generator = column.isAutoIncrement()
+                ? compileAutoIncrement(column, type, unique, length, precisionScale)
+                : unique
+                ? compileUniqueValue(column, type, dataType, length, precisionScale)
+                : compileBasicValue(column, type, length, precisionScale,
+                        seed.streamKey(table.getName(), column.getName()), seed.getReferenceDate());
+        recordFakerMapping(table.getName(), column.getName(), generator.getDescription());
+        return generator;
     }
 
     private int extractMaxLength(String dataType) {
@@ -69,51 +130,85 @@ public class BasicValueGenerator {
         });
     }
 
-    private Object generateUniqueValue(Column column, int index, String dataType, String columnName) {
-        int columnSeed = Math.abs(columnName.hashCode() % 1000);
+    /**
+     * AUTO_INCREMENT 컬럼은 타입과 관계없이 1부터 순차 값을 생성합니다.
+     * CLIENT 모드는 이 값을 그대로 넣고, 적재 후 시리얼을 마지막 값 다음으로 옮기거나 재개 시 키를 1..count로 복원합니다.
+     */
+    private ColumnGenerator compileAutoIncrement(Column column, ColumnType type, boolean unique, int maxLength,
+                                                 int[] precisionScale) {
+        ColumnGenerator.ValueSource source = switch (type) {
+            case BIGINT -> index -> index + 1L;
+            case NUMERIC -> index -> BigDecimal.valueOf(index + 1L);
+            default -> index -> index + 1;
+        };
+        return new ColumnGenerator(column, type, maxLength, precisionScale[0], precisionScale[1], unique, "AUTO_INCREMENT", source);
+    }
 
-        if (dataType.contains("varchar") || dataType.contains("character varying")) {
-            int maxLength = extractMaxLength(dataType);
-            String uniqueStr = columnSeed + "_" + index;
-            if (maxLength > 0 && uniqueStr.length() > maxLength) {
-                long uniqueNum = (columnSeed * 1000000L + index) % (long)Math.pow(10, maxLength);
-                uniqueStr = String.format("%0" + maxLength + "d", uniqueNum);
-            }
-            if (maxLength > 0 && uniqueStr.length() > maxLength) {
-                uniqueStr = uniqueStr.substring(0, maxLength);
-            }
-            return uniqueStr;
-        } else if (dataType.contains("char")) {
-            int maxLength = extractMaxLength(dataType);
-            if (maxLength > 0) {
-                long uniqueNum = (columnSeed * 1000000L + index) % (long)Math.pow(10, maxLength);
-                String uniqueStr = String.format("%0" + maxLength + "d", uniqueNum);
-                if (uniqueStr.length() > maxLength) {
-                    uniqueStr = uniqueStr.substring(uniqueStr.length() - maxLength);
+    private ColumnGenerator compileUniqueValue(Column column, ColumnType type, String dataType, int maxLength, int[] precisionScale) {
+        int columnSeed = Math.abs(column.getName().hashCode() % 1000);
+        ColumnGenerator.ValueSource source;
+
+        if (type == ColumnType.VARCHAR) {
+            long modulus = maxLength > 0 && maxLength < 19 ? pow10(maxLength) : Long.MAX_VALUE;
+            source = index -> {
+                String uniqueStr = columnSeed + "_" + index;
+                if (maxLength > 0 && uniqueStr.length() > maxLength) {
+                    uniqueStr = zeroPad((columnSeed * 1000000L + index) % modulus, maxLength);
+                }
+                if (maxLength > 0 && uniqueStr.length() > maxLength) {
+                    uniqueStr = uniqueStr.substring(0, maxLength);
                 }
                 return uniqueStr;
+            };
+        } else if (type == ColumnType.CHAR || dataType.contains("char")) {
+            if (maxLength > 0) {
+                long modulus = maxLength < 19 ? pow10(maxLength) : Long.MAX_VALUE;
+                source = index -> {
+                    String uniqueStr = zeroPad((columnSeed * 1000000L + index) % modulus, maxLength);
+                    if (uniqueStr.length() > maxLength) {
+                        uniqueStr = uniqueStr.substring(uniqueStr.length() - maxLength);
+                    }
+                    return uniqueStr;
+                };
+            } else {
+                source = index -> String.valueOf(columnSeed + index);
             }
-            return String.valueOf(columnSeed + index);
-        } else if (dataType.contains("integer") || dataType.contains("int")) {
-            // AUTO_INCREMENT가 아닌 경우에만
-            if (!column.isAutoIncrement()) {
-                // 컬럼별 다른 시작값 사용
-                long uniqueInt = (columnSeed * 1000000L) + index;
-                return String.valueOf(uniqueInt);
-            }
-            return String.valueOf(index + 1);
-        } else if (dataType.contains("bigint") || dataType.contains("long")) {
-            long uniqueLong = (columnSeed * 1000000000L) + index;
-            return String.valueOf(uniqueLong);
-        } else if (dataType.contains("decimal") || dataType.contains("numeric")) {
+        } else if (type == ColumnType.SMALLINT) {
+            // SMALLINT 범위를 넘지 않도록 1부터 순차 값 사용
+            source = index -> index + 1;
+        } else if (type == ColumnType.INTEGER) {
+            // 컬럼별 다른 시작값 사용 (AUTO_INCREMENT는 compileAutoIncrement에서 처리)
+            source = index -> columnSeed * 1000000 + index;
+        } else if (type == ColumnType.BIGINT) {
+            source = index -> columnSeed * 1000000L + index;
+        } else if (type == ColumnType.NUMERIC) {
             // numeric 타입도 고유값 생성
-            int uniqueNumeric = (columnSeed * 1000) + index;
-            return uniqueNumeric;
+            source = index -> BigDecimal.valueOf((columnSeed * 1000L) + index);
         } else {
             // 기타 타입은 문자열 기반 고유값
-            String uniqueStr = columnSeed + "_" + index;
-            return uniqueStr;
+            source = index -> columnSeed + "_" + index;
         }
+        return new ColumnGenerator(column, type, maxLength, precisionScale[0], precisionScale[1], true, "UNIQUE_VALUE", source);
+    }
+
+    private static long pow10(int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= 10;
+        }
+        return result;
+    }
+
+    private static String zeroPad(long value, int width) {
+        String digits = Long.toString(value);
+        if (digits.length() >= width) {
+            return digits;
+        }
+        StringBuilder sb = new StringBuilder(width);
+        for (int i = digits.length(); i < width; i++) {
+            sb.append('0');
+        }
+        return sb.append(digits).toString();
     }
 
     protected boolean hasUniqueConstraint(Table table, String columnName) {
@@ -147,187 +242,149 @@ public class BasicValueGenerator {
         return false;
     }
 
-    protected Object generateBasicValue(Column column, int index, Table table) {
-        String dataType = column.getDataType().toLowerCase();
-        String tableName = table.getName();
-        String columnName = column.getName();
-        String fakerType = null;
-
-        boolean isPrimaryKey = isPrimaryKeyColumn(table, column.getName());
-        boolean isUnique = hasUniqueConstraint(table, column.getName());
-
-        if (isPrimaryKey || isUnique) {
-            fakerType = "UNIQUE_VALUE";
-            recordFakerMapping(tableName, columnName, fakerType);
-            return generateUniqueValue(column, index, dataType, column.getName());
-        }
+    private ColumnGenerator compileBasicValue(Column column, ColumnType type, int maxLength, int[] precisionScale,
+                                              long key, LocalDate referenceDate) {
+        String fakerType;
+        ColumnGenerator.ValueSource source;
 
-        if (dataType.contains("varchar") || dataType.contains("char varying")) {
-            int maxLength = extractMaxLength(dataType);
-            if (maxLength > 0) {
-                int actualLength = Math.min(maxLength, 1000);
-                fakerType = "faker.lorem().characters(1, " + actualLength + ")";
-                recordFakerMapping(tableName, columnName, fakerType);
-                return getFaker().lorem().characters(1, actualLength);
+        switch (type) {
+            case VARCHAR -> {
+                if (maxLength > 0) {
+                    int actualLength = Math.min(maxLength, 1000);
+                    fakerType = "RANDOM_CHARACTERS(1, " + actualLength + ")";
+                    source = index -> {
+                        SeededRandom random = random(key, index);
+                        return randomChars(random, ALPHANUMERIC_LOWER, 1 + random.nextInt(actualLength));
+                    };
+                } else {
+                    fakerType = "faker.lorem().word()";
+                    source = index -> faker(key, index).lorem().word();
+                }
             }
-            fakerType = "faker.lorem().word()";
-            recordFakerMapping(tableName, columnName, fakerType);
-            return getFaker().lorem().word();
-        } else if (dataType.contains("char(")) {
-            int maxLength = extractMaxLength(dataType);
-            if (maxLength > 0) {
-                int actualLength = Math.min(maxLength, 2048);
-                fakerType = "CHAR_RANDOM(" + actualLength + ")";
-                recordFakerMapping(tableName, columnName, fakerType);
-                String chars = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
-                StringBuilder result = new StringBuilder();
-                for (int i = 0; i < actualLength; i++) {
-                    result.append(chars.charAt(getFaker().number().numberBetween(0, chars.length())));
+            case CHAR -> {
+                if (maxLength > 0) {
+                    int actualLength = Math.min(maxLength, 2048);
+                    fakerType = "CHAR_RANDOM(" + actualLength + ")";
+                    source = index -> randomChars(random(key, index), ALPHANUMERIC_UPPER, actualLength);
+                } else {
+                    fakerType = "CHAR_FIXED('A')";
+                    source = index -> "A";
                 }
-                return result.toString();
             }
-            fakerType = "CHAR_FIXED('A')";
-            recordFakerMapping(tableName, columnName, fakerType);
-            return "A";
-        } else if (dataType.contains("string")) {
-            fakerType = "faker.lorem().sentence()";
-            recordFakerMapping(tableName, columnName, fakerType);
-            return getFaker().lorem().sentence();
-        } else if (dataType.contains("text")) {
-            fakerType = "faker.lorem().paragraph()";
-            recordFakerMapping(tableName, columnName, fakerType);
-            return getFaker().lorem().paragraph();
-        } else if (dataType.contains("timestamp")) {
-            // TIMESTAMP 타입 - 현재 시간 기준으로 랜덤 생성
-            fakerType = "LocalDateTime.random()";
-            recordFakerMapping(tableName, columnName, fakerType);
-            java.time.LocalDateTime now = java.time.LocalDateTime.now();
-            Faker faker = getFaker();
-            java.time.LocalDateTime randomDateTime = now.minusDays(faker.number().numberBetween(1, 365))
-                    .withHour(faker.number().numberBetween(0, 24))
-                    .withMinute(faker.number().numberBetween(0, 60))
-                    .withSecond(faker.number().numberBetween(0, 60));
-            return randomDateTime.toString();
-        } else if (dataType.contains("datetime")) {
-            fakerType = "LocalDateTime.random()";
-            recordFakerMapping(tableName, columnName, fakerType);
-            java.time.LocalDateTime now = java.time.LocalDateTime.now();
-            Faker faker = getFaker();
-            java.time.LocalDateTime randomDateTime = now.minusDays(faker.number().numberBetween(1, 365))
-                    .withHour(faker.number().numberBetween(0, 24))
-                    .withMinute(faker.number().numberBetween(0, 60))
-                    .withSecond(faker.number().numberBetween(0, 60));
-            return randomDateTime.toString();
-        } else if (dataType.contains("date") && !dataType.contains("datetime") && !dataType.contains("timestamp")) {
-            // DATE 타입 - 현재 날짜 기준으로 랜덤 생성 (datetime, timestamp가 아닌 경우만)
-            fakerType = "LocalDate.random()";
-            recordFakerMapping(tableName, columnName, fakerType);
-            java.time.LocalDate today = java.time.LocalDate.now();
-            java.time.LocalDate randomDate = today.minusDays(getFaker().number().numberBetween(1, 365));
-            return randomDate.toString();
-        } else if (dataType.contains("time") && !dataType.contains("datetime") && !dataType.contains("timestamp")) {
-            // TIME 타입 - 랜덤 시간 생성 (datetime, timestamp가 아닌 경우만)
-            fakerType = "LocalTime.random()";
-            recordFakerMapping(tableName, columnName, fakerType);
-            java.time.LocalTime randomTime = java.time.LocalTime.of(
-                    getFaker().number().numberBetween(0, 24),
-                    getFaker().number().numberBetween(0, 60),
-                    getFaker().number().numberBetween(0, 60)
-            );
-            return randomTime.toString();
-        } else if (dataType.contains("integer") || dataType.contains("int")) {
-            // INT/INTEGER 타입
-            if (column.isAutoIncrement()) {
-                fakerType = "AUTO_INCREMENT";
-                recordFakerMapping(tableName, columnName, fakerType);
-                return String.valueOf(index + 1);
+            case STRING -> {
+                fakerType = "faker.lorem().sentence()";
+                source = index -> faker(key, index).lorem().sentence();
             }
-            fakerType = "faker.number().numberBetween(-2147483648, 2147483647)";
-            recordFakerMapping(tableName, columnName, fakerType);
-            return String.valueOf(getFaker().number().numberBetween(-2147483648, 2147483647));
-        } else if (dataType.contains("short") || dataType.contains("smallint")) {
-            // SHORT/SMALLINT 타입
-            fakerType = "faker.number().numberBetween(-32768, 32767)";
-            recordFakerMapping(tableName, columnName, fakerType);
-            return String.valueOf(getFaker().number().numberBetween(-32768, 32767));
-        } else if (dataType.contains("bigint")) {
-            // BIGINT 타입
-            fakerType = "faker.number().numberBetween(BIGINT_MIN, BIGINT_MAX)";
-            recordFakerMapping(tableName, columnName, fakerType);
-            return String.valueOf(getFaker().number().numberBetween(-9223372036854775808L, 9223372036854775807L));
-        } else if (dataType.contains("numeric") || dataType.contains("decimal")) {
-            // NUMERIC/DECIMAL 타입 - 정밀도와 스케일 파싱
-            int[] precisionScale = extractNumericPrecisionScale(dataType);
-            int precision = precisionScale[0];
-            int scale = precisionScale[1];
-
-            if (scale > 0) {
-                // 소수점이 있는 경우
-                double maxValue = Math.pow(10, precision - scale) - 1;
-                double minValue = -maxValue;
-                fakerType = "faker.number().randomDouble(" + scale + ", " + (int)minValue + ", " + (int)maxValue + ")";
-                recordFakerMapping(tableName, columnName, fakerType);
-                return String.valueOf(getFaker().number().randomDouble(scale, (int)minValue, (int)maxValue));
-            } else {
-                // 정수인 경우
-                long maxValue = (long) Math.pow(10, precision) - 1;
-                long minValue = -maxValue;
-                fakerType = "faker.number().numberBetween(" + minValue + ", " + maxValue + ")";
-                recordFakerMapping(tableName, columnName, fakerType);
-                return String.valueOf(getFaker().number().numberBetween(minValue, maxValue));
+            case TEXT -> {
+                fakerType = "faker.lorem().paragraph()";
+                source = index -> faker(key, index).lorem().paragraph();
+            }
+            case TIMESTAMP, DATETIME -> {
+                // 기준일로부터 최근 1년 내 랜덤 생성
+                fakerType = "LocalDateTime.random(" + referenceDate + ")";
+                source = index -> {
+                    SeededRandom random = random(key, index);
+                    return LocalDateTime.of(referenceDate.minusDays(random.nextInt(1, 365)),
+                            LocalTime.of(random.nextInt(24), random.nextInt(60), random.nextInt(60)));
+                };
+            }
+            case DATE -> {
+                fakerType = "LocalDate.random(" + referenceDate + ")";
+                source = index -> referenceDate.minusDays(random(key, index).nextInt(1, 365));
+            }
+            case TIME -> {
+                fakerType = "LocalTime.random()";
+                source = index -> {
+                    SeededRandom random = random(key, index);
+                    return LocalTime.of(random.nextInt(24), random.nextInt(60), random.nextInt(60));
+                };
+            }
+            case INTEGER -> {
+                fakerType = "RANDOM_INT(-2147483648, 2147483647)";
+                source = index -> random(key, index).nextInt(-2147483648, 2147483647);
+            }
+            case SMALLINT -> {
+                fakerType = "RANDOM_INT(-32768, 32767)";
+                source = index -> random(key, index).nextInt(-32768, 32767);
+            }
+            case BIGINT -> {
+                fakerType = "RANDOM_LONG(BIGINT_MIN, BIGINT_MAX)";
+                source = index -> random(key, index).nextLong(-9223372036854775808L, 9223372036854775807L);
+            }
+            case NUMERIC -> {
+                int precision = precisionScale[0];
+                int scale = precisionScale[1];
+                if (scale > 0) {
+                    // 소수점이 있는 경우
+                    int maxValue = (int) (Math.pow(10, precision - scale) - 1);
+                    int minValue = -maxValue;
+                    fakerType = "RANDOM_DECIMAL(" + scale + ", " + minValue + ", " + maxValue + ")";
+                    source = index -> BigDecimal.valueOf(minValue + random(key, index).nextDouble() * (maxValue - minValue))
+                            .setScale(scale, RoundingMode.HALF_UP);
+                } else {
+                    // 정수인 경우
+                    long maxValue = (long) Math.pow(10, precision) - 1;
+                    long minValue = -maxValue;
+                    fakerType = "RANDOM_LONG(" + minValue + ", " + maxValue + ")";
+                    source = index -> BigDecimal.valueOf(random(key, index).nextLong(minValue, maxValue));
+                }
             }
-        } else if (dataType.contains("float") || dataType.contains("real")) {
-            // FLOAT/REAL 타입
-            fakerType = "faker.number().randomDouble(7, -340000000, 340000000)";
-            recordFakerMapping(tableName, columnName, fakerType);
-            return String.valueOf(getFaker().number().randomDouble(7, -340000000, 340000000));
-        } else if (dataType.contains("double")) {
-            // DOUBLE/DOUBLE PRECISION 타입
-            fakerType = "faker.number().randomDouble(15, -1700000000, 1700000000)";
-            recordFakerMapping(tableName, columnName, fakerType);
-            return String.valueOf(getFaker().number().randomDouble(15, -1700000000, 1700000000));
-        } else if (dataType.contains("boolean") || dataType.contains("bool")) {
-            // BOOLEAN 타입
-            fakerType = "faker.bool().bool()";
-            recordFakerMapping(tableName, columnName, fakerType);
-            return String.valueOf(getFaker().bool().bool());
-        } else if (dataType.contains("bit(")) {
-            // BIT(n) 타입
-            int bitLength = extractMaxLength(dataType);
-            if (bitLength > 0) {
-                fakerType = "faker.bool().bool() * " + bitLength;
-                recordFakerMapping(tableName, columnName, fakerType);
-                StringBuilder bitString = new StringBuilder();
-                for (int i = 0; i < bitLength; i++) {
-                    bitString.append(getFaker().bool().bool() ? "1" : "0");
+            case FLOAT -> {
+                fakerType = "RANDOM_DOUBLE(7, -340000000, 340000000)";
+                source = index -> Math.round((-340000000 + random(key, index).nextDouble() * 680000000.0) * 1e7) / 1e7;
+            }
+            case DOUBLE -> {
+                fakerType = "RANDOM_DOUBLE(-1700000000, 1700000000)";
+                source = index -> -1700000000 + random(key, index).nextDouble() * 3400000000.0;
+            }
+            case BOOLEAN -> {
+                fakerType = "RANDOM_BOOLEAN";
+                source = index -> random(key, index).nextBoolean();
+            }
+            case BIT -> {
+                if (maxLength > 0) {
+                    fakerType = "RANDOM_BITS(" + maxLength + ")";
+                    source = index -> randomBits(random(key, index), maxLength);
+                } else {
+                    fakerType = "RANDOM_BIT";
+                    source = index -> random(key, index).nextBoolean() ? "1" : "0";
                 }
-                return bitString.toString();
             }
-            fakerType = "faker.bool().bool()";
-            recordFakerMapping(tableName, columnName, fakerType);
-            return getFaker().bool().bool() ? "1" : "0";
-        } else if (dataType.contains("bit varying")) {
-            // BIT VARYING(n) 타입
-            int maxBitLength = extractMaxLength(dataType);
-            if (maxBitLength > 0) {
-                fakerType = "faker.bool().bool() * random(1-" + maxBitLength + ")";
-                recordFakerMapping(tableName, columnName, fakerType);
-                int actualLength = getFaker().number().numberBetween(1, maxBitLength);
-                StringBuilder bitString = new StringBuilder();
-                for (int i = 0; i < actualLength; i++) {
-                    bitString.append(getFaker().bool().bool() ? "1" : "0");
+            case BIT_VARYING -> {
+                if (maxLength > 0) {
+                    fakerType = "RANDOM_BITS(1-" + maxLength + ")";
+                    source = index -> {
+                        SeededRandom random = random(key, index);
+                        return randomBits(random, random.nextInt(1, maxLength));
+                    };
+                } else {
+                    fakerType = "RANDOM_BIT";
+                    source = index -> random(key, index).nextBoolean() ? "1" : "0";
                 }
-                return bitString.toString();
             }
-            fakerType = "faker.bool().bool()";
-            recordFakerMapping(tableName, columnName, fakerType);
-            return getFaker().bool().bool() ? "1" : "0";
-        } else {
-            // 알 수 없는 타입은 문자열로 처리
-            fakerType = "faker.lorem().word()";
-            recordFakerMapping(tableName, columnName, fakerType);
-            return getFaker().lorem().word();
+            default -> {
+                // 알 수 없는 타입은 문자열로 처리
+                fakerType = "faker.lorem().word()";
+                source = index -> faker(key, index).lorem().word();
+            }
+        }
+        return new ColumnGenerator(column, type, maxLength, precisionScale[0], precisionScale[1], false, fakerType, source);
+    }
+
+    private static String randomChars(SeededRandom random, String chars, int length) {
+        StringBuilder result = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            result.append(chars.charAt(random.nextInt(chars.length())));
+        }
+        return result.toString();
+    }
+
+    private static String randomBits(SeededRandom random, int length) {
+        StringBuilder bitString = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            bitString.append(random.nextBoolean() ? '1' : '0');
         }
+        return bitString.toString();
     }
     
     private void recordFakerMapping(String tableName, String columnName, String fakerType) {
@@ -351,5 +408,18 @@ public class BasicValueGenerator {
             log.debug(sb.toString());
         }
     }
-    
-}
\ No newline at end of file
+
+    /**
+     * 전용 Random을 가진 Faker
+     * 값마다 행 난수로 Random을 다시 시드하므로 Faker 출력도 (시드, 테이블, 컬럼, 행 인덱스)로만 결정됩니다.
+     */
+    private static final class SeededFaker {
+        private final Random random = new Random();
+        private final Faker faker = new Faker(random);
+
+        Faker reseed(long seed) {
+            random.setSeed(seed);
+            return faker;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.fakedatagen.generator;
+
+import com.example.fakedatagen.model.Column;
+
+/**
+ * 컬럼 하나의 값 생성 계획
+ * 타입 판별, 길이/정밀도 파싱, 고유값 여부, 사용할 Faker 생성 방식을 테이블당 한 번만 결정해 두고
+ * 행 생성 루프에서는 generate(index)만 호출하도록 합니다. 생성 후에는 변경되지 않으므로 여러 스레드에서 공유할 수 있습니다.
+ */
+public final class ColumnGenerator {
+
+    /**
+     * 행 인덱스로부터 값을 만드는 생성 방식
+     */
+    @FunctionalInterface
+    public interface ValueSource {
+        Object generate(int index);
+    }
+
+    private final Column column;
+    private final ColumnType type;
+    private final int length;
+    private final int precision;
+    private final int scale;
+    private final boolean unique;
+    private final String description;
+    private final ValueSource source;
+
+    /**
+     * @param column 대상 컬럼
+     * @param type 판별된 컬럼 타입
+     * @param length 문자열/비트 최대 길이 (없으면 0)
+     * @param precision NUMERIC 정밀도 (없으면 0)
+     * @param scale NUMERIC 스케일 (없으면 0)
+     * @param unique PK/UNIQUE 컬럼 여부
+     * @param description 생성 방식 설명 (로그용)
+     * @param source 값 생성 방식
+     */
+    public ColumnGenerator(Column column, ColumnType type, int length, int precision, int scale,
+                           boolean unique, String description, ValueSource source) {
+        this.column = column;
+        this.type = type;
+        this.length = length;
+        this.precision = precision;
+        this.scale = scale;
+        this.unique = unique;
+        this.description = description;
+        this.source = source;
+    }
+
+    /**
+     * 외래키/관계 컬럼처럼 다른 생성기에 값을 위임하는 계획을 만듭니다.
+     */
+    public static ColumnGenerator delegating(Column column, String description, ValueSource source) {
+        return new ColumnGenerator(column, ColumnType.resolve(column.getDataType()), 0, 0, 0, false, description, source);
+    }
+
+    public Object generate(int index) {
+        return source.generate(index);
+    }
+
+    public Column getColumn() {
+        return column;
+    }
+
+    public ColumnType getType() {
+        return type;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    public int getScale() {
+        return scale;
+    }
+
+    public boolean isUnique() {
+        return unique;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
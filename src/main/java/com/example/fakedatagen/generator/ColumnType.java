@@ -0,0 +1,61 @@
+package com.example.fakedatagen.generator;
+
+/**
+ * 컬럼 데이터 타입 문자열을 판별한 결과
+ * 타입 문자열 비교는 컬럼 계획을 만들 때 한 번만 수행합니다.
+ */
+public enum ColumnType {
+    VARCHAR, CHAR, STRING, TEXT,
+    TIMESTAMP, DATETIME, DATE, TIME,
+    SMALLINT, INTEGER, BIGINT, NUMERIC, FLOAT, DOUBLE,
+    BOOLEAN, BIT, BIT_VARYING,
+    OTHER;
+
+    /**
+     * 데이터 타입 문자열로부터 컬럼 타입을 결정합니다.
+     * 판별 순서는 기존 BasicValueGenerator의 분기 순서를 따르되,
+     * "int"를 포함하는 BIGINT/SMALLINT가 INTEGER로 잘못 판별되지 않도록 먼저 확인합니다.
+     *
+     * @param dataType 컬럼 데이터 타입 (예: "varchar(50)", "numeric(10,2)")
+     * @return 컬럼 타입
+     */
+    public static ColumnType resolve(String dataType) {
+        String type = dataType.toLowerCase();
+        if (type.contains("varchar") || type.contains("char varying") || type.contains("character varying")) {
+            return VARCHAR;
+        } else if (type.contains("char(")) {
+            return CHAR;
+        } else if (type.contains("string")) {
+            return STRING;
+        } else if (type.contains("text")) {
+            return TEXT;
+        } else if (type.contains("timestamp")) {
+            return TIMESTAMP;
+        } else if (type.contains("datetime")) {
+            return DATETIME;
+        } else if (type.contains("date")) {
+            return DATE;
+        } else if (type.contains("time")) {
+            return TIME;
+        } else if (type.contains("bigint")) {
+            return BIGINT;
+        } else if (type.contains("smallint") || type.contains("short")) {
+            return SMALLINT;
+        } else if (type.contains("integer") || type.contains("int")) {
+            return INTEGER;
+        } else if (type.contains("numeric") || type.contains("decimal")) {
+            return NUMERIC;
+        } else if (type.contains("float") || type.contains("real")) {
+            return FLOAT;
+        } else if (type.contains("double")) {
+            return DOUBLE;
+        } else if (type.contains("boolean") || type.contains("bool")) {
+            return BOOLEAN;
+        } else if (type.contains("bit(")) {
+            return BIT;
+        } else if (type.contains("bit varying")) {
+            return BIT_VARYING;
+        }
+        return OTHER;
+    }
+}
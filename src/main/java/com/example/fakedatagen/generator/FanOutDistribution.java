@@ -0,0 +1,165 @@
+package com.example.fakedatagen.generator;
+
+import com.example.fakedatagen.config.FakeDataGenProperties;
+
+/**
+ * 부모 하나당 자식 수 분포 (fk-distribution type이 FAN_OUT인 컬럼, 연결 테이블 쌍의 자식 → 부모 배정)
+ * 부모별 자식 수를 컬럼마다 한 번만 계산해 누적 경계 배열로 만들어 두므로,
+ * 행 생성 시에는 자식 인덱스로 부모 인덱스를 산술 연산(FIXED) 또는 이진 탐색으로 바로 찾습니다.
+ * 공유 난수 상태가 없어 여러 스레드에서 동시에 조회할 수 있습니다.
+ *
+ * <ul>
+ *   <li>FIXED: 모든 부모가 같은 수의 자식을 가짐</li>
+ *   <li>UNIFORM: 부모마다 [min, max] 범위의 자식 수 (부모 인덱스별 시드 난수)</li>
+ *   <li>ZIPF: 앞쪽 부모일수록 자식이 많고 뒤쪽은 자식이 없을 수 있음 (평균 자식 수 유지)</li>
+ * </ul>
+ *
+ * 자식 수가 모든 부모의 자식 수 합보다 많으면 처음 부모부터 다시 배정합니다.
+ */
+public final class FanOutDistribution {
+
+    public enum Type {
+        FIXED, UNIFORM, ZIPF
+    }
+
+    private final int parentCount;
+    private final int fixedChildren;
+    /** boundaries[p] = 부모 p의 첫 자식 인덱스, boundaries[parentCount] = 전체 자식 수 (FIXED면 null) */
+    private final int[] boundaries;
+    private final long totalChildren;
+
+    private FanOutDistribution(int parentCount, int fixedChildren, int[] boundaries) {
+        this.parentCount = parentCount;
+        this.fixedChildren = fixedChildren;
+        this.boundaries = boundaries;
+        this.totalChildren = boundaries != null ? boundaries[parentCount] : (long) parentCount * fixedChildren;
+    }
+
+    /**
+     * fakedatagen.fan-out 설정에 맞는 분포
+     *
+     * @param streamKey UNIFORM일 때 부모별 자식 수를 정하는 난수 스트림 키
+     */
+    public static FanOutDistribution of(FakeDataGenProperties.FanOut config, int parentCount, long streamKey) {
+        return switch (config.getDistribution()) {
+            case UNIFORM -> uniform(parentCount, config.getMin(), config.getMax(), streamKey);
+            case ZIPF -> zipf(parentCount, config.getChildren(), config.getZipfExponent());
+            default -> fixed(parentCount, config.getChildren());
+        };
+    }
+
+    /**
+     * 모든 부모가 children개의 자식을 가지는 분포
+     */
+    public static FanOutDistribution fixed(int parentCount, int children) {
+        return new FanOutDistribution(parentCount, Math.max(1, children), null);
+    }
+
+    /**
+     * 부모마다 [min, max] 범위에서 자식 수를 정하는 분포
+     *
+     * @param streamKey 부모별 자식 수를 정하는 난수 스트림 키
+     */
+    public static FanOutDistribution uniform(int parentCount, int min, int max, long streamKey) {
+        int lower = Math.max(0, Math.min(min, max));
+        int upper = Math.max(lower, max);
+        SeededRandom random = new SeededRandom();
+        int[] boundaries = new int[parentCount + 1];
+        for (int p = 0; p < parentCount; p++) {
+            int children = random.position(streamKey, p).nextInt(lower, upper + 1);
+            boundaries[p + 1] = (int) Math.min(Integer.MAX_VALUE, (long) boundaries[p] + children);
+        }
+        return ofBoundaries(parentCount, boundaries);
+    }
+
+    /**
+     * 부모 순위 r(1부터)의 가중치를 1/r^exponent로 두고 평균 자식 수가 mean이 되도록 나누는 분포
+     */
+    public static FanOutDistribution zipf(int parentCount, double mean, double exponent) {
+        double weightSum = 0;
+        double[] cumulative = new double[parentCount];
+        for (int p = 0; p < parentCount; p++) {
+            weightSum += 1.0 / Math.pow(p + 1, exponent);
+            cumulative[p] = weightSum;
+        }
+        double total = Math.min(Integer.MAX_VALUE, Math.max(1.0, mean) * parentCount);
+        int[] boundaries = new int[parentCount + 1];
+        for (int p = 0; p < parentCount; p++) {
+            boundaries[p + 1] = (int) Math.round(total * cumulative[p] / weightSum);
+        }
+        return ofBoundaries(parentCount, boundaries);
+    }
+
+    private static FanOutDistribution ofBoundaries(int parentCount, int[] boundaries) {
+        if (parentCount > 0 && boundaries[parentCount] == 0) {
+            // 모든 부모의 자식 수가 0이면 배정할 수 없으므로 부모당 1개로 대체
+            return fixed(parentCount, 1);
+        }
+        return new FanOutDistribution(parentCount, 0, boundaries);
+    }
+
+    /**
+     * 자식 인덱스에 배정된 부모 인덱스
+     */
+    public int parentIndex(long childIndex) {
+        if (parentCount == 0) {
+            return -1;
+        }
+        long child = Math.floorMod(childIndex, totalChildren);
+        if (boundaries == null) {
+            return (int) (child / fixedChildren);
+        }
+        // boundaries[p] <= child 를 만족하는 가장 큰 p
+        int low = 0;
+        int high = parentCount - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (boundaries[mid] <= child) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 부모 p에 배정되는 첫 자식 인덱스
+     */
+    public long firstChildOf(int parentIndex) {
+        return boundaries == null ? (long) parentIndex * fixedChildren : boundaries[parentIndex];
+    }
+
+    /**
+     * 부모마다 자식 수를 maxChildren 이하로 줄인 분포 (이미 이하이면 그대로)
+     */
+    public FanOutDistribution capped(int maxChildren) {
+        int cap = Math.max(1, maxChildren);
+        if (boundaries == null) {
+            return fixedChildren <= cap ? this : fixed(parentCount, cap);
+        }
+        int[] cappedBoundaries = new int[parentCount + 1];
+        boolean changed = false;
+        for (int p = 0; p < parentCount; p++) {
+            int children = childrenOf(p);
+            changed |= children > cap;
+            cappedBoundaries[p + 1] = cappedBoundaries[p] + Math.min(children, cap);
+        }
+        return changed ? ofBoundaries(parentCount, cappedBoundaries) : this;
+    }
+
+    /**
+     * 부모 p에 배정되는 자식 수
+     */
+    public int childrenOf(int parentIndex) {
+        return boundaries == null ? fixedChildren : boundaries[parentIndex + 1] - boundaries[parentIndex];
+    }
+
+    public int getParentCount() {
+        return parentCount;
+    }
+
+    public long getTotalChildren() {
+        return totalChildren;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.fakedatagen.generator;
+
+/**
+ * [0, domain) 위의 키 기반 순열 (Feistel 네트워크 + cycle walking)
+ * 값을 짝수 비트 폭의 두 절반으로 나누어 SplitMix64 라운드 함수로 섞고, 결과가 domain 밖이면 다시 섞어 안으로 들어올 때까지 반복합니다.
+ * 각 라운드가 가역이므로 서로 다른 입력은 항상 서로 다른 출력이 되며, 표를 만들지 않아 domain이 수억 이상이어도 메모리를 쓰지 않습니다.
+ *
+ * tweak을 바꾸면 같은 domain 위의 독립적인 순열이 되므로, 부모마다 다른 순열이 필요할 때 인스턴스를 새로 만들지 않아도 됩니다.
+ * 상태가 없어 여러 스레드에서 동시에 사용할 수 있습니다.
+ */
+public final class FeistelPermutation {
+
+    private static final int ROUNDS = 4;
+    /** 두 절반을 합친 값이 음수가 되지 않는 최대 크기 */
+    private static final long MAX_DOMAIN = 1L << 62;
+
+    private final long domain;
+    private final long key;
+    private final int halfBits;
+    private final long halfMask;
+
+    /**
+     * @param domain 순열 크기 (1 이상)
+     * @param key 순열 키 (시드 기반 스트림 키)
+     */
+    public FeistelPermutation(long domain, long key) {
+        if (domain < 1 || domain > MAX_DOMAIN) {
+            throw new IllegalArgumentException("순열 크기는 1 이상 2^62 이하여야 합니다: " + domain);
+        }
+        this.domain = domain;
+        this.key = key;
+        int bits = Math.max(2, 64 - Long.numberOfLeadingZeros(domain - 1));
+        this.halfBits = (bits + 1) / 2;
+        this.halfMask = (1L << halfBits) - 1;
+    }
+
+    public long apply(long value) {
+        return apply(value, 0L);
+    }
+
+    /**
+     * value의 순열 위치 (value는 [0, domain) 범위)
+     *
+     * @param tweak 순열 선택값 (같은 key에서 tweak마다 다른 순열)
+     */
+    public long apply(long value, long tweak) {
+        if (value < 0 || value >= domain) {
+            throw new IndexOutOfBoundsException("Permutation index " + value + " out of range (domain=" + domain + ")");
+        }
+        // 2^(2*halfBits) < 4 * domain 이므로 평균 4번 이내에 domain 안으로 들어옴
+        long roundKey = SeededRandom.mix64(key ^ SeededRandom.mix64(tweak));
+        long result = value;
+        do {
+            result = encrypt(result, roundKey);
+        } while (result >= domain);
+        return result;
+    }
+
+    public long getDomain() {
+        return domain;
+    }
+
+    private long encrypt(long value, long roundKey) {
+        long left = value >>> halfBits;
+        long right = value & halfMask;
+        for (int round = 0; round < ROUNDS; round++) {
+            long mixed = left ^ (SeededRandom.mix64((roundKey + round * 0x9e3779b97f4a7c15L) ^ right) & halfMask);
+            left = right;
+            right = mixed;
+        }
+        return (left << halfBits) | right;
+    }
+}
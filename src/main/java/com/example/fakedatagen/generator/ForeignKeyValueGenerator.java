@@ -1,9 +1,12 @@
 package com.example.fakedatagen.generator;
 
+import com.example.fakedatagen.config.FakeDataGenProperties;
 import com.example.fakedatagen.model.*;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 
 /**
  * ForeignKey 값 생성을 담당하는 클래스
@@ -11,139 +14,238 @@ import java.util.*;
 @Component
 public class ForeignKeyValueGenerator {
     
+    private static final int DISTRIBUTION_CACHE_LIMIT = 256;
+    
     /**
-     * 메모리 데이터 기반 외래키 값 생성
+     * 외래키가 참조하는 부모 행들의 참조 컬럼 값 (부모 행 인덱스 → 값)
      */
-    public Object generateFromFakeData(ForeignKey fk, Map<String, List<Map<String, Object>>> fakeData, int currentIndex) {
-        String referencedTable = fk.getReferencedTableName();
-        String referencedColumn = fk.getReferencedColumnName();
+    public interface ParentValues {
+        int size();
+        
+        Object get(int parentIndex);
         
-        String tableNameOnly = referencedTable;
-        if (referencedTable.contains(".")) {
-            tableNameOnly = referencedTable.substring(referencedTable.lastIndexOf(".") + 1);
+        /**
+         * 부모 테이블의 생성 키
+         */
+        static ParentValues of(KeyStore keys) {
+            return new ParentValues() {
+                @Override
+                public int size() {
+                    return keys.size();
+                }
+                
+                @Override
+                public Object get(int parentIndex) {
+                    return keys.get(parentIndex);
+                }
+            };
         }
         
-        if (fakeData.containsKey(tableNameOnly)) {
-            List<Map<String, Object>> referencedRecords = fakeData.get(tableNameOnly);
-            if (!referencedRecords.isEmpty()) {
-                int selectedIndex = currentIndex % referencedRecords.size();
-                Map<String, Object> selectedRecord = referencedRecords.get(selectedIndex);
-                Object value = selectedRecord.get(referencedColumn);
-                return value;
+        /**
+         * 보관된 부모 데이터의 한 컬럼
+         * 컬럼 단위 버퍼(RowBatch)의 뷰이면 컬럼 순번을 여기서 한 번만 찾고, 행마다는 배열만 읽습니다.
+         */
+        static ParentValues of(List<Map<String, Object>> records, String columnName) {
+            if (records instanceof RowBatch.Records view) {
+                RowBatch batch = view.getBatch();
+                int ordinal = batch.ordinalOf(columnName);
+                return new ParentValues() {
+                    @Override
+                    public int size() {
+                        return batch.size();
+                    }
+                    
+                    @Override
+                    public Object get(int parentIndex) {
+                        return ordinal >= 0 ? batch.get(parentIndex, ordinal) : null;
+                    }
+                };
             }
+            return new ParentValues() {
+                @Override
+                public int size() {
+                    return records.size();
+                }
+                
+                @Override
+                public Object get(int parentIndex) {
+                    return records.get(parentIndex).get(columnName);
+                }
+            };
         }
-        
-        int defaultValue = currentIndex + 1;
-        return defaultValue;
+    }
+    
+    private final FakeDataGenProperties properties;
+    
+    // (테이블, 컬럼, 부모 수, 시드)별 부모 배정 분포 - 스트리밍 시 구간마다 별칭 테이블을 다시 만들지 않도록 보관
+    private final Map<List<Object>, ParentDistribution> distributionCache = new ConcurrentHashMap<>();
+    
+    public ForeignKeyValueGenerator(FakeDataGenProperties properties) {
+        this.properties = properties;
     }
     
     /**
-     * 실제 생성된 키 값을 사용하여 외래키 값 생성
+     * 외래키 컬럼의 값 생성 계획을 만듭니다. (실제 생성된 키 값과 데이터 기반)
+     * 부모 테이블은 위상 정렬 순서상 자식보다 먼저 끝나므로, 참조 테이블의 키 저장소/데이터와 참조 컬럼명을
+     * 여기서 한 번만 찾아 두고 행마다는 인덱스 조회만 합니다.
+     * 자식 행에 배정할 부모 행은 fakedatagen.fk-distribution 설정의 분포로 고릅니다. (기본 ROUND_ROBIN은 행 인덱스 순서대로 부모를 순환)
+     *
+     * <p>복합 외래키는 부모 행 배정 분포를 외래키 단위(첫 번째 컬럼 기준)로 하나만 만들어 모든 컬럼이 공유하므로,
+     * 컬럼마다 따로 만든 생성 계획이라도 같은 행에서는 같은 부모 행의 키 튜플을 내보냅니다.
+     * 키 저장소는 단일 컬럼 키만 보관하므로 복합 외래키는 부모 테이블의 보관된 데이터에서 값을 읽습니다.</p>
+     *
+     * @param tableName 외래키 컬럼이 있는 (자식) 테이블명
+     * @param columnName 생성할 외래키 컬럼명
+     * @param seed 생성 시드 (null이면 고정 스트림 사용)
      */
-    public Object generateFromKeys(ForeignKey fk, Map<String, List<Long>> generatedKeysMap, int currentIndex) {
-        String referencedTable = fk.getReferencedTableName();
-        
-        String[] possibleTableNames = {
-            referencedTable,
-            referencedTable.contains(".") ? referencedTable.substring(referencedTable.lastIndexOf(".") + 1) : referencedTable,
-            referencedTable.toUpperCase(),
-            referencedTable.toLowerCase(),
-            referencedTable.contains(".") ? referencedTable.substring(referencedTable.lastIndexOf(".") + 1).toUpperCase() : referencedTable.toUpperCase(),
-            referencedTable.contains(".") ? referencedTable.substring(referencedTable.lastIndexOf(".") + 1).toLowerCase() : referencedTable.toLowerCase()
+    public ColumnGenerator.ValueSource compileFromData(String tableName, ForeignKey fk, String columnName, GenerationSeed seed,
+                                                       Map<String, KeyStore> generatedKeysMap,
+                                                       Map<String, List<Map<String, Object>>> generatedDataMap) {
+        String[] possibleTableNames = possibleTableNames(fk.getReferencedTableName());
+        if (fk.isComposite()) {
+            return compileTupleSource(tableName, fk, columnName, seed, generatedDataMap, possibleTableNames);
+        }
+        KeyStore keys = findNonEmpty(generatedKeysMap, possibleTableNames, KeyStore::isEmpty);
+        ColumnGenerator.ValueSource dataSource = compileDataSource(tableName, fk, seed, generatedDataMap, possibleTableNames);
+        if (keys == null) {
+            return dataSource;
+        }
+        ParentDistribution parents = distribution(tableName, fk.getColumnName(), keys.size(), seed);
+        return index -> {
+            long value = keys.get(parents.parentIndex(index));
+            // AUTO_INCREMENT가 없는 부모는 키가 0이므로 보관된 데이터에서 참조 컬럼 값을 사용
+            return value != 0 ? (Object) value : dataSource.generate(index);
         };
-        
-        for (String tableName : possibleTableNames) {
-            if (generatedKeysMap.containsKey(tableName)) {
-                List<Long> generatedKeys = generatedKeysMap.get(tableName);
-                if (!generatedKeys.isEmpty()) {
-                    int selectedIndex = currentIndex % generatedKeys.size();
-                    Long value = generatedKeys.get(selectedIndex);
-                    return value;
-                }
-            }
+    }
+    
+    /**
+     * 외래키 컬럼의 부모 배정 분포
+     * 같은 컬럼/부모 수/시드에 대해서는 한 번만 계산하여 재사용합니다.
+     */
+    public ParentDistribution distribution(String tableName, String columnName, int parentCount, GenerationSeed seed) {
+        long seedValue = seed != null ? seed.getValue() : 0L;
+        List<Object> cacheKey = List.of(tableName, columnName, parentCount, seedValue);
+        ParentDistribution cached = distributionCache.get(cacheKey);
+        if (cached != null) {
+            return cached;
         }
-        
-        if (isForeignKeyColumnNullable(fk)) {
-            return null;
-        } else {
-            return 1L;
+        if (distributionCache.size() >= DISTRIBUTION_CACHE_LIMIT) {
+            distributionCache.clear();
         }
+        FakeDataGenProperties.FkDistribution config =
+                ParentDistribution.configFor(properties.getFkDistribution(), tableName, columnName);
+        return distributionCache.computeIfAbsent(cacheKey, key -> ParentDistribution.of(config, properties.getFanOut(), parentCount,
+                SeededRandom.streamKey(seedValue, tableName, columnName)));
     }
     
     /**
-     * 실제 생성된 키 값과 데이터를 사용하여 외래키 값 생성
+     * 외래키 컬럼이 참조하는 부모 행 값 목록을 찾습니다.
+     * 단일 컬럼 외래키는 부모의 생성 키를, 키가 없으면 (0이면) 보관된 부모 데이터의 참조 컬럼을 사용합니다.
+     *
+     * @return 부모 행이 없으면 null
      */
-    public Object generateFromData(ForeignKey fk, Map<String, List<Long>> generatedKeysMap, 
-                                   Map<String, List<Map<String, Object>>> generatedDataMap, int currentIndex) {
-        String referencedTable = fk.getReferencedTableName();
+    public ParentValues parentValues(ForeignKey fk, String columnName, Map<String, KeyStore> generatedKeysMap,
+                                     Map<String, List<Map<String, Object>>> generatedDataMap) {
+        String[] possibleTableNames = possibleTableNames(fk.getReferencedTableName());
+        KeyStore keys = fk.isComposite() ? null : findNonEmpty(generatedKeysMap, possibleTableNames, KeyStore::isEmpty);
+        if (keys != null && keys.get(0) != 0) {
+            return ParentValues.of(keys);
+        }
+        String referencedColumn = fk.getReferencedColumnName(columnName);
+        for (String tableName : possibleTableNames) {
+            List<Map<String, Object>> referencedData = generatedDataMap.get(tableName);
+            if (referencedData == null || referencedData.isEmpty()) {
+                continue;
+            }
+            String resolvedColumn = fk.isComposite()
+                    ? (referencedData.get(0).containsKey(referencedColumn) ? referencedColumn : null)
+                    : resolveColumnName(referencedData.get(0), referencedColumn, tableName);
+            if (resolvedColumn == null) {
+                continue;
+            }
+            return ParentValues.of(referencedData, resolvedColumn);
+        }
+        return null;
+    }
+    
+    private ColumnGenerator.ValueSource compileTupleSource(String childTableName, ForeignKey fk, String columnName,
+                                                           GenerationSeed seed,
+                                                           Map<String, List<Map<String, Object>>> generatedDataMap,
+                                                           String[] possibleTableNames) {
+        String referencedColumn = fk.getReferencedColumnName(columnName);
+        for (String tableName : possibleTableNames) {
+            List<Map<String, Object>> referencedData = generatedDataMap.get(tableName);
+            if (referencedData == null || referencedData.isEmpty() || !referencedData.get(0).containsKey(referencedColumn)) {
+                continue;
+            }
+            ParentDistribution parents = distribution(childTableName, fk.getColumnName(), referencedData.size(), seed);
+            ParentValues values = ParentValues.of(referencedData, referencedColumn);
+            return index -> values.get(parents.parentIndex(index));
+        }
+        Object fallback = isForeignKeyColumnNullable(fk) ? null : 1L;
+        return index -> fallback;
+    }
+    
+    private ColumnGenerator.ValueSource compileDataSource(String childTableName, ForeignKey fk, GenerationSeed seed,
+                                                          Map<String, List<Map<String, Object>>> generatedDataMap,
+                                                          String[] possibleTableNames) {
         String referencedColumn = fk.getReferencedColumnName();
-        
-        System.out.println("외래키 값 생성 (데이터 포함) - 참조 테이블: " + referencedTable + ", 컬럼: " + referencedColumn);
-        
-        String[] possibleTableNames = {
+        for (String tableName : possibleTableNames) {
+            List<Map<String, Object>> referencedData = generatedDataMap.get(tableName);
+            if (referencedData == null || referencedData.isEmpty()) {
+                continue;
+            }
+            // 보관된 레코드는 모두 같은 컬럼 구성이므로 첫 레코드로 사용할 컬럼을 정함
+            Map<String, Object> firstRecord = referencedData.get(0);
+            String columnName = resolveColumnName(firstRecord, referencedColumn, tableName);
+            if (columnName == null) {
+                continue;
+            }
+            ParentDistribution parents = distribution(childTableName, fk.getColumnName(), referencedData.size(), seed);
+            ParentValues values = ParentValues.of(referencedData, columnName);
+            return index -> values.get(parents.parentIndex(index));
+        }
+        Object fallback = isForeignKeyColumnNullable(fk) ? null : 1L;
+        return index -> fallback;
+    }
+    
+    private String resolveColumnName(Map<String, Object> record, String referencedColumn, String tableName) {
+        String[] possibleColumnNames = {
+            referencedColumn,
+            "id",
+            tableName.contains(".") ? tableName.substring(tableName.lastIndexOf(".") + 1) + "_id" : referencedColumn,
+            "pk_" + referencedColumn,
+            referencedColumn.toUpperCase(),
+            referencedColumn.toLowerCase()
+        };
+        for (String columnName : possibleColumnNames) {
+            if (record.containsKey(columnName)) {
+                return columnName;
+            }
+        }
+        return record.isEmpty() ? null : record.keySet().iterator().next();
+    }
+    
+    private String[] possibleTableNames(String referencedTable) {
+        String tableNameOnly = referencedTable.contains(".") ? referencedTable.substring(referencedTable.lastIndexOf(".") + 1) : referencedTable;
+        return new String[]{
             referencedTable,
-            referencedTable.contains(".") ? referencedTable.substring(referencedTable.lastIndexOf(".") + 1) : referencedTable,
+            tableNameOnly,
             referencedTable.toUpperCase(),
             referencedTable.toLowerCase(),
-            referencedTable.contains(".") ? referencedTable.substring(referencedTable.lastIndexOf(".") + 1).toUpperCase() : referencedTable.toUpperCase(),
-            referencedTable.contains(".") ? referencedTable.substring(referencedTable.lastIndexOf(".") + 1).toLowerCase() : referencedTable.toLowerCase()
+            tableNameOnly.toUpperCase(),
+            tableNameOnly.toLowerCase()
         };
-        
-        for (String tableName : possibleTableNames) {
-            if (generatedKeysMap.containsKey(tableName)) {
-                List<Long> generatedKeys = generatedKeysMap.get(tableName);
-                if (!generatedKeys.isEmpty()) {
-                    int selectedIndex = currentIndex % generatedKeys.size();
-                    Long value = generatedKeys.get(selectedIndex);
-                    if (value != 0) {
-                        System.out.println("생성된 키에서 외래키 값 선택: " + value);
-                        return value;
-                    }
-                }
-            }
-        }
-        
+    }
+    
+    private <V> V findNonEmpty(Map<String, V> map, String[] possibleTableNames, Predicate<V> isEmpty) {
         for (String tableName : possibleTableNames) {
-            if (generatedDataMap.containsKey(tableName)) {
-                List<Map<String, Object>> referencedData = generatedDataMap.get(tableName);
-                if (!referencedData.isEmpty()) {
-                    int selectedIndex = currentIndex % referencedData.size();
-                    Map<String, Object> selectedRecord = referencedData.get(selectedIndex);
-                    
-                    Object value = selectedRecord.get(referencedColumn);
-                    if (value == null) {
-                        String[] possibleColumnNames = {
-                            referencedColumn,
-                            "id",
-                            tableName.contains(".") ? tableName.substring(tableName.lastIndexOf(".") + 1) + "_id" : referencedColumn,
-                            "pk_" + referencedColumn,
-                            referencedColumn.toUpperCase(),
-                            referencedColumn.toLowerCase()
-                        };
-                        
-                        for (String columnName : possibleColumnNames) {
-                            value = selectedRecord.get(columnName);
-                            if (value != null) {
-                                return value;
-                            }
-                        }
-                        
-                        if (!selectedRecord.isEmpty()) {
-                            value = selectedRecord.values().iterator().next();
-                            return value;
-                        }
-                    } else {
-                        return value;
-                    }
-                }
+            V value = map.get(tableName);
+            if (value != null && !isEmpty.test(value)) {
+                return value;
             }
         }
-        
-        if (isForeignKeyColumnNullable(fk)) {
-            return null;
-        } else {
-            return 1L;
-        }
+        return null;
     }
     
     private boolean isForeignKeyColumnNullable(ForeignKey fk) {
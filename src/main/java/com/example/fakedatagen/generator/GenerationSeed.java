@@ -0,0 +1,85 @@
+package com.example.fakedatagen.generator;
+
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 데이터 생성 시드
+ * 기본 컬럼 값은 (시드, 테이블, 컬럼, 행 인덱스)의 순수 함수로 생성되므로
+ * 같은 시드로 다시 실행하면 스레드 수나 배치 크기와 관계없이 같은 데이터가 만들어집니다.
+ *
+ * <p>날짜/시간 컬럼은 기준일로부터 최근 1년 범위에서 생성합니다. 시드를 지정하지 않은 실행은
+ * 실행일을 기준일로 쓰고, 시드를 지정한 실행은 실행일과 관계없이 고정 기준일을 사용합니다.</p>
+ */
+public final class GenerationSeed {
+
+    /**
+     * 시드를 지정한 실행의 날짜 기준일
+     */
+    public static final LocalDate FIXED_REFERENCE_DATE = LocalDate.of(2025, 1, 1);
+
+    private final long value;
+    private final LocalDate referenceDate;
+    private final boolean specified;
+
+    private GenerationSeed(long value, LocalDate referenceDate, boolean specified) {
+        this.value = value;
+        this.referenceDate = referenceDate;
+        this.specified = specified;
+    }
+
+    /**
+     * 재현 가능한 시드 (고정 기준일 사용)
+     */
+    public static GenerationSeed of(long value) {
+        return new GenerationSeed(value, FIXED_REFERENCE_DATE, true);
+    }
+
+    /**
+     * 실행마다 다른 임의 시드 (실행일 기준)
+     */
+    public static GenerationSeed random() {
+        return new GenerationSeed(ThreadLocalRandom.current().nextLong(), LocalDate.now(), false);
+    }
+
+    /**
+     * 요청 파라미터로부터 시드를 만듭니다. 값이 없으면 임의 시드를 사용합니다.
+     */
+    public static GenerationSeed ofNullable(Long value) {
+        return value != null ? of(value) : random();
+    }
+
+    /**
+     * 저장해 둔 시드를 그대로 복원합니다. (체크포인트에서 이어서 적재할 때)
+     */
+    public static GenerationSeed restore(long value, LocalDate referenceDate, boolean specified) {
+        return new GenerationSeed(value, referenceDate, specified);
+    }
+
+    /**
+     * 테이블/컬럼별 난수 스트림 키
+     */
+    public long streamKey(String tableName, String columnName) {
+        return SeededRandom.streamKey(value, tableName, columnName);
+    }
+
+    public long getValue() {
+        return value;
+    }
+
+    public LocalDate getReferenceDate() {
+        return referenceDate;
+    }
+
+    /**
+     * 사용자가 시드를 지정했는지 여부
+     */
+    public boolean isSpecified() {
+        return specified;
+    }
+
+    @Override
+    public String toString() {
+        return specified ? String.valueOf(value) : "random";
+    }
+}
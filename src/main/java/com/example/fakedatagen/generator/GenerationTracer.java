@@ -0,0 +1,124 @@
+package com.example.fakedatagen.generator;
+
+import com.example.fakedatagen.config.FakeDataGenProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 생성 값 샘플 추적 (fakedatagen.trace 설정)
+ * FK/관계 컬럼의 값 생성 계획을 감싸서, 추적이 켜져 있으면 컬럼별 생성 수와 null 수를 세고 N개마다 하나의 값을 DEBUG로 남깁니다.
+ * 테이블 생성이 끝나면 컬럼별 집계를 한 번 남기고 비웁니다.
+ *
+ * 추적 여부와 샘플 간격은 실행 중에도 바꿀 수 있으며 (/api/trace), 꺼져 있을 때 행마다 드는 비용은 플래그 확인 한 번입니다.
+ * 샘플 값은 이 클래스의 로거가 DEBUG일 때만 남습니다. (기본 INFO에서는 집계만 기록)
+ */
+@Component
+public class GenerationTracer {
+    private static final Logger log = LoggerFactory.getLogger(GenerationTracer.class);
+
+    /** 요약을 남기지 않은 테이블이 쌓이지 않도록 보관하는 테이블 수 상한 */
+    private static final int TABLE_LIMIT = 256;
+
+    private volatile boolean enabled;
+    private volatile int sampleEvery;
+    private final Map<String, Map<String, Counter>> counters = new ConcurrentHashMap<>();
+
+    public GenerationTracer(FakeDataGenProperties properties) {
+        FakeDataGenProperties.Trace config = properties.getTrace();
+        this.enabled = config.isEnabled();
+        this.sampleEvery = Math.max(1, config.getSampleEvery());
+    }
+
+    /**
+     * 값 생성 계획을 추적 대상으로 감쌉니다. (컬럼별 집계 대상은 여기서 한 번만 찾아 둠)
+     *
+     * @param kind 생성 방식 (FOREIGN_KEY, RELATIONSHIP 등)
+     */
+    public ColumnGenerator.ValueSource trace(String tableName, String columnName, String kind, ColumnGenerator.ValueSource source) {
+        if (counters.size() >= TABLE_LIMIT && !counters.containsKey(tableName)) {
+            counters.clear();
+        }
+        Counter counter = counters.computeIfAbsent(tableName, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(columnName, key -> new Counter(kind));
+        return index -> {
+            Object value = source.generate(index);
+            if (enabled) {
+                record(tableName, columnName, counter, index, value);
+            }
+            return value;
+        };
+    }
+
+    private void record(String tableName, String columnName, Counter counter, int index, Object value) {
+        long count = counter.values.incrementAndGet();
+        if (value == null) {
+            counter.nulls.incrementAndGet();
+        }
+        if ((count - 1) % sampleEvery == 0 && log.isDebugEnabled()) {
+            log.debug("Generated value sample - {}.{} ({}) row={}: {}", tableName, columnName, counter.kind, index, value);
+        }
+    }
+
+    /**
+     * 테이블의 컬럼별 집계를 남기고 비웁니다. (추적이 꺼져 있거나 집계된 값이 없으면 남기지 않음)
+     */
+    public void logSummary(String tableName) {
+        Map<String, Counter> tableCounters = counters.remove(tableName);
+        if (tableCounters == null || !log.isInfoEnabled()) {
+            return;
+        }
+        for (Map.Entry<String, Counter> entry : tableCounters.entrySet()) {
+            Counter counter = entry.getValue();
+            long values = counter.values.get();
+            if (values > 0) {
+                log.info("Generation trace summary - {}.{} ({}): {} values, {} nulls",
+                        tableName, entry.getKey(), counter.kind, values, counter.nulls.get());
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getSampleEvery() {
+        return sampleEvery;
+    }
+
+    /**
+     * 추적 여부와 샘플 간격을 바꿉니다. 이미 생성 중인 테이블에도 다음 행부터 적용됩니다.
+     *
+     * @param sampleEvery 값 몇 개마다 하나를 남길지 (1 미만이면 1)
+     */
+    public void configure(boolean enabled, int sampleEvery) {
+        this.sampleEvery = Math.max(1, sampleEvery);
+        this.enabled = enabled;
+        log.info("Generation tracing {} (sampleEvery={})", enabled ? "enabled" : "disabled", this.sampleEvery);
+    }
+
+    /**
+     * 생성 중인 테이블의 컬럼별 현재 집계 (테이블.컬럼 → 생성 수)
+     */
+    public Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = new LinkedHashMap<>();
+        counters.forEach((tableName, tableCounters) -> tableCounters.forEach(
+                (columnName, counter) -> snapshot.put(tableName + "." + columnName, counter.values.get())));
+        return snapshot;
+    }
+
+    private static final class Counter {
+        private final String kind;
+        private final AtomicLong values = new AtomicLong();
+        private final AtomicLong nulls = new AtomicLong();
+
+        private Counter(String kind) {
+            this.kind = kind;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.fakedatagen.generator;
+
+import com.example.fakedatagen.config.FakeDataGenProperties;
+import com.example.fakedatagen.model.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntToLongFunction;
+
+/**
+ * 다대다 연결 테이블의 외래키 쌍 생성 (fakedatagen.junction 설정)
+ * 복합 기본키에 두 단일 컬럼 외래키가 모두 포함된 테이블을 연결 테이블로 보고,
+ * 두 외래키 컬럼이 행마다 JunctionPairs가 정한 같은 (왼쪽 부모, 오른쪽 부모) 쌍을 내보내도록 생성 계획을 만듭니다.
+ * 쌍이 서로 다르므로 기본키 중복으로 배치가 실패하지 않습니다.
+ */
+@Component
+public class JunctionPairGenerator {
+    private static final Logger log = LoggerFactory.getLogger(JunctionPairGenerator.class);
+
+    private static final int PAIRS_CACHE_LIMIT = 256;
+
+    private final ForeignKeyValueGenerator foreignKeyValueGenerator;
+    private final FakeDataGenProperties properties;
+
+    // (테이블, 왼쪽 부모 수, 오른쪽 부모 수, 시드)별 쌍 배정 - 스트리밍 시 구간마다 부모별 쌍 수를 다시 계산하지 않도록 보관
+    private final Map<List<Object>, JunctionPairs> pairsCache = new ConcurrentHashMap<>();
+
+    public JunctionPairGenerator(ForeignKeyValueGenerator foreignKeyValueGenerator, FakeDataGenProperties properties) {
+        this.foreignKeyValueGenerator = foreignKeyValueGenerator;
+        this.properties = properties;
+    }
+
+    /**
+     * 연결 테이블이면 두 외래키 컬럼의 값 생성 계획을 만듭니다.
+     *
+     * @param generatedKeysMap 부모 테이블들의 키 (메모리 생성 시에는 빈 맵)
+     * @param generatedDataMap 부모 테이블들의 데이터
+     * @return 컬럼명 → 값 생성 계획 (연결 테이블이 아니거나 설정이 꺼져 있거나 부모 행이 없으면 빈 맵)
+     */
+    public Map<String, ColumnGenerator.ValueSource> compile(Table table, GenerationSeed seed,
+                                                            Map<String, KeyStore> generatedKeysMap,
+                                                            Map<String, List<Map<String, Object>>> generatedDataMap) {
+        FakeDataGenProperties.Junction config = properties.getJunction();
+        List<ForeignKey> pairKeys = junctionForeignKeys(table);
+        if (!config.isEnabled() || pairKeys == null) {
+            return Map.of();
+        }
+        ForeignKey leftKey = pairKeys.get(0);
+        ForeignKey rightKey = pairKeys.get(1);
+        ForeignKeyValueGenerator.ParentValues left = foreignKeyValueGenerator.parentValues(
+                leftKey, leftKey.getColumnName(), generatedKeysMap, generatedDataMap);
+        ForeignKeyValueGenerator.ParentValues right = foreignKeyValueGenerator.parentValues(
+                rightKey, rightKey.getColumnName(), generatedKeysMap, generatedDataMap);
+        if (left == null || right == null || left.size() == 0 || right.size() == 0) {
+            return Map.of();
+        }
+
+        JunctionPairs pairs = pairs(table.getName(), left.size(), right.size(), seed, config);
+        log.debug("Junction table {}: {} x {} parents, {} distinct pairs ({})", table.getName(),
+                left.size(), right.size(), pairs.getCapacity(), config.getDistribution());
+        Map<String, ColumnGenerator.ValueSource> sources = new HashMap<>();
+        IntToLongFunction pairOfRow = pairOfRow(pairs);
+        sources.put(leftKey.getColumnName(), index -> left.get(pairs.leftOf(pairOfRow.applyAsLong(index))));
+        sources.put(rightKey.getColumnName(), index -> right.get(pairs.rightOf(pairOfRow.applyAsLong(index))));
+        return sources;
+    }
+
+    /**
+     * 행 인덱스 → 쌍 번호 (스레드별로 마지막 행의 쌍 번호를 보관)
+     * 행을 채울 때 두 외래키 컬럼이 같은 행 인덱스로 연달아 조회하므로, 순열 계산은 행당 한 번만 수행합니다.
+     * 구간들이 여러 스레드에서 동시에 채워지므로 보관 값은 스레드마다 따로 둡니다.
+     */
+    private static IntToLongFunction pairOfRow(JunctionPairs pairs) {
+        ThreadLocal<long[]> lastPair = ThreadLocal.withInitial(() -> new long[] {-1L, 0L});
+        return index -> {
+            long[] last = lastPair.get();
+            if (last[0] != index) {
+                last[1] = pairs.pairIndex(index);
+                last[0] = index;
+            }
+            return last[1];
+        };
+    }
+
+    /**
+     * 복합 기본키에 컬럼이 포함된 단일 컬럼 외래키 중 서로 다른 컬럼의 처음 두 개 (연결 테이블이 아니면 null)
+     */
+    List<ForeignKey> junctionForeignKeys(Table table) {
+        List<String> primaryKeyColumns = null;
+        for (Constraint constraint : table.getConstraints()) {
+            if (constraint.getType() == Constraint.ConstraintType.PRIMARY_KEY && constraint.getColumns().size() > 1) {
+                primaryKeyColumns = constraint.getColumns();
+            }
+        }
+        if (primaryKeyColumns == null) {
+            return null;
+        }
+        List<ForeignKey> pairKeys = new ArrayList<>(2);
+        for (ForeignKey fk : table.getForeignKeys()) {
+            if (!fk.isComposite() && primaryKeyColumns.contains(fk.getColumnName())
+                    && (pairKeys.isEmpty() || !pairKeys.get(0).getColumnName().equals(fk.getColumnName()))) {
+                pairKeys.add(fk);
+                if (pairKeys.size() == 2) {
+                    return pairKeys;
+                }
+            }
+        }
+        return null;
+    }
+
+    private JunctionPairs pairs(String tableName, int leftCount, int rightCount, GenerationSeed seed,
+                                FakeDataGenProperties.Junction config) {
+        long seedValue = seed != null ? seed.getValue() : 0L;
+        List<Object> cacheKey = List.of(tableName, leftCount, rightCount, seedValue);
+        JunctionPairs cached = pairsCache.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+        if (pairsCache.size() >= PAIRS_CACHE_LIMIT) {
+            pairsCache.clear();
+        }
+        return pairsCache.computeIfAbsent(cacheKey, key -> createPairs(tableName, leftCount, rightCount, seedValue, config));
+    }
+
+    private JunctionPairs createPairs(String tableName, int leftCount, int rightCount, long seedValue,
+                                      FakeDataGenProperties.Junction config) {
+        long streamKey = SeededRandom.streamKey(seedValue, tableName, "junction");
+        return switch (config.getDistribution()) {
+            case FIXED -> JunctionPairs.perLeft(rightCount, FanOutDistribution.fixed(leftCount, config.getPairs()), streamKey);
+            case UNIFORM -> JunctionPairs.perLeft(rightCount,
+                    FanOutDistribution.uniform(leftCount, config.getMin(), config.getMax(), streamKey), streamKey);
+            case ZIPF -> JunctionPairs.perLeft(rightCount,
+                    FanOutDistribution.zipf(leftCount, config.getPairs(), config.getZipfExponent()), streamKey);
+            default -> JunctionPairs.spread(leftCount, rightCount, streamKey);
+        };
+    }
+}
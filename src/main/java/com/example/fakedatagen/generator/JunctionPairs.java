@@ -0,0 +1,112 @@
+package com.example.fakedatagen.generator;
+
+import com.example.fakedatagen.exception.DataGenerationException;
+
+/**
+ * 다대다 연결 테이블의 행 인덱스 → 서로 다른 (왼쪽 부모, 오른쪽 부모) 쌍 배정
+ * 행 인덱스를 전단사 순열로 쌍 번호에 대응시키므로, 중복 검사용 집합 없이도 서로 다른 행은 항상 서로 다른 쌍을 받습니다.
+ *
+ * <ul>
+ *   <li>SPREAD: 왼쪽 × 오른쪽 전체 조합 위의 Feistel 순열 (왼쪽 부모마다 비슷한 수의 쌍)</li>
+ *   <li>FIXED / UNIFORM / ZIPF: 왼쪽 부모별 쌍 수를 FanOutDistribution으로 정하고 (오른쪽 부모 수 이하로 제한),
+ *       왼쪽 부모마다 다른 오른쪽 부모 순열의 앞쪽을 배정</li>
+ * </ul>
+ *
+ * 만들 수 있는 서로 다른 쌍의 수(getCapacity)를 넘는 행은 중복 없이 만들 수 없으므로 예외를 던집니다.
+ * 공유 상태가 없어 여러 스레드에서 동시에 조회할 수 있습니다.
+ */
+public final class JunctionPairs {
+
+    public enum Type {
+        SPREAD, FIXED, UNIFORM, ZIPF
+    }
+
+    private final int leftCount;
+    private final int rightCount;
+    /** SPREAD: 전체 조합 순열, 그 밖: 오른쪽 부모 순열 (왼쪽 부모 인덱스를 tweak으로 사용) */
+    private final FeistelPermutation permutation;
+    /** 왼쪽 부모별 쌍 수 (SPREAD면 null) */
+    private final FanOutDistribution pairsPerLeft;
+    private final long capacity;
+
+    private JunctionPairs(int leftCount, int rightCount, FeistelPermutation permutation, FanOutDistribution pairsPerLeft) {
+        this.leftCount = leftCount;
+        this.rightCount = rightCount;
+        this.permutation = permutation;
+        this.pairsPerLeft = pairsPerLeft;
+        this.capacity = pairsPerLeft != null ? pairsPerLeft.getTotalChildren() : (long) leftCount * rightCount;
+    }
+
+    /**
+     * 전체 조합 위에 고르게 퍼진 쌍 배정
+     *
+     * @param streamKey 순열 키 (시드, 테이블명으로 만듦)
+     */
+    public static JunctionPairs spread(int leftCount, int rightCount, long streamKey) {
+        return new JunctionPairs(leftCount, rightCount,
+                new FeistelPermutation(Math.max(1L, (long) leftCount * rightCount), streamKey), null);
+    }
+
+    /**
+     * 왼쪽 부모별 쌍 수 분포를 따르는 쌍 배정 (부모별 쌍 수는 오른쪽 부모 수 이하로 제한)
+     */
+    public static JunctionPairs perLeft(int rightCount, FanOutDistribution pairsPerLeft, long streamKey) {
+        return new JunctionPairs(pairsPerLeft.getParentCount(), rightCount,
+                new FeistelPermutation(Math.max(1, rightCount), streamKey), pairsPerLeft.capped(rightCount));
+    }
+
+    /**
+     * 행 인덱스에 배정된 쌍 번호 (왼쪽 부모 인덱스 × 오른쪽 부모 수 + 오른쪽 부모 인덱스)
+     *
+     * @throws DataGenerationException 행 인덱스가 만들 수 있는 쌍의 수 이상인 경우
+     */
+    public long pairIndex(long rowIndex) {
+        if (rowIndex < 0 || rowIndex >= capacity) {
+            throw new DataGenerationException("연결 테이블에 만들 수 있는 서로 다른 조합 수(" + capacity
+                    + ")보다 많은 행을 생성할 수 없습니다. (행 인덱스: " + rowIndex + ")");
+        }
+        if (pairsPerLeft == null) {
+            return permutation.apply(rowIndex);
+        }
+        int left = pairsPerLeft.parentIndex(rowIndex);
+        long right = permutation.apply(rowIndex - pairsPerLeft.firstChildOf(left), left);
+        return (long) left * rightCount + right;
+    }
+
+    public int leftIndex(long rowIndex) {
+        return leftOf(pairIndex(rowIndex));
+    }
+
+    public int rightIndex(long rowIndex) {
+        return rightOf(pairIndex(rowIndex));
+    }
+
+    /**
+     * 쌍 번호의 왼쪽 부모 인덱스 (한 행의 두 컬럼이 pairIndex를 한 번만 계산하고 나누어 쓸 때 사용)
+     */
+    public int leftOf(long pairIndex) {
+        return (int) (pairIndex / rightCount);
+    }
+
+    /**
+     * 쌍 번호의 오른쪽 부모 인덱스
+     */
+    public int rightOf(long pairIndex) {
+        return (int) (pairIndex % rightCount);
+    }
+
+    public int getLeftCount() {
+        return leftCount;
+    }
+
+    public int getRightCount() {
+        return rightCount;
+    }
+
+    /**
+     * 만들 수 있는 서로 다른 쌍의 수
+     */
+    public long getCapacity() {
+        return capacity;
+    }
+}
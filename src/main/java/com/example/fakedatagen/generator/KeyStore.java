@@ -0,0 +1,317 @@
+package com.example.fakedatagen.generator;
+
+import com.example.fakedatagen.config.FakeDataGenProperties;
+import com.example.fakedatagen.exception.DataGenerationException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntToLongFunction;
+
+/**
+ * 부모 테이블 키 저장소 (행 인덱스 → 키)
+ * 키를 박싱된 Long 목록 대신 원시 long으로 보관하여 FK 값 조회를 O(1)로 유지하면서 키당 8바이트 이하만 사용합니다.
+ *
+ * <ul>
+ *   <li>연속 키 (1, 2, 3, ...): 시작값과 개수만 보관</li>
+ *   <li>키가 없는 테이블 (AUTO_INCREMENT 없음): 개수만 보관하고 모든 행에 0을 돌려줌</li>
+ *   <li>그 밖의 키: long[] 세그먼트에 보관하며, 행 수가 spill 기준을 넘으면 임시 파일에 기록하고 메모리 매핑하여 조회</li>
+ * </ul>
+ *
+ * 만든 뒤에는 변경되지 않으므로 여러 스레드에서 동시에 조회할 수 있습니다.
+ */
+public final class KeyStore {
+
+    private static final int SEGMENT_SHIFT = 16;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+    /** 매핑 구간 하나의 키 수 (1GiB) */
+    private static final int MAPPED_SHIFT = 27;
+    private static final int MAPPED_MASK = (1 << MAPPED_SHIFT) - 1;
+
+    private static final KeyStore EMPTY = new KeyStore(0, 0L, 0L, null, null);
+
+    private final int size;
+    private final long first;
+    private final long step;
+    private final long[][] segments;
+    private final LongBuffer[] mapped;
+
+    private KeyStore(int size, long first, long step, long[][] segments, LongBuffer[] mapped) {
+        this.size = size;
+        this.first = first;
+        this.step = step;
+        this.segments = segments;
+        this.mapped = mapped;
+    }
+
+    public static KeyStore empty() {
+        return EMPTY;
+    }
+
+    /**
+     * first부터 1씩 증가하는 size개의 키
+     */
+    public static KeyStore range(long first, int size) {
+        return new KeyStore(size, first, 1L, null, null);
+    }
+
+    /**
+     * 키가 없는 테이블의 행 수만 보관 (모든 행의 키는 0)
+     */
+    public static KeyStore placeholders(int size) {
+        return new KeyStore(size, 0L, 0L, null, null);
+    }
+
+    /**
+     * 메모리에만 보관하는 빌더
+     */
+    public static Builder builder() {
+        return new Builder(0, null);
+    }
+
+    /**
+     * 행 수가 spillThreshold를 넘으면 directory 아래 임시 파일로 옮기는 빌더
+     *
+     * @param spillThreshold 0 이하이면 옮기지 않음
+     * @param directory 임시 파일 디렉터리 (null이면 시스템 임시 디렉터리)
+     */
+    public static Builder builder(int spillThreshold, Path directory) {
+        return new Builder(spillThreshold, directory);
+    }
+
+    /**
+     * fakedatagen.key-spill 설정에 맞는 빌더
+     */
+    public static Builder builder(FakeDataGenProperties.KeySpill config) {
+        String directory = config.getDirectory();
+        return builder(config.getThreshold(), directory == null || directory.isBlank() ? null : Path.of(directory));
+    }
+
+    public long get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Key index " + index + " out of range (size=" + size + ")");
+        }
+        if (segments != null) {
+            return segments[index >>> SEGMENT_SHIFT][index & SEGMENT_MASK];
+        }
+        if (mapped != null) {
+            return mapped[index >>> MAPPED_SHIFT].get(index & MAPPED_MASK);
+        }
+        return first + step * index;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 임시 파일에 옮겨 메모리 매핑한 저장소인지 여부
+     */
+    public boolean isSpilled() {
+        return mapped != null;
+    }
+
+    /**
+     * 행 순서대로 키를 받아 저장소를 만듭니다.
+     * 키가 연속이거나 모두 0인 동안에는 배열을 만들지 않고, 규칙이 깨지는 시점에 그때까지의 키를 세그먼트로 옮깁니다.
+     */
+    public static final class Builder implements Closeable {
+        private static final int RANGE = 0;
+        private static final int ZERO = 1;
+        private static final int EXPLICIT = 2;
+
+        private final int spillThreshold;
+        private final Path directory;
+
+        private int size;
+        private long first;
+        private int mode = RANGE;
+        private long[][] segments;
+
+        private Path spillFile;
+        private FileChannel spillChannel;
+        private ByteBuffer spillBuffer;
+
+        private Builder(int spillThreshold, Path directory) {
+            this.spillThreshold = spillThreshold;
+            this.directory = directory;
+        }
+
+        public Builder add(long key) {
+            if (size == Integer.MAX_VALUE) {
+                throw new DataGenerationException("키 저장소에 보관할 수 있는 행 수를 넘었습니다.");
+            }
+            if (size == 0) {
+                first = key;
+                mode = key == 0 ? ZERO : RANGE;
+            } else if (mode == RANGE && key != first + size) {
+                materialize(i -> first + i);
+            } else if (mode == ZERO && key != 0) {
+                materialize(i -> 0L);
+            }
+            if (mode == EXPLICIT) {
+                if (spillChannel != null) {
+                    write(key);
+                } else {
+                    store(size, key);
+                }
+            }
+            size++;
+            if (mode == EXPLICIT && spillChannel == null && spillThreshold > 0 && size >= spillThreshold) {
+                spill();
+            }
+            return this;
+        }
+
+        public Builder addAll(List<Long> keys) {
+            for (Long key : keys) {
+                add(key != null ? key : 0L);
+            }
+            return this;
+        }
+
+        public Builder addAll(KeyStore keys) {
+            for (int i = 0; i < keys.size(); i++) {
+                add(keys.get(i));
+            }
+            return this;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public KeyStore build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+            if (mode == RANGE) {
+                return range(first, size);
+            }
+            if (mode == ZERO) {
+                return placeholders(size);
+            }
+            if (spillChannel != null) {
+                LongBuffer[] mapped = mapSpillFile();
+                return new KeyStore(size, 0L, 0L, null, mapped);
+            }
+            return new KeyStore(size, 0L, 0L, segments, null);
+        }
+
+        private void materialize(IntToLongFunction previous) {
+            segments = new long[Math.max(4, (size >>> SEGMENT_SHIFT) + 1)][];
+            for (int i = 0; i < size; i++) {
+                store(i, previous.applyAsLong(i));
+            }
+            mode = EXPLICIT;
+        }
+
+        private void store(int index, long key) {
+            int segment = index >>> SEGMENT_SHIFT;
+            if (segment >= segments.length) {
+                segments = Arrays.copyOf(segments, segments.length * 2);
+            }
+            if (segments[segment] == null) {
+                segments[segment] = new long[SEGMENT_SIZE];
+            }
+            segments[segment][index & SEGMENT_MASK] = key;
+        }
+
+        private void spill() {
+            try {
+                spillFile = directory != null
+                        ? Files.createTempFile(Files.createDirectories(directory), "keys-", ".bin")
+                        : Files.createTempFile("keys-", ".bin");
+                spillChannel = FileChannel.open(spillFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                spillBuffer = ByteBuffer.allocateDirect(1 << 16);
+                for (int i = 0; i < size; i++) {
+                    write(segments[i >>> SEGMENT_SHIFT][i & SEGMENT_MASK]);
+                }
+                segments = null;
+            } catch (IOException e) {
+                close();
+                throw new DataGenerationException("키 저장소 임시 파일 기록 실패: " + e.getMessage(), e);
+            }
+        }
+
+        private void write(long key) {
+            if (!spillBuffer.hasRemaining()) {
+                flush();
+            }
+            spillBuffer.putLong(key);
+        }
+
+        private void flush() {
+            try {
+                spillBuffer.flip();
+                while (spillBuffer.hasRemaining()) {
+                    spillChannel.write(spillBuffer);
+                }
+                spillBuffer.clear();
+            } catch (IOException e) {
+                throw new DataGenerationException("키 저장소 임시 파일 기록 실패: " + e.getMessage(), e);
+            }
+        }
+
+        private LongBuffer[] mapSpillFile() {
+            flush();
+            try (FileChannel channel = spillChannel) {
+                LongBuffer[] buffers = new LongBuffer[((size - 1) >>> MAPPED_SHIFT) + 1];
+                for (int i = 0; i < buffers.length; i++) {
+                    long start = (long) i << MAPPED_SHIFT;
+                    long count = Math.min(1L << MAPPED_SHIFT, size - start);
+                    buffers[i] = channel.map(FileChannel.MapMode.READ_ONLY, start * Long.BYTES, count * Long.BYTES).asLongBuffer();
+                }
+                return buffers;
+            } catch (IOException e) {
+                throw new DataGenerationException("키 저장소 임시 파일 매핑 실패: " + e.getMessage(), e);
+            } finally {
+                // 매핑은 파일을 지워도 유지됨
+                spillChannel = null;
+                deleteSpillFile();
+            }
+        }
+
+        /**
+         * build 전에 버려지는 빌더의 임시 파일 채널을 닫고 파일을 지웁니다. (build 후에는 아무 일도 하지 않음)
+         * 테이블 삽입이 실패하면 build가 호출되지 않으므로 호출하는 쪽에서 try-with-resources로 닫아야 합니다.
+         */
+        @Override
+        public void close() {
+            if (spillChannel != null) {
+                try {
+                    spillChannel.close();
+                } catch (IOException e) {
+                    // 파일은 아래에서 지우므로 닫기 실패는 무시
+                }
+                spillChannel = null;
+            }
+            deleteSpillFile();
+        }
+
+        private void deleteSpillFile() {
+            if (spillFile == null) {
+                return;
+            }
+            try {
+                Files.deleteIfExists(spillFile);
+            } catch (IOException e) {
+                // 지울 수 없는 환경이면 종료 시 삭제
+                spillFile.toFile().deleteOnExit();
+            }
+            spillFile = null;
+        }
+    }
+}
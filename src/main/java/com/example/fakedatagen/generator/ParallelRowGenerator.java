@@ -0,0 +1,144 @@
+package com.example.fakedatagen.generator;
+
+import com.example.fakedatagen.config.FakeDataGenProperties;
+import com.example.fakedatagen.exception.DataGenerationException;
+import com.example.fakedatagen.model.Table;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테이블 행 생성을 여러 스레드로 나누어 실행하는 엔진
+ * 각 행의 값은 행 인덱스, 테이블 정의, 이미 완료된 부모 테이블 데이터에만 의존하므로
+ * 인덱스 구간을 청크로 나누어 동시에 생성해도 순차 생성과 같은 규칙(고유값, FK 선택)이 유지됩니다.
+ */
+@Component
+public class ParallelRowGenerator implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ParallelRowGenerator.class);
+
+    private final int parallelism;
+    private final int minRowsPerTask;
+    private final ExecutorService executor;
+
+    /**
+     * 인덱스 구간 [startIndex, startIndex + rowCount)의 행을 생성하는 작업
+     */
+    @FunctionalInterface
+    public interface ChunkTask {
+        RowBatch generate(int startIndex, int rowCount);
+    }
+
+    public ParallelRowGenerator(FakeDataGenProperties properties) {
+        FakeDataGenProperties.Generation generation = properties.getGeneration();
+        this.parallelism = generation.getParallelism() > 0
+                ? generation.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        this.minRowsPerTask = Math.max(1, generation.getMinRowsPerTask());
+        this.executor = parallelism > 1 ? Executors.newFixedThreadPool(parallelism, daemonThreadFactory()) : null;
+        log.info("Row generation parallelism: {} (minRowsPerTask={})", parallelism, minRowsPerTask);
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * 테이블의 행 구간을 생성합니다.
+     * 행 수가 충분히 크면 작업자 수에 맞춰 구간을 나누어 병렬 생성한 뒤 하나의 배치로 합칩니다.
+     *
+     * @param table 대상 테이블
+     * @param startIndex 시작 행 인덱스
+     * @param rowCount 생성할 행 수
+     * @param task 구간 생성 작업
+     * @return 생성된 행 배치 (인덱스 순서 보장)
+     */
+    public RowBatch generate(Table table, int startIndex, int rowCount, ChunkTask task) {
+        if (executor == null || rowCount < minRowsPerTask * 2) {
+            return task.generate(startIndex, rowCount);
+        }
+
+        // 작업자당 여러 개의 작업을 두어 느린 청크가 있어도 부하가 고르게 분산되도록 함
+        int taskSize = Math.max(minRowsPerTask, (rowCount + parallelism * 4 - 1) / (parallelism * 4));
+        List<RowBatch> parts = generateChunks(startIndex, rowCount, taskSize, task);
+
+        RowBatch merged = new RowBatch(table, startIndex, rowCount);
+        for (RowBatch part : parts) {
+            merged.appendAll(part);
+        }
+        return merged;
+    }
+
+    /**
+     * 행 구간을 chunkSize 단위의 배치들로 병렬 생성합니다.
+     * 반환되는 목록은 행 인덱스 순서를 따릅니다.
+     *
+     * @param startIndex 시작 행 인덱스
+     * @param rowCount 생성할 전체 행 수
+     * @param chunkSize 배치 하나의 행 수
+     * @param task 구간 생성 작업
+     * @return 인덱스 순서의 배치 목록
+     */
+    public List<RowBatch> generateChunks(int startIndex, int rowCount, int chunkSize, ChunkTask task) {
+        int size = Math.max(1, chunkSize);
+        List<RowBatch> batches = new ArrayList<>((rowCount + size - 1) / size);
+        if (executor == null || rowCount <= size) {
+            for (int offset = 0; offset < rowCount; offset += size) {
+                batches.add(task.generate(startIndex + offset, Math.min(size, rowCount - offset)));
+            }
+            return batches;
+        }
+
+        List<Future<RowBatch>> futures = new ArrayList<>((rowCount + size - 1) / size);
+        for (int offset = 0; offset < rowCount; offset += size) {
+            int chunkStart = startIndex + offset;
+            int chunkRows = Math.min(size, rowCount - offset);
+            futures.add(executor.submit(() -> task.generate(chunkStart, chunkRows)));
+        }
+
+        try {
+            for (Future<RowBatch> future : futures) {
+                batches.add(future.get());
+            }
+            return batches;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataGenerationException("데이터 생성이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new DataGenerationException("병렬 데이터 생성 중 오류가 발생했습니다: " + cause.getMessage(), cause);
+        } finally {
+            for (Future<RowBatch> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private static java.util.concurrent.ThreadFactory daemonThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "fakedatagen-gen-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.fakedatagen.generator;
+
+import com.example.fakedatagen.config.FakeDataGenProperties;
+
+import java.util.Map;
+
+/**
+ * 외래키/관계 컬럼의 자식 행 → 부모 행 배정 분포 (fakedatagen.fk-distribution 설정)
+ * 분포 표(별칭 테이블, 누적 경계)는 컬럼마다 한 번만 만들고, 행마다는 (스트림 키, 행 인덱스) 난수 하나로 O(1)에 부모를 고릅니다.
+ * 공유 난수 상태가 없어 여러 스레드에서 동시에 조회할 수 있고, 같은 시드면 같은 배정이 나옵니다.
+ *
+ * <ul>
+ *   <li>ROUND_ROBIN: 자식 인덱스 순서대로 부모를 돌아가며 배정 (기존 방식)</li>
+ *   <li>UNIFORM: 부모를 균등 확률로 무작위 선택</li>
+ *   <li>ZIPF: 부모 순위 r(1부터)의 확률을 1/r^exponent에 비례하게 선택 (Vose 별칭 테이블)</li>
+ *   <li>HOT_KEY: 앞쪽 hotKeyPercent%의 부모에 자식의 hotTrafficPercent%를 몰아서 배정</li>
+ *   <li>FAN_OUT: fakedatagen.fan-out 설정으로 부모마다 자식 수를 정해 순서대로 배정 (누적 경계 역함수)</li>
+ * </ul>
+ *
+ * emptyParentPercent를 주면 그 비율의 부모는 자식을 받지 않으며, 자식을 받는 부모는 전체 부모에 고르게 퍼집니다.
+ */
+public final class ParentDistribution {
+
+    public enum Type {
+        ROUND_ROBIN, UNIFORM, ZIPF, HOT_KEY, FAN_OUT
+    }
+
+    private final Type type;
+    private final int parentCount;
+    /** 자식을 받는 부모 수 */
+    private final int eligibleCount;
+    private final long streamKey;
+    /** ZIPF 별칭 테이블 */
+    private final float[] probability;
+    private final int[] alias;
+    /** HOT_KEY: 앞쪽 hotCount개 부모가 hotTraffic 비율의 자식을 받음 */
+    private final int hotCount;
+    private final double hotTraffic;
+    private final FanOutDistribution fanOut;
+
+    private ParentDistribution(Type type, int parentCount, int eligibleCount, long streamKey, float[] probability,
+                               int[] alias, int hotCount, double hotTraffic, FanOutDistribution fanOut) {
+        this.type = type;
+        this.parentCount = parentCount;
+        this.eligibleCount = eligibleCount;
+        this.streamKey = streamKey;
+        this.probability = probability;
+        this.alias = alias;
+        this.hotCount = hotCount;
+        this.hotTraffic = hotTraffic;
+        this.fanOut = fanOut;
+    }
+
+    /**
+     * 설정에 맞는 배정 분포를 만듭니다.
+     *
+     * @param fanOut FAN_OUT 유형일 때 사용할 부모당 자식 수 설정 (fakedatagen.fan-out)
+     * @param streamKey 행별 난수 스트림 키 (시드, 테이블명, 컬럼명으로 만듦)
+     */
+    public static ParentDistribution of(FakeDataGenProperties.FkDistribution config, FakeDataGenProperties.FanOut fanOut,
+                                        int parentCount, long streamKey) {
+        int eligibleCount = parentCount;
+        if (config.getEmptyParentPercent() > 0) {
+            double ratio = 1.0 - Math.min(100.0, config.getEmptyParentPercent()) / 100.0;
+            eligibleCount = (int) Math.max(1, Math.min(parentCount, Math.round(parentCount * ratio)));
+        }
+        if (parentCount == 0) {
+            return new ParentDistribution(Type.ROUND_ROBIN, 0, 0, streamKey, null, null, 0, 0, null);
+        }
+        switch (config.getType()) {
+            case UNIFORM:
+                return new ParentDistribution(Type.UNIFORM, parentCount, eligibleCount, streamKey, null, null, 0, 0, null);
+            case ZIPF: {
+                float[] probability = new float[eligibleCount];
+                int[] alias = new int[eligibleCount];
+                buildZipfAliasTable(config.getZipfExponent(), probability, alias);
+                return new ParentDistribution(Type.ZIPF, parentCount, eligibleCount, streamKey, probability, alias, 0, 0, null);
+            }
+            case HOT_KEY: {
+                int hotCount = (int) Math.max(1, Math.min(eligibleCount,
+                        Math.round(eligibleCount * Math.max(0, config.getHotKeyPercent()) / 100.0)));
+                double hotTraffic = Math.max(0, Math.min(100.0, config.getHotTrafficPercent())) / 100.0;
+                return new ParentDistribution(Type.HOT_KEY, parentCount, eligibleCount, streamKey, null, null,
+                        hotCount, hotTraffic, null);
+            }
+            case FAN_OUT:
+                return new ParentDistribution(Type.FAN_OUT, parentCount, eligibleCount, streamKey, null, null, 0, 0,
+                        FanOutDistribution.of(fanOut, eligibleCount, streamKey));
+            default:
+                return new ParentDistribution(Type.ROUND_ROBIN, parentCount, eligibleCount, streamKey, null, null, 0, 0, null);
+        }
+    }
+
+    /**
+     * 테이블.컬럼별 설정이 있으면 그 설정을, 없으면 기본 설정을 돌려줍니다. (테이블/컬럼명 대소문자 무시)
+     */
+    public static FakeDataGenProperties.FkDistribution configFor(FakeDataGenProperties.FkDistribution config,
+                                                                 String tableName, String columnName) {
+        String key = tableName + "." + columnName;
+        for (Map.Entry<String, FakeDataGenProperties.FkDistribution> entry : config.getColumns().entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(key)) {
+                return entry.getValue();
+            }
+        }
+        return config;
+    }
+
+    /**
+     * 자식 인덱스에 배정된 부모 인덱스 (부모가 없으면 -1)
+     */
+    public int parentIndex(long childIndex) {
+        if (parentCount == 0) {
+            return -1;
+        }
+        int eligible;
+        switch (type) {
+            case UNIFORM:
+                eligible = bounded(SeededRandom.valueAt(streamKey, childIndex), eligibleCount);
+                break;
+            case ZIPF: {
+                long random = SeededRandom.valueAt(streamKey, childIndex);
+                int column = bounded(random, eligibleCount);
+                eligible = unit(random) < probability[column] ? column : alias[column];
+                break;
+            }
+            case HOT_KEY: {
+                long random = SeededRandom.valueAt(streamKey, childIndex);
+                int coldCount = eligibleCount - hotCount;
+                eligible = coldCount == 0 || unit(random) < hotTraffic
+                        ? bounded(random, hotCount)
+                        : hotCount + bounded(random, coldCount);
+                break;
+            }
+            case FAN_OUT:
+                eligible = fanOut.parentIndex(childIndex);
+                break;
+            default:
+                eligible = (int) Math.floorMod(childIndex, (long) eligibleCount);
+        }
+        return eligibleCount == parentCount ? eligible : (int) ((long) eligible * parentCount / eligibleCount);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getParentCount() {
+        return parentCount;
+    }
+
+    /**
+     * 난수 상위 32비트로 [0, bound) 범위의 정수
+     */
+    private static int bounded(long random, int bound) {
+        return (int) (((random >>> 32) * bound) >>> 32);
+    }
+
+    /**
+     * 난수 하위 24비트로 [0, 1) 범위의 실수 (bounded와 겹치지 않는 비트 사용)
+     */
+    private static double unit(long random) {
+        return (random & 0xFFFFFF) * 0x1.0p-24;
+    }
+
+    /**
+     * 순위 r의 가중치 1/(r+1)^exponent로 Vose 별칭 테이블을 만듭니다.
+     */
+    private static void buildZipfAliasTable(double exponent, float[] probability, int[] alias) {
+        int n = probability.length;
+        double[] scaled = new double[n];
+        double weightSum = 0;
+        for (int r = 0; r < n; r++) {
+            scaled[r] = 1.0 / Math.pow(r + 1, exponent);
+            weightSum += scaled[r];
+        }
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallSize = 0;
+        int largeSize = 0;
+        for (int r = 0; r < n; r++) {
+            scaled[r] = scaled[r] * n / weightSum;
+            if (scaled[r] < 1.0) {
+                small[smallSize++] = r;
+            } else {
+                large[largeSize++] = r;
+            }
+        }
+        while (smallSize > 0 && largeSize > 0) {
+            int less = small[--smallSize];
+            int more = large[--largeSize];
+            probability[less] = (float) scaled[less];
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallSize++] = more;
+            } else {
+                large[largeSize++] = more;
+            }
+        }
+        // 부동소수 오차로 남은 항목은 자기 자신을 확률 1로 선택
+        while (largeSize > 0) {
+            int r = large[--largeSize];
+            probability[r] = 1.0f;
+            alias[r] = r;
+        }
+        while (smallSize > 0) {
+            int r = small[--smallSize];
+            probability[r] = 1.0f;
+            alias[r] = r;
+        }
+    }
+}
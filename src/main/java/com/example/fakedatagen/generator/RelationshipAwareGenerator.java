@@ -17,6 +17,9 @@ public class RelationshipAwareGenerator {
     private final BasicValueGenerator basicValueGenerator;
     private final ForeignKeyValueGenerator foreignKeyValueGenerator;
     private final RelationshipValueGenerator relationshipValueGenerator;
+    private final ParallelRowGenerator parallelRowGenerator;
+    private final GenerationTracer generationTracer;
+    private final JunctionPairGenerator junctionPairGenerator;
 
     private static final ThreadLocal<Faker> FAKER = ThreadLocal.withInitial(Faker::new);
 
@@ -26,14 +29,25 @@ public class RelationshipAwareGenerator {
     public RelationshipAwareGenerator(TopologicalSorter topologicalSorter,
                                       BasicValueGenerator basicValueGenerator,
                                       ForeignKeyValueGenerator foreignKeyValueGenerator,
-                                      RelationshipValueGenerator relationshipValueGenerator) {
+                                      RelationshipValueGenerator relationshipValueGenerator,
+                                      ParallelRowGenerator parallelRowGenerator,
+                                      GenerationTracer generationTracer,
+                                      JunctionPairGenerator junctionPairGenerator) {
         this.topologicalSorter = topologicalSorter;
         this.basicValueGenerator = basicValueGenerator;
         this.foreignKeyValueGenerator = foreignKeyValueGenerator;
         this.relationshipValueGenerator = relationshipValueGenerator;
+        this.parallelRowGenerator = parallelRowGenerator;
+        this.generationTracer = generationTracer;
+        this.junctionPairGenerator = junctionPairGenerator;
     }
     
-    public Map<String, List<Map<String, Object>>> generateFakeData(DatabaseSchema schema, int recordCount) {
+    /**
+     * 모든 테이블 데이터를 메모리에 생성합니다. (DB 삽입 없이 결과 화면용)
+     *
+     * @param seed 생성 시드 (같은 시드면 같은 데이터)
+     */
+    public Map<String, List<Map<String, Object>>> generateFakeData(DatabaseSchema schema, int recordCount, GenerationSeed seed) {
         int initialCapacity = Math.max(schema.getTables().size(), 16);
         Map<String, List<Map<String, Object>>> fakeData = new HashMap<>(initialCapacity);
         
@@ -43,7 +57,7 @@ public class RelationshipAwareGenerator {
         
         for (Table table : orderedTables) {
             log.debug("Generating data for table: {} ({} records)", table.getName(), recordCount);
-            List<Map<String, Object>> records = generateTableRecords(table, recordCount, fakeData, schema);
+            List<Map<String, Object>> records = generateTableRecords(table, recordCount, fakeData, schema, seed);
             fakeData.put(table.getName(), records);
             log.debug("Generated {} records for table: {}", records.size(), table.getName());
         }
@@ -51,111 +65,72 @@ public class RelationshipAwareGenerator {
         return fakeData;
     }
     
+    /**
+     * 테이블 전체를 메모리에 생성합니다.
+     * DB 삽입 경로와 같은 구간 생성 작업을 사용하고, 부모 값은 앞서 생성된 테이블 데이터에서 찾습니다.
+     */
     private List<Map<String, Object>> generateTableRecords(Table table, int recordCount, 
                                                            Map<String, List<Map<String, Object>>> fakeData, 
-                                                           DatabaseSchema schema) {
-        // 관계 정보를 미리 계산
-        List<Relationship> relationships = getRelationshipsForTable(table.getName(), schema);
-        Map<String, Relationship> columnToRelationship = new HashMap<>();
-        for (Relationship rel : relationships) {
-            for (String col : rel.getSourceColumns()) {
-                columnToRelationship.put(col, rel);
-            }
-        }
-        
-        Map<String, ForeignKey> columnToForeignKey = new HashMap<>();
-        for (ForeignKey fk : table.getForeignKeys()) {
-            columnToForeignKey.put(fk.getColumnName(), fk);
-        }
-        
-        List<Map<String, Object>> records = new ArrayList<>(recordCount);
-        for (int i = 0; i < recordCount; i++) {
-            Map<String, Object> record = new HashMap<>();
-            for (Column column : table.getColumns()) {
-                Object value = generateValueForColumnOptimized(column, i, table, fakeData, schema, 
-                                                               columnToRelationship, columnToForeignKey);
-                record.put(column.getName(), value);
-            }
-            records.add(record);
-        }
-        return records;
-    }
-    
-    private Object generateValueForColumnOptimized(Column column, int index, Table table, 
-                                                   Map<String, List<Map<String, Object>>> fakeData, 
-                                                   DatabaseSchema schema,
-                                                   Map<String, Relationship> columnToRelationship,
-                                                   Map<String, ForeignKey> columnToForeignKey) {
-        // 관계 체크 (캐시된 맵 사용)
-        Relationship relationship = columnToRelationship.get(column.getName());
-        if (relationship != null) {
-            return relationshipValueGenerator.generateFromFakeData(relationship, column.getName(), index, fakeData);
-        }
-        
-        // 외래키 체크 (캐시된 맵 사용)
-        ForeignKey fk = columnToForeignKey.get(column.getName());
-        if (fk != null) {
-            return foreignKeyValueGenerator.generateFromFakeData(fk, fakeData, index);
-        }
-        
-        return basicValueGenerator.generate(column, index, table);
+                                                           DatabaseSchema schema, GenerationSeed seed) {
+        ParallelRowGenerator.ChunkTask task = createChunkTask(schema, table, seed, Map.of(), fakeData);
+        return parallelRowGenerator.generate(table, 0, recordCount, task).asRecords();
     }
     
     /**
-     * 특정 테이블의 데이터를 생성 (실제 생성된 키 값을 사용)
+     * 테이블 데이터 중 [startIndex, startIndex + chunkSize) 구간만 생성합니다.
+     * 각 행의 값은 행 인덱스 기준으로 생성되므로, 청크 단위로 나누어 생성해도
+     * 전체를 한 번에 생성한 것과 같은 값(고유값, FK 선택, 시드 기반 난수)이 만들어집니다.
+     * 구간이 충분히 크면 작업자 스레드들이 나누어 병렬로 생성합니다.
      * 
      * @param schema 데이터베이스 스키마
      * @param tableName 생성할 테이블명
-     * @param recordCount 생성할 레코드 수
+     * @param seed 생성 시드
+     * @param startIndex 청크의 시작 행 인덱스
+     * @param chunkSize 청크 크기
      * @param generatedKeysMap 이전 테이블들에서 생성된 키 값들
-     * @return 생성된 테이블 데이터
+     * @param generatedDataMap 이전 테이블들에서 생성된 데이터들 (참조 컬럼만 보관될 수 있음)
+     * @return 생성된 청크 데이터 (컬럼 단위 버퍼), 테이블이 없으면 null
      */
-    public List<Map<String, Object>> generateTableData(DatabaseSchema schema, String tableName, int recordCount, Map<String, List<Long>> generatedKeysMap) {
-        String tableNameOnly = extractTableNameOnly(tableName);
-        Table table = schema.getTableByName(tableNameOnly);
+    public RowBatch generateTableChunk(DatabaseSchema schema, String tableName, GenerationSeed seed, int startIndex, int chunkSize,
+                                       Map<String, KeyStore> generatedKeysMap,
+                                       Map<String, List<Map<String, Object>>> generatedDataMap) {
+        Table table = schema.getTableByName(extractTableNameOnly(tableName));
         if (table == null) {
-            log.warn("Table not found in schema: {}", tableNameOnly);
-            return new ArrayList<>();
-        }
-        
-        List<Map<String, Object>> records = new ArrayList<>();
-        
-        for (int i = 0; i < recordCount; i++) {
-            Map<String, Object> record = new HashMap<>();
-            
-            for (Column column : table.getColumns()) {
-                Object value = generateValueForColumnWithGeneratedKeys(column, i, table, generatedKeysMap, schema);
-                record.put(column.getName(), value);
-            }
-            
-            records.add(record);
+            log.warn("Table not found in schema: {}", tableName);
+            return null;
         }
         
-        return records;
+        ParallelRowGenerator.ChunkTask task = createChunkTask(schema, table, seed, generatedKeysMap, generatedDataMap);
+        return parallelRowGenerator.generate(table, startIndex, chunkSize, task);
     }
     
     /**
-     * 특정 테이블의 데이터를 생성합니다. (실제 생성된 키 값과 데이터를 모두 사용)
+     * [startIndex, startIndex + rowCount) 구간을 chunkSize 단위 배치들로 나누어 병렬 생성합니다.
+     * 스트리밍 삽입 시 작업자 수만큼의 배치를 한 번에 만들어 두고 순서대로 INSERT하는 데 사용합니다.
      * 
-     * @param schema 데이터베이스 스키마
-     * @param tableName 생성할 테이블명
-     * @param recordCount 생성할 레코드 수
-     * @param generatedKeysMap 이전 테이블들에서 생성된 키 값들
-     * @param generatedDataMap 이전 테이블들에서 생성된 데이터들
-     * @return 생성된 테이블 데이터
+     * @return 행 인덱스 순서의 배치 목록, 테이블이 없으면 빈 목록
      */
-    public List<Map<String, Object>> generateTableDataWithGeneratedData(DatabaseSchema schema, String tableName, int recordCount, 
-                                                                       Map<String, List<Long>> generatedKeysMap, 
-                                                                       Map<String, List<Map<String, Object>>> generatedDataMap) {
-        String tableNameOnly = extractTableNameOnly(tableName);
-        Table table = schema.getTableByName(tableNameOnly);
+    public List<RowBatch> generateTableChunks(DatabaseSchema schema, String tableName, GenerationSeed seed, int startIndex, int rowCount, 
+                                              int chunkSize,
+                                              Map<String, KeyStore> generatedKeysMap,
+                                              Map<String, List<Map<String, Object>>> generatedDataMap) {
+        Table table = schema.getTableByName(extractTableNameOnly(tableName));
         if (table == null) {
-            log.warn("Table not found in schema: {}", tableNameOnly);
+            log.warn("Table not found in schema: {}", tableName);
             return new ArrayList<>();
         }
         
-        log.debug("Generating data for table: {} ({} records)", tableName, recordCount);
-        
+        ParallelRowGenerator.ChunkTask task = createChunkTask(schema, table, seed, generatedKeysMap, generatedDataMap);
+        return parallelRowGenerator.generateChunks(startIndex, rowCount, chunkSize, task);
+    }
+    
+    /**
+     * 병렬 생성 시 작업자 스레드들이 공유하는 구간 생성 작업을 만듭니다.
+     * 관계/외래키 매핑은 미리 한 번만 계산하고 이후에는 읽기 전용으로만 사용합니다.
+     */
+    private ParallelRowGenerator.ChunkTask createChunkTask(DatabaseSchema schema, Table table, GenerationSeed seed,
+                                                          Map<String, KeyStore> generatedKeysMap,
+                                                          Map<String, List<Map<String, Object>>> generatedDataMap) {
         // 관계 정보를 미리 계산 (성능 최적화)
         List<Relationship> relationships = getRelationshipsForTable(table.getName(), schema);
         Map<String, Relationship> columnToRelationship = new HashMap<>();
@@ -167,112 +142,90 @@ public class RelationshipAwareGenerator {
         
         Map<String, ForeignKey> columnToForeignKey = new HashMap<>();
         for (ForeignKey fk : table.getForeignKeys()) {
-            columnToForeignKey.put(fk.getColumnName(), fk);
-        }
-        
-        List<Map<String, Object>> records = new ArrayList<>(recordCount);
-        
-        for (int i = 0; i < recordCount; i++) {
-            Map<String, Object> record = new HashMap<>();
-            for (Column column : table.getColumns()) {
-                Object value = generateValueForColumnWithGeneratedDataOptimized(column, i, table, generatedKeysMap, 
-                                                                               generatedDataMap, schema,
-                                                                               columnToRelationship, columnToForeignKey);
-                record.put(column.getName(), value);
+            for (String col : fk.getColumnNames()) {
+                columnToForeignKey.put(col, fk);
             }
-            records.add(record);
         }
         
-        basicValueGenerator.logTableFakerMappings(tableNameOnly);
-        log.debug("Generated {} records for table: {}", records.size(), tableName);
-        
-        return records;
-    }
-    
-    private Object generateValueForColumnWithGeneratedDataOptimized(Column column, int index, Table table, 
-                                                                    Map<String, List<Long>> generatedKeysMap, 
-                                                                    Map<String, List<Map<String, Object>>> generatedDataMap, 
-                                                                    DatabaseSchema schema,
-                                                                    Map<String, Relationship> columnToRelationship,
-                                                                    Map<String, ForeignKey> columnToForeignKey) {
-        // 관계 체크 (캐시된 맵 사용)
-        Relationship relationship = columnToRelationship.get(column.getName());
-        if (relationship != null) {
-            return relationshipValueGenerator.generateFromData(relationship, column.getName(), index, generatedKeysMap, generatedDataMap);
-        }
+        // 연결 테이블의 두 외래키 컬럼은 행마다 서로 다른 부모 쌍을 받도록 함께 생성
+        Map<String, ColumnGenerator.ValueSource> junctionSources =
+                junctionPairGenerator.compile(table, seed, generatedKeysMap, generatedDataMap);
         
-        // 외래키 체크 (캐시된 맵 사용)
-        ForeignKey fk = columnToForeignKey.get(column.getName());
-        if (fk != null) {
-            return foreignKeyValueGenerator.generateFromData(fk, generatedKeysMap, generatedDataMap, index);
+        // 컬럼별 생성 계획을 한 번만 만들어 두고 행 루프에서는 배열만 순회
+        List<Column> columns = table.getColumns();
+        ColumnGenerator[] generators = new ColumnGenerator[columns.size()];
+        for (int c = 0; c < generators.length; c++) {
+            Column column = columns.get(c);
+            Relationship relationship = columnToRelationship.get(column.getName());
+            ForeignKey fk = columnToForeignKey.get(column.getName());
+            ColumnGenerator.ValueSource junctionSource = junctionSources.get(column.getName());
+            if (junctionSource != null) {
+                generators[c] = ColumnGenerator.delegating(column, "JUNCTION",
+                        generationTracer.trace(table.getName(), column.getName(), "JUNCTION", junctionSource));
+            } else if (relationship != null && (fk == null || !fk.isComposite())) {
+                generators[c] = ColumnGenerator.delegating(column, "RELATIONSHIP",
+                        generationTracer.trace(table.getName(), column.getName(), "RELATIONSHIP",
+                                relationshipValueGenerator.compileFromData(relationship, column.getName(), seed,
+                                                                           generatedKeysMap, generatedDataMap)));
+            } else if (fk != null) {
+                // 복합 외래키는 모든 컬럼이 같은 부모 행의 키 튜플을 내보내도록 외래키 생성기에서 생성
+                generators[c] = ColumnGenerator.delegating(column, "FOREIGN_KEY",
+                        generationTracer.trace(table.getName(), column.getName(), "FOREIGN_KEY",
+                                foreignKeyValueGenerator.compileFromData(table.getName(), fk, column.getName(), seed,
+                                                                         generatedKeysMap, generatedDataMap)));
+            } else {
+                generators[c] = basicValueGenerator.compile(column, table, seed);
+            }
         }
         
-        return basicValueGenerator.generate(column, index, table);
-    }
-    
-    private String extractTableNameOnly(String tableName) {
-        return tableName.contains(".") ? tableName.substring(tableName.lastIndexOf(".") + 1) : tableName;
+        return (startIndex, rowCount) -> fillRows(table, generators, startIndex, rowCount);
     }
     
-    private Object generateValueForColumn(Column column, int index, Table table, 
-                                         Map<String, List<Map<String, Object>>> fakeData, DatabaseSchema schema) {
-        List<Relationship> relationships = getRelationshipsForTable(table.getName(), schema);
-        for (Relationship relationship : relationships) {
-            if (relationship.getSourceColumns().contains(column.getName())) {
-                return relationshipValueGenerator.generateFromFakeData(relationship, column.getName(), index, fakeData);
-            }
-        }
-        
-        for (ForeignKey fk : table.getForeignKeys()) {
-            if (fk.getColumnName().equals(column.getName())) {
-                return foreignKeyValueGenerator.generateFromFakeData(fk, fakeData, index);
+    /**
+     * 컬럼 생성 계획 배열로 [startIndex, startIndex + rowCount) 구간의 행을 채웁니다.
+     */
+    private RowBatch fillRows(Table table, ColumnGenerator[] generators, int startIndex, int rowCount) {
+        RowBatch batch = new RowBatch(table, startIndex, rowCount);
+        int endIndex = startIndex + rowCount;
+        for (int i = startIndex; i < endIndex; i++) {
+            int row = batch.addRow();
+            for (int c = 0; c < generators.length; c++) {
+                batch.set(row, c, generators[c].generate(i));
             }
         }
-        
-        return basicValueGenerator.generate(column, index, table);
+        return batch;
     }
     
     /**
-     * 실제 생성된 키 값과 데이터를 사용하여 컬럼 값을 생성
+     * 다른 테이블이 FK/관계로 참조하는 컬럼을 테이블별로 수집합니다.
+     * 스트리밍 모드에서는 이 컬럼들만 메모리에 남기고 나머지 값은 INSERT 후 버립니다.
+     * 
+     * @param schema 데이터베이스 스키마
+     * @return 테이블명(스키마명 제외) -> 참조되는 컬럼명 집합
      */
-    private Object generateValueForColumnWithGeneratedData(Column column, int index, Table table, 
-                                                          Map<String, List<Long>> generatedKeysMap, 
-                                                          Map<String, List<Map<String, Object>>> generatedDataMap, 
-                                                          DatabaseSchema schema) {
-        List<Relationship> relationships = getRelationshipsForTable(table.getName(), schema);
-        for (Relationship relationship : relationships) {
-            if (relationship.getSourceColumns().contains(column.getName())) {
-                return relationshipValueGenerator.generateFromData(relationship, column.getName(), index, generatedKeysMap, generatedDataMap);
+    public Map<String, Set<String>> getReferencedColumns(DatabaseSchema schema) {
+        Map<String, Set<String>> referencedColumns = new HashMap<>();
+        for (Table table : schema.getTables()) {
+            for (ForeignKey fk : table.getForeignKeys()) {
+                referencedColumns.computeIfAbsent(extractTableNameOnly(fk.getReferencedTableName()), k -> new HashSet<>())
+                        .addAll(fk.getReferencedColumnNames());
             }
         }
-        
-        for (ForeignKey fk : table.getForeignKeys()) {
-            if (fk.getColumnName().equals(column.getName())) {
-                return foreignKeyValueGenerator.generateFromData(fk, generatedKeysMap, generatedDataMap, index);
+        for (Relationship relationship : schema.getRelationships()) {
+            referencedColumns.computeIfAbsent(relationship.getTargetTable().getName(), k -> new HashSet<>())
+                    .addAll(relationship.getTargetColumns());
+            if (relationship.getType() == Relationship.RelationshipType.ONE_TO_MANY) {
+                referencedColumns.computeIfAbsent(relationship.getSourceTable().getName(), k -> new HashSet<>())
+                        .addAll(relationship.getSourceColumns());
             }
         }
-        
-        return basicValueGenerator.generate(column, index, table);
+        return referencedColumns;
     }
     
-    private Object generateValueForColumnWithGeneratedKeys(Column column, int index, Table table, 
-                                                           Map<String, List<Long>> generatedKeysMap, DatabaseSchema schema) {
-        List<Relationship> relationships = getRelationshipsForTable(table.getName(), schema);
-        for (Relationship relationship : relationships) {
-            if (relationship.getSourceColumns().contains(column.getName())) {
-                return relationshipValueGenerator.generateFromKeys(relationship, column.getName(), index, generatedKeysMap);
-            }
-        }
-        
-        for (ForeignKey fk : table.getForeignKeys()) {
-            if (fk.getColumnName().equals(column.getName())) {
-                return foreignKeyValueGenerator.generateFromKeys(fk, generatedKeysMap, index);
-            }
-        }
-        
-        return basicValueGenerator.generate(column, index, table);
+    private String extractTableNameOnly(String tableName) {
+        return tableName.contains(".") ? tableName.substring(tableName.lastIndexOf(".") + 1) : tableName;
     }
-
+    
     private List<Relationship> getRelationshipsForTable(String tableName, DatabaseSchema schema) {
         String tableNameOnly = extractTableNameOnly(tableName);
         List<Relationship> relationships = new ArrayList<>();
@@ -286,6 +239,39 @@ public class RelationshipAwareGenerator {
         return relationships;
     }
 
+    /**
+     * 테이블 생성이 끝났을 때 추적 중이던 FK/관계 컬럼 집계를 남깁니다.
+     */
+    public void logTraceSummary(String tableName) {
+        generationTracer.logSummary(extractTableNameOnly(tableName));
+    }
+
+    /**
+     * 행 생성에 사용하는 작업자 스레드 수
+     */
+    public int getParallelism() {
+        return parallelRowGenerator.getParallelism();
+    }
+
+    /**
+     * 의존성 단계별 테이블명 그룹을 반환합니다. (스키마명.테이블명 형태)
+     * 같은 그룹의 테이블은 서로 의존하지 않으므로 동시에 생성/삽입할 수 있습니다.
+     */
+    public List<List<String>> getTableNameLevels(DatabaseSchema schema) {
+        List<List<String>> levels = new ArrayList<>();
+        for (List<Table> level : topologicalSorter.getTableLevels(schema)) {
+            List<String> names = new ArrayList<>(level.size());
+            for (Table table : level) {
+                names.add((table.getSchemaName() != null && !table.getSchemaName().isEmpty())
+                        ? table.getSchemaName() + "." + table.getName()
+                        : table.getName());
+            }
+            levels.add(names);
+        }
+        log.debug("Table dependency levels: {}", levels);
+        return levels;
+    }
+
     public List<String> getOrderedTableNames(DatabaseSchema schema) {
         log.debug("Determining table insertion order using topological sort");
         List<Table> orderedTables = topologicalSorter.getOrderedTables(schema);
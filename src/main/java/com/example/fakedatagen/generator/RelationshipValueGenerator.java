@@ -1,8 +1,6 @@
 package com.example.fakedatagen.generator;
 
 import com.example.fakedatagen.model.*;
-import net.datafaker.Faker;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
@@ -10,467 +8,125 @@ import java.util.*;
 @Component
 public class RelationshipValueGenerator {
     
-    @Autowired
-    private BasicValueGenerator basicValueGenerator;
-    
-    private Faker faker = new Faker();
+    private final BasicValueGenerator basicValueGenerator;
 
-    /**
-     * 실제 생성된 키 값과 데이터를 사용하여 Relationship 값을 생성
-     */
-    public Object generateFromData(Relationship relationship, String columnName, int index,
-                                   Map<String, List<Long>> generatedKeysMap,
-                                   Map<String, List<Map<String, Object>>> generatedDataMap) {
-        boolean isCompositeKeyTable = isCompositePrimaryKeyTable(relationship.getSourceTable());
+    private final ForeignKeyValueGenerator foreignKeyValueGenerator;
 
-        switch (relationship.getType()) {
-            case ONE_TO_ONE:
-                return generateOneToOneValueWithGeneratedData(relationship, index, generatedKeysMap, generatedDataMap);
-            case ONE_TO_MANY:
-                return generateOneToManyValueWithGeneratedData(relationship, columnName, index, generatedKeysMap, generatedDataMap);
-            case MANY_TO_ONE:
-                boolean hasUnique = basicValueGenerator.hasUniqueConstraint(relationship.getSourceTable(), columnName);
-                if (hasUnique) {
-                    return generateOneToOneValueWithGeneratedData(relationship, index, generatedKeysMap, generatedDataMap);
-                }
-                return generateManyToOneValueWithGeneratedData(relationship, generatedKeysMap, generatedDataMap, index);
-            case MANY_TO_MANY:
-                if (isCompositeKeyTable) {
-                    return generateCompositeKeyValueWithGeneratedData(relationship, columnName, index, generatedKeysMap, generatedDataMap);
-                }
-                return generateManyToManyValueWithGeneratedData(relationship, index, generatedKeysMap, generatedDataMap);
-            default:
-                return 1;
-        }
+    public RelationshipValueGenerator(BasicValueGenerator basicValueGenerator,
+                                      ForeignKeyValueGenerator foreignKeyValueGenerator) {
+        this.basicValueGenerator = basicValueGenerator;
+        this.foreignKeyValueGenerator = foreignKeyValueGenerator;
     }
 
-    public Object generateFromFakeData(Relationship relationship, String columnName, int index, 
-                                       Map<String, List<Map<String, Object>>> fakeData) {
-        boolean isCompositeKeyTable = isCompositePrimaryKeyTable(relationship.getSourceTable());
-
+    /**
+     * 관계 컬럼의 값 생성 계획을 만듭니다. (실제 생성된 키 값과 데이터 기반)
+     * 관계 유형, 부모 값 목록(보관 데이터 우선, 없으면 생성 키), 참조 컬럼과 부모 배정 분포를 여기서 한 번만 준비하므로
+     * 행마다 부모 인덱스 계산과 값 조회만 수행합니다.
+     * N:1, N:N 관계의 부모 행은 일반 외래키 컬럼과 같은 fakedatagen.fk-distribution 분포로 고릅니다.
+     */
+    public ColumnGenerator.ValueSource compileFromData(Relationship relationship, String columnName, GenerationSeed seed,
+                                                       Map<String, KeyStore> generatedKeysMap,
+                                                       Map<String, List<Map<String, Object>>> generatedDataMap) {
         switch (relationship.getType()) {
             case ONE_TO_ONE:
-                return generateOneToOneValue(relationship, index, fakeData);
-            case ONE_TO_MANY:
-                return generateOneToManyValue(relationship, columnName, index, fakeData);
-            case MANY_TO_ONE:
-                boolean hasUnique = basicValueGenerator.hasUniqueConstraint(relationship.getSourceTable(), columnName);
-                if (hasUnique) {
-                    return generateOneToOneValue(relationship, index, fakeData);
+                return oneToOne(targetValues(relationship, generatedKeysMap, generatedDataMap));
+            case ONE_TO_MANY: {
+                ForeignKeyValueGenerator.ParentValues sources = sourceValues(relationship, generatedKeysMap, generatedDataMap);
+                if (sources == null) {
+                    return index -> index + 1;
                 }
-                return generateManyToOneValue(relationship, fakeData, index);
-            case MANY_TO_MANY:
-                if (isCompositeKeyTable) {
-                    return generateCompositeKeyValue(relationship, columnName, index, fakeData);
-                }
-                return generateManyToManyValue(relationship, index, fakeData);
-            default:
-                return 1;
-        }
-    }
-
-    public Object generateFromKeys(Relationship relationship, String columnName, int index, 
-                                   Map<String, List<Long>> generatedKeysMap) {
-        boolean isCompositeKeyTable = isCompositePrimaryKeyTable(relationship.getSourceTable());
-
-        switch (relationship.getType()) {
-            case ONE_TO_ONE:
-                return generateOneToOneValueWithGeneratedKeys(relationship, index, generatedKeysMap);
-            case ONE_TO_MANY:
-                return generateOneToManyValueWithGeneratedKeys(relationship, columnName, index, generatedKeysMap);
+                ParentDistribution parents = parents(relationship, columnName, sources.size(), seed);
+                return index -> sources.get(parents.parentIndex(index));
+            }
             case MANY_TO_ONE:
-                boolean hasUnique = basicValueGenerator.hasUniqueConstraint(relationship.getSourceTable(), columnName);
-                if (hasUnique) {
-                    return generateOneToOneValueWithGeneratedKeys(relationship, index, generatedKeysMap);
+                if (basicValueGenerator.hasUniqueConstraint(relationship.getSourceTable(), columnName)) {
+                    return oneToOne(targetValues(relationship, generatedKeysMap, generatedDataMap));
                 }
-                return generateManyToOneValueWithGeneratedKeys(relationship, generatedKeysMap, index);
+                return distributed(relationship, columnName, seed,
+                        referencedValues(relationship, columnName, generatedKeysMap, generatedDataMap));
             case MANY_TO_MANY:
-                if (isCompositeKeyTable) {
-                    return generateCompositeKeyValueWithGeneratedKeys(relationship, columnName, index, generatedKeysMap);
-                }
-                return generateManyToManyValueWithGeneratedKeys(relationship, index, generatedKeysMap);
+                // 복합 기본키 자식 테이블의 외래키 컬럼도 자기 테이블이 아니라 참조 테이블의 값을 받음
+                return distributed(relationship, columnName, seed,
+                        referencedValues(relationship, columnName, generatedKeysMap, generatedDataMap));
             default:
-                return 1;
+                return index -> 1;
         }
     }
 
-    // ==================== Private Helper Methods ====================
-    
-    private boolean isCompositePrimaryKeyTable(Table table) {
-        for (Constraint constraint : table.getConstraints()) {
-            if (constraint.getType() == Constraint.ConstraintType.PRIMARY_KEY &&
-                constraint.getColumns().size() > 1) {
-                return true;
-            }
+    private static ColumnGenerator.ValueSource oneToOne(ForeignKeyValueGenerator.ParentValues values) {
+        if (values == null) {
+            return index -> index + 1;
         }
-        return false;
+        int size = values.size();
+        return index -> index < size ? values.get(index) : index + 1;
     }
 
-    // ==================== FakeData 기반 메서드들 ====================
-    
-    private Object generateCompositeKeyValue(Relationship relationship, String columnName, int index, 
-                                             Map<String, List<Map<String, Object>>> fakeData) {
-        String sourceTable = relationship.getSourceTable().getName();
-        String targetTable = relationship.getTargetTable().getName();
-
-        if (relationship.getSourceColumns().contains(columnName) && fakeData.containsKey(sourceTable)) {
-            List<Map<String, Object>> sourceRecords = fakeData.get(sourceTable);
-            if (!sourceRecords.isEmpty()) {
-                int sourceIndex = index % sourceRecords.size();
-                return sourceRecords.get(sourceIndex).get(relationship.getSourceColumns().get(0));
-            }
-        } else if (relationship.getTargetColumns().contains(columnName) && fakeData.containsKey(targetTable)) {
-            List<Map<String, Object>> targetRecords = fakeData.get(targetTable);
-            if (!targetRecords.isEmpty()) {
-                int targetIndex = index % targetRecords.size();
-                return targetRecords.get(targetIndex).get(relationship.getTargetColumns().get(0));
-            }
+    private ColumnGenerator.ValueSource distributed(Relationship relationship, String columnName, GenerationSeed seed,
+                                                   ForeignKeyValueGenerator.ParentValues values) {
+        if (values == null) {
+            return index -> index + 1;
         }
-        return 1;
+        ParentDistribution parents = parents(relationship, columnName, values.size(), seed);
+        return index -> values.get(parents.parentIndex(index));
     }
 
-    private Object generateOneToOneValue(Relationship relationship, int currentIndex, 
-                                         Map<String, List<Map<String, Object>>> fakeData) {
-        String targetTable = relationship.getTargetTable().getName();
-
-        if (fakeData.containsKey(targetTable) && !fakeData.get(targetTable).isEmpty()) {
-            List<Map<String, Object>> targetRecords = fakeData.get(targetTable);
-            if (currentIndex < targetRecords.size()) {
-                Map<String, Object> targetRecord = targetRecords.get(currentIndex);
-                return targetRecord.get(relationship.getTargetColumns().get(0));
-            }
-        }
-        return currentIndex + 1;
+    private static ForeignKeyValueGenerator.ParentValues sourceValues(Relationship relationship,
+                                                                      Map<String, KeyStore> generatedKeysMap,
+                                                                      Map<String, List<Map<String, Object>>> generatedDataMap) {
+        return values(relationship.getSourceTable(), relationship.getSourceColumns().get(0), generatedKeysMap, generatedDataMap);
     }
 
-    private Object generateOneToManyValue(Relationship relationship, String columnName, int index, 
-                                          Map<String, List<Map<String, Object>>> fakeData) {
-        String sourceTable = relationship.getSourceTable().getName();
-
-        if (fakeData.containsKey(sourceTable) && !fakeData.get(sourceTable).isEmpty()) {
-            List<Map<String, Object>> sourceRecords = fakeData.get(sourceTable);
-            int childrenPerParent = faker.number().numberBetween(2, 6);
-            int parentIndex = index / childrenPerParent;
-
-            if (parentIndex < sourceRecords.size()) {
-                Map<String, Object> parentRecord = sourceRecords.get(parentIndex);
-                return parentRecord.get(relationship.getSourceColumns().get(0));
-            }
-        }
-        return 1;
-    }
-
-    private Object generateManyToManyValue(Relationship relationship, int index, 
-                                           Map<String, List<Map<String, Object>>> fakeData) {
-        String sourceTable = relationship.getSourceTable().getName();
-        String targetTable = relationship.getTargetTable().getName();
-
-        if (fakeData.containsKey(sourceTable) && fakeData.containsKey(targetTable)) {
-            List<Map<String, Object>> sourceRecords = fakeData.get(sourceTable);
-            List<Map<String, Object>> targetRecords = fakeData.get(targetTable);
-
-            if (!sourceRecords.isEmpty() && !targetRecords.isEmpty()) {
-                int targetIndex = index % targetRecords.size();
-                return targetRecords.get(targetIndex).get(relationship.getTargetColumns().get(0));
-            }
-        }
-        return 1;
-    }
-
-    private Object generateManyToOneValue(Relationship relationship, Map<String, List<Map<String, Object>>> fakeData, 
-                                          int currentIndex) {
-        String targetTable = relationship.getTargetTable().getName();
-        if (fakeData.containsKey(targetTable) && !fakeData.get(targetTable).isEmpty()) {
-            List<Map<String, Object>> targetRecords = fakeData.get(targetTable);
-            int selectedIndex = currentIndex % targetRecords.size();
-            Map<String, Object> selectedRecord = targetRecords.get(selectedIndex);
-            return selectedRecord.get(relationship.getTargetColumns().get(0));
-        }
-        return currentIndex + 1;
-    }
-
-    // ==================== GeneratedKeys 기반 메서드들 ====================
-    
-    private Object generateOneToOneValueWithGeneratedKeys(Relationship relationship, int currentIndex, 
-                                                          Map<String, List<Long>> generatedKeysMap) {
-        String targetTable = relationship.getTargetTable().getName();
-        String targetTableOnly = targetTable;
-        if (targetTable.contains(".")) {
-            targetTableOnly = targetTable.substring(targetTable.lastIndexOf(".") + 1);
-        }
-
-        if (generatedKeysMap.containsKey(targetTableOnly) && !generatedKeysMap.get(targetTableOnly).isEmpty()) {
-            List<Long> targetKeys = generatedKeysMap.get(targetTableOnly);
-            if (currentIndex < targetKeys.size()) {
-                return targetKeys.get(currentIndex);
-            }
-        }
-        return currentIndex + 1;
-    }
-
-    private Object generateOneToManyValueWithGeneratedKeys(Relationship relationship, String columnName, int index, 
-                                                           Map<String, List<Long>> generatedKeysMap) {
-        String sourceTable = relationship.getSourceTable().getName();
-        String sourceTableOnly = sourceTable;
-        if (sourceTable.contains(".")) {
-            sourceTableOnly = sourceTable.substring(sourceTable.lastIndexOf(".") + 1);
-        }
-
-        if (generatedKeysMap.containsKey(sourceTableOnly) && !generatedKeysMap.get(sourceTableOnly).isEmpty()) {
-            List<Long> sourceKeys = generatedKeysMap.get(sourceTableOnly);
-            int childrenPerParent = 3;
-            int parentIndex = index / childrenPerParent;
-
-            if (parentIndex < sourceKeys.size()) {
-                return sourceKeys.get(parentIndex);
-            }
-        }
-        return index + 1;
+    private static ForeignKeyValueGenerator.ParentValues targetValues(Relationship relationship,
+                                                                      Map<String, KeyStore> generatedKeysMap,
+                                                                      Map<String, List<Map<String, Object>>> generatedDataMap) {
+        return values(relationship.getTargetTable(), relationship.getTargetColumns().get(0), generatedKeysMap, generatedDataMap);
     }
 
-    private Object generateManyToOneValueWithGeneratedKeys(Relationship relationship, 
-                                                           Map<String, List<Long>> generatedKeysMap, int currentIndex) {
-        String targetTable = relationship.getTargetTable().getName();
-        String targetTableOnly = targetTable;
-        if (targetTable.contains(".")) {
-            targetTableOnly = targetTable.substring(targetTable.lastIndexOf(".") + 1);
-        }
-
-        if (generatedKeysMap.containsKey(targetTableOnly) && !generatedKeysMap.get(targetTableOnly).isEmpty()) {
-            List<Long> targetKeys = generatedKeysMap.get(targetTableOnly);
-            int selectedIndex = currentIndex % targetKeys.size();
-            return targetKeys.get(selectedIndex);
-        }
-        return currentIndex + 1;
+    /**
+     * 관계 컬럼이 참조하는 부모 컬럼 값 목록 (복합 외래키면 같은 위치의 참조 컬럼)
+     */
+    private static ForeignKeyValueGenerator.ParentValues referencedValues(Relationship relationship, String columnName,
+                                                                          Map<String, KeyStore> generatedKeysMap,
+                                                                          Map<String, List<Map<String, Object>>> generatedDataMap) {
+        int position = Math.max(0, relationship.getSourceColumns().indexOf(columnName));
+        List<String> targetColumns = relationship.getTargetColumns();
+        String targetColumn = targetColumns.get(Math.min(position, targetColumns.size() - 1));
+        return values(relationship.getTargetTable(), targetColumn, generatedKeysMap, generatedDataMap);
     }
 
-    private Object generateManyToManyValueWithGeneratedKeys(Relationship relationship, int index, 
-                                                            Map<String, List<Long>> generatedKeysMap) {
-        String sourceTable = relationship.getSourceTable().getName();
-        String targetTable = relationship.getTargetTable().getName();
-        
-        String sourceTableOnly = sourceTable;
-        String targetTableOnly = targetTable;
-        if (sourceTable.contains(".")) {
-            sourceTableOnly = sourceTable.substring(sourceTable.lastIndexOf(".") + 1);
+    /**
+     * 테이블의 한 컬럼 값 목록 (보관된 데이터가 있으면 그 컬럼, 없으면 생성 키, 둘 다 없으면 null)
+     */
+    private static ForeignKeyValueGenerator.ParentValues values(Table table, String columnName,
+                                                                Map<String, KeyStore> generatedKeysMap,
+                                                                Map<String, List<Map<String, Object>>> generatedDataMap) {
+        String tableOnly = extractTableNameOnly(table.getName());
+        List<Map<String, Object>> records = generatedDataMap.get(tableOnly);
+        if (records == null) {
+            records = generatedDataMap.get(table.getName());
         }
-        if (targetTable.contains(".")) {
-            targetTableOnly = targetTable.substring(targetTable.lastIndexOf(".") + 1);
+        if (records != null && !records.isEmpty()) {
+            return ForeignKeyValueGenerator.ParentValues.of(records, columnName);
         }
-
-        if (generatedKeysMap.containsKey(sourceTableOnly) && generatedKeysMap.containsKey(targetTableOnly)) {
-            List<Long> sourceKeys = generatedKeysMap.get(sourceTableOnly);
-            List<Long> targetKeys = generatedKeysMap.get(targetTableOnly);
-
-            if (!sourceKeys.isEmpty() && !targetKeys.isEmpty()) {
-                int sourceIndex = index % sourceKeys.size();
-                return sourceKeys.get(sourceIndex);
-            }
+        KeyStore keys = generatedKeysMap.get(tableOnly);
+        if (keys != null && !keys.isEmpty()) {
+            return ForeignKeyValueGenerator.ParentValues.of(keys);
         }
-        return index + 1;
+        return null;
     }
 
-    private Object generateCompositeKeyValueWithGeneratedKeys(Relationship relationship, String columnName, int index, 
-                                                              Map<String, List<Long>> generatedKeysMap) {
-        String sourceTable = relationship.getSourceTable().getName();
-        String targetTable = relationship.getTargetTable().getName();
-        
-        String sourceTableOnly = sourceTable;
-        String targetTableOnly = targetTable;
-        if (sourceTable.contains(".")) {
-            sourceTableOnly = sourceTable.substring(sourceTable.lastIndexOf(".") + 1);
-        }
-        if (targetTable.contains(".")) {
-            targetTableOnly = targetTable.substring(targetTable.lastIndexOf(".") + 1);
-        }
-
-        if (relationship.getSourceColumns().contains(columnName) && generatedKeysMap.containsKey(sourceTableOnly)) {
-            List<Long> sourceKeys = generatedKeysMap.get(sourceTableOnly);
-            if (!sourceKeys.isEmpty()) {
-                int selectedIndex = index % sourceKeys.size();
-                return sourceKeys.get(selectedIndex);
-            }
-        } else if (relationship.getTargetColumns().contains(columnName) && generatedKeysMap.containsKey(targetTableOnly)) {
-            List<Long> targetKeys = generatedKeysMap.get(targetTableOnly);
-            if (!targetKeys.isEmpty()) {
-                int selectedIndex = index % targetKeys.size();
-                return targetKeys.get(selectedIndex);
-            }
-        }
-        return index + 1;
+    /**
+     * 관계 컬럼의 자식 → 부모 배정 분포
+     * 일반 외래키 컬럼과 같은 fakedatagen.fk-distribution 설정을 (자식 테이블.컬럼) 설정, 없으면 전역 type 순으로 사용합니다.
+     * type이 FAN_OUT이면 fakedatagen.fan-out 설정의 부모당 자식 수대로 배정합니다.
+     *
+     * @param seed 생성 시드 (null이면 고정 스트림 사용)
+     */
+    public ParentDistribution parents(Relationship relationship, String columnName, int parentCount, GenerationSeed seed) {
+        return foreignKeyValueGenerator.distribution(relationship.getSourceTable().getName(), columnName, parentCount, seed);
     }
 
-    // ==================== GeneratedData 기반 메서드들 ====================
-    
-    private Object generateOneToOneValueWithGeneratedData(Relationship relationship, int currentIndex, 
-                                                         Map<String, List<Long>> generatedKeysMap, 
-                                                         Map<String, List<Map<String, Object>>> generatedDataMap) {
-        String targetTable = relationship.getTargetTable().getName();
-        String targetTableOnly = targetTable;
-        if (targetTable.contains(".")) {
-            targetTableOnly = targetTable.substring(targetTable.lastIndexOf(".") + 1);
-        }
-        
-        if (generatedDataMap.containsKey(targetTableOnly) && !generatedDataMap.get(targetTableOnly).isEmpty()) {
-            List<Map<String, Object>> targetData = generatedDataMap.get(targetTableOnly);
-            if (currentIndex < targetData.size()) {
-                Map<String, Object> targetRecord = targetData.get(currentIndex);
-                return targetRecord.get(relationship.getTargetColumns().get(0));
-            }
-        }
-        
-        if (generatedKeysMap.containsKey(targetTableOnly) && !generatedKeysMap.get(targetTableOnly).isEmpty()) {
-            List<Long> targetKeys = generatedKeysMap.get(targetTableOnly);
-            if (currentIndex < targetKeys.size()) {
-                return targetKeys.get(currentIndex);
-            }
-        }
-        
-        return currentIndex + 1;
-    }
-    
-    private Object generateOneToManyValueWithGeneratedData(Relationship relationship, String columnName, int index, 
-                                                          Map<String, List<Long>> generatedKeysMap, 
-                                                          Map<String, List<Map<String, Object>>> generatedDataMap) {
-        String sourceTable = relationship.getSourceTable().getName();
-        String sourceTableOnly = sourceTable;
-        if (sourceTable.contains(".")) {
-            sourceTableOnly = sourceTable.substring(sourceTable.lastIndexOf(".") + 1);
-        }
-        
-        if (generatedDataMap.containsKey(sourceTableOnly) && !generatedDataMap.get(sourceTableOnly).isEmpty()) {
-            List<Map<String, Object>> sourceData = generatedDataMap.get(sourceTableOnly);
-            int childrenPerParent = 3;
-            int parentIndex = index / childrenPerParent;
-            
-            if (parentIndex < sourceData.size()) {
-                Map<String, Object> parentRecord = sourceData.get(parentIndex);
-                return parentRecord.get(relationship.getSourceColumns().get(0));
-            }
-        }
-        
-        if (generatedKeysMap.containsKey(sourceTableOnly) && !generatedKeysMap.get(sourceTableOnly).isEmpty()) {
-            List<Long> sourceKeys = generatedKeysMap.get(sourceTableOnly);
-            int childrenPerParent = 3;
-            int parentIndex = index / childrenPerParent;
-            
-            if (parentIndex < sourceKeys.size()) {
-                return sourceKeys.get(parentIndex);
-            }
-        }
-        
-        return index + 1;
-    }
-    
-    private Object generateManyToOneValueWithGeneratedData(Relationship relationship, 
-                                                          Map<String, List<Long>> generatedKeysMap, 
-                                                          Map<String, List<Map<String, Object>>> generatedDataMap, 
-                                                          int currentIndex) {
-        String targetTable = relationship.getTargetTable().getName();
-        String targetTableOnly = targetTable;
-        if (targetTable.contains(".")) {
-            targetTableOnly = targetTable.substring(targetTable.lastIndexOf(".") + 1);
-        }
-        
-        if (generatedDataMap.containsKey(targetTableOnly) && !generatedDataMap.get(targetTableOnly).isEmpty()) {
-            List<Map<String, Object>> targetData = generatedDataMap.get(targetTableOnly);
-            int selectedIndex = currentIndex % targetData.size();
-            Map<String, Object> selectedRecord = targetData.get(selectedIndex);
-            return selectedRecord.get(relationship.getTargetColumns().get(0));
-        }
-        
-        if (generatedKeysMap.containsKey(targetTableOnly) && !generatedKeysMap.get(targetTableOnly).isEmpty()) {
-            List<Long> targetKeys = generatedKeysMap.get(targetTableOnly);
-            int selectedIndex = currentIndex % targetKeys.size();
-            return targetKeys.get(selectedIndex);
-        }
-        
-        return currentIndex + 1;
-    }
-    
-    private Object generateManyToManyValueWithGeneratedData(Relationship relationship, int index, 
-                                                           Map<String, List<Long>> generatedKeysMap, 
-                                                           Map<String, List<Map<String, Object>>> generatedDataMap) {
-        String sourceTable = relationship.getSourceTable().getName();
-        String targetTable = relationship.getTargetTable().getName();
-        
-        String sourceTableOnly = sourceTable;
-        String targetTableOnly = targetTable;
-        if (sourceTable.contains(".")) {
-            sourceTableOnly = sourceTable.substring(sourceTable.lastIndexOf(".") + 1);
-        }
-        if (targetTable.contains(".")) {
-            targetTableOnly = targetTable.substring(targetTable.lastIndexOf(".") + 1);
-        }
-        
-        if (generatedDataMap.containsKey(sourceTableOnly) && generatedDataMap.containsKey(targetTableOnly)) {
-            List<Map<String, Object>> sourceData = generatedDataMap.get(sourceTableOnly);
-            List<Map<String, Object>> targetData = generatedDataMap.get(targetTableOnly);
-            
-            if (!sourceData.isEmpty() && !targetData.isEmpty()) {
-                int sourceIndex = index % sourceData.size();
-                return sourceData.get(sourceIndex).get(relationship.getSourceColumns().get(0));
-            }
-        }
-        
-        if (generatedKeysMap.containsKey(sourceTableOnly) && generatedKeysMap.containsKey(targetTableOnly)) {
-            List<Long> sourceKeys = generatedKeysMap.get(sourceTableOnly);
-            List<Long> targetKeys = generatedKeysMap.get(targetTableOnly);
-            
-            if (!sourceKeys.isEmpty() && !targetKeys.isEmpty()) {
-                int sourceIndex = index % sourceKeys.size();
-                return sourceKeys.get(sourceIndex);
-            }
-        }
-        
-        return index + 1;
-    }
-    
-    private Object generateCompositeKeyValueWithGeneratedData(Relationship relationship, String columnName, int index, 
-                                                            Map<String, List<Long>> generatedKeysMap, 
-                                                            Map<String, List<Map<String, Object>>> generatedDataMap) {
-        String sourceTable = relationship.getSourceTable().getName();
-        String targetTable = relationship.getTargetTable().getName();
-        
-        String sourceTableOnly = sourceTable;
-        String targetTableOnly = targetTable;
-        if (sourceTable.contains(".")) {
-            sourceTableOnly = sourceTable.substring(sourceTable.lastIndexOf(".") + 1);
-        }
-        if (targetTable.contains(".")) {
-            targetTableOnly = targetTable.substring(targetTable.lastIndexOf(".") + 1);
-        }
-        
-        if (relationship.getSourceColumns().contains(columnName) && generatedDataMap.containsKey(sourceTableOnly)) {
-            List<Map<String, Object>> sourceData = generatedDataMap.get(sourceTableOnly);
-            if (!sourceData.isEmpty()) {
-                int selectedIndex = index % sourceData.size();
-                return sourceData.get(selectedIndex).get(relationship.getSourceColumns().get(0));
-            }
-        } else if (relationship.getTargetColumns().contains(columnName) && generatedDataMap.containsKey(targetTableOnly)) {
-            List<Map<String, Object>> targetData = generatedDataMap.get(targetTableOnly);
-            if (!targetData.isEmpty()) {
-                int selectedIndex = index % targetData.size();
-                return targetData.get(selectedIndex).get(relationship.getTargetColumns().get(0));
-            }
-        }
-        
-        if (relationship.getSourceColumns().contains(columnName) && generatedKeysMap.containsKey(sourceTableOnly)) {
-            List<Long> sourceKeys = generatedKeysMap.get(sourceTableOnly);
-            if (!sourceKeys.isEmpty()) {
-                int selectedIndex = index % sourceKeys.size();
-                return sourceKeys.get(selectedIndex);
-            }
-        } else if (relationship.getTargetColumns().contains(columnName) && generatedKeysMap.containsKey(targetTableOnly)) {
-            List<Long> targetKeys = generatedKeysMap.get(targetTableOnly);
-            if (!targetKeys.isEmpty()) {
-                int selectedIndex = index % targetKeys.size();
-                return targetKeys.get(selectedIndex);
-            }
-        }
-        
-        return index + 1;
+    private static String extractTableNameOnly(String tableName) {
+        return tableName.contains(".") ? tableName.substring(tableName.lastIndexOf(".") + 1) : tableName;
     }
 }
-
-
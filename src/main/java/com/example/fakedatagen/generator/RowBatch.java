@@ -0,0 +1,500 @@
+package com.example.fakedatagen.generator;
+
+import com.example.fakedatagen.exception.DataGenerationException;
+import com.example.fakedatagen.model.Column;
+import com.example.fakedatagen.model.Table;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * 생성된 행들을 컬럼 단위의 원시 타입 배열로 보관하는 버퍼
+ * 행마다 HashMap을 만드는 대신 컬럼 순번(ordinal)으로 접근하는 배열에 값을 저장하여
+ * 셀당 객체 할당과 박싱을 없앱니다.
+ *
+ * <ul>
+ *   <li>정수/실수/논리/날짜 계열: long[] / int[] / double[] / boolean[] (날짜는 epoch 기반 정수로 저장)</li>
+ *   <li>문자열: UTF-8 바이트를 하나의 byte[]에 이어 붙이고 오프셋 배열로 구분</li>
+ *   <li>NULL: 컬럼별 비트맵</li>
+ * </ul>
+ *
+ * 문자열 컬럼은 행 순서대로 채워야 하며, 하나의 배치는 단일 스레드에서 채우는 것을 전제로 합니다.
+ */
+public final class RowBatch {
+
+    /**
+     * 컬럼 값의 저장 형태
+     */
+    public enum Kind {
+        INT, LONG, DOUBLE, DECIMAL, BOOLEAN, DATE, TIME, DATETIME, STRING, OBJECT
+    }
+
+    private final Table table;
+    private final String[] columnNames;
+    private final Kind[] kinds;
+    private final Map<String, Integer> ordinals;
+    private final int startIndex;
+    private final int capacity;
+    private int size;
+
+    private final int[][] intColumns;
+    private final long[][] longColumns;
+    private final double[][] doubleColumns;
+    private final boolean[][] booleanColumns;
+    private final StringColumn[] stringColumns;
+    private final Object[][] objectColumns;
+    private final long[][] nullBits;
+
+    /**
+     * @param table 대상 테이블
+     * @param startIndex 이 배치 첫 행의 테이블 내 행 인덱스
+     * @param capacity 최대 행 수
+     */
+    public RowBatch(Table table, int startIndex, int capacity) {
+        this.table = table;
+        this.startIndex = startIndex;
+        this.capacity = capacity;
+
+        List<Column> columns = table.getColumns();
+        int columnCount = columns.size();
+        this.columnNames = new String[columnCount];
+        this.kinds = new Kind[columnCount];
+        this.ordinals = new HashMap<>(columnCount * 2);
+        this.intColumns = new int[columnCount][];
+        this.longColumns = new long[columnCount][];
+        this.doubleColumns = new double[columnCount][];
+        this.booleanColumns = new boolean[columnCount][];
+        this.stringColumns = new StringColumn[columnCount];
+        this.objectColumns = new Object[columnCount][];
+        this.nullBits = new long[columnCount][];
+
+        for (int c = 0; c < columnCount; c++) {
+            Column column = columns.get(c);
+            columnNames[c] = column.getName();
+            ordinals.put(column.getName(), c);
+            kinds[c] = kindOf(column);
+            nullBits[c] = new long[(capacity + 63) >>> 6];
+            switch (kinds[c]) {
+                case INT, TIME -> intColumns[c] = new int[capacity];
+                case LONG, DATE, DATETIME -> longColumns[c] = new long[capacity];
+                case DOUBLE -> doubleColumns[c] = new double[capacity];
+                case BOOLEAN -> booleanColumns[c] = new boolean[capacity];
+                case STRING -> stringColumns[c] = new StringColumn(column.getName(), capacity);
+                default -> objectColumns[c] = new Object[capacity];
+            }
+        }
+    }
+
+    /**
+     * 컬럼 타입으로부터 저장 형태를 결정합니다.
+     * 값 생성기와 같은 ColumnType 판별을 사용하므로 생성된 값의 타입과 저장 형태가 항상 일치합니다.
+     */
+    public static Kind kindOf(Column column) {
+        return kindOf(ColumnType.resolve(column.getDataType()));
+    }
+
+    public static Kind kindOf(ColumnType type) {
+        return switch (type) {
+            case SMALLINT, INTEGER -> Kind.INT;
+            case BIGINT -> Kind.LONG;
+            case NUMERIC -> Kind.DECIMAL;
+            case FLOAT, DOUBLE -> Kind.DOUBLE;
+            case BOOLEAN -> Kind.BOOLEAN;
+            case DATE -> Kind.DATE;
+            case TIME -> Kind.TIME;
+            case DATETIME, TIMESTAMP -> Kind.DATETIME;
+            case BIT, BIT_VARYING -> Kind.OBJECT;
+            default -> Kind.STRING;
+        };
+    }
+
+    // ==================== 쓰기 ====================
+
+    /**
+     * 새 행을 추가하고 배치 내 행 번호를 반환합니다.
+     */
+    public int addRow() {
+        if (size >= capacity) {
+            throw new IllegalStateException("RowBatch capacity exceeded: " + capacity);
+        }
+        return size++;
+    }
+
+    /**
+     * 값을 컬럼 저장 형태에 맞게 변환하여 저장합니다.
+     */
+    public void set(int row, int column, Object value) {
+        if (value == null) {
+            setNull(row, column);
+            return;
+        }
+        switch (kinds[column]) {
+            case INT -> intColumns[column][row] = value instanceof Number n ? n.intValue() : Integer.parseInt(value.toString().trim());
+            case LONG -> longColumns[column][row] = value instanceof Number n ? n.longValue() : Long.parseLong(value.toString().trim());
+            case DOUBLE -> doubleColumns[column][row] = value instanceof Number n ? n.doubleValue() : Double.parseDouble(value.toString().trim());
+            case BOOLEAN -> booleanColumns[column][row] = toBoolean(value);
+            case DATE -> longColumns[column][row] = (value instanceof LocalDate d ? d : LocalDate.parse(value.toString().trim())).toEpochDay();
+            case TIME -> intColumns[column][row] = (value instanceof LocalTime t ? t : LocalTime.parse(value.toString().trim())).toSecondOfDay();
+            case DATETIME -> longColumns[column][row] = toEpochMilli(value instanceof LocalDateTime dt ? dt : LocalDateTime.parse(value.toString().trim()));
+            case DECIMAL -> objectColumns[column][row] = toBigDecimal(value);
+            case STRING -> stringColumns[column].set(row, value.toString());
+            default -> objectColumns[column][row] = value;
+        }
+    }
+
+    /**
+     * 같은 테이블의 다른 배치 행들을 이 배치 뒤에 이어 붙입니다. (병렬 생성 결과 병합용)
+     */
+    public void appendAll(RowBatch other) {
+        append(other, null);
+    }
+
+    /**
+     * 다른 배치의 행들 중 이 배치에 있는 컬럼 값만 컬럼명으로 찾아 이어 붙입니다.
+     * projection으로 만든 보관용 배치에 생성된 청크(또는 다른 보관용 배치)를 합치는 데 사용하며, 상대 배치에 없는 컬럼은 NULL이 됩니다.
+     */
+    public void appendProjected(RowBatch other) {
+        int[] sourceOrdinals = new int[columnNames.length];
+        for (int c = 0; c < columnNames.length; c++) {
+            sourceOrdinals[c] = other.ordinalOf(columnNames[c]);
+        }
+        append(other, sourceOrdinals);
+    }
+
+    /**
+     * @param sourceOrdinals 이 배치 컬럼별 상대 배치의 컬럼 순번 (null이면 같은 순번, 음수면 상대 배치에 없는 컬럼)
+     */
+    private void append(RowBatch other, int[] sourceOrdinals) {
+        int base = size;
+        int count = other.size;
+        if (base + count > capacity) {
+            throw new IllegalStateException("RowBatch capacity exceeded: " + capacity);
+        }
+        for (int c = 0; c < columnNames.length; c++) {
+            int s = sourceOrdinals != null ? sourceOrdinals[c] : c;
+            if (s < 0) {
+                for (int r = 0; r < count; r++) {
+                    setNull(base + r, c);
+                }
+                continue;
+            }
+            switch (kinds[c]) {
+                case INT, TIME -> System.arraycopy(other.intColumns[s], 0, intColumns[c], base, count);
+                case LONG, DATE, DATETIME -> System.arraycopy(other.longColumns[s], 0, longColumns[c], base, count);
+                case DOUBLE -> System.arraycopy(other.doubleColumns[s], 0, doubleColumns[c], base, count);
+                case BOOLEAN -> System.arraycopy(other.booleanColumns[s], 0, booleanColumns[c], base, count);
+                case STRING -> stringColumns[c].appendAll(other.stringColumns[s], count);
+                default -> System.arraycopy(other.objectColumns[s], 0, objectColumns[c], base, count);
+            }
+            for (int r = 0; r < count; r++) {
+                if (other.isNull(r, s)) {
+                    nullBits[c][(base + r) >>> 6] |= 1L << (base + r);
+                }
+            }
+        }
+        size += count;
+    }
+
+    public void setNull(int row, int column) {
+        nullBits[column][row >>> 6] |= 1L << row;
+        if (kinds[column] == Kind.STRING) {
+            stringColumns[column].set(row, null);
+        } else if (kinds[column] == Kind.OBJECT || kinds[column] == Kind.DECIMAL) {
+            objectColumns[column][row] = null;
+        }
+    }
+
+    // ==================== 읽기 ====================
+
+    public Table getTable() {
+        return table;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getStartIndex() {
+        return startIndex;
+    }
+
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    public Kind getKind(int column) {
+        return kinds[column];
+    }
+
+    /**
+     * 컬럼명으로 순번을 조회합니다. 없으면 -1
+     */
+    public int ordinalOf(String columnName) {
+        Integer ordinal = ordinals.get(columnName);
+        return ordinal != null ? ordinal : -1;
+    }
+
+    public boolean isNull(int row, int column) {
+        return (nullBits[column][row >>> 6] & (1L << row)) != 0;
+    }
+
+    public int getInt(int row, int column) {
+        return intColumns[column][row];
+    }
+
+    public long getLong(int row, int column) {
+        return longColumns[column][row];
+    }
+
+    public double getDouble(int row, int column) {
+        return doubleColumns[column][row];
+    }
+
+    public BigDecimal getDecimal(int row, int column) {
+        return (BigDecimal) objectColumns[column][row];
+    }
+
+    public boolean getBoolean(int row, int column) {
+        return booleanColumns[column][row];
+    }
+
+    public LocalDate getDate(int row, int column) {
+        return LocalDate.ofEpochDay(longColumns[column][row]);
+    }
+
+    public LocalTime getTime(int row, int column) {
+        return LocalTime.ofSecondOfDay(intColumns[column][row]);
+    }
+
+    public LocalDateTime getDateTime(int row, int column) {
+        long epochMilli = longColumns[column][row];
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMilli, 1000L),
+                (int) Math.floorMod(epochMilli, 1000L) * 1_000_000, ZoneOffset.UTC);
+    }
+
+    public String getString(int row, int column) {
+        return stringColumns[column].get(row);
+    }
+
+    /**
+     * 값을 객체로 반환합니다. (결과 화면/디버깅용, 바인딩에는 타입별 getter를 사용)
+     */
+    public Object get(int row, int column) {
+        if (isNull(row, column)) {
+            return null;
+        }
+        return switch (kinds[column]) {
+            case INT -> intColumns[column][row];
+            case LONG -> longColumns[column][row];
+            case DOUBLE -> doubleColumns[column][row];
+            case BOOLEAN -> booleanColumns[column][row];
+            case DATE -> getDate(row, column);
+            case TIME -> getTime(row, column);
+            case DATETIME -> getDateTime(row, column);
+            case STRING -> stringColumns[column].get(row);
+            default -> objectColumns[column][row];
+        };
+    }
+
+    /**
+     * 앞쪽 rowCount개 행만 복사한 작은 배치를 만듭니다. (미리보기 보관용)
+     */
+    public RowBatch head(int rowCount) {
+        int count = Math.min(rowCount, size);
+        RowBatch copy = new RowBatch(table, startIndex, count);
+        for (int r = 0; r < count; r++) {
+            int row = copy.addRow();
+            for (int c = 0; c < columnNames.length; c++) {
+                copy.set(row, c, get(r, c));
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * 지정한 컬럼만 가지는 빈 배치를 만듭니다. (컬럼 순서와 저장 형태는 원래 테이블과 같음)
+     * 배치를 버린 뒤에도 자식 테이블이 참조할 컬럼 값만 원시 타입 배열로 남겨 두는 데 사용하며,
+     * 생성된 청크는 appendProjected로 이어 붙입니다. 행마다 Map을 만들지 않으므로 보관 비용은 컬럼 저장 형태의 크기뿐입니다.
+     *
+     * @param capacity 보관할 최대 행 수 (보통 테이블 전체 행 수)
+     */
+    public static RowBatch projection(Table table, Collection<String> projectedColumns, int capacity) {
+        Table projected = new Table(table.getSchemaName(), table.getName());
+        for (Column column : table.getColumns()) {
+            if (projectedColumns.contains(column.getName())) {
+                projected.addColumn(column);
+            }
+        }
+        return new RowBatch(projected, 0, capacity);
+    }
+
+    /**
+     * 행을 Map 형태로 보여주는 읽기 전용 뷰를 반환합니다.
+     * 값은 요청 시점에 컬럼 배열에서 읽으므로 행마다 HashMap을 만들지 않습니다.
+     */
+    public List<Map<String, Object>> asRecords() {
+        return new Records();
+    }
+
+    private static boolean toBoolean(Object value) {
+        if (value instanceof Boolean b) {
+            return b;
+        } else if (value instanceof Number n) {
+            return n.intValue() != 0;
+        }
+        String str = value.toString().toLowerCase().trim();
+        return "true".equals(str) || "1".equals(str) || "yes".equals(str);
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        if (value instanceof BigDecimal d) {
+            return d;
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        }
+        return new BigDecimal(value.toString().trim());
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1000L + dateTime.getNano() / 1_000_000;
+    }
+
+    /**
+     * 행 Map 뷰 목록
+     * FK 값 생성기처럼 같은 컬럼을 반복해서 읽는 쪽은 getBatch()로 컬럼 순번을 한 번만 찾아 배열을 바로 읽습니다.
+     */
+    public final class Records extends AbstractList<Map<String, Object>> {
+        private Records() {
+        }
+
+        public RowBatch getBatch() {
+            return RowBatch.this;
+        }
+
+        @Override
+        public Map<String, Object> get(int index) {
+            Objects.checkIndex(index, size);
+            return new RowView(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * 한 행에 대한 Map 뷰
+     */
+    private final class RowView extends AbstractMap<String, Object> {
+        private final int row;
+
+        private RowView(int row) {
+            this.row = row;
+        }
+
+        @Override
+        public Object get(Object key) {
+            Integer ordinal = ordinals.get(key);
+            return ordinal != null ? RowBatch.this.get(row, ordinal) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return ordinals.containsKey(key);
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            Set<Entry<String, Object>> entries = new LinkedHashSet<>();
+            for (int c = 0; c < columnNames.length; c++) {
+                entries.add(new SimpleImmutableEntry<>(columnNames[c], RowBatch.this.get(row, c)));
+            }
+            return entries;
+        }
+    }
+
+    /**
+     * UTF-8 바이트를 이어 붙여 저장하는 문자열 컬럼
+     * offsets[i] ~ offsets[i + 1] 구간이 i번째 행의 값입니다.
+     */
+    /**
+     * 문자열 컬럼 바이트 버퍼의 최대 크기 (자바 배열 최대 길이)
+     */
+    static final int MAX_STRING_BYTES = Integer.MAX_VALUE - 8;
+
+    /**
+     * 문자열 컬럼 바이트 버퍼의 새 크기 (두 배씩 늘리되 최대 크기를 넘지 않음)
+     * 크기 계산은 long으로 하므로 큰 배치에서도 int 오버플로로 음수 크기가 되지 않습니다.
+     *
+     * @throws DataGenerationException 필요한 크기가 최대 크기를 넘는 경우
+     */
+    static int grownCapacity(String columnName, int current, long required) {
+        if (required > MAX_STRING_BYTES) {
+            throw new DataGenerationException("문자열 컬럼 '" + columnName + "'의 배치 데이터가 최대 크기("
+                    + MAX_STRING_BYTES + " 바이트)를 넘습니다. 레코드 수나 배치 크기(fakedatagen.batch-size)를 줄여 주세요. (필요 크기: "
+                    + required + " 바이트)");
+        }
+        return (int) Math.min(MAX_STRING_BYTES, Math.max(required, (long) current * 2));
+    }
+
+    private static final class StringColumn {
+        private final String columnName;
+        private byte[] bytes;
+        private final int[] offsets;
+        private int count;
+
+        private StringColumn(String columnName, int capacity) {
+            this.columnName = columnName;
+            this.bytes = new byte[(int) Math.min(MAX_STRING_BYTES, Math.max(16L, capacity * 8L))];
+            this.offsets = new int[capacity + 1];
+        }
+
+        private void set(int row, String value) {
+            if (row != count) {
+                throw new IllegalStateException("String columns must be filled in row order: expected row " + count + " but was " + row);
+            }
+            int start = offsets[row];
+            if (value != null) {
+                byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+                ensureCapacity((long) start + encoded.length);
+                System.arraycopy(encoded, 0, bytes, start, encoded.length);
+                offsets[row + 1] = start + encoded.length;
+            } else {
+                offsets[row + 1] = start;
+            }
+            count++;
+        }
+
+        private void appendAll(StringColumn other, int rowCount) {
+            int start = offsets[count];
+            int length = other.offsets[rowCount];
+            ensureCapacity((long) start + length);
+            System.arraycopy(other.bytes, 0, bytes, start, length);
+            for (int r = 0; r < rowCount; r++) {
+                offsets[count + r + 1] = start + other.offsets[r + 1];
+            }
+            count += rowCount;
+        }
+
+        private String get(int row) {
+            int start = offsets[row];
+            return new String(bytes, start, offsets[row + 1] - start, StandardCharsets.UTF_8);
+        }
+
+        private void ensureCapacity(long required) {
+            if (required > bytes.length) {
+                bytes = Arrays.copyOf(bytes, grownCapacity(columnName, bytes.length, required));
+            }
+        }
+    }
+}
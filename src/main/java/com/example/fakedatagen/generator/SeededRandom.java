@@ -0,0 +1,100 @@
+package com.example.fakedatagen.generator;
+
+/**
+ * 카운터 기반 난수 생성기 (SplitMix64)
+ * 상태를 (스트림 키, 행 인덱스)로 바로 정할 수 있으므로 어떤 행의 난수열이든
+ * 앞 행들을 생성하지 않고 O(1)로 다시 만들 수 있습니다.
+ *
+ * <p>인스턴스는 가변 상태를 가지므로 스레드마다 하나씩 사용하고,
+ * 값 하나를 만들 때마다 {@link #position(long, long)}으로 위치를 다시 지정합니다.</p>
+ */
+public final class SeededRandom {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long state;
+
+    /**
+     * SplitMix64 최종 혼합 함수
+     */
+    public static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * 시드와 이름들(테이블명, 컬럼명 등)로부터 독립적인 난수 스트림 키를 만듭니다.
+     * String.hashCode 대신 문자 단위로 혼합하여 이름이 비슷해도 스트림이 겹치지 않도록 합니다.
+     */
+    public static long streamKey(long seed, String... names) {
+        long key = mix64(seed);
+        for (String name : names) {
+            for (int i = 0; i < name.length(); i++) {
+                key = mix64(key ^ name.charAt(i));
+            }
+            key = mix64(key + GOLDEN_GAMMA);
+        }
+        return key;
+    }
+
+    /**
+     * 스트림 index번째 위치의 첫 난수 (position(streamKey, index).nextLong()과 같음)
+     * 상태를 만들지 않으므로 공유 객체에서 여러 스레드가 동시에 호출할 수 있습니다.
+     */
+    public static long valueAt(long streamKey, long index) {
+        return mix64(mix64(streamKey + index * GOLDEN_GAMMA) + GOLDEN_GAMMA);
+    }
+
+    /**
+     * 스트림의 index번째 행 위치로 이동합니다.
+     */
+    public SeededRandom position(long streamKey, long index) {
+        this.state = mix64(streamKey + index * GOLDEN_GAMMA);
+        return this;
+    }
+
+    public long nextLong() {
+        return mix64(state += GOLDEN_GAMMA);
+    }
+
+    /**
+     * [0, bound) 범위의 정수
+     */
+    public int nextInt(int bound) {
+        return (int) (((nextLong() >>> 32) * bound) >>> 32);
+    }
+
+    /**
+     * [origin, bound) 범위의 정수
+     */
+    public int nextInt(int origin, int bound) {
+        return (int) nextLong(origin, bound);
+    }
+
+    /**
+     * [origin, bound) 범위의 long (범위가 long을 넘어가면 전체 범위에서 다시 뽑음)
+     */
+    public long nextLong(long origin, long bound) {
+        long range = bound - origin;
+        if (range > 0) {
+            return origin + Long.remainderUnsigned(nextLong(), range);
+        }
+        long value;
+        do {
+            value = nextLong();
+        } while (value < origin || value >= bound);
+        return value;
+    }
+
+    /**
+     * [0, 1) 범위의 실수
+     */
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    public boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+}
@@ -52,6 +52,59 @@ public class TopologicalSorter {
         return orderedTableNames;
     }
     
+    /**
+     * 의존성 단계(level)별로 묶인 테이블 리스트를 반환
+     * 0단계는 다른 테이블을 참조하지 않는 테이블이며, n단계 테이블은 n-1단계 이하 테이블만 참조합니다.
+     * 같은 단계의 테이블끼리는 서로 의존하지 않으므로 동시에 생성/삽입할 수 있습니다.
+     * 
+     * @param schema 데이터베이스 스키마
+     * @return 단계 순서의 테이블 그룹 리스트 (각 그룹 내부는 getOrderedTables 순서 유지)
+     */
+    public List<List<Table>> getTableLevels(DatabaseSchema schema) {
+        List<Table> orderedTables = getOrderedTables(schema);
+        Map<String, Integer> levels = new HashMap<>();
+        List<List<Table>> result = new ArrayList<>();
+        
+        // 위상 정렬 순서로 처리하면 의존 대상의 단계가 항상 먼저 계산되어 있음
+        // (순환 참조로 아직 계산되지 않은 대상은 기존 정렬과 마찬가지로 무시)
+        for (Table table : orderedTables) {
+            int level = 0;
+            for (String depTableName : getDependencyTableNames(table, schema)) {
+                Integer depLevel = levels.get(depTableName);
+                if (depLevel != null) {
+                    level = Math.max(level, depLevel + 1);
+                }
+            }
+            levels.put(table.getName(), level);
+            while (result.size() <= level) {
+                result.add(new ArrayList<>());
+            }
+            result.get(level).add(table);
+        }
+        return result;
+    }
+    
+    /**
+     * 테이블이 참조하는 (먼저 생성되어야 하는) 테이블명 집합 - 외래키와 Relationship 기반
+     */
+    private Set<String> getDependencyTableNames(Table table, DatabaseSchema schema) {
+        Set<String> dependencyNames = new LinkedHashSet<>();
+        List<String> dependencies = schema.getDependencies().get(table.getName());
+        if (dependencies != null) {
+            dependencyNames.addAll(dependencies);
+        }
+        for (Relationship relationship : schema.getRelationships()) {
+            if (relationship.getSourceTable().getName().equals(table.getName())) {
+                dependencyNames.add(relationship.getTargetTable().getName());
+            }
+        }
+        for (ForeignKey fk : table.getForeignKeys()) {
+            dependencyNames.add(extractTableNameOnly(fk.getReferencedTableName()));
+        }
+        dependencyNames.remove(table.getName());
+        return dependencyNames;
+    }
+    
     /**
      * DFS를 사용한 위상 정렬 재귀 메서드
      */
@@ -95,9 +148,21 @@ public class TopologicalSorter {
             }
         }
         
+        // 3. 테이블 외래키 정의 기반 의존성 처리
+        // (스키마명을 유지한 경우 참조 테이블명이 "스키마.테이블" 형태라 분석 단계의 의존성에 누락될 수 있음)
+        for (ForeignKey fk : table.getForeignKeys()) {
+            Table referencedTable = schema.getTableByName(extractTableNameOnly(fk.getReferencedTableName()));
+            if (referencedTable != null && referencedTable != table && !visited.contains(referencedTable.getName())) {
+                topologicalSort(referencedTable, schema, visited, visiting, result);
+            }
+        }
+        
         visiting.remove(tableKey);
         visited.add(tableKey);
         result.add(table);
     }
+    
+    private String extractTableNameOnly(String tableName) {
+        return tableName.contains(".") ? tableName.substring(tableName.lastIndexOf(".") + 1) : tableName;
+    }
 }
-
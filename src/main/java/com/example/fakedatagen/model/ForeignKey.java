@@ -1,40 +1,90 @@
 package com.example.fakedatagen.model;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 외래키 제약조건
+ * 복합 외래키는 columnNames[i]가 referencedColumnNames[i]를 참조하며, 단일 컬럼 외래키는 각 목록의 크기가 1입니다.
+ */
 public class ForeignKey {
-    private String columnName;
+    private List<String> columnNames;
     private String referencedTableName;
-    private String referencedColumnName;
+    private List<String> referencedColumnNames;
     private String constraintName;
     private String onDeleteAction = "RESTRICT";
     private String onUpdateAction = "RESTRICT";
 
     public ForeignKey(String columnName, String referencedTableName, String referencedColumnName) {
-        this.columnName = columnName;
-        this.referencedTableName = referencedTableName;
-        this.referencedColumnName = referencedColumnName;
+        this(null, columnName, referencedTableName, referencedColumnName);
     }
 
     public ForeignKey(String constraintName, String columnName, String referencedTableName, String referencedColumnName) {
+        this(constraintName, Arrays.asList(columnName), referencedTableName, Arrays.asList(referencedColumnName));
+    }
+
+    /**
+     * 복합 외래키
+     *
+     * @throws IllegalArgumentException 컬럼 수와 참조 컬럼 수가 다르거나 비어 있는 경우
+     */
+    public ForeignKey(String constraintName, List<String> columnNames, String referencedTableName, List<String> referencedColumnNames) {
+        if (columnNames.isEmpty() || columnNames.size() != referencedColumnNames.size()) {
+            throw new IllegalArgumentException("외래키 컬럼 수와 참조 컬럼 수가 다릅니다: " + columnNames + " -> " + referencedColumnNames);
+        }
         this.constraintName = constraintName;
-        this.columnName = columnName;
+        this.columnNames = Collections.unmodifiableList(new ArrayList<>(columnNames));
         this.referencedTableName = referencedTableName;
-        this.referencedColumnName = referencedColumnName;
+        this.referencedColumnNames = Collections.unmodifiableList(new ArrayList<>(referencedColumnNames));
     }
 
+    /**
+     * 첫 번째 외래키 컬럼명 (단일 컬럼 외래키의 컬럼명)
+     */
     public String getColumnName() {
-        return columnName;
+        return columnNames.get(0);
     }
 
     public void setColumnName(String columnName) {
-        this.columnName = columnName;
+        List<String> names = new ArrayList<>(columnNames);
+        names.set(0, columnName);
+        this.columnNames = Collections.unmodifiableList(names);
+    }
+
+    public List<String> getColumnNames() {
+        return columnNames;
     }
 
     public String getReferencedTableName() {
         return referencedTableName;
     }
 
+    /**
+     * 첫 번째 참조 컬럼명 (단일 컬럼 외래키의 참조 컬럼명)
+     */
     public String getReferencedColumnName() {
-        return referencedColumnName;
+        return referencedColumnNames.get(0);
+    }
+
+    public List<String> getReferencedColumnNames() {
+        return referencedColumnNames;
+    }
+
+    /**
+     * 외래키 컬럼이 참조하는 부모 테이블 컬럼명 (이 외래키의 컬럼이 아니면 null)
+     */
+    public String getReferencedColumnName(String columnName) {
+        int position = columnNames.indexOf(columnName);
+        return position >= 0 ? referencedColumnNames.get(position) : null;
+    }
+
+    /**
+     * 여러 컬럼으로 이루어진 외래키인지 여부
+     */
+    public boolean isComposite() {
+        return columnNames.size() > 1;
     }
 
     public String getConstraintName() {
@@ -105,10 +105,10 @@ public class CubridSchemaParser {
             log.debug("Found {} foreign key relationships", totalFk);
             
             log.debug("Extracting unique constraints");
-            Map<String, List<String>> uniqueMap = uniqueConstraintExtractor.extract(schemaText, keepSchemaName);
+            Map<String, List<Constraint>> uniqueMap = uniqueConstraintExtractor.extractConstraints(schemaText, keepSchemaName);
             
             log.debug("Building table objects");
-            tableBuilder.buildTablesAndAddToSchema(schema, tables, columnsMap, pkMap, uniqueMap, fkMap, keepSchemaName);
+            tableBuilder.buildTablesWithUniqueConstraints(schema, tables, columnsMap, pkMap, uniqueMap, fkMap, keepSchemaName);
             
             log.debug("Analyzing table relationships");
             relationshipAnalyzer.analyze(schema);
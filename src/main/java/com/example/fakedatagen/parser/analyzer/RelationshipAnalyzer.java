@@ -29,8 +29,8 @@ public class RelationshipAnalyzer {
                     Relationship.RelationshipType relationshipType = determineRelationshipType(table, referencedTable, fk, schema);
                     
                     Relationship relationship = new Relationship(table, referencedTable, relationshipType);
-                    relationship.addSourceColumn(fk.getColumnName());
-                    relationship.addTargetColumn(fk.getReferencedColumnName());
+                    fk.getColumnNames().forEach(relationship::addSourceColumn);
+                    fk.getReferencedColumnNames().forEach(relationship::addTargetColumn);
                     schema.addRelationship(relationship);
                     
                     log.debug("Relationship: {} -> {} ({})", table.getName(), referencedTable.getName(), relationshipType);
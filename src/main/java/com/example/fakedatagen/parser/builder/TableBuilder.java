@@ -41,6 +41,27 @@ public class TableBuilder {
         }
     }
     
+    /**
+     * UNIQUE 제약조건을 스키마에 정의된 이름과 컬럼 묶음 그대로 추가합니다.
+     * (DB의 제약조건을 이름으로 삭제/재생성하는 벌크 적재와 테이블 재생성에 필요)
+     */
+    public void buildTablesWithUniqueConstraints(
+            DatabaseSchema schema,
+            List<Table> tables,
+            Map<String, List<Column>> columnsMap,
+            Map<String, List<String>> pkMap,
+            Map<String, List<Constraint>> uniqueConstraintMap,
+            Map<String, List<ForeignKey>> fkMap,
+            boolean keepSchemaName) {
+        
+        buildTablesAndAddToSchema(schema, tables, columnsMap, pkMap, Collections.emptyMap(), fkMap, keepSchemaName);
+        for (Table table : tables) {
+            String key = keepSchemaName && !table.getSchemaName().isEmpty()
+                    ? table.getSchemaName() + "." + table.getName() : table.getName();
+            uniqueConstraintMap.getOrDefault(key, Collections.emptyList()).forEach(table::addConstraint);
+        }
+    }
+    
     private void addColumnsToTable(Table table, List<Column> columns, List<String> pkColumns) {
         for (Column column : columns) {
             if (pkColumns.contains(column.getName())) {
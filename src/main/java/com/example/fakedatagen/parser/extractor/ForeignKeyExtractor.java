@@ -18,6 +18,7 @@ public class ForeignKeyExtractor {
     
     /**
      * 스키마 텍스트에서 FOREIGN KEY 제약조건 추출
+     * 복합 외래키 FOREIGN KEY([a], [b])는 컬럼 순서대로 REFERENCES 뒤의 컬럼 목록을, 목록이 없으면 참조 테이블의 기본키 컬럼들을 참조합니다.
      * 
      * @param schemaText 스키마 정의 텍스트
      * @param keepSchemaName 스키마명 유지 여부
@@ -29,7 +30,7 @@ public class ForeignKeyExtractor {
         // WITH DEDUPLICATE=0이 있을 수도 있고 없을 수도 있음
         // [^\\]]+를 사용하여 대괄호 안의 내용만 정확히 매칭
         Pattern fkPattern = Pattern.compile(
-                "ALTER\\s+CLASS\\s+\\[([^\\]]+)\\]\\.\\[([^\\]]+)\\]\\s+ADD\\s+CONSTRAINT\\s+\\[([^\\]]+)\\]\\s+FOREIGN\\s+KEY\\s*\\(([^)]+)\\)(?:\\s+WITH\\s+DEDUPLICATE\\s*=\\s*\\d+)?\\s*REFERENCES\\s+\\[([^\\]]+)\\]\\.\\[([^\\]]+)\\]",
+                "ALTER\\s+CLASS\\s+\\[([^\\]]+)\\]\\.\\[([^\\]]+)\\]\\s+ADD\\s+CONSTRAINT\\s+\\[([^\\]]+)\\]\\s+FOREIGN\\s+KEY\\s*\\(([^)]+)\\)(?:\\s+WITH\\s+DEDUPLICATE\\s*=\\s*\\d+)?\\s*REFERENCES\\s+\\[([^\\]]+)\\]\\.\\[([^\\]]+)\\](?:\\s*\\(([^)]+)\\))?",
                 Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
         Matcher fkMatcher = fkPattern.matcher(schemaText);
         
@@ -52,19 +53,48 @@ public class ForeignKeyExtractor {
                 referencedTableName = refTable;
             }
             
-            // 컬럼명 추출: [column_name] 형태에서 대괄호 제거
-            String fkColumnName = fkColumnsRaw.replaceAll("\\[|\\]", "").trim().toLowerCase();
+            // 컬럼명 추출: [column_name] 형태에서 대괄호 제거 (복합 외래키는 쉼표로 구분)
+            List<String> fkColumnNames = parseColumnNames(fkColumnsRaw);
             
-            // 참조되는 테이블의 기본키 컬럼명 찾기
-            String referencedColumnName = findReferencedPrimaryKeyColumn(refSchemaName, refTable, fkColumnName, pkMap, keepSchemaName);
+            // 참조 컬럼명: REFERENCES 뒤에 명시된 목록, 없으면 참조되는 테이블의 기본키 컬럼
+            List<String> referencedColumnNames = fkMatcher.group(7) != null
+                    ? parseColumnNames(fkMatcher.group(7))
+                    : findReferencedPrimaryKeyColumns(refSchemaName, refTable, fkColumnNames, pkMap, keepSchemaName);
             
-            ForeignKey fk = new ForeignKey(fkColumnName, referencedTableName, referencedColumnName);
+            String constraintName = fkMatcher.group(3).trim().toLowerCase();
+            ForeignKey fk = new ForeignKey(constraintName, fkColumnNames, referencedTableName, referencedColumnNames);
             fkMap.computeIfAbsent(key, k -> new ArrayList<>()).add(fk);
         }
         
         return fkMap;
     }
     
+    private List<String> parseColumnNames(String columnsRaw) {
+        List<String> columnNames = new ArrayList<>();
+        for (String column : columnsRaw.split(",")) {
+            columnNames.add(column.replaceAll("\\[|\\]", "").trim().toLowerCase());
+        }
+        return columnNames;
+    }
+    
+    /**
+     * 외래키 컬럼 순서대로 참조되는 테이블의 기본키 컬럼명 찾기
+     * 기본키 컬럼 수가 외래키 컬럼 수와 같으면 기본키 컬럼들을 그대로 참조하고, 아니면 컬럼마다 단일 컬럼 규칙으로 찾습니다.
+     */
+    private List<String> findReferencedPrimaryKeyColumns(String refSchemaName, String refTableName, List<String> fkColumnNames,
+                                                         Map<String, List<String>> pkMap, boolean keepSchemaName) {
+        String refTableKey = keepSchemaName ? refSchemaName + "." + refTableName : refTableName;
+        List<String> primaryKeys = pkMap.get(refTableKey);
+        if (fkColumnNames.size() > 1 && primaryKeys != null && primaryKeys.size() == fkColumnNames.size()) {
+            return new ArrayList<>(primaryKeys);
+        }
+        List<String> referencedColumnNames = new ArrayList<>();
+        for (String fkColumnName : fkColumnNames) {
+            referencedColumnNames.add(findReferencedPrimaryKeyColumn(refSchemaName, refTableName, fkColumnName, pkMap, keepSchemaName));
+        }
+        return referencedColumnNames;
+    }
+    
     /**
      * 참조되는 테이블의 기본키 컬럼명 찾기
      */
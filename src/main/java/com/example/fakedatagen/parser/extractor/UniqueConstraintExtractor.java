@@ -1,5 +1,6 @@
 package com.example.fakedatagen.parser.extractor;
 
+import com.example.fakedatagen.model.Constraint;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -27,6 +28,29 @@ public class UniqueConstraintExtractor {
      */
     public Map<String, List<String>> extract(String schemaText, boolean keepSchemaName) {
         Map<String, List<String>> uniqueMap = new HashMap<>();
+        extractConstraints(schemaText, keepSchemaName).forEach((key, constraints) -> {
+            for (Constraint constraint : constraints) {
+                uniqueMap.computeIfAbsent(key, k -> new ArrayList<>()).addAll(constraint.getColumns());
+            }
+        });
+        
+        uniqueMap.forEach((table, columns) -> {
+            log.info("[UNIQUE 최종] 테이블={}, UNIQUE 컬럼={}", table, columns);
+        });
+        
+        return uniqueMap;
+    }
+    
+    /**
+     * 스키마 텍스트에서 UNIQUE 제약조건을 이름과 함께 추출
+     * 여러 컬럼으로 된 UNIQUE도 제약조건 하나로 유지하므로 DB의 제약조건을 이름으로 삭제하거나 다시 만들 수 있습니다.
+     * 
+     * @param schemaText 스키마 정의 텍스트
+     * @param keepSchemaName 스키마명 유지 여부
+     * @return 테이블별 UNIQUE 제약조건 맵 (key: schema.table, value: 제약조건 리스트)
+     */
+    public Map<String, List<Constraint>> extractConstraints(String schemaText, boolean keepSchemaName) {
+        Map<String, List<Constraint>> constraintMap = new HashMap<>();
         int pattern1Count = 0;
         int pattern2Count = 0;
         
@@ -54,9 +78,7 @@ public class UniqueConstraintExtractor {
             // 컬럼명 추출: [column1], [column2] 형태에서 대괄호 안의 내용만 추출
             List<String> columnList = extractColumnNames(columnsStr);
             if (!columnList.isEmpty()) {
-                for (String colName : columnList) {
-                    uniqueMap.computeIfAbsent(key, k -> new ArrayList<>()).add(colName);
-                }
+                addConstraint(constraintMap, key, constraintName, columnList);
                 log.info("[UNIQUE 추출 - 패턴1] 테이블={}, 제약조건={}, 컬럼={}", key, constraintName, columnList);
             }
         }
@@ -94,9 +116,7 @@ public class UniqueConstraintExtractor {
             // 컬럼명 추출: [column1], [column2] 형태에서 대괄호 안의 내용만 추출
             List<String> columnList = extractColumnNames(columnsStr);
             if (!columnList.isEmpty()) {
-                for (String colName : columnList) {
-                    uniqueMap.computeIfAbsent(key, k -> new ArrayList<>()).add(colName);
-                }
+                addConstraint(constraintMap, key, constraintName, columnList);
                 log.info("[UNIQUE 추출 - 패턴2] 테이블={}, 제약조건={}, 컬럼={}", key, constraintName, columnList);
             } else {
                 log.warn("[UNIQUE 추출 - 패턴2] 컬럼 추출 실패: 테이블={}, 제약조건={}, 컬럼문자열={}", 
@@ -104,12 +124,16 @@ public class UniqueConstraintExtractor {
             }
         }
         
-        log.info("[UNIQUE 추출 완료] 패턴1={}개, 패턴2={}개, 총 테이블={}개", pattern1Count, pattern2Count, uniqueMap.size());
-        uniqueMap.forEach((table, columns) -> {
-            log.info("[UNIQUE 최종] 테이블={}, UNIQUE 컬럼={}", table, columns);
-        });
+        log.info("[UNIQUE 추출 완료] 패턴1={}개, 패턴2={}개, 총 테이블={}개", pattern1Count, pattern2Count, constraintMap.size());
         
-        return uniqueMap;
+        return constraintMap;
+    }
+    
+    private void addConstraint(Map<String, List<Constraint>> constraintMap, String key, String constraintName,
+                               List<String> columnList) {
+        Constraint constraint = new Constraint(constraintName.trim().toLowerCase(), Constraint.ConstraintType.UNIQUE);
+        constraint.setColumns(columnList);
+        constraintMap.computeIfAbsent(key, k -> new ArrayList<>()).add(constraint);
     }
     
     /**
@@ -0,0 +1,228 @@
+package com.example.fakedatagen.repository;
+
+import com.example.fakedatagen.exception.DataGenerationException;
+import com.example.fakedatagen.model.Constraint;
+import com.example.fakedatagen.model.DatabaseSchema;
+import com.example.fakedatagen.model.ForeignKey;
+import com.example.fakedatagen.model.Table;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 파싱한 스키마의 UNIQUE/FK 제약조건 삭제와 재생성
+ * 벌크 적재 시 행마다 보조 인덱스를 갱신하지 않도록 적재 전에 제약조건을 삭제하고, 적재 후 한 번에 다시 만듭니다.
+ * PRIMARY KEY는 FK가 참조하고 AUTO_INCREMENT 키 조회에 쓰이므로 유지합니다.
+ */
+@Repository
+public class DatabaseConstraintRepository {
+    private static final Logger log = LoggerFactory.getLogger(DatabaseConstraintRepository.class);
+
+    // 삭제할 제약조건이 없을 때 드라이버가 돌려주는 오류 메시지 (소문자)
+    private static final List<String> MISSING_CONSTRAINT_MESSAGES =
+            List.of("not found", "does not exist", "not defined", "no such");
+
+    /**
+     * 벌크 적재 전에 삭제한 제약조건 (재생성 시 이 목록만 다시 만듦)
+     * 테이블은 삭제 순서(부모 → 자식)대로 보관합니다.
+     */
+    public static class DroppedConstraints {
+        private final Map<String, List<Constraint>> uniqueConstraints = new LinkedHashMap<>();
+        private final Map<String, List<ForeignKey>> foreignKeys = new LinkedHashMap<>();
+
+        public Map<String, List<Constraint>> getUniqueConstraints() {
+            return uniqueConstraints;
+        }
+
+        public Map<String, List<ForeignKey>> getForeignKeys() {
+            return foreignKeys;
+        }
+
+        public int size() {
+            int size = 0;
+            for (List<Constraint> constraints : uniqueConstraints.values()) {
+                size += constraints.size();
+            }
+            for (List<ForeignKey> fks : foreignKeys.values()) {
+                size += fks.size();
+            }
+            return size;
+        }
+    }
+
+    /**
+     * FK 제약조건을 삭제한 뒤 UNIQUE 제약조건을 삭제합니다.
+     * 이름 없는 FK는 DROP할 수 없으므로 그대로 두고, 이미 없는 제약조건은 경고만 남기고 건너뜁니다.
+     * 돌려준 목록에는 실제로 삭제한 제약조건만 들어 있으므로 남아 있는 제약조건을 재생성 때 중복으로 추가하지 않습니다.
+     *
+     * @param orderedTableNames 부모 → 자식 순으로 정렬된 테이블명
+     * @param resumed 체크포인트에서 이어서 적재하는 경우 true (중단된 실행이 이미 삭제해서 삭제에 실패한 제약조건도 재생성 대상에 넣음)
+     * @return 삭제한 (재생성할) 제약조건
+     * @throws DataGenerationException 제약조건이 없어서가 아닌 다른 이유로 삭제에 실패한 경우
+     */
+    public DroppedConstraints dropSecondaryConstraints(JdbcTemplate jdbcTemplate, DatabaseSchema schema,
+                                                       List<String> orderedTableNames, boolean resumed) {
+        DroppedConstraints dropped = new DroppedConstraints();
+        for (String tableName : orderedTableNames) {
+            for (ForeignKey fk : schema.getTableByName(tableName).getForeignKeys()) {
+                if (fk.getConstraintName() == null) {
+                    log.warn("이름 없는 FK 제약조건은 삭제하지 않고 유지 - 테이블={}, 컬럼={}", tableName, fk.getColumnNames());
+                    continue;
+                }
+                if (drop(jdbcTemplate, tableName, dropForeignKeySql(tableName, fk)) || resumed) {
+                    dropped.foreignKeys.computeIfAbsent(tableName, key -> new ArrayList<>()).add(fk);
+                }
+            }
+        }
+        for (String tableName : orderedTableNames) {
+            for (Constraint constraint : uniqueConstraints(schema.getTableByName(tableName))) {
+                String sql = "ALTER TABLE " + sanitizeTableName(tableName) + " DROP CONSTRAINT " + quote(constraint.getName());
+                if (drop(jdbcTemplate, tableName, sql) || resumed) {
+                    dropped.uniqueConstraints.computeIfAbsent(tableName, key -> new ArrayList<>()).add(constraint);
+                }
+            }
+        }
+        log.info("벌크 적재를 위해 제약조건 {}개 삭제", dropped.size());
+        return dropped;
+    }
+
+    /**
+     * @return 삭제했으면 true, 제약조건이 이미 없으면 false
+     * @throws DataGenerationException 그 밖의 이유로 삭제에 실패한 경우 (권한, 잠금, 연결 오류 등)
+     */
+    private boolean drop(JdbcTemplate jdbcTemplate, String tableName, String sql) {
+        try {
+            jdbcTemplate.execute(sql);
+            return true;
+        } catch (Exception e) {
+            if (!isMissingConstraint(e)) {
+                throw new DataGenerationException("제약조건 삭제 실패 - 테이블=" + tableName + ", SQL=" + sql + ": " + e.getMessage(), e);
+            }
+            log.warn("제약조건이 이미 없어 삭제를 건너뜀 - 테이블={}, SQL={}: {}", tableName, sql, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 드라이버 오류가 '제약조건 없음'인지 확인합니다. (원인 예외의 메시지까지 확인)
+     */
+    static boolean isMissingConstraint(Throwable error) {
+        for (Throwable e = error; e != null; e = e.getCause()) {
+            String message = e.getMessage();
+            if (message == null) {
+                continue;
+            }
+            String lower = message.toLowerCase();
+            for (String pattern : MISSING_CONSTRAINT_MESSAGES) {
+                if (lower.contains(pattern)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 삭제한 UNIQUE 제약조건을 다시 만든 뒤 삭제한 FK 제약조건을 다시 추가합니다.
+     *
+     * @param dropped dropSecondaryConstraints가 돌려준 삭제 목록
+     * @return 테이블별 재생성 소요 시간 (ms)
+     * @throws DataGenerationException 제약조건을 만들 수 없는 경우 (예: 적재한 데이터가 UNIQUE를 위반)
+     */
+    public Map<String, Long> rebuildSecondaryConstraints(JdbcTemplate jdbcTemplate, DroppedConstraints dropped) {
+        Map<String, Long> timings = new LinkedHashMap<>();
+        for (Map.Entry<String, List<Constraint>> entry : dropped.uniqueConstraints.entrySet()) {
+            String tableName = entry.getKey();
+            for (Constraint constraint : entry.getValue()) {
+                execute(jdbcTemplate, tableName, "ALTER TABLE " + sanitizeTableName(tableName) + " ADD CONSTRAINT "
+                        + quote(constraint.getName()) + " UNIQUE (" + quoteAll(constraint.getColumns()) + ")", timings);
+            }
+        }
+        for (Map.Entry<String, List<ForeignKey>> entry : dropped.foreignKeys.entrySet()) {
+            for (ForeignKey fk : entry.getValue()) {
+                addForeignKey(jdbcTemplate, entry.getKey(), fk, timings);
+            }
+        }
+        log.info("제약조건 재생성 완료 - {}개 테이블, 총 {} ms", timings.size(),
+                timings.values().stream().mapToLong(Long::longValue).sum());
+        return timings;
+    }
+
+    /**
+     * 테이블별 FK 제약조건을 추가합니다.
+     */
+    void addForeignKeys(JdbcTemplate jdbcTemplate, DatabaseSchema schema, List<String> orderedTableNames,
+                        Map<String, Long> timings) {
+        for (String tableName : orderedTableNames) {
+            for (ForeignKey fk : schema.getTableByName(tableName).getForeignKeys()) {
+                addForeignKey(jdbcTemplate, tableName, fk, timings);
+            }
+        }
+    }
+
+    private void addForeignKey(JdbcTemplate jdbcTemplate, String tableName, ForeignKey fk, Map<String, Long> timings) {
+        StringBuilder sql = new StringBuilder("ALTER TABLE ").append(sanitizeTableName(tableName)).append(" ADD");
+        if (fk.getConstraintName() != null) {
+            sql.append(" CONSTRAINT ").append(quote(fk.getConstraintName()));
+        }
+        sql.append(" FOREIGN KEY (").append(quoteAll(fk.getColumnNames())).append(") REFERENCES ")
+                .append(sanitizeTableName(fk.getReferencedTableName()))
+                .append(" (").append(quoteAll(fk.getReferencedColumnNames())).append(")");
+        execute(jdbcTemplate, tableName, sql.toString(), timings);
+    }
+
+    String dropForeignKeySql(String tableName, ForeignKey fk) {
+        return "ALTER TABLE " + sanitizeTableName(tableName) + " DROP FOREIGN KEY " + quote(fk.getConstraintName());
+    }
+
+    /**
+     * SQL을 실행하고 소요 시간을 테이블별로 더합니다.
+     */
+    void execute(JdbcTemplate jdbcTemplate, String tableName, String sql, Map<String, Long> timings) {
+        long start = System.nanoTime();
+        try {
+            jdbcTemplate.execute(sql);
+        } catch (Exception e) {
+            throw new DataGenerationException("DDL 실행 중 오류 발생: " + tableName + " - " + e.getMessage(), e);
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        timings.merge(tableName, elapsedMillis, Long::sum);
+        log.debug("DDL 실행 - {} ms: {}", elapsedMillis, sql);
+    }
+
+    private List<Constraint> uniqueConstraints(Table table) {
+        List<Constraint> constraints = new ArrayList<>();
+        for (Constraint constraint : table.getConstraints()) {
+            if (constraint.getType() == Constraint.ConstraintType.UNIQUE) {
+                constraints.add(constraint);
+            }
+        }
+        return constraints;
+    }
+
+    private String quoteAll(List<String> identifiers) {
+        List<String> quoted = new ArrayList<>(identifiers.size());
+        identifiers.forEach(identifier -> quoted.add(quote(identifier)));
+        return String.join(", ", quoted);
+    }
+
+    String quote(String identifier) {
+        return "[" + identifier.replace("]", "]]") + "]";
+    }
+
+    String sanitizeTableName(String tableName) {
+        if (tableName.contains(".")) {
+            String schemaName = tableName.substring(0, tableName.lastIndexOf("."));
+            String tableNameOnly = tableName.substring(tableName.lastIndexOf(".") + 1);
+            return quote(schemaName) + "." + quote(tableNameOnly);
+        } else {
+            return quote(tableName);
+        }
+    }
+}
@@ -2,12 +2,14 @@ package com.example.fakedatagen.repository;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.sql.Date;
 import java.sql.Time;
@@ -15,17 +17,32 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import com.example.fakedatagen.model.DatabaseSchema;
 import com.example.fakedatagen.model.Table;
 import com.example.fakedatagen.model.Column;
 import com.example.fakedatagen.config.FakeDataGenProperties;
+import com.example.fakedatagen.exception.DataGenerationException;
+import com.example.fakedatagen.generator.RowBatch;
 
 @Repository
 public class DatabaseInsertRepository {
     private static final Logger log = LoggerFactory.getLogger(DatabaseInsertRepository.class);
+    private static final int MULTI_ROW_SQL_CACHE_LIMIT = 256;
+    private static final int INSERT_PLAN_CACHE_LIMIT = 256;
+    private static final Pattern LENGTH_PATTERN = Pattern.compile("\\((\\d+)\\)");
+    private static final Pattern BIT_PATTERN = Pattern.compile("[01]+");
     
+    // (행 수, 단일 행 INSERT 문)별 다중 행 INSERT 문
+    private final Map<String, String> multiRowSqlCache = new ConcurrentHashMap<>();
+    // (테이블, 컬럼 정의, 키 할당 방식, 포함 컬럼)별 INSERT 계획
+    private final Map<String, InsertPlan> planCache = new ConcurrentHashMap<>();
     private final JdbcTemplate jdbcTemplate;
     private final FakeDataGenProperties properties;
     
@@ -36,8 +53,7 @@ public class DatabaseInsertRepository {
     
     private int extractMaxLengthFromDataType(String dataType) {
         try {
-            java.util.regex.Pattern pattern = java.util.regex.Pattern.compile("\\((\\d+)\\)");
-            java.util.regex.Matcher matcher = pattern.matcher(dataType);
+            Matcher matcher = LENGTH_PATTERN.matcher(dataType);
             if (matcher.find()) {
                 return Integer.parseInt(matcher.group(1));
             }
@@ -45,15 +61,30 @@ public class DatabaseInsertRepository {
         }
         return 0;
     }
-    private Object convertValueByColumnType(Object value, Column column) {
-        if (value == null) {
-            return null;
-        }
-        
+    
+    /**
+     * 컬럼 타입에 맞는 값 변환기를 만듭니다.
+     * 타입 문자열 판별은 여기서 한 번만 하고, 행마다는 값의 형태에 따른 변환만 수행합니다.
+     */
+    private ValueConverter converterFor(Column column) {
         String dataType = column.getDataType().toLowerCase();
-        
-        try {
-            if (dataType.contains("bigint") || dataType.contains("long")) {
+        ValueConverter converter = typeConverter(column, dataType);
+        return value -> {
+            if (value == null) {
+                return null;
+            }
+            try {
+                return converter.convert(value);
+            } catch (Exception e) {
+                log.error("타입 변환 실패 - 컬럼={}, 타입={}, 값={}", column.getName(), dataType, value, e);
+                return value;
+            }
+        };
+    }
+    
+    private ValueConverter typeConverter(Column column, String dataType) {
+        if (dataType.contains("bigint") || dataType.contains("long")) {
+            return value -> {
                 if (value instanceof Long) {
                     return value;
                 } else if (value instanceof Number) {
@@ -62,7 +93,9 @@ public class DatabaseInsertRepository {
                     return Long.parseLong((String) value);
                 }
                 return value;
-            } else if (dataType.contains("smallint") || dataType.contains("short")) {
+            };
+        } else if (dataType.contains("smallint") || dataType.contains("short")) {
+            return value -> {
                 if (value instanceof Short) {
                     return value;
                 } else if (value instanceof Number) {
@@ -71,7 +104,9 @@ public class DatabaseInsertRepository {
                     return Short.parseShort((String) value);
                 }
                 return value;
-            } else if (dataType.contains("integer") || dataType.contains("int")) {
+            };
+        } else if (dataType.contains("integer") || dataType.contains("int")) {
+            return value -> {
                 if (value instanceof Integer) {
                     return value;
                 } else if (value instanceof Number) {
@@ -80,7 +115,9 @@ public class DatabaseInsertRepository {
                     return Integer.parseInt((String) value);
                 }
                 return value;
-            } else if (dataType.contains("numeric") || dataType.contains("decimal")) {
+            };
+        } else if (dataType.contains("numeric") || dataType.contains("decimal")) {
+            return value -> {
                 if (value instanceof BigDecimal) {
                     return value;
                 } else if (value instanceof Number) {
@@ -89,7 +126,9 @@ public class DatabaseInsertRepository {
                     return new BigDecimal((String) value);
                 }
                 return value;
-            } else if (dataType.contains("float") || dataType.contains("real")) {
+            };
+        } else if (dataType.contains("float") || dataType.contains("real")) {
+            return value -> {
                 if (value instanceof Float) {
                     return value;
                 } else if (value instanceof Number) {
@@ -98,7 +137,9 @@ public class DatabaseInsertRepository {
                     return Float.parseFloat((String) value);
                 }
                 return value;
-            } else if (dataType.contains("double")) {
+            };
+        } else if (dataType.contains("double")) {
+            return value -> {
                 if (value instanceof Double) {
                     return value;
                 } else if (value instanceof Number) {
@@ -107,7 +148,9 @@ public class DatabaseInsertRepository {
                     return Double.parseDouble((String) value);
                 }
                 return value;
-            } else if (dataType.contains("date") && !dataType.contains("datetime") && !dataType.contains("timestamp")) {
+            };
+        } else if (dataType.contains("date") && !dataType.contains("datetime") && !dataType.contains("timestamp")) {
+            return value -> {
                 if (value instanceof Date) {
                     return value;
                 } else if (value instanceof LocalDate) {
@@ -128,7 +171,9 @@ public class DatabaseInsertRepository {
                     }
                 }
                 return value;
-            } else if (dataType.contains("time") && !dataType.contains("datetime") && !dataType.contains("timestamp")) {
+            };
+        } else if (dataType.contains("time") && !dataType.contains("datetime") && !dataType.contains("timestamp")) {
+            return value -> {
                 if (value instanceof Time) {
                     return value;
                 } else if (value instanceof LocalTime) {
@@ -143,7 +188,9 @@ public class DatabaseInsertRepository {
                     }
                 }
                 return value;
-            } else if (dataType.contains("datetime") || dataType.contains("timestamp")) {
+            };
+        } else if (dataType.contains("datetime") || dataType.contains("timestamp")) {
+            return value -> {
                 if (value instanceof Timestamp) {
                     return value;
                 } else if (value instanceof LocalDateTime) {
@@ -173,10 +220,12 @@ public class DatabaseInsertRepository {
                     }
                 }
                 return value;
-            } else if (dataType.contains("bit")) {
+            };
+        } else if (dataType.contains("bit")) {
+            return value -> {
                 if (value instanceof String) {
                     String bitStr = (String) value;
-                    if (bitStr.matches("[01]+")) {
+                    if (BIT_PATTERN.matcher(bitStr).matches()) {
                         if (!dataType.contains("varying") && bitStr.length() == 1) {
                             return Integer.parseInt(bitStr);
                         }
@@ -188,7 +237,9 @@ public class DatabaseInsertRepository {
                     return ((Boolean) value) ? 1 : 0;
                 }
                 return value.toString();
-            } else if (dataType.contains("boolean") || dataType.contains("bool")) {
+            };
+        } else if (dataType.contains("boolean") || dataType.contains("bool")) {
+            return value -> {
                 if (value instanceof String) {
                     String str = ((String) value).toLowerCase().trim();
                     if ("true".equals(str) || "1".equals(str) || "yes".equals(str)) {
@@ -203,20 +254,16 @@ public class DatabaseInsertRepository {
                     return ((Number) value).intValue() != 0;
                 }
                 return value;
-            } else {
+            };
+        } else {
+            int maxLength = column.getMaxLength() > 0 ? column.getMaxLength() : extractMaxLengthFromDataType(dataType);
+            return value -> {
                 String strValue = value.toString();
-                int maxLength = column.getMaxLength();
-                if (maxLength <= 0) {
-                    maxLength = extractMaxLengthFromDataType(dataType);
-                }
                 if (maxLength > 0 && strValue.length() > maxLength) {
                     return strValue.substring(0, maxLength);
                 }
                 return strValue;
-            }
-        } catch (Exception e) {
-            log.error("타입 변환 실패 - 컬럼={}, 타입={}, 값={}", column.getName(), dataType, value, e);
-            return value;
+            };
         }
     }
 
@@ -246,7 +293,260 @@ public class DatabaseInsertRepository {
             return new ArrayList<>();
         }
         
+        Map<String, Object> firstRecord = records.get(0);
+        InsertPlan plan = insertPlan(tableName, schema, false, column -> firstRecord.containsKey(column.getName())
+                && (firstRecord.get(column.getName()) != null || !column.isNullable()));
+        String[] columnNames = plan.columnNames;
+        ValueConverter[] converters = plan.converters;
+        
+        return executeInsert(jdbcTemplate, tableName, plan.sql, plan.autoIncrementColumns, columnNames.length, records.size(),
+                (ps, offset, recordIdx) -> {
+            Map<String, Object> record = records.get(recordIdx);
+            for (int j = 0; j < columnNames.length; j++) {
+                ps.setObject(offset + j + 1, converters[j].convert(record.get(columnNames[j])));
+            }
+        });
+    }
+    
+    /**
+     * 컬럼 단위 버퍼(RowBatch)를 INSERT합니다.
+     * 컬럼마다 저장 형태에 맞는 setter(setInt/setLong/setTimestamp 등)를 한 번만 골라
+     * 행마다 문자열 파싱이나 박싱 없이 원시 값 그대로 바인딩합니다.
+     * 키 할당 모드가 CLIENT이면 AUTO_INCREMENT 컬럼도 버퍼의 값을 그대로 넣고, 키를 DB에서 돌려받지 않습니다.
+     * 
+     * @return 행 순서대로의 키 목록 (AUTO_INCREMENT가 없으면 행 수만큼의 0)
+     */
+    public List<Long> insertBatch(JdbcTemplate jdbcTemplate, String tableName, RowBatch batch, DatabaseSchema schema) {
+        if (batch == null || batch.size() == 0) {
+            return new ArrayList<>();
+        }
+        
+        Table table = lookupTable(tableName, schema);
+        boolean clientKeys = isClientKeyAllocation() && table.getColumns().stream().anyMatch(Column::isAutoIncrement);
+        InsertPlan plan = insertPlan(tableName, schema, clientKeys, column -> {
+            int ordinal = batch.ordinalOf(column.getName());
+            return ordinal >= 0 && (!batch.isNull(0, ordinal) || !column.isNullable());
+        });
+        ColumnBinder[] binders = plan.binders;
+        
+        List<Long> keys = executeInsert(jdbcTemplate, tableName, plan.sql, plan.autoIncrementColumns, binders.length, batch.size(),
+                (ps, offset, row) -> {
+            for (int j = 0; j < binders.length; j++) {
+                binders[j].bind(ps, offset + j + 1, batch, row);
+            }
+        });
+        return clientKeys ? assignedKeys(tableName, batch, schema) : keys;
+    }
+    
+    /**
+     * 테이블의 INSERT 계획을 찾거나 만듭니다.
+     * 계획은 테이블명과 컬럼 정의, 키 할당 방식, 포함할 컬럼으로 구분하므로
+     * 같은 스키마를 다시 파싱한 이후의 실행에서도 재사용됩니다.
+     *
+     * @param clientKeys AUTO_INCREMENT 컬럼도 값을 직접 넣을지 여부
+     * @param included 값을 넣을 컬럼 (첫 행 기준으로 판단)
+     */
+    private InsertPlan insertPlan(String tableName, DatabaseSchema schema, boolean clientKeys, Predicate<Column> included) {
+        Table table = lookupTable(tableName, schema);
+        List<Column> columns = table.getColumns();
+        boolean[] includedColumns = new boolean[columns.size()];
+        StringBuilder cacheKey = new StringBuilder(tableName).append(clientKeys ? "|CLIENT" : "|GENERATED");
+        for (int c = 0; c < columns.size(); c++) {
+            Column column = columns.get(c);
+            includedColumns[c] = (clientKeys || !column.isAutoIncrement()) && included.test(column);
+            cacheKey.append('|').append(column.getName()).append(':').append(column.getDataType())
+                    .append(':').append(column.getMaxLength())
+                    .append(column.isAutoIncrement() ? ":A" : "").append(includedColumns[c] ? ":I" : "");
+        }
+        String key = cacheKey.toString();
+        InsertPlan cached = planCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        if (planCache.size() >= INSERT_PLAN_CACHE_LIMIT) {
+            planCache.clear();
+        }
+        return planCache.computeIfAbsent(key, k -> createInsertPlan(tableName, schema, table, clientKeys, includedColumns));
+    }
+    
+    private InsertPlan createInsertPlan(String tableName, DatabaseSchema schema, Table table, boolean clientKeys,
+                                        boolean[] includedColumns) {
         IdentifierValidator validator = new IdentifierValidator(schema);
+        List<String> columnNames = new ArrayList<>();
+        List<String> autoIncrementColumns = new ArrayList<>();
+        splitColumns(table, columnNames, autoIncrementColumns);
+        if (clientKeys) {
+            // 키는 버퍼에 이미 있으므로 AUTO_INCREMENT 컬럼도 일반 컬럼처럼 바인딩
+            columnNames.clear();
+            autoIncrementColumns.clear();
+            table.getColumns().forEach(column -> columnNames.add(column.getName()));
+        }
+        
+        List<String> finalColumnNames = new ArrayList<>();
+        List<ValueConverter> converters = new ArrayList<>();
+        List<ColumnBinder> binders = new ArrayList<>();
+        List<Column> columns = table.getColumns();
+        for (int c = 0; c < columns.size(); c++) {
+            Column column = columns.get(c);
+            if (!includedColumns[c]) {
+                continue;
+            }
+            if (!validator.isAllowedColumn(table.getName(), column.getName())) {
+                throw new IllegalArgumentException("Unknown column (not in schema): " + table.getName() + "." + column.getName());
+            }
+            ValueConverter converter = converterFor(column);
+            finalColumnNames.add(column.getName());
+            converters.add(converter);
+            binders.add(createBinder(c, column, converter));
+        }
+        
+        String sql = buildInsertSql(tableName, finalColumnNames, columnNames, autoIncrementColumns);
+        log.debug("INSERT 계획 생성 - table={}, columns={}", tableName, finalColumnNames);
+        return new InsertPlan(sql, autoIncrementColumns, finalColumnNames.toArray(new String[0]),
+                converters.toArray(new ValueConverter[0]), binders.toArray(new ColumnBinder[0]));
+    }
+    
+    /**
+     * 키 할당 모드가 CLIENT일 때 버퍼의 AUTO_INCREMENT 컬럼 값을 행 순서대로 돌려줍니다.
+     * (AUTO_INCREMENT가 없거나 GENERATED 모드이면 행 수만큼의 0)
+     * 이미 커밋되어 INSERT를 건너뛴 구간의 키를 DB 조회 없이 복원할 때도 사용합니다.
+     */
+    public List<Long> assignedKeys(String tableName, RowBatch batch, DatabaseSchema schema) {
+        Table table = lookupTable(tableName, schema);
+        int ordinal = -1;
+        for (Column column : table.getColumns()) {
+            if (column.isAutoIncrement()) {
+                ordinal = batch.ordinalOf(column.getName());
+                break;
+            }
+        }
+        List<Long> keys = new ArrayList<>(batch.size());
+        for (int row = 0; row < batch.size(); row++) {
+            keys.add(ordinal < 0 || !isClientKeyAllocation() || batch.isNull(row, ordinal) ? 0L : keyOf(batch, row, ordinal));
+        }
+        return keys;
+    }
+    
+    /**
+     * CLIENT 모드로 키를 직접 넣은 테이블의 AUTO_INCREMENT 시작값을 적재한 마지막 키 다음 값으로 맞춥니다.
+     * (이후 애플리케이션이 키 없이 INSERT해도 적재한 키와 겹치지 않도록)
+     */
+    public void advanceAutoIncrement(JdbcTemplate jdbcTemplate, String tableName, DatabaseSchema schema, long nextValue) {
+        resolveTable(new IdentifierValidator(schema), tableName, schema);
+        String sql = "ALTER TABLE " + sanitizeTableName(tableName) + " AUTO_INCREMENT = " + nextValue;
+        jdbcTemplate.execute(sql);
+        log.debug("AUTO_INCREMENT 시작값 조정 - table={}, next={}", tableName, nextValue);
+    }
+    
+    private boolean isClientKeyAllocation() {
+        return properties.getKeyAllocation().getMode() == FakeDataGenProperties.KeyAllocation.Mode.CLIENT;
+    }
+    
+    private long keyOf(RowBatch batch, int row, int ordinal) {
+        switch (batch.getKind(ordinal)) {
+            case INT:
+                return batch.getInt(row, ordinal);
+            case LONG:
+                return batch.getLong(row, ordinal);
+            default:
+                return ((Number) batch.get(row, ordinal)).longValue();
+        }
+    }
+    
+    private ColumnBinder createBinder(int ordinal, Column column, ValueConverter converter) {
+        String dataType = column.getDataType().toLowerCase();
+        switch (RowBatch.kindOf(column)) {
+            case INT:
+                return (ps, index, batch, row) -> {
+                    if (batch.isNull(row, ordinal)) ps.setObject(index, null);
+                    else ps.setInt(index, batch.getInt(row, ordinal));
+                };
+            case LONG:
+                return (ps, index, batch, row) -> {
+                    if (batch.isNull(row, ordinal)) ps.setObject(index, null);
+                    else ps.setLong(index, batch.getLong(row, ordinal));
+                };
+            case DOUBLE:
+                if (dataType.contains("float") || dataType.contains("real")) {
+                    return (ps, index, batch, row) -> {
+                        if (batch.isNull(row, ordinal)) ps.setObject(index, null);
+                        else ps.setFloat(index, (float) batch.getDouble(row, ordinal));
+                    };
+                }
+                return (ps, index, batch, row) -> {
+                    if (batch.isNull(row, ordinal)) ps.setObject(index, null);
+                    else ps.setDouble(index, batch.getDouble(row, ordinal));
+                };
+            case DECIMAL:
+                return (ps, index, batch, row) -> {
+                    if (batch.isNull(row, ordinal)) ps.setObject(index, null);
+                    else ps.setBigDecimal(index, batch.getDecimal(row, ordinal));
+                };
+            case BOOLEAN:
+                return (ps, index, batch, row) -> {
+                    if (batch.isNull(row, ordinal)) ps.setObject(index, null);
+                    else ps.setBoolean(index, batch.getBoolean(row, ordinal));
+                };
+            case DATE:
+                return (ps, index, batch, row) -> {
+                    if (batch.isNull(row, ordinal)) ps.setObject(index, null);
+                    else ps.setDate(index, Date.valueOf(batch.getDate(row, ordinal)));
+                };
+            case TIME:
+                return (ps, index, batch, row) -> {
+                    if (batch.isNull(row, ordinal)) ps.setObject(index, null);
+                    else ps.setTime(index, Time.valueOf(batch.getTime(row, ordinal)));
+                };
+            case DATETIME:
+                return (ps, index, batch, row) -> {
+                    if (batch.isNull(row, ordinal)) ps.setObject(index, null);
+                    else ps.setTimestamp(index, Timestamp.valueOf(batch.getDateTime(row, ordinal)));
+                };
+            case STRING: {
+                int maxLength = column.getMaxLength() > 0 ? column.getMaxLength() : extractMaxLengthFromDataType(dataType);
+                return (ps, index, batch, row) -> {
+                    if (batch.isNull(row, ordinal)) {
+                        ps.setObject(index, null);
+                        return;
+                    }
+                    String value = batch.getString(row, ordinal);
+                    if (maxLength > 0 && value.length() > maxLength) {
+                        value = value.substring(0, maxLength);
+                    }
+                    ps.setString(index, value);
+                };
+            }
+            default:
+                return (ps, index, batch, row) -> ps.setObject(index, converter.convert(batch.get(row, ordinal)));
+        }
+    }
+    
+    /**
+     * 테이블에 저장된 AUTO_INCREMENT 키를 오름차순으로 조회합니다.
+     * (체크포인트에서 이미 적재가 끝난 테이블의 키를 복원할 때 사용)
+     */
+    public List<Long> selectAutoIncrementKeys(JdbcTemplate jdbcTemplate, String tableName, DatabaseSchema schema) {
+        Table table = resolveTable(new IdentifierValidator(schema), tableName, schema);
+        List<String> columnNames = new ArrayList<>();
+        List<String> autoIncrementColumns = new ArrayList<>();
+        splitColumns(table, columnNames, autoIncrementColumns);
+        if (autoIncrementColumns.isEmpty()) {
+            return new ArrayList<>();
+        }
+        String keyColumn = "[" + autoIncrementColumns.get(0).replace("]", "]]") + "]";
+        String sql = "SELECT " + keyColumn + " FROM " + sanitizeTableName(tableName) + " ORDER BY " + keyColumn;
+        return jdbcTemplate.queryForList(sql, Long.class);
+    }
+    
+    /**
+     * 스키마에서 테이블을 찾습니다. (없으면 resolveTable과 같은 예외)
+     */
+    private Table lookupTable(String tableName, DatabaseSchema schema) {
+        Table table = schema.getTableByName(tableName);
+        return table != null ? table : resolveTable(new IdentifierValidator(schema), tableName, schema);
+    }
+    
+    private Table resolveTable(IdentifierValidator validator, String tableName, DatabaseSchema schema) {
         if (!validator.isAllowedTable(tableName)) {
             throw new IllegalArgumentException("Unknown table (not in schema): " + tableName);
         }
@@ -258,12 +558,10 @@ public class DatabaseInsertRepository {
         if (table == null) {
             throw new IllegalArgumentException("Table not found: " + tableNameOnly + " (전체명: " + tableName + ")");
         }
-        
-        Map<String, Object> firstRecord = records.get(0);
-        
-        List<String> columnNames = new ArrayList<>();
-        List<String> autoIncrementColumns = new ArrayList<>();
-        
+        return table;
+    }
+    
+    private void splitColumns(Table table, List<String> columnNames, List<String> autoIncrementColumns) {
         for (Column column : table.getColumns()) {
             String columnName = column.getName();
             if (column.isAutoIncrement()) {
@@ -272,23 +570,10 @@ public class DatabaseInsertRepository {
                 columnNames.add(columnName);
             }
         }
-        
-        List<String> existingColumns = new ArrayList<>();
-        for (String columnName : columnNames) {
-            if (firstRecord.containsKey(columnName)) {
-                Column column = table.getColumnByName(columnName);
-                boolean isNotNullColumn = (column != null && !column.isNullable());
-                
-                if (firstRecord.get(columnName) != null || isNotNullColumn) {
-                    if (!validator.isAllowedColumn(tableNameOnly, columnName)) {
-                        throw new IllegalArgumentException("Unknown column (not in schema): " + tableNameOnly + "." + columnName);
-                    }
-                    existingColumns.add(columnName);
-                }
-            }
-        }
-        
-        final List<String> finalColumnNames = existingColumns;
+    }
+    
+    private String buildInsertSql(String tableName, List<String> finalColumnNames, 
+                                  List<String> columnNames, List<String> autoIncrementColumns) {
         StringBuilder sqlBuilder = new StringBuilder();
         sqlBuilder.append("INSERT INTO ").append(tableName);
         
@@ -322,26 +607,55 @@ public class DatabaseInsertRepository {
             sqlBuilder.append(")");
         }
         
-        String sql = sqlBuilder.toString();
+        return sqlBuilder.toString();
+    }
+    
+    /**
+     * 다중 행 INSERT 문 (INSERT ... VALUES (...), (...), ...)
+     * 단일 행 INSERT 문 뒤에 값 목록을 rows - 1개 이어 붙이며, 같은 테이블/컬럼 조합과 행 수에 대해서는 만든 문장을 재사용합니다.
+     */
+    private String multiRowInsertSql(String sql, int columnCount, int rows) {
+        if (rows <= 1) {
+            return sql;
+        }
+        String cacheKey = rows + ":" + sql;
+        String cached = multiRowSqlCache.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+        if (multiRowSqlCache.size() >= MULTI_ROW_SQL_CACHE_LIMIT) {
+            multiRowSqlCache.clear();
+        }
+        return multiRowSqlCache.computeIfAbsent(cacheKey, key -> {
+            String tuple = ", (" + String.join(", ", Collections.nCopies(columnCount, "?")) + ")";
+            StringBuilder sqlBuilder = new StringBuilder(sql.length() + tuple.length() * (rows - 1)).append(sql);
+            for (int i = 1; i < rows; i++) {
+                sqlBuilder.append(tuple);
+            }
+            return sqlBuilder.toString();
+        });
+    }
+    
+    /**
+     * 문장 하나에 넣을 행 수 (fakedatagen.multi-row-insert 설정, 파라미터 수 상한 이내)
+     */
+    int rowsPerStatement(int columnCount) {
+        FakeDataGenProperties.MultiRowInsert config = properties.getMultiRowInsert();
+        if (!config.isEnabled() || columnCount == 0) {
+            return 1;
+        }
+        return Math.max(1, Math.min(config.getRowsPerStatement(), config.getMaxParameters() / columnCount));
+    }
+    
+    private List<Long> executeInsert(JdbcTemplate jdbcTemplate, String tableName, String sql,
+                                     List<String> autoIncrementColumns, int columnCount, int totalRecords, RowBinder binder) {
         List<Long> generatedKeys = new ArrayList<>();
+        int batchSize = properties.getBatchSize();
         if (!autoIncrementColumns.isEmpty()) {
-            int batchSize = properties.getBatchSize();
-            int totalRecords = records.size();
-            
             jdbcTemplate.execute((Connection conn) -> {
                 try (PreparedStatement ps = conn.prepareStatement(sql, java.sql.Statement.RETURN_GENERATED_KEYS)) {
                     for (int recordIdx = 0; recordIdx < totalRecords; recordIdx++) {
-                        Map<String, Object> record = records.get(recordIdx);
-                        
-                        if (!finalColumnNames.isEmpty()) {
-                            for (int j = 0; j < finalColumnNames.size(); j++) {
-                                String columnName = finalColumnNames.get(j);
-                                Column column = table.getColumnByName(columnName);
-                                Object value = record.get(columnName);
-                                Object convertedValue = (column != null) ? convertValueByColumnType(value, column) : value;
-                                ps.setObject(j + 1, convertedValue);
-                            }
-                        }
+                        binder.bind(ps, 0, recordIdx);
                         ps.addBatch();
                         
                         if ((recordIdx + 1) % batchSize == 0 || recordIdx == totalRecords - 1) {
@@ -353,17 +667,10 @@ public class DatabaseInsertRepository {
                                     keyCount++;
                                 }
                                 if (keyCount < updateCounts.length) {
-                                    try {
-                                        String maxIdSql = "SELECT COALESCE(MAX([" + autoIncrementColumns.get(0) + "]), 0) FROM " + tableName;
-                                        Long currentMax = jdbcTemplate.queryForObject(maxIdSql, Long.class);
-                                        for (int i = keyCount; i < updateCounts.length; i++) {
-                                            generatedKeys.add(currentMax - (updateCounts.length - i - 1));
-                                        }
-                                    } catch (Exception ex) {
-                                        for (int i = keyCount; i < updateCounts.length; i++) {
-                                            generatedKeys.add(0L);
-                                        }
-                                    }
+                                    // MAX()로 키를 추정하면 동시에 적재하는 다른 작업의 키와 섞이므로 추정하지 않음
+                                    throw new DataGenerationException("드라이버가 생성 키를 " + updateCounts.length + "개 중 "
+                                            + keyCount + "개만 반환했습니다: " + tableName
+                                            + " (fakedatagen.key-allocation.mode=CLIENT 사용 권장)");
                                 }
                             }
                         }
@@ -375,24 +682,23 @@ public class DatabaseInsertRepository {
                 return null;
             });
         } else {
-            int batchSize = properties.getBatchSize();
-            int totalRecords = records.size();
-            
+            // 생성 키를 돌려받지 않으므로 여러 행을 한 문장으로 묶어 왕복과 파싱 횟수를 줄임
+            int rowsPerStatement = rowsPerStatement(columnCount);
             for (int batchStart = 0; batchStart < totalRecords; batchStart += batchSize) {
                 int batchEnd = Math.min(batchStart + batchSize, totalRecords);
-                List<Map<String, Object>> batch = records.subList(batchStart, batchEnd);
+                int statements = (batchEnd - batchStart) / rowsPerStatement;
+                int remainder = (batchEnd - batchStart) % rowsPerStatement;
                 
                 try {
-                    jdbcTemplate.batchUpdate(sql, batch, batch.size(), (ps, record) -> {
-                        for (int i = 0; i < finalColumnNames.size(); i++) {
-                            String columnName = finalColumnNames.get(i);
-                            Column column = table.getColumnByName(columnName);
-                            Object value = record.get(columnName);
-                            Object convertedValue = (column != null) ? convertValueByColumnType(value, column) : value;
-                            ps.setObject(i + 1, convertedValue);
-                        }
-                    });
-                    for (int i = 0; i < batch.size(); i++) {
+                    if (statements > 0) {
+                        executeStatements(jdbcTemplate, multiRowInsertSql(sql, columnCount, rowsPerStatement),
+                                rowsPerStatement, columnCount, batchStart, statements, binder);
+                    }
+                    if (remainder > 0) {
+                        executeStatements(jdbcTemplate, multiRowInsertSql(sql, columnCount, remainder),
+                                remainder, columnCount, batchEnd - remainder, 1, binder);
+                    }
+                    for (int i = batchStart; i < batchEnd; i++) {
                         generatedKeys.add(0L);
                     }
                 } catch (Exception e) {
@@ -405,5 +711,68 @@ public class DatabaseInsertRepository {
         return generatedKeys;
     }
     
+    /**
+     * 문장마다 rowsPerStatement개 행을 바인딩하여 statementCount개 문장을 JDBC 배치로 실행합니다.
+     */
+    private void executeStatements(JdbcTemplate jdbcTemplate, String sql, int rowsPerStatement, int columnCount,
+                                   int firstRow, int statementCount, RowBinder binder) {
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                int row = firstRow + i * rowsPerStatement;
+                for (int r = 0; r < rowsPerStatement; r++) {
+                    binder.bind(ps, r * columnCount, row + r);
+                }
+            }
+            
+            @Override
+            public int getBatchSize() {
+                return statementCount;
+            }
+        });
+    }
+    
+    /**
+     * 한 행의 값을 PreparedStatement의 parameterOffset 다음 위치부터 바인딩
+     */
+    @FunctionalInterface
+    private interface RowBinder {
+        void bind(PreparedStatement ps, int parameterOffset, int row) throws SQLException;
+    }
+    
+    /**
+     * 버퍼의 한 컬럼 값을 지정된 파라미터 위치에 바인딩
+     */
+    @FunctionalInterface
+    private interface ColumnBinder {
+        void bind(PreparedStatement ps, int parameterIndex, RowBatch batch, int row) throws SQLException;
+    }
+    
+    /**
+     * 값을 컬럼 타입에 맞는 JDBC 값으로 변환
+     */
+    @FunctionalInterface
+    private interface ValueConverter {
+        Object convert(Object value);
+    }
+    
+    /**
+     * 테이블 하나의 INSERT 문과 컬럼별 변환기/바인더 (바인딩 순서)
+     */
+    private static final class InsertPlan {
+        private final String sql;
+        private final List<String> autoIncrementColumns;
+        private final String[] columnNames;
+        private final ValueConverter[] converters;
+        private final ColumnBinder[] binders;
+        
+        private InsertPlan(String sql, List<String> autoIncrementColumns, String[] columnNames,
+                           ValueConverter[] converters, ColumnBinder[] binders) {
+            this.sql = sql;
+            this.autoIncrementColumns = autoIncrementColumns;
+            this.columnNames = columnNames;
+            this.converters = converters;
+            this.binders = binders;
+        }
+    }
 }
-
@@ -0,0 +1,177 @@
+package com.example.fakedatagen.repository;
+
+import com.example.fakedatagen.config.FakeDataGenProperties;
+import com.example.fakedatagen.exception.DataGenerationException;
+import com.example.fakedatagen.model.Column;
+import com.example.fakedatagen.model.Constraint;
+import com.example.fakedatagen.model.DatabaseSchema;
+import com.example.fakedatagen.model.ForeignKey;
+import com.example.fakedatagen.model.Table;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 적재 전 기존 데이터 초기화
+ * 부모 → 자식 순으로 정렬된 테이블 목록을 받아 선택한 전략으로 테이블을 비우고, 테이블별 소요 시간(ms)을 돌려줍니다.
+ *
+ * <ul>
+ *   <li>DELETE: 자식 → 부모 순으로 DELETE (행마다 로그가 남으므로 큰 테이블에서 느림)</li>
+ *   <li>TRUNCATE: 스키마 안에서 다른 테이블이 참조하지 않는 테이블은 TRUNCATE, 참조되는 테이블은 DELETE</li>
+ *   <li>DISABLE_FOREIGN_KEYS: FK 제약조건을 삭제한 뒤 모든 테이블을 TRUNCATE하고 FK를 다시 추가
+ *       (CUBRID에는 FK 검사를 끄는 옵션이 없으므로 제약조건을 삭제/재생성)</li>
+ *   <li>RECREATE: 테이블을 DROP한 뒤 파싱한 스키마로 다시 CREATE
+ *       (파싱 결과에 없는 NOT NULL, DEFAULT, 인덱스 등은 복원되지 않음)</li>
+ * </ul>
+ *
+ * TRUNCATE와 DROP은 AUTO_INCREMENT 값도 초기화합니다.
+ */
+@Repository
+public class DatabaseResetRepository {
+    private static final Logger log = LoggerFactory.getLogger(DatabaseResetRepository.class);
+
+    private final DatabaseConstraintRepository constraintRepository;
+
+    public DatabaseResetRepository(DatabaseConstraintRepository constraintRepository) {
+        this.constraintRepository = constraintRepository;
+    }
+
+    /**
+     * 테이블을 초기화합니다.
+     *
+     * @param orderedTableNames 부모 → 자식 순으로 정렬된 테이블명 (스키마명 포함 가능)
+     * @return 테이블별 초기화 소요 시간 (ms, 초기화 순서대로)
+     * @throws DataGenerationException 초기화 SQL 실행에 실패한 경우
+     */
+    public Map<String, Long> reset(JdbcTemplate jdbcTemplate, DatabaseSchema schema, List<String> orderedTableNames,
+                                   FakeDataGenProperties.Reset.Strategy strategy) {
+        log.info("기존 데이터 초기화 시작 - {}개 테이블, 전략={}", orderedTableNames.size(), strategy);
+        Map<String, Long> timings = new LinkedHashMap<>();
+        switch (strategy) {
+            case TRUNCATE:
+                truncateWhereAllowed(jdbcTemplate, schema, orderedTableNames, timings);
+                break;
+            case DISABLE_FOREIGN_KEYS:
+                if (hasUnnamedForeignKey(schema)) {
+                    log.warn("FK 제약조건 이름이 없는 테이블이 있어 TRUNCATE 전략으로 대체합니다");
+                    truncateWhereAllowed(jdbcTemplate, schema, orderedTableNames, timings);
+                } else {
+                    truncateWithoutForeignKeys(jdbcTemplate, schema, orderedTableNames, timings);
+                }
+                break;
+            case RECREATE:
+                recreate(jdbcTemplate, schema, orderedTableNames, timings);
+                break;
+            default:
+                for (int i = orderedTableNames.size() - 1; i >= 0; i--) {
+                    String tableName = orderedTableNames.get(i);
+                    execute(jdbcTemplate, tableName, "DELETE FROM " + sanitizeTableName(tableName), timings);
+                }
+        }
+        log.info("기존 데이터 초기화 완료 - {}개 테이블, 총 {} ms", timings.size(),
+                timings.values().stream().mapToLong(Long::longValue).sum());
+        return timings;
+    }
+
+    private void truncateWhereAllowed(JdbcTemplate jdbcTemplate, DatabaseSchema schema, List<String> orderedTableNames,
+                                      Map<String, Long> timings) {
+        Set<String> referenced = referencedTables(schema);
+        for (int i = orderedTableNames.size() - 1; i >= 0; i--) {
+            String tableName = orderedTableNames.get(i);
+            String verb = referenced.contains(tableNameOnly(tableName)) ? "DELETE FROM " : "TRUNCATE TABLE ";
+            execute(jdbcTemplate, tableName, verb + sanitizeTableName(tableName), timings);
+        }
+    }
+
+    private void truncateWithoutForeignKeys(JdbcTemplate jdbcTemplate, DatabaseSchema schema, List<String> orderedTableNames,
+                                            Map<String, Long> timings) {
+        for (String tableName : orderedTableNames) {
+            Table table = schema.getTableByName(tableName);
+            for (ForeignKey fk : table.getForeignKeys()) {
+                execute(jdbcTemplate, tableName, constraintRepository.dropForeignKeySql(tableName, fk), timings);
+            }
+        }
+        for (int i = orderedTableNames.size() - 1; i >= 0; i--) {
+            String tableName = orderedTableNames.get(i);
+            execute(jdbcTemplate, tableName, "TRUNCATE TABLE " + sanitizeTableName(tableName), timings);
+        }
+        constraintRepository.addForeignKeys(jdbcTemplate, schema, orderedTableNames, timings);
+    }
+
+    private void recreate(JdbcTemplate jdbcTemplate, DatabaseSchema schema, List<String> orderedTableNames,
+                          Map<String, Long> timings) {
+        for (int i = orderedTableNames.size() - 1; i >= 0; i--) {
+            String tableName = orderedTableNames.get(i);
+            execute(jdbcTemplate, tableName, "DROP TABLE IF EXISTS " + sanitizeTableName(tableName), timings);
+        }
+        for (String tableName : orderedTableNames) {
+            execute(jdbcTemplate, tableName, buildCreateTableSql(tableName, schema.getTableByName(tableName)), timings);
+        }
+        constraintRepository.addForeignKeys(jdbcTemplate, schema, orderedTableNames, timings);
+    }
+
+    /**
+     * 파싱한 테이블 정의로 CREATE TABLE 문을 만듭니다. (FK는 모든 테이블을 만든 뒤 따로 추가)
+     */
+    String buildCreateTableSql(String tableName, Table table) {
+        List<String> definitions = new ArrayList<>();
+        for (Column column : table.getColumns()) {
+            definitions.add(quote(column.getName()) + " " + column.getDataType()
+                    + (column.isAutoIncrement() ? " AUTO_INCREMENT" : ""));
+        }
+        for (Constraint constraint : table.getConstraints()) {
+            String type;
+            if (constraint.getType() == Constraint.ConstraintType.PRIMARY_KEY) {
+                type = " PRIMARY KEY (";
+            } else if (constraint.getType() == Constraint.ConstraintType.UNIQUE) {
+                type = " UNIQUE (";
+            } else {
+                continue;
+            }
+            List<String> columns = new ArrayList<>();
+            constraint.getColumns().forEach(column -> columns.add(quote(column)));
+            definitions.add("CONSTRAINT " + quote(constraint.getName()) + type + String.join(", ", columns) + ")");
+        }
+        return "CREATE TABLE " + sanitizeTableName(tableName) + " (" + String.join(", ", definitions) + ")";
+    }
+
+    private void execute(JdbcTemplate jdbcTemplate, String tableName, String sql, Map<String, Long> timings) {
+        constraintRepository.execute(jdbcTemplate, tableName, sql, timings);
+    }
+
+    private Set<String> referencedTables(DatabaseSchema schema) {
+        Set<String> referenced = new HashSet<>();
+        for (Table table : schema.getTables()) {
+            for (ForeignKey fk : table.getForeignKeys()) {
+                referenced.add(tableNameOnly(fk.getReferencedTableName()));
+            }
+        }
+        return referenced;
+    }
+
+    private boolean hasUnnamedForeignKey(DatabaseSchema schema) {
+        return schema.getTables().stream()
+                .flatMap(table -> table.getForeignKeys().stream())
+                .anyMatch(fk -> fk.getConstraintName() == null);
+    }
+
+    private String tableNameOnly(String tableName) {
+        return tableName.contains(".") ? tableName.substring(tableName.lastIndexOf(".") + 1) : tableName;
+    }
+
+    private String quote(String identifier) {
+        return constraintRepository.quote(identifier);
+    }
+
+    private String sanitizeTableName(String tableName) {
+        return constraintRepository.sanitizeTableName(tableName);
+    }
+}
@@ -0,0 +1,244 @@
+package com.example.fakedatagen.service;
+
+import com.example.fakedatagen.exception.DataGenerationException;
+import com.example.fakedatagen.generator.GenerationSeed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DB 적재 체크포인트 저널 (로컬 파일)
+ * 생성 시드와 커밋이 끝난 행 범위/테이블을 한 줄씩 추가 기록하고, 기록마다 디스크에 강제로 내려씁니다.
+ * 같은 작업(스키마, 접속 대상, 레코드 수, 배치/파티션/커밋 설정)을 다시 실행하면 저널을 읽어
+ * 같은 시드로 남은 행만 이어서 적재할 수 있으며, 적재가 끝나면 저널 파일을 삭제합니다.
+ *
+ * <pre>
+ * SEED    시드값  기준일  지정여부
+ * RANGE   테이블  시작인덱스  끝인덱스(미포함)
+ * TABLE   테이블  행수
+ * </pre>
+ *
+ * 비정상 종료로 마지막 줄이 잘린 경우 해당 줄은 무시합니다.
+ */
+public final class CheckpointJournal implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(CheckpointJournal.class);
+
+    private static final String SEED = "SEED";
+    private static final String RANGE = "RANGE";
+    private static final String TABLE = "TABLE";
+
+    private final Path file;
+    private final FileChannel channel;
+    private final GenerationSeed seed;
+    private final boolean resumed;
+    private final Map<String, List<int[]>> committedRanges = new HashMap<>();
+    private final Map<String, Integer> completedTables = new HashMap<>();
+
+    private CheckpointJournal(Path file, FileChannel channel, GenerationSeed seed, boolean resumed) {
+        this.file = file;
+        this.channel = channel;
+        this.seed = seed;
+        this.resumed = resumed;
+    }
+
+    /**
+     * 작업 키에 해당하는 저널을 엽니다.
+     * 저널이 이미 있고 시드가 호환되면(같은 지정 시드이거나 이번 실행이 시드를 지정하지 않은 경우) 이어서 진행하고,
+     * 그렇지 않으면 새 저널을 만듭니다.
+     *
+     * @param directory 저널 디렉터리
+     * @param jobKey 작업을 식별하는 문자열 (파일명에는 해시만 사용)
+     * @param seed 이번 실행의 시드
+     * @throws DataGenerationException 저널 파일을 읽거나 만들 수 없는 경우
+     */
+    public static CheckpointJournal open(Path directory, String jobKey, GenerationSeed seed) {
+        Path file = directory.resolve("checkpoint-" + hash(jobKey) + ".journal");
+        try {
+            Files.createDirectories(directory);
+            if (Files.exists(file)) {
+                CheckpointJournal journal = resume(file, seed);
+                if (journal != null) {
+                    return journal;
+                }
+                log.info("Checkpoint journal seed does not match, starting over: {}", file);
+            }
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            CheckpointJournal journal = new CheckpointJournal(file, channel, seed, false);
+            journal.append(SEED + "\t" + seed.getValue() + "\t" + seed.getReferenceDate() + "\t" + seed.isSpecified());
+            return journal;
+        } catch (IOException e) {
+            throw new DataGenerationException("체크포인트 저널을 열 수 없습니다: " + file + " - " + e.getMessage(), e);
+        }
+    }
+
+    private static CheckpointJournal resume(Path file, GenerationSeed requested) throws IOException {
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        if (lines.isEmpty()) {
+            return null;
+        }
+        String[] header = lines.get(0).split("\t");
+        if (header.length != 4 || !SEED.equals(header[0])) {
+            return null;
+        }
+        GenerationSeed seed = GenerationSeed.restore(Long.parseLong(header[1]), LocalDate.parse(header[2]),
+                Boolean.parseBoolean(header[3]));
+        if (requested.isSpecified() && (!seed.isSpecified() || seed.getValue() != requested.getValue())) {
+            return null;
+        }
+
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        CheckpointJournal journal = new CheckpointJournal(file, channel, seed, true);
+        if (Files.size(file) > 0 && !Files.readString(file, StandardCharsets.UTF_8).endsWith("\n")) {
+            // 잘린 줄 뒤에 이어 쓰지 않도록 줄을 끝냄
+            journal.append("");
+        }
+        for (int i = 1; i < lines.size(); i++) {
+            String[] fields = lines.get(i).split("\t");
+            try {
+                if (fields.length == 4 && RANGE.equals(fields[0])) {
+                    journal.committedRanges.computeIfAbsent(fields[1], key -> new ArrayList<>())
+                            .add(new int[]{Integer.parseInt(fields[2]), Integer.parseInt(fields[3])});
+                } else if (fields.length == 3 && TABLE.equals(fields[0])) {
+                    journal.completedTables.put(fields[1], Integer.parseInt(fields[2]));
+                }
+            } catch (NumberFormatException e) {
+                log.warn("Ignoring malformed checkpoint line {}: {}", i + 1, lines.get(i));
+            }
+        }
+        log.info("Resuming from checkpoint journal {} - seed={}, completed tables={}, tables with committed ranges={}",
+                file, seed, journal.completedTables.size(), journal.committedRanges.size());
+        return journal;
+    }
+
+    /**
+     * 이전 실행에서 이어서 진행하는지 여부
+     */
+    public boolean isResumed() {
+        return resumed;
+    }
+
+    /**
+     * 적재에 사용할 시드 (이어서 진행하면 저널에 기록된 시드)
+     */
+    public GenerationSeed getSeed() {
+        return seed;
+    }
+
+    public synchronized boolean isTableComplete(String tableName) {
+        return completedTables.containsKey(tableName);
+    }
+
+    /**
+     * 완료된 테이블의 적재 행 수 (완료되지 않았으면 -1)
+     */
+    public synchronized int getCompletedCount(String tableName) {
+        return completedTables.getOrDefault(tableName, -1);
+    }
+
+    /**
+     * [start, end) 범위가 이미 커밋되었는지 여부
+     */
+    public synchronized boolean isRangeCommitted(String tableName, int start, int end) {
+        List<int[]> ranges = committedRanges.get(tableName);
+        if (ranges == null) {
+            return false;
+        }
+        for (int[] range : ranges) {
+            if (range[0] <= start && end <= range[1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public synchronized boolean hasCommittedRanges(String tableName) {
+        return committedRanges.containsKey(tableName);
+    }
+
+    /**
+     * 커밋이 끝난 행 범위를 기록합니다.
+     */
+    public synchronized void rangeCommitted(String tableName, int start, int end) {
+        if (start >= end) {
+            return;
+        }
+        committedRanges.computeIfAbsent(tableName, key -> new ArrayList<>()).add(new int[]{start, end});
+        append(RANGE + "\t" + tableName + "\t" + start + "\t" + end);
+    }
+
+    /**
+     * 테이블 적재 완료를 기록합니다.
+     */
+    public synchronized void tableCompleted(String tableName, int count) {
+        if (completedTables.putIfAbsent(tableName, count) == null) {
+            append(TABLE + "\t" + tableName + "\t" + count);
+        }
+    }
+
+    /**
+     * 적재가 모두 끝났으므로 저널 파일을 삭제합니다.
+     */
+    public synchronized void complete() {
+        close();
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete checkpoint journal: {}", file, e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!channel.isOpen()) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Failed to close checkpoint journal: {}", file, e);
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    private void append(String line) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap((line + "\n").getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            throw new DataGenerationException("체크포인트 저널 기록에 실패했습니다: " + file + " - " + e.getMessage(), e);
+        }
+    }
+
+    private static String hash(String jobKey) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(jobKey.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.fakedatagen.service;
+
+import com.example.fakedatagen.config.FakeDataGenProperties;
+import com.example.fakedatagen.exception.DataGenerationException;
+import com.example.fakedatagen.export.CsvZipWriter;
+import com.example.fakedatagen.export.DumpFormat;
+import com.example.fakedatagen.export.LoaddbObjectWriter;
+import com.example.fakedatagen.export.SqlScriptWriter;
+import com.example.fakedatagen.export.TableDataWriter;
+import com.example.fakedatagen.generator.GenerationSeed;
+import com.example.fakedatagen.generator.KeyStore;
+import com.example.fakedatagen.generator.RelationshipAwareGenerator;
+import com.example.fakedatagen.generator.RowBatch;
+import com.example.fakedatagen.model.Column;
+import com.example.fakedatagen.model.DatabaseSchema;
+import com.example.fakedatagen.model.Table;
+import com.example.fakedatagen.util.PerformanceMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 생성한 데이터를 DB 대신 파일로 출력하는 서비스
+ * 테이블을 위상 정렬 순서대로 배치 단위로 생성하여 바로 출력 대상에 기록하므로,
+ * 메모리에는 자식 테이블이 참조할 컬럼 값과 미리보기 행만 남습니다.
+ */
+@Service
+public class DataExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(DataExportService.class);
+    private static final DateTimeFormatter DIRECTORY_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final RelationshipAwareGenerator relationshipAwareGenerator;
+    private final FakeDataGenProperties properties;
+
+    public DataExportService(RelationshipAwareGenerator relationshipAwareGenerator,
+                             FakeDataGenProperties properties) {
+        this.relationshipAwareGenerator = relationshipAwareGenerator;
+        this.properties = properties;
+    }
+
+    /**
+     * CUBRID loaddb 객체 파일로 출력합니다.
+     * 테이블마다 파일 하나를 만들며, 파일명 앞의 번호가 적재 순서입니다.
+     *
+     * @param schema 데이터베이스 스키마
+     * @param recordCount 테이블당 생성할 레코드 수
+     * @param seed 생성 시드
+     * @return 미리보기 데이터와 출력 결과
+     */
+    public DataGenerationService.DataGenerationResult exportLoaddb(DatabaseSchema schema, int recordCount, GenerationSeed seed) {
+        PerformanceMetrics metrics = PerformanceMetrics.start("Loaddb Export");
+        Path directory = Paths.get(properties.getExport().getDirectory(),
+                "loaddb-" + LocalDateTime.now().format(DIRECTORY_SUFFIX));
+
+        Map<String, List<Map<String, Object>>> previews = new LinkedHashMap<>();
+        Map<String, Integer> tableCounts = new LinkedHashMap<>();
+        int totalWritten;
+        List<Path> files;
+        try (LoaddbObjectWriter writer = new LoaddbObjectWriter(directory, properties.getExport().getBufferSize())) {
+            totalWritten = export(schema, recordCount, seed, writer, previews, tableCounts);
+            files = writer.getFiles();
+        } catch (IOException e) {
+            log.error("Loaddb export failed - directory={}", directory, e);
+            throw new DataGenerationException("loaddb 파일 생성 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+
+        metrics.withRecordCount(totalWritten).logAndComplete();
+        log.info("Loaddb export completed - {} files in {}", files.size(), directory.toAbsolutePath());
+
+        String message = String.format("loaddb 객체 파일 %d개 생성: %s (%s 순서대로 적재)",
+                files.size(), directory.toAbsolutePath(), LoaddbObjectWriter.LOAD_ORDER_FILE_NAME);
+        return new DataGenerationService.DataGenerationResult(previews, totalWritten, message, tableCounts, Collections.emptyList());
+    }
+
+    /**
+     * 테이블별 CSV(ZIP) 또는 INSERT 스크립트를 출력 스트림에 바로 기록합니다.
+     * 생성된 배치를 즉시 스트림으로 내보내므로 전체 데이터를 메모리에 두지 않습니다.
+     *
+     * @param format 덤프 형식
+     * @param outputStream 출력 스트림 (완료 후 닫힘)
+     * @return 전체 출력 건수
+     */
+    public int exportDump(DatabaseSchema schema, int recordCount, GenerationSeed seed, DumpFormat format,
+                          OutputStream outputStream) throws IOException {
+        PerformanceMetrics metrics = PerformanceMetrics.start("Dump Export (" + format + ")");
+        int bufferSize = properties.getExport().getBufferSize();
+        Map<String, Integer> tableCounts = new LinkedHashMap<>();
+        int totalWritten;
+        try (TableDataWriter writer = format == DumpFormat.CSV
+                ? new CsvZipWriter(outputStream, bufferSize)
+                : new SqlScriptWriter(outputStream, bufferSize, properties.getExport().getSqlRowsPerStatement())) {
+            totalWritten = export(schema, recordCount, seed, writer, null, tableCounts);
+        }
+        metrics.withRecordCount(totalWritten).logAndComplete();
+        log.info("Dump export completed - format={}, tables={}", format, tableCounts);
+        return totalWritten;
+    }
+
+    /**
+     * 모든 테이블을 위상 정렬 순서대로 생성하여 출력 대상에 기록합니다.
+     *
+     * @param writer 출력 대상 (호출자가 닫음)
+     * @param previews 테이블별 미리보기 행을 담을 맵 (null이면 미리보기를 보관하지 않음)
+     * @param tableCounts 테이블별 출력 건수를 담을 맵
+     * @return 전체 출력 건수
+     */
+    public int export(DatabaseSchema schema, int recordCount, GenerationSeed seed, TableDataWriter writer,
+                      Map<String, List<Map<String, Object>>> previews,
+                      Map<String, Integer> tableCounts) throws IOException {
+        if (schema == null || schema.getTables().isEmpty()) {
+            throw new IllegalArgumentException("스키마에 테이블이 없습니다");
+        }
+        Map<String, KeyStore> generatedKeysMap = new HashMap<>();
+        Map<String, List<Map<String, Object>>> generatedDataMap = new HashMap<>();
+        Map<String, Set<String>> referencedColumns = relationshipAwareGenerator.getReferencedColumns(schema);
+
+        int total = 0;
+        for (String tableName : relationshipAwareGenerator.getOrderedTableNames(schema)) {
+            Table table = schema.getTableByName(tableName);
+            if (table == null) {
+                continue;
+            }
+            int count = exportTable(schema, table, tableName, recordCount, seed, writer,
+                    referencedColumns.getOrDefault(table.getName(), Collections.emptySet()),
+                    generatedKeysMap, generatedDataMap, previews);
+            tableCounts.put(tableName, count);
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * 테이블 하나를 window(배치 크기 × 작업자 수) 단위로 병렬 생성하여 순서대로 기록합니다.
+     * AUTO_INCREMENT 컬럼도 생성된 값(행 인덱스 + 1)을 그대로 기록하므로
+     * 자식 테이블의 FK 값이 적재 후의 부모 키와 일치합니다.
+     */
+    private int exportTable(DatabaseSchema schema, Table table, String tableName, int recordCount, GenerationSeed seed,
+                            TableDataWriter writer, Set<String> retainedColumns,
+                            Map<String, KeyStore> generatedKeysMap,
+                            Map<String, List<Map<String, Object>>> generatedDataMap,
+                            Map<String, List<Map<String, Object>>> previews) throws IOException {
+        int chunkSize = Math.max(1, properties.getBatchSize());
+        int previewRowCount = previews != null ? properties.getStreaming().getPreviewRowCount() : 0;
+        String keyColumn = autoIncrementColumnName(table);
+
+        KeyStore.Builder tableKeys = keyColumn != null ? KeyStore.builder(properties.getKeySpill()) : null;
+        // 자식 테이블이 참조하는 컬럼 값만 원시 타입 배열로 보관 (행마다 Map을 남기지 않음)
+        RowBatch retainedData = retainedColumns.isEmpty() ? null : RowBatch.projection(table, retainedColumns, recordCount);
+        List<Map<String, Object>> preview = new ArrayList<>(Math.min(previewRowCount, recordCount));
+
+        log.debug("Exporting table: {} ({} records, chunk={}, retainedColumns={})",
+                tableName, recordCount, chunkSize, retainedColumns);
+        writer.beginTable(table, tableName);
+        int written = 0;
+        int window = chunkSize * Math.max(1, relationshipAwareGenerator.getParallelism());
+        for (int start = 0; start < recordCount; start += window) {
+            int size = Math.min(window, recordCount - start);
+            List<RowBatch> chunks = relationshipAwareGenerator.generateTableChunks(
+                    schema, tableName, seed, start, size, chunkSize, generatedKeysMap, generatedDataMap);
+            if (chunks.isEmpty()) {
+                break;
+            }
+
+            for (RowBatch chunk : chunks) {
+                writer.writeBatch(chunk);
+                written += chunk.size();
+
+                if (tableKeys != null) {
+                    int keyOrdinal = chunk.ordinalOf(keyColumn);
+                    for (int row = 0; row < chunk.size(); row++) {
+                        Object key = chunk.get(row, keyOrdinal);
+                        tableKeys.add(key instanceof Number number ? number.longValue() : 0L);
+                    }
+                }
+                if (retainedData != null) {
+                    retainedData.appendProjected(chunk);
+                }
+                if (preview.size() < previewRowCount) {
+                    preview.addAll(chunk.head(previewRowCount - preview.size()).asRecords());
+                }
+            }
+        }
+        writer.endTable();
+        relationshipAwareGenerator.logTraceSummary(tableName);
+
+        if (tableKeys != null) {
+            generatedKeysMap.put(tableName, tableKeys.build());
+        }
+        if (retainedData != null) {
+            generatedDataMap.put(tableName, retainedData.asRecords());
+        }
+        if (previews != null) {
+            previews.put(tableName, preview);
+        }
+        return written;
+    }
+
+    private String autoIncrementColumnName(Table table) {
+        for (Column column : table.getColumns()) {
+            if (column.isAutoIncrement()) {
+                return column.getName();
+            }
+        }
+        return null;
+    }
+}
@@ -2,8 +2,14 @@ package com.example.fakedatagen.service;
 
 import com.example.fakedatagen.model.DatabaseSchema;
 import com.example.fakedatagen.model.DatabaseConnectionInfo;
+import com.example.fakedatagen.model.Table;
+import com.example.fakedatagen.generator.GenerationSeed;
+import com.example.fakedatagen.generator.KeyStore;
 import com.example.fakedatagen.generator.RelationshipAwareGenerator;
+import com.example.fakedatagen.generator.RowBatch;
+import com.example.fakedatagen.repository.DatabaseConstraintRepository;
 import com.example.fakedatagen.repository.DatabaseInsertRepository;
+import com.example.fakedatagen.repository.DatabaseResetRepository;
 import com.example.fakedatagen.config.DataSourceConfig;
 import com.example.fakedatagen.config.FakeDataGenProperties;
 import com.example.fakedatagen.exception.DataGenerationException;
@@ -19,31 +25,59 @@ import java.util.Locale;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.sql.DataSource;
+import java.nio.file.Path;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.HashMap;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
 
 @Service
 public class DataGenerationService {
     
     private static final Logger log = LoggerFactory.getLogger(DataGenerationService.class);
+    
+    // 파이프라인 소비자가 생성 스레드 종료 여부를 확인하는 간격
+    private static final long PIPELINE_POLL_MILLIS = 100;
 
     private final RelationshipAwareGenerator relationshipAwareGenerator;
     private final DatabaseInsertRepository databaseInsertRepository;
+    private final DatabaseResetRepository databaseResetRepository;
+    private final DatabaseConstraintRepository databaseConstraintRepository;
     private final MessageSource messageSource;
     private final FakeDataGenProperties properties;
 
     public DataGenerationService(RelationshipAwareGenerator relationshipAwareGenerator,
                                  DatabaseInsertRepository databaseInsertRepository,
+                                 DatabaseResetRepository databaseResetRepository,
+                                 DatabaseConstraintRepository databaseConstraintRepository,
                                  MessageSource messageSource,
                                  FakeDataGenProperties properties) {
         this.relationshipAwareGenerator = relationshipAwareGenerator;
         this.databaseInsertRepository = databaseInsertRepository;
+        this.databaseResetRepository = databaseResetRepository;
+        this.databaseConstraintRepository = databaseConstraintRepository;
         this.messageSource = messageSource;
         this.properties = properties;
     }
@@ -58,6 +92,29 @@ public class DataGenerationService {
      * @return generated data and insertion results
      */
     public DataGenerationResult generateAndInsertData(DatabaseSchema schema, int recordCount, boolean insertToDatabase, DatabaseConnectionInfo dbInfo) {
+        return generateAndInsertData(schema, recordCount, insertToDatabase, dbInfo, GenerationSeed.random());
+    }
+    
+    /**
+     * Generates fake data with the given seed and optionally inserts it into the database.
+     * The same seed always produces the same values regardless of thread count or batch size.
+     * 
+     * @param seed generation seed
+     */
+    public DataGenerationResult generateAndInsertData(DatabaseSchema schema, int recordCount, boolean insertToDatabase,
+                                                      DatabaseConnectionInfo dbInfo, GenerationSeed seed) {
+        return generateAndInsertData(schema, recordCount, insertToDatabase, dbInfo, seed, null);
+    }
+    
+    /**
+     * Generates fake data with the given seed and optionally inserts it into the database,
+     * clearing existing data with the given reset strategy first.
+     * 
+     * @param resetStrategy how to clear existing data (null uses the configured default)
+     */
+    public DataGenerationResult generateAndInsertData(DatabaseSchema schema, int recordCount, boolean insertToDatabase,
+                                                      DatabaseConnectionInfo dbInfo, GenerationSeed seed,
+                                                      FakeDataGenProperties.Reset.Strategy resetStrategy) {
         PerformanceMetrics metrics = PerformanceMetrics.start("Data Generation");
         validateInput(schema, recordCount, insertToDatabase, dbInfo);
 
@@ -71,7 +128,7 @@ public class DataGenerationService {
 
         if (!insertToDatabase) {
             log.info("Generating data only (no database insertion)");
-            allFakeData = generateData(schema, recordCount);
+            allFakeData = generateData(schema, recordCount, seed);
             insertMessage = msg("generate.only", ServiceMessages.GENERATE_ONLY);
             log.info("Data generation completed - {} tables", allFakeData.size());
             
@@ -91,8 +148,10 @@ public class DataGenerationService {
             return new DataGenerationResult(allFakeData, totalInserted, insertMessage);
         }
 
-        allFakeData = new HashMap<>(properties.getInitialCapacity().getMedium());
+        final Map<String, List<Map<String, Object>>> insertedData = new ConcurrentHashMap<>(properties.getInitialCapacity().getMedium());
+        allFakeData = insertedData;
         DataSource dynamicDataSource = null;
+        CheckpointJournal journal = null;
         try {
             log.info("Creating database connection for data insertion");
             dynamicDataSource = createDynamicDataSource(dbInfo, recordCount);
@@ -102,61 +161,95 @@ public class DataGenerationService {
             PlatformTransactionManager txManager = new DataSourceTransactionManager(dynamicDataSource);
             TransactionTemplate txTemplate = new TransactionTemplate(txManager);
 
-            List<String> orderedTableNames = relationshipAwareGenerator.getOrderedTableNames(schema);
+            List<List<String>> tableLevels = relationshipAwareGenerator.getTableNameLevels(schema);
+            List<String> orderedTableNames = new ArrayList<>();
+            tableLevels.forEach(orderedTableNames::addAll);
 
-            final Map<String, List<Long>> generatedKeysMap = new HashMap<>(properties.getInitialCapacity().getMedium());
-            final Map<String, List<Map<String, Object>>> generatedDataMap = new HashMap<>(properties.getInitialCapacity().getMedium());
-            final Map<String, Integer> tableInsertCounts = new HashMap<>(properties.getInitialCapacity().getMedium());
-            final java.util.List<String> warnings = new java.util.ArrayList<>();
+            // 같은 단계의 테이블들이 동시에 기록하므로 공유 맵은 동시성 컬렉션 사용
+            final Map<String, KeyStore> generatedKeysMap = new ConcurrentHashMap<>(properties.getInitialCapacity().getMedium());
+            final Map<String, List<Map<String, Object>>> generatedDataMap = new ConcurrentHashMap<>(properties.getInitialCapacity().getMedium());
+            final Map<String, Integer> tableInsertCounts = new ConcurrentHashMap<>(properties.getInitialCapacity().getMedium());
+            final java.util.List<String> warnings = Collections.synchronizedList(new ArrayList<>());
+            final Map<String, Long> resetTimings = new LinkedHashMap<>();
+            final Map<String, Long> rebuildTimings = new LinkedHashMap<>();
+            // 벌크 적재: UNIQUE/FK 제약조건을 삭제한 상태로 적재하고 끝난 뒤 한 번에 다시 생성
+            final boolean bulkLoad = properties.getBulkLoad().isEnabled();
+            final FakeDataGenProperties.Reset.Strategy reset = resetStrategy != null
+                    ? resetStrategy : properties.getReset().getStrategy();
+            final boolean streaming = properties.getStreaming().isEnabled();
+            final Map<String, Set<String>> referencedColumns = relationshipAwareGenerator.getReferencedColumns(schema);
+            final FakeDataGenProperties.Commit.Policy commitPolicy = properties.getCommit().getPolicy();
+            final boolean allOrNothing = commitPolicy == FakeDataGenProperties.Commit.Policy.ALL_OR_NOTHING;
+            // 전체를 하나의 트랜잭션으로 처리하면 커넥션 하나만 쓰므로 테이블 동시 처리와 파티션 삽입은 사용하지 않음
+            final int tableParallelism = allOrNothing ? 1 : properties.getScheduling().getTableParallelism();
+            final int partitionCount = allOrNothing ? 1 : properties.getPartitioning().getPartitions();
+            final int commitRows = commitPolicy == FakeDataGenProperties.Commit.Policy.PER_ROWS
+                    ? Math.max(1, properties.getCommit().getRows()) : 0;
+            log.info("Commit policy: {} (tableParallelism={}, partitions={}, commitRows={})",
+                    commitPolicy, tableParallelism, partitionCount, commitRows);
 
-            totalInserted = txTemplate.execute(status -> {
-                deleteExistingData(jdbcTemplate, orderedTableNames);
-                
-                int inserted = 0;
-                for (String tableName : orderedTableNames) {
-                    try {
-                        if (properties.getMemoryMonitoring().isEnabled()) {
-                            MemoryMonitor.checkMemoryStatus(
-                                    properties.getMemoryMonitoring().getWarningThreshold(),
-                                    properties.getMemoryMonitoring().getCriticalThreshold()
-                            );
-                        }
-                        
-                        List<Map<String, Object>> tableData = relationshipAwareGenerator.generateTableDataWithGeneratedData(
-                                schema, tableName, recordCount, generatedKeysMap, generatedDataMap);
-                        if (tableData != null && !tableData.isEmpty()) {
-                            log.debug("Inserting data into table: {} ({} records)", tableName, tableData.size());
-                            
-                            // 재시도 로직 적용
-                            List<Long> generatedKeys;
-                            if (properties.getRetry().isEnabled()) {
-                                generatedKeys = RetryHelper.executeWithRetry(
-                                        () -> insertRecordsWithDynamicConnection(jdbcTemplate, tableName, tableData, schema),
-                                        properties.getRetry().getMaxAttempts(),
-                                        properties.getRetry().getDelay(),
-                                        properties.getRetry().getBackoffMultiplier()
-                                );
-                            } else {
-                                generatedKeys = insertRecordsWithDynamicConnection(jdbcTemplate, tableName, tableData, schema);
-                            }
-                            
-                            generatedKeysMap.put(tableName, generatedKeys);
-                            generatedDataMap.put(tableName, tableData);
-                            allFakeData.put(tableName, tableData);
-                            int count = generatedKeys.size();
-                            tableInsertCounts.put(tableName, count);
-                            inserted += count;
-                            log.debug("Successfully inserted {} records into table: {}", count, tableName);
-                        }
-                    } catch (Exception e) {
-                        log.error("Failed to insert data into table: {} - {}", tableName, e.getMessage(), e);
-                        // 트랜잭션 내에서 실패 시 전체 롤백을 위해 예외를 다시 던짐
-                        // 부분 실패를 허용하려면 이 부분을 주석 처리하고 warnings에만 추가
-                        throw new DataGenerationException("테이블 '" + tableName + "' 삽입 실패: " + e.getMessage(), e);
+            // 이전 실행의 저널이 있으면 저널에 기록된 시드로 남은 테이블/구간만 이어서 적재
+            final CheckpointJournal checkpoint = allOrNothing ? null
+                    : openCheckpoint(schema, recordCount, dbInfo, seed, partitionCount, commitRows);
+            journal = checkpoint;
+            final GenerationSeed runSeed = checkpoint != null ? checkpoint.getSeed() : seed;
+            if (checkpoint != null && checkpoint.isResumed()) {
+                warnings.add("체크포인트에서 이어서 적재했습니다 (시드 " + runSeed.getValue() + ")");
+            }
+
+            ToIntFunction<String> tableInserter = tableName -> insertTableChecked(jdbcTemplate, schema, tableName, recordCount, runSeed,
+                    streaming, partitionCount, commitRows, checkpoint, referencedColumns, generatedKeysMap, generatedDataMap,
+                    insertedData, tableInsertCounts);
+
+            if (allOrNothing) {
+                totalInserted = txTemplate.execute(status -> {
+                    resetTimings.putAll(databaseResetRepository.reset(jdbcTemplate, schema, orderedTableNames, reset));
+                    DatabaseConstraintRepository.DroppedConstraints dropped = bulkLoad
+                            ? databaseConstraintRepository.dropSecondaryConstraints(jdbcTemplate, schema, orderedTableNames, false)
+                            : null;
+                    
+                    int inserted = 0;
+                    for (String tableName : orderedTableNames) {
+                        inserted += tableInserter.applyAsInt(tableName);
+                    }
+                    if (dropped != null) {
+                        rebuildTimings.putAll(databaseConstraintRepository.rebuildSecondaryConstraints(jdbcTemplate, dropped));
                     }
+                    return inserted;
+                });
+            } else {
+                if (checkpoint == null || !checkpoint.isResumed()) {
+                    resetTimings.putAll(txTemplate.execute(status ->
+                            databaseResetRepository.reset(jdbcTemplate, schema, orderedTableNames, reset)));
+                } else {
+                    log.info("Skipping existing data deletion - resuming from checkpoint {}", checkpoint.getFile());
                 }
-                return inserted;
-            });
+                // PER_TABLE은 테이블마다 트랜잭션 하나, PER_ROWS는 테이블 안에서 commitRows 행마다 커밋
+                ToIntFunction<String> committedInserter = commitRows > 0 ? tableInserter
+                        : tableName -> txTemplate.execute(status -> tableInserter.applyAsInt(tableName));
+                boolean resumed = checkpoint != null && checkpoint.isResumed();
+                DatabaseConstraintRepository.DroppedConstraints dropped = bulkLoad
+                        ? txTemplate.execute(status -> databaseConstraintRepository.dropSecondaryConstraints(
+                                jdbcTemplate, schema, orderedTableNames, resumed))
+                        : null;
+                boolean loaded = false;
+                try {
+                    totalInserted = insertByLevels(tableLevels, tableParallelism, checkpoint == null ? committedInserter
+                            : tableName -> {
+                                int count = committedInserter.applyAsInt(tableName);
+                                checkpoint.tableCompleted(tableName, count);
+                                return count;
+                            });
+                    loaded = true;
+                } finally {
+                    if (dropped != null) {
+                        rebuildConstraints(txTemplate, jdbcTemplate, dropped, rebuildTimings, loaded);
+                    }
+                }
+                if (checkpoint != null) {
+                    checkpoint.complete();
+                }
+            }
 
             insertMessage = buildInsertMessage(warnings);
             
@@ -166,7 +259,8 @@ public class DataGenerationService {
                 MemoryMonitor.logMemoryUsage("데이터 삽입 완료");
             }
             
-            return new DataGenerationResult(allFakeData, totalInserted, insertMessage, tableInsertCounts, warnings);
+            return new DataGenerationResult(allFakeData, totalInserted, insertMessage, tableInsertCounts, warnings, resetTimings,
+                    rebuildTimings);
         } catch (DatabaseConnectionException e) {
             log.error("Database connection failed during data insertion", e);
             throw e;
@@ -174,10 +268,670 @@ public class DataGenerationService {
             log.error("Transaction failed during data insertion", e);
             throw new DataGenerationException("데이터 생성 및 삽입 중 오류가 발생했습니다: " + e.getMessage(), e);
         } finally {
+            if (journal != null) {
+                journal.close();
+            }
             closeDataSource(dynamicDataSource);
         }
     }
     
+    /**
+     * 테이블 하나를 생성/삽입하고 삽입 건수를 기록합니다.
+     * 실패 시 테이블명을 포함한 DataGenerationException을 던져 트랜잭션이 롤백되도록 합니다.
+     */
+    private int insertTableChecked(JdbcTemplate jdbcTemplate, DatabaseSchema schema, String tableName, int recordCount,
+                                   GenerationSeed seed,
+                                   boolean streaming, int partitionCount, int commitRows, CheckpointJournal journal,
+                                   Map<String, Set<String>> referencedColumns,
+                                   Map<String, KeyStore> generatedKeysMap,
+                                   Map<String, List<Map<String, Object>>> generatedDataMap,
+                                   Map<String, List<Map<String, Object>>> allFakeData,
+                                   Map<String, Integer> tableInsertCounts) {
+        try {
+            if (properties.getMemoryMonitoring().isEnabled()) {
+                MemoryMonitor.checkMemoryStatus(
+                        properties.getMemoryMonitoring().getWarningThreshold(),
+                        properties.getMemoryMonitoring().getCriticalThreshold()
+                );
+            }
+            
+            int count;
+            if (journal != null && journal.isTableComplete(tableName)) {
+                count = restoreTable(jdbcTemplate, schema, tableName, seed, journal.getCompletedCount(tableName),
+                        referencedColumns, generatedKeysMap, generatedDataMap, allFakeData);
+            } else {
+                boolean generatedKeys = readsGeneratedKeys(schema, tableName);
+                if (journal != null && journal.isResumed() && generatedKeys) {
+                    // 생성 키를 행 순서대로 다시 받아야 하므로 일부만 커밋된 GENERATED 모드 AUTO_INCREMENT 테이블은 비우고 처음부터 적재
+                    deleteExistingData(jdbcTemplate, List.of(tableName));
+                }
+                // 구간 단위 건너뛰기는 키를 DB에서 받을 필요가 없는 테이블에만 적용
+                CheckpointJournal rangeJournal = generatedKeys ? null : journal;
+                int partitions = streaming ? resolvePartitions(schema, tableName, recordCount, partitionCount) : 1;
+                if (partitions > 1) {
+                    count = insertTablePartitioned(jdbcTemplate, schema, tableName, recordCount, seed, partitions, commitRows,
+                            rangeJournal, referencedColumns, generatedKeysMap, generatedDataMap, allFakeData);
+                } else if (streaming) {
+                    count = insertTableStreaming(jdbcTemplate, schema, tableName, recordCount, seed, commitRows, rangeJournal,
+                            referencedColumns, generatedKeysMap, generatedDataMap, allFakeData);
+                } else {
+                    count = insertTable(jdbcTemplate, schema, tableName, recordCount, seed, commitRows,
+                            generatedKeysMap, generatedDataMap, allFakeData);
+                }
+                if (count > 0 && !generatedKeys && hasAutoIncrement(schema, tableName)) {
+                    // CLIENT 모드 키는 행 번호 + 1이므로 마지막 키는 count
+                    databaseInsertRepository.advanceAutoIncrement(jdbcTemplate, tableName, schema, count + 1L);
+                }
+            }
+            relationshipAwareGenerator.logTraceSummary(tableName);
+            if (count > 0) {
+                tableInsertCounts.put(tableName, count);
+                log.debug("Successfully inserted {} records into table: {}", count, tableName);
+            }
+            return count;
+        } catch (Exception e) {
+            log.error("Failed to insert data into table: {} - {}", tableName, e.getMessage(), e);
+            // 트랜잭션 내에서 실패 시 롤백을 위해 예외를 다시 던짐
+            // 부분 실패를 허용하려면 이 부분을 주석 처리하고 warnings에만 추가
+            throw new DataGenerationException("테이블 '" + tableName + "' 삽입 실패: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * 의존성 단계 순서대로 처리하되, 같은 단계의 테이블들은 작업자 스레드에서 동시에 삽입합니다.
+     * 각 테이블은 풀에서 얻은 별도 커넥션의 자체 트랜잭션으로 처리되고 완료 시 커밋되므로
+     * (커밋 단위는 tableInserter가 정함) 다음 단계의 자식 테이블이 다른 커넥션에서도 부모 행을 참조할 수 있습니다.
+     * 한 테이블이 실패하면 같은 단계의 나머지 테이블이 끝나기를 기다린 뒤 예외를 던집니다.
+     * (이미 커밋된 이전 단계 테이블은 남으며, 다음 실행 시 기존 데이터 삭제 단계에서 정리됩니다)
+     */
+    private int insertByLevels(List<List<String>> tableLevels, int tableParallelism,
+                               ToIntFunction<String> tableInserter) {
+        int maxLevelWidth = tableLevels.stream().mapToInt(List::size).max().orElse(1);
+        int threadCount = Math.max(1, Math.min(tableParallelism, maxLevelWidth));
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService tableExecutor = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "fakedatagen-table-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        
+        try {
+            int inserted = 0;
+            for (int level = 0; level < tableLevels.size(); level++) {
+                List<String> levelTables = tableLevels.get(level);
+                log.info("Inserting dependency level {} - {} tables (parallelism={})", level, levelTables.size(), threadCount);
+                
+                List<Future<Integer>> futures = new ArrayList<>(levelTables.size());
+                for (String tableName : levelTables) {
+                    futures.add(tableExecutor.submit(() -> tableInserter.applyAsInt(tableName)));
+                }
+                
+                RuntimeException failure = null;
+                for (Future<Integer> future : futures) {
+                    try {
+                        Integer count = future.get();
+                        inserted += count != null ? count : 0;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        futures.forEach(f -> f.cancel(true));
+                        throw new DataGenerationException("데이터 삽입이 중단되었습니다.", e);
+                    } catch (ExecutionException e) {
+                        if (failure == null) {
+                            Throwable cause = e.getCause();
+                            failure = cause instanceof RuntimeException runtimeException
+                                    ? runtimeException
+                                    : new DataGenerationException("테이블 삽입 중 오류가 발생했습니다: " + cause.getMessage(), cause);
+                        }
+                    }
+                }
+                if (failure != null) {
+                    throw failure;
+                }
+            }
+            return inserted;
+        } finally {
+            tableExecutor.shutdownNow();
+        }
+    }
+    
+    /**
+     * 테이블 전체를 메모리에 생성한 뒤 한 번에 INSERT합니다. (스트리밍 비활성화 시)
+     */
+    private int insertTable(JdbcTemplate jdbcTemplate, DatabaseSchema schema, String tableName, int recordCount,
+                            GenerationSeed seed, int commitRows,
+                            Map<String, KeyStore> generatedKeysMap,
+                            Map<String, List<Map<String, Object>>> generatedDataMap,
+                            Map<String, List<Map<String, Object>>> allFakeData) {
+        RowBatch batch = relationshipAwareGenerator.generateTableChunk(
+                schema, tableName, seed, 0, recordCount, generatedKeysMap, generatedDataMap);
+        if (batch == null || batch.size() == 0) {
+            return 0;
+        }
+        log.debug("Inserting data into table: {} ({} records)", tableName, batch.size());
+        
+        // 테이블 전체가 한 배치이므로 PER_ROWS여도 테이블 단위로 커밋됨
+        List<Long> insertedKeys = withRowCommits(jdbcTemplate, commitRows, null, tableName,
+                committer -> insertChunk(jdbcTemplate, tableName, batch, schema, committer, null));
+        KeyStore generatedKeys = KeyStore.builder(properties.getKeySpill()).addAll(insertedKeys).build();
+        
+        List<Map<String, Object>> tableData = batch.asRecords();
+        generatedKeysMap.put(tableName, generatedKeys);
+        generatedDataMap.put(tableName, tableData);
+        allFakeData.put(tableName, tableData);
+        return generatedKeys.size();
+    }
+    
+    /**
+     * 배치 크기 단위로 생성 → INSERT → 폐기를 반복합니다.
+     * 자식 테이블이 참조하는 컬럼 값과 생성 키만 남기고, 결과 화면용으로는 미리보기 행만 보관하므로
+     * 레코드 수와 관계없이 메모리 사용량이 일정하게 유지됩니다.
+     */
+    private int insertTableStreaming(JdbcTemplate jdbcTemplate, DatabaseSchema schema, String tableName, int recordCount,
+                                     GenerationSeed seed, int commitRows, CheckpointJournal journal,
+                                     Map<String, Set<String>> referencedColumns,
+                                     Map<String, KeyStore> generatedKeysMap,
+                                     Map<String, List<Map<String, Object>>> generatedDataMap,
+                                     Map<String, List<Map<String, Object>>> allFakeData) {
+        String tableNameOnly = tableName.contains(".") ? tableName.substring(tableName.lastIndexOf(".") + 1) : tableName;
+        Set<String> retainedColumns = referencedColumns.getOrDefault(tableNameOnly, Collections.emptySet());
+        int chunkSize = Math.max(1, properties.getBatchSize());
+        int previewRowCount = properties.getStreaming().getPreviewRowCount();
+        
+        RowBatch retainedData = retainedBatch(schema, tableNameOnly, retainedColumns, recordCount);
+        List<Map<String, Object>> preview = new ArrayList<>(Math.min(previewRowCount, recordCount));
+        
+        // 삽입이 실패하면 build되지 않은 키 빌더의 임시 파일을 지움
+        try (KeyStore.Builder tableKeys = KeyStore.builder(properties.getKeySpill())) {
+            log.debug("Streaming data into table: {} ({} records, chunk={}, retainedColumns={})", 
+                    tableName, recordCount, chunkSize, retainedColumns);
+            // 작업자 수만큼의 청크를 한 번에 병렬 생성 (메모리에는 최대 window 행 + 대기열만 유지)
+            int window = chunkSize * Math.max(1, relationshipAwareGenerator.getParallelism());
+            withRowCommits(jdbcTemplate, commitRows, journal, tableName, committer -> {
+                streamChunks(schema, tableName, seed, 0, recordCount, chunkSize, window, generatedKeysMap, generatedDataMap, chunk -> {
+                    tableKeys.addAll(insertChunk(jdbcTemplate, tableName, chunk, schema, committer, journal));
+                
+                    if (retainedData != null) {
+                        retainedData.appendProjected(chunk);
+                    }
+                    if (preview.size() < previewRowCount) {
+                        preview.addAll(chunk.head(previewRowCount - preview.size()).asRecords());
+                    }
+                });
+                return null;
+            });
+        
+            generatedKeysMap.put(tableName, tableKeys.build());
+            if (retainedData != null) {
+                generatedDataMap.put(tableName, retainedData.asRecords());
+            }
+            allFakeData.put(tableName, preview);
+            return tableKeys.size();
+        }
+    }
+    
+    /**
+     * [start, end) 범위를 window 단위로 생성하여 청크 순서대로 consumer에 넘깁니다.
+     * 파이프라인이 켜져 있으면 생성 스레드가 다음 청크를 만드는 동안 호출 스레드(트랜잭션 커넥션 보유)가
+     * 앞 청크를 INSERT하며, 대기열이 가득 차면 생성 스레드가 기다리므로 메모리 사용량은
+     * 대기열 크기 + 생성 중인 window로 제한됩니다.
+     */
+    void streamChunks(DatabaseSchema schema, String tableName, GenerationSeed seed, int start, int end,
+                              int chunkSize, int window,
+                              Map<String, KeyStore> generatedKeysMap,
+                              Map<String, List<Map<String, Object>>> generatedDataMap,
+                              Consumer<RowBatch> consumer) {
+        if (!properties.getStreaming().isPipeline() || end - start <= chunkSize) {
+            for (int windowStart = start; windowStart < end; windowStart += window) {
+                List<RowBatch> chunks = relationshipAwareGenerator.generateTableChunks(schema, tableName, seed,
+                        windowStart, Math.min(window, end - windowStart), chunkSize, generatedKeysMap, generatedDataMap);
+                if (chunks.isEmpty()) {
+                    break;
+                }
+                chunks.forEach(consumer);
+            }
+            return;
+        }
+        
+        int queueCapacity = properties.getStreaming().getQueueCapacity() > 0
+                ? properties.getStreaming().getQueueCapacity()
+                : Math.max(1, relationshipAwareGenerator.getParallelism());
+        BlockingQueue<RowBatch> queue = new ArrayBlockingQueue<>(queueCapacity);
+        ExecutorService producerExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fakedatagen-producer-" + tableName);
+            thread.setDaemon(true);
+            return thread;
+        });
+        
+        Future<?> producer = producerExecutor.submit(() -> {
+            for (int windowStart = start; windowStart < end; windowStart += window) {
+                List<RowBatch> chunks = relationshipAwareGenerator.generateTableChunks(schema, tableName, seed,
+                        windowStart, Math.min(window, end - windowStart), chunkSize, generatedKeysMap, generatedDataMap);
+                if (chunks.isEmpty()) {
+                    break;
+                }
+                for (RowBatch chunk : chunks) {
+                    queue.put(chunk);
+                }
+            }
+            return null;
+        });
+        
+        try {
+            while (true) {
+                RowBatch chunk = queue.poll(PIPELINE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (chunk == null) {
+                    if (!producer.isDone()) {
+                        continue;
+                    }
+                    // 종료 직전에 넣은 청크가 남아 있을 수 있으므로 한 번 더 확인
+                    chunk = queue.poll();
+                    if (chunk == null) {
+                        producer.get();
+                        break;
+                    }
+                }
+                consumer.accept(chunk);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataGenerationException("데이터 생성이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new DataGenerationException("데이터 생성 중 오류가 발생했습니다: " + cause.getMessage(), cause);
+        } finally {
+            // INSERT 실패 시 대기열에서 막혀 있는 생성 스레드를 깨워 종료
+            producer.cancel(true);
+            producerExecutor.shutdownNow();
+        }
+    }
+    
+    /**
+     * 벌크 적재로 삭제한 UNIQUE/FK 제약조건을 다시 만듭니다.
+     * 적재가 실패한 경우에도 제약조건은 되돌려 놓되, 재생성 오류가 원래 오류를 가리지 않도록 로그만 남깁니다.
+     */
+    private void rebuildConstraints(TransactionTemplate txTemplate, JdbcTemplate jdbcTemplate,
+                                    DatabaseConstraintRepository.DroppedConstraints dropped,
+                                    Map<String, Long> rebuildTimings, boolean loaded) {
+        try {
+            rebuildTimings.putAll(txTemplate.execute(status ->
+                    databaseConstraintRepository.rebuildSecondaryConstraints(jdbcTemplate, dropped)));
+        } catch (RuntimeException e) {
+            if (loaded) {
+                throw e;
+            }
+            log.error("Failed to rebuild constraints after failed bulk load", e);
+        }
+    }
+    
+    private boolean hasAutoIncrement(DatabaseSchema schema, String tableName) {
+        String tableNameOnly = tableName.contains(".") ? tableName.substring(tableName.lastIndexOf(".") + 1) : tableName;
+        Table table = schema.getTableByName(tableNameOnly);
+        return table != null && table.getColumns().stream().anyMatch(column -> column.isAutoIncrement());
+    }
+    
+    /**
+     * INSERT 후 DB가 할당한 키를 돌려받아야 하는 테이블인지 (GENERATED 모드의 AUTO_INCREMENT 테이블)
+     */
+    private boolean readsGeneratedKeys(DatabaseSchema schema, String tableName) {
+        return properties.getKeyAllocation().getMode() == FakeDataGenProperties.KeyAllocation.Mode.GENERATED
+                && hasAutoIncrement(schema, tableName);
+    }
+    
+    /**
+     * 체크포인트 저널을 엽니다. (비활성화 시 null)
+     * 작업 키에는 구간 경계를 정하는 설정(레코드 수, 배치 크기, 파티션, 커밋 간격)과 스키마, 접속 대상을 포함하여
+     * 이어서 진행할 때 청크 경계가 이전 실행과 같도록 합니다.
+     */
+    private CheckpointJournal openCheckpoint(DatabaseSchema schema, int recordCount, DatabaseConnectionInfo dbInfo,
+                                             GenerationSeed seed, int partitionCount, int commitRows) {
+        FakeDataGenProperties.Checkpoint config = properties.getCheckpoint();
+        if (!config.isEnabled()) {
+            return null;
+        }
+        StringBuilder jobKey = new StringBuilder()
+                .append(dbInfo.getJdbcUrl()).append('|').append(dbInfo.getUsername())
+                .append('|').append(recordCount).append('|').append(properties.getBatchSize())
+                .append('|').append(partitionCount).append('|').append(properties.getPartitioning().getMinRowsPerPartition())
+                .append('|').append(commitRows);
+        for (Table table : schema.getTables()) {
+            jobKey.append('|').append(table.getName());
+            table.getColumns().forEach(column -> jobKey.append(',').append(column.getName()).append(':').append(column.getDataType()));
+        }
+        return CheckpointJournal.open(Path.of(config.getDirectory()), jobKey.toString(), seed);
+    }
+    
+    /**
+     * 이전 실행에서 적재가 끝난 테이블을 INSERT 없이 복원합니다.
+     * 자식 테이블이 참조하는 컬럼 값과 미리보기는 같은 시드로 다시 생성하고,
+     * AUTO_INCREMENT 키는 CLIENT 모드면 행 번호로 계산하고 GENERATED 모드면 DB에서 읽어옵니다.
+     */
+    private int restoreTable(JdbcTemplate jdbcTemplate, DatabaseSchema schema, String tableName, GenerationSeed seed, int count,
+                             Map<String, Set<String>> referencedColumns,
+                             Map<String, KeyStore> generatedKeysMap,
+                             Map<String, List<Map<String, Object>>> generatedDataMap,
+                             Map<String, List<Map<String, Object>>> allFakeData) {
+        String tableNameOnly = tableName.contains(".") ? tableName.substring(tableName.lastIndexOf(".") + 1) : tableName;
+        Set<String> retainedColumns = referencedColumns.getOrDefault(tableNameOnly, Collections.emptySet());
+        int chunkSize = Math.max(1, properties.getBatchSize());
+        int previewRowCount = properties.getStreaming().getPreviewRowCount();
+        
+        KeyStore tableKeys;
+        if (readsGeneratedKeys(schema, tableName)) {
+            tableKeys = KeyStore.builder(properties.getKeySpill())
+                    .addAll(databaseInsertRepository.selectAutoIncrementKeys(jdbcTemplate, tableName, schema)).build();
+        } else if (hasAutoIncrement(schema, tableName)) {
+            tableKeys = KeyStore.range(1, count);
+        } else {
+            tableKeys = KeyStore.placeholders(count);
+        }
+        RowBatch retainedData = retainedBatch(schema, tableNameOnly, retainedColumns, count);
+        List<Map<String, Object>> preview = new ArrayList<>(Math.min(previewRowCount, count));
+        
+        // 참조되지 않는 테이블은 미리보기 행만 다시 생성
+        int regenerateCount = retainedData != null ? count : Math.min(count, previewRowCount);
+        int window = chunkSize * Math.max(1, relationshipAwareGenerator.getParallelism());
+        streamChunks(schema, tableName, seed, 0, regenerateCount, chunkSize, window, generatedKeysMap, generatedDataMap, chunk -> {
+            if (retainedData != null) {
+                retainedData.appendProjected(chunk);
+            }
+            if (preview.size() < previewRowCount) {
+                preview.addAll(chunk.head(previewRowCount - preview.size()).asRecords());
+            }
+        });
+        
+        generatedKeysMap.put(tableName, tableKeys);
+        if (retainedData != null) {
+            generatedDataMap.put(tableName, retainedData.asRecords());
+        }
+        allFakeData.put(tableName, preview);
+        log.info("Restored completed table from checkpoint: {} ({} records)", tableName, count);
+        return count;
+    }
+    
+    /**
+     * 테이블을 나눌 파티션 수를 정합니다.
+     * 생성 키를 돌려받아야 하는 AUTO_INCREMENT 테이블은 행 순서와 키 순서가 어긋나므로 나누지 않고,
+     * 파티션 하나가 min-rows-per-partition보다 작아지지 않도록 줄입니다.
+     */
+    private int resolvePartitions(DatabaseSchema schema, String tableName, int recordCount, int partitionCount) {
+        if (partitionCount <= 1) {
+            return 1;
+        }
+        String tableNameOnly = tableName.contains(".") ? tableName.substring(tableName.lastIndexOf(".") + 1) : tableName;
+        if (schema.getTableByName(tableNameOnly) == null || readsGeneratedKeys(schema, tableName)) {
+            return 1;
+        }
+        int minRowsPerPartition = Math.max(1, properties.getPartitioning().getMinRowsPerPartition());
+        return Math.max(1, Math.min(partitionCount, recordCount / minRowsPerPartition));
+    }
+    
+    /**
+     * 행 인덱스 범위를 파티션 수만큼 나누어 풀의 서로 다른 커넥션에서 동시에 생성/INSERT합니다.
+     * 파티션마다 자체 트랜잭션으로 커밋하며 (PER_ROWS면 파티션 안에서 commitRows 행마다), 참조 컬럼 값과 미리보기는 파티션 순서대로 합쳐
+     * 단일 커넥션으로 넣은 경우와 같은 행 순서를 유지합니다.
+     * 한 파티션이 실패하면 나머지 파티션이 끝나기를 기다린 뒤 예외를 던집니다.
+     * (이미 커밋된 파티션은 남으며, 다음 실행 시 기존 데이터 삭제 단계에서 정리됩니다)
+     */
+    int insertTablePartitioned(JdbcTemplate jdbcTemplate, DatabaseSchema schema, String tableName, int recordCount,
+                                       GenerationSeed seed, int partitions, int commitRows, CheckpointJournal journal,
+                                       Map<String, Set<String>> referencedColumns,
+                                       Map<String, KeyStore> generatedKeysMap,
+                                       Map<String, List<Map<String, Object>>> generatedDataMap,
+                                       Map<String, List<Map<String, Object>>> allFakeData) {
+        String tableNameOnly = tableName.contains(".") ? tableName.substring(tableName.lastIndexOf(".") + 1) : tableName;
+        Set<String> retainedColumns = referencedColumns.getOrDefault(tableNameOnly, Collections.emptySet());
+        int previewRowCount = properties.getStreaming().getPreviewRowCount();
+        
+        // 작업자 스레드에는 진행 중인 트랜잭션이 없으므로 파티션마다 새 커넥션/트랜잭션이 열림
+        TransactionTemplate partitionTx = new TransactionTemplate(new DataSourceTransactionManager(jdbcTemplate.getDataSource()));
+        partitionTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        boolean rowCommits = commitRows > 0;
+        
+        log.info("Partitioned insert into table: {} ({} records, partitions={})", tableName, recordCount, partitions);
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService partitionExecutor = Executors.newFixedThreadPool(partitions, runnable -> {
+            Thread thread = new Thread(runnable, "fakedatagen-partition-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        
+        List<PartitionResult> results = new ArrayList<>(partitions);
+        try {
+            List<Future<PartitionResult>> futures = new ArrayList<>(partitions);
+            for (int p = 0; p < partitions; p++) {
+                int start = (int) ((long) recordCount * p / partitions);
+                int end = (int) ((long) recordCount * (p + 1) / partitions);
+                futures.add(partitionExecutor.submit(() -> {
+                    if (rowCommits) {
+                        return insertPartition(jdbcTemplate, schema, tableName, seed, start, end, commitRows, journal,
+                                retainedColumns, previewRowCount, generatedKeysMap, generatedDataMap);
+                    }
+                    PartitionResult result = partitionTx.execute(status -> insertPartition(jdbcTemplate, schema, tableName,
+                            seed, start, end, 0, journal, retainedColumns, previewRowCount, generatedKeysMap, generatedDataMap));
+                    if (journal != null) {
+                        journal.rangeCommitted(tableName, start, end);
+                    }
+                    return result;
+                }));
+            }
+            
+            RuntimeException failure = null;
+            for (Future<PartitionResult> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    futures.forEach(f -> f.cancel(true));
+                    throw new DataGenerationException("데이터 삽입이 중단되었습니다.", e);
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        Throwable cause = e.getCause();
+                        failure = cause instanceof RuntimeException runtimeException
+                                ? runtimeException
+                                : new DataGenerationException("파티션 삽입 중 오류가 발생했습니다: " + cause.getMessage(), cause);
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            partitionExecutor.shutdownNow();
+        }
+        
+        RowBatch retainedData = retainedBatch(schema, tableNameOnly, retainedColumns, recordCount);
+        List<Map<String, Object>> preview = new ArrayList<>(Math.min(previewRowCount, recordCount));
+        // 합치는 도중 실패하면 build되지 않은 키 빌더의 임시 파일을 지움
+        try (KeyStore.Builder tableKeys = KeyStore.builder(properties.getKeySpill())) {
+            for (PartitionResult result : results) {
+                tableKeys.addAll(result.keys.build());
+                if (retainedData != null) {
+                    retainedData.appendProjected(result.retainedData);
+                }
+                if (preview.size() < previewRowCount) {
+                    preview.addAll(result.preview.subList(0, Math.min(result.preview.size(), previewRowCount - preview.size())));
+                }
+            }
+            
+            generatedKeysMap.put(tableName, tableKeys.build());
+            if (retainedData != null) {
+                generatedDataMap.put(tableName, retainedData.asRecords());
+            }
+            allFakeData.put(tableName, preview);
+            return tableKeys.size();
+        }
+    }
+    
+    /**
+     * 파티션 하나의 [start, end) 범위를 배치 크기 단위로 생성 → INSERT 합니다. (파티션 작업자 스레드에서 실행)
+     */
+    private PartitionResult insertPartition(JdbcTemplate jdbcTemplate, DatabaseSchema schema, String tableName,
+                                            GenerationSeed seed, int start, int end, int commitRows,
+                                            CheckpointJournal journal,
+                                            Set<String> retainedColumns, int previewRowCount,
+                                            Map<String, KeyStore> generatedKeysMap,
+                                            Map<String, List<Map<String, Object>>> generatedDataMap) {
+        int chunkSize = Math.max(1, properties.getBatchSize());
+        String tableNameOnly = tableName.contains(".") ? tableName.substring(tableName.lastIndexOf(".") + 1) : tableName;
+        PartitionResult result = new PartitionResult(retainedBatch(schema, tableNameOnly, retainedColumns, end - start));
+        withRowCommits(jdbcTemplate, commitRows, journal, tableName, committer -> {
+            streamChunks(schema, tableName, seed, start, end, chunkSize, chunkSize, generatedKeysMap, generatedDataMap, chunk -> {
+                result.keys.addAll(insertChunk(jdbcTemplate, tableName, chunk, schema, committer, journal));
+                if (result.retainedData != null) {
+                    result.retainedData.appendProjected(chunk);
+                }
+                if (result.preview.size() < previewRowCount) {
+                    result.preview.addAll(chunk.head(previewRowCount - result.preview.size()).asRecords());
+                }
+            });
+            return null;
+        });
+        log.debug("Partition committed - table={}, rows={}~{}", tableName, start, end);
+        return result;
+    }
+    
+    /**
+     * 파티션 하나의 삽입 결과 (행 인덱스 순서)
+     */
+    private static final class PartitionResult {
+        // 파티션 결과는 합칠 때 한 번 더 복사되므로 임시 파일로 옮기지 않음
+        private final KeyStore.Builder keys = KeyStore.builder();
+        private final RowBatch retainedData;
+        private final List<Map<String, Object>> preview = new ArrayList<>();
+        
+        private PartitionResult(RowBatch retainedData) {
+            this.retainedData = retainedData;
+        }
+    }
+    
+    /**
+     * 자식 테이블이 참조하는 컬럼 값만 원시 타입 배열로 보관할 버퍼 (참조되는 컬럼이 없으면 null)
+     * 행마다 Map을 남기지 않으므로 부모 테이블이 수천만 행이어도 참조 컬럼 크기만큼만 메모리를 사용합니다.
+     */
+    private RowBatch retainedBatch(DatabaseSchema schema, String tableNameOnly, Set<String> retainedColumns, int rowCount) {
+        Table table = schema.getTableByName(tableNameOnly);
+        if (table == null || retainedColumns.isEmpty()) {
+            return null;
+        }
+        return RowBatch.projection(table, retainedColumns, rowCount);
+    }
+    
+    /**
+     * commitRows가 양수면 현재 스레드에서 새 트랜잭션을 열어 work를 실행하고 commitRows 행마다 커밋합니다. (PER_ROWS)
+     * 0이면 호출하는 쪽의 트랜잭션을 그대로 사용하도록 committer 없이 실행합니다.
+     *
+     * @param journal 커밋한 행 범위를 기록할 체크포인트 저널 (없으면 null)
+     */
+    <T> T withRowCommits(JdbcTemplate jdbcTemplate, int commitRows, CheckpointJournal journal, String tableName,
+                                 Function<RowCommitter, T> work) {
+        if (commitRows <= 0) {
+            return work.apply(null);
+        }
+        RowCommitter committer = new RowCommitter(new DataSourceTransactionManager(jdbcTemplate.getDataSource()), commitRows,
+                journal, tableName);
+        try {
+            T result = work.apply(committer);
+            committer.commit();
+            return result;
+        } catch (RuntimeException e) {
+            committer.rollback();
+            throw e;
+        }
+    }
+    
+    /**
+     * 청크 하나를 INSERT합니다. 체크포인트 저널에 이미 커밋된 구간으로 기록되어 있으면 건너뜁니다.
+     * (저널은 AUTO_INCREMENT가 없는 테이블에만 전달되므로 건너뛴 행의 키는 0)
+     */
+    private List<Long> insertChunk(JdbcTemplate jdbcTemplate, String tableName, RowBatch chunk,
+                                   DatabaseSchema schema, RowCommitter committer, CheckpointJournal journal) {
+        int start = chunk.getStartIndex();
+        int end = start + chunk.size();
+        if (journal != null && journal.isRangeCommitted(tableName, start, end)) {
+            return databaseInsertRepository.assignedKeys(tableName, chunk, schema);
+        }
+        List<Long> keys = insertWithRetry(jdbcTemplate, tableName, chunk, schema);
+        if (committer != null) {
+            committer.chunkInserted(start, end);
+        }
+        return keys;
+    }
+    
+    /**
+     * PER_ROWS 커밋 정책의 트랜잭션 경계
+     * 현재 스레드에 바인딩된 트랜잭션에서 INSERT한 행이 commitRows 이상 쌓이면 커밋하고 새 트랜잭션을 시작하므로
+     * 서버의 undo 로그와 잠금이 테이블 크기와 관계없이 commitRows 행 분량으로 유지됩니다.
+     * 청크는 행 인덱스 순서대로 들어오므로 커밋할 때마다 [첫 청크 시작, 마지막 청크 끝) 범위를 저널에 기록합니다.
+     */
+    static final class RowCommitter {
+        private final PlatformTransactionManager txManager;
+        private final TransactionDefinition definition =
+                new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        private final int commitRows;
+        private final CheckpointJournal journal;
+        private final String tableName;
+        private TransactionStatus status;
+        private int pendingRows;
+        private int pendingStart = -1;
+        private int pendingEnd;
+        
+        private RowCommitter(PlatformTransactionManager txManager, int commitRows, CheckpointJournal journal, String tableName) {
+            this.txManager = txManager;
+            this.commitRows = commitRows;
+            this.journal = journal;
+            this.tableName = tableName;
+            this.status = txManager.getTransaction(definition);
+        }
+        
+        void chunkInserted(int start, int end) {
+            if (pendingStart < 0) {
+                pendingStart = start;
+            }
+            pendingEnd = end;
+            pendingRows += end - start;
+            if (pendingRows >= commitRows) {
+                commitPending();
+                status = txManager.getTransaction(definition);
+            }
+        }
+        
+        private void commit() {
+            commitPending();
+        }
+        
+        private void commitPending() {
+            txManager.commit(status);
+            if (journal != null && pendingStart >= 0) {
+                journal.rangeCommitted(tableName, pendingStart, pendingEnd);
+            }
+            pendingRows = 0;
+            pendingStart = -1;
+        }
+        
+        private void rollback() {
+            if (!status.isCompleted()) {
+                txManager.rollback(status);
+            }
+        }
+    }
+    
+    private List<Long> insertWithRetry(JdbcTemplate jdbcTemplate, String tableName, 
+                                       RowBatch batch, DatabaseSchema schema) {
+        // 재시도 로직 적용
+        if (properties.getRetry().isEnabled()) {
+            return RetryHelper.executeWithRetry(
+                    () -> databaseInsertRepository.insertBatch(jdbcTemplate, tableName, batch, schema),
+                    properties.getRetry().getMaxAttempts(),
+                    properties.getRetry().getDelay(),
+                    properties.getRetry().getBackoffMultiplier()
+            );
+        }
+        return databaseInsertRepository.insertBatch(jdbcTemplate, tableName, batch, schema);
+    }
+    
     private void closeDataSource(DataSource dataSource) {
         if (dataSource == null) {
             return;
@@ -270,13 +1024,18 @@ public class DataGenerationService {
         }
     }
 
-    public Map<String, List<Map<String, Object>>> generateData(DatabaseSchema schema, int recordCount) {
-        return relationshipAwareGenerator.generateFakeData(schema, recordCount);
+    public Map<String, List<Map<String, Object>>> generateData(DatabaseSchema schema, int recordCount, GenerationSeed seed) {
+        return relationshipAwareGenerator.generateFakeData(schema, recordCount, seed);
     }
     
     private DataSource createDynamicDataSource(DatabaseConnectionInfo dbInfo, int recordCount) {
         try {
-            int poolSize = calculateOptimalPoolSize(recordCount);
+            // 동시에 처리하는 테이블마다 커넥션 하나씩, 파티션 삽입 시 테이블마다 파티션 수만큼 추가로 필요
+            boolean allOrNothing = properties.getCommit().getPolicy() == FakeDataGenProperties.Commit.Policy.ALL_OR_NOTHING;
+            int tableParallelism = allOrNothing ? 1 : Math.max(1, properties.getScheduling().getTableParallelism());
+            int partitions = allOrNothing ? 0 : Math.max(1, properties.getPartitioning().getPartitions());
+            int poolSize = Math.max(calculateOptimalPoolSize(recordCount),
+                    tableParallelism * (partitions + 1) + 1);
             log.debug("Creating data source with pool size: {}", poolSize);
             return DataSourceConfig.createDataSourceForBulkInsert(
                     dbInfo.getJdbcUrl(),
@@ -305,11 +1064,6 @@ public class DataGenerationService {
         }
     }
     
-    private List<Long> insertRecordsWithDynamicConnection(JdbcTemplate jdbcTemplate, String tableName, 
-                                                        List<Map<String, Object>> records, DatabaseSchema schema) {
-        return databaseInsertRepository.insertRecordsWithJdbcTemplate(jdbcTemplate, tableName, records, schema);
-    }
-    
     public boolean testConnection(DatabaseConnectionInfo dbInfo) {
         try (var connection = DriverManager.getConnection(
                 dbInfo.getJdbcUrl(),
@@ -336,6 +1090,8 @@ public class DataGenerationService {
         private final String insertMessage;
         private final Map<String, Integer> tableInsertCounts;
         private final java.util.List<String> warnings;
+        private final Map<String, Long> resetTimings;
+        private final Map<String, Long> rebuildTimings;
         
         public DataGenerationResult(Map<String, List<Map<String, Object>>> fakeData, int totalInserted, String insertMessage) {
             this(fakeData, totalInserted, insertMessage, java.util.Collections.emptyMap(), java.util.Collections.emptyList());
@@ -346,11 +1102,24 @@ public class DataGenerationService {
                                     String insertMessage,
                                     Map<String, Integer> tableInsertCounts,
                                     java.util.List<String> warnings) {
+            this(fakeData, totalInserted, insertMessage, tableInsertCounts, warnings,
+                    java.util.Collections.emptyMap(), java.util.Collections.emptyMap());
+        }
+
+        public DataGenerationResult(Map<String, List<Map<String, Object>>> fakeData,
+                                    int totalInserted,
+                                    String insertMessage,
+                                    Map<String, Integer> tableInsertCounts,
+                                    java.util.List<String> warnings,
+                                    Map<String, Long> resetTimings,
+                                    Map<String, Long> rebuildTimings) {
             this.fakeData = fakeData;
             this.totalInserted = totalInserted;
             this.insertMessage = insertMessage;
             this.tableInsertCounts = tableInsertCounts;
             this.warnings = warnings;
+            this.resetTimings = resetTimings;
+            this.rebuildTimings = rebuildTimings;
         }
         
         public Map<String, List<Map<String, Object>>> getFakeData() {
@@ -368,5 +1137,11 @@ public class DataGenerationService {
         public Map<String, Integer> getTableInsertCounts() { return tableInsertCounts; }
 
         public java.util.List<String> getWarnings() { return warnings; }
+
+        /** 테이블별 기존 데이터 초기화 소요 시간 (ms) */
+        public Map<String, Long> getResetTimings() { return resetTimings; }
+
+        /** 벌크 적재 후 테이블별 제약조건 재생성 소요 시간 (ms) */
+        public Map<String, Long> getRebuildTimings() { return rebuildTimings; }
     }
 }
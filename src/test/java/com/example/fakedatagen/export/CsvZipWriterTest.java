@@ -0,0 +1,65 @@
+package com.example.fakedatagen.export;
+
+import com.example.fakedatagen.generator.RowBatch;
+import com.example.fakedatagen.model.Column;
+import com.example.fakedatagen.model.Table;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CsvZipWriter 테스트 클래스
+ * 테이블별 ZIP 엔트리와 CSV 따옴표/NULL 처리를 검증
+ */
+class CsvZipWriterTest {
+
+    @Test
+    @DisplayName("테이블마다 순번이 붙은 CSV 엔트리를 만들고 특수문자를 따옴표로 감쌈")
+    void testWriteEntries() throws IOException {
+        Table member = new Table("member");
+        member.addColumn(new Column("id", "integer"));
+        member.addColumn(new Column("memo", "varchar(50)"));
+        member.addColumn(new Column("birth", "date"));
+        Table order = new Table("orders");
+        order.addColumn(new Column("member_id", "integer"));
+
+        RowBatch batch = new RowBatch(member, 0, 2);
+        int row = batch.addRow();
+        batch.set(row, 0, 1);
+        batch.set(row, 1, "a,\"b\"");
+        batch.set(row, 2, LocalDate.of(2000, 1, 31));
+        row = batch.addRow();
+        batch.set(row, 0, 2);
+        batch.setNull(row, 1);
+        batch.setNull(row, 2);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (CsvZipWriter writer = new CsvZipWriter(out, 4096)) {
+            writer.beginTable(member, "member");
+            writer.writeBatch(batch);
+            writer.beginTable(order, "orders");
+            writer.endTable();
+        }
+
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ZipEntry entry = zip.getNextEntry();
+            assertEquals("001_member.csv", entry.getName());
+            assertEquals("id,memo,birth\r\n1,\"a,\"\"b\"\"\",2000-01-31\r\n2,,\r\n",
+                    new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+
+            entry = zip.getNextEntry();
+            assertEquals("002_orders.csv", entry.getName());
+            assertEquals("member_id\r\n", new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            assertNull(zip.getNextEntry());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.fakedatagen.export;
+
+import com.example.fakedatagen.generator.RowBatch;
+import com.example.fakedatagen.model.Column;
+import com.example.fakedatagen.model.Table;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LoaddbObjectWriter 테스트 클래스
+ * %class 헤더와 타입별 값 리터럴, 테이블별 파일/적재 순서 파일 생성을 검증
+ */
+class LoaddbObjectWriterTest {
+
+    private Path directory;
+    private Table table;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("loaddb-test");
+
+        table = new Table("dba", "member");
+        table.addColumn(new Column("id", "integer"));
+        table.addColumn(new Column("name", "varchar(50)"));
+        table.addColumn(new Column("price", "numeric(10,2)"));
+        table.addColumn(new Column("birth", "date"));
+        table.addColumn(new Column("created_at", "datetime"));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("%class 헤더와 타입별 값 리터럴 기록")
+    void testWriteTable() throws IOException {
+        RowBatch batch = new RowBatch(table, 0, 2);
+        int row = batch.addRow();
+        batch.set(row, 0, 1);
+        batch.set(row, 1, "O'Neil");
+        batch.set(row, 2, new BigDecimal("12.50"));
+        batch.set(row, 3, LocalDate.of(2000, 1, 31));
+        batch.set(row, 4, LocalDateTime.of(2024, 1, 2, 3, 4, 5));
+        row = batch.addRow();
+        batch.set(row, 0, 2);
+        batch.setNull(row, 1);
+        batch.set(row, 2, new BigDecimal("0.10"));
+        batch.set(row, 3, LocalDate.of(2001, 2, 1));
+        batch.setNull(row, 4);
+
+        LoaddbObjectWriter writer = new LoaddbObjectWriter(directory, 4096);
+        writer.beginTable(table, "dba.member");
+        writer.writeBatch(batch);
+        writer.close();
+
+        assertEquals(1, writer.getFiles().size());
+        Path file = writer.getFiles().get(0);
+        assertEquals("001_dba.member.obj", file.getFileName().toString());
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals("%class [dba].[member] ([id] [name] [price] [birth] [created_at])", lines.get(0));
+        assertEquals("1 'O''Neil' 12.50 date '2000-01-31' datetime '2024-01-02 03:04:05.000'", lines.get(1));
+        assertEquals("2 NULL 0.10 date '2001-02-01' NULL", lines.get(2));
+    }
+
+    @Test
+    @DisplayName("테이블마다 파일을 만들고 적재 순서를 기록")
+    void testLoadOrder() throws IOException {
+        Table child = new Table("child");
+        child.addColumn(new Column("parent_id", "integer"));
+
+        try (LoaddbObjectWriter writer = new LoaddbObjectWriter(directory, 4096)) {
+            writer.beginTable(table, "member");
+            writer.writeBatch(new RowBatch(table, 0, 0));
+            writer.beginTable(child, "child");
+            writer.endTable();
+        }
+
+        List<String> order = Files.readAllLines(directory.resolve(LoaddbObjectWriter.LOAD_ORDER_FILE_NAME));
+        assertEquals(List.of("001_member.obj", "002_child.obj"), order);
+        assertEquals(List.of("%class [child] ([parent_id])"), Files.readAllLines(directory.resolve("002_child.obj")));
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.fakedatagen.export;
+
+import com.example.fakedatagen.generator.RowBatch;
+import com.example.fakedatagen.model.Column;
+import com.example.fakedatagen.model.Table;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SqlScriptWriter 테스트 클래스
+ * 여러 행 INSERT 문 묶음과 테이블별 COMMIT 기록을 검증
+ */
+class SqlScriptWriterTest {
+
+    @Test
+    @DisplayName("행을 지정한 개수씩 INSERT 문으로 묶고 테이블 끝에 COMMIT 기록")
+    void testRowsPerStatement() throws IOException {
+        Table table = new Table("member");
+        table.addColumn(new Column("id", "integer"));
+        table.addColumn(new Column("name", "varchar(20)"));
+
+        RowBatch batch = new RowBatch(table, 0, 3);
+        for (int i = 0; i < 3; i++) {
+            int row = batch.addRow();
+            batch.set(row, 0, i + 1);
+            batch.set(row, 1, i == 1 ? "it's" : "n" + i);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (SqlScriptWriter writer = new SqlScriptWriter(out, 4096, 2)) {
+            writer.beginTable(table, "dba.member");
+            writer.writeBatch(batch);
+            writer.endTable();
+        }
+
+        String expected = "-- dba.member\n"
+                + "INSERT INTO [dba].[member] ([id], [name]) VALUES\n"
+                + "(1, 'n0'),\n"
+                + "(2, 'it''s');\n"
+                + "INSERT INTO [dba].[member] ([id], [name]) VALUES\n"
+                + "(3, 'n2');\n"
+                + "COMMIT;\n\n";
+        assertEquals(expected, out.toString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.fakedatagen.generator;
+
+import com.example.fakedatagen.model.Column;
+import com.example.fakedatagen.model.Constraint;
+import com.example.fakedatagen.model.Table;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BasicValueGenerator 테스트 클래스
+ * 컬럼 생성 계획이 타입/길이/고유값 여부를 올바르게 미리 결정하는지 검증
+ */
+class BasicValueGeneratorTest {
+
+    private BasicValueGenerator basicValueGenerator;
+    private Table table;
+
+    @BeforeEach
+    void setUp() {
+        basicValueGenerator = new BasicValueGenerator();
+
+        table = new Table("member");
+        table.addColumn(new Column("id", "integer"));
+        table.addColumn(new Column("code", "varchar(5)"));
+        table.addColumn(new Column("amount", "bigint"));
+        table.addColumn(new Column("price", "numeric(10,2)"));
+        table.addColumn(new Column("memo", "varchar(30)"));
+        table.addColumn(new Column("created_at", "datetime"));
+        Constraint pk = new Constraint("pk_member_id", Constraint.ConstraintType.PRIMARY_KEY);
+        pk.addColumn("id");
+        table.addConstraint(pk);
+        Constraint unique = new Constraint("u_member_code", Constraint.ConstraintType.UNIQUE);
+        unique.addColumn("code");
+        table.addConstraint(unique);
+    }
+
+    @Test
+    @DisplayName("컬럼 타입 판별 - int를 포함하는 BIGINT/SMALLINT 구분")
+    void testResolveColumnType() {
+        assertEquals(ColumnType.INTEGER, ColumnType.resolve("INTEGER"));
+        assertEquals(ColumnType.BIGINT, ColumnType.resolve("bigint"));
+        assertEquals(ColumnType.SMALLINT, ColumnType.resolve("smallint"));
+        assertEquals(ColumnType.VARCHAR, ColumnType.resolve("character varying(100)"));
+        assertEquals(ColumnType.CHAR, ColumnType.resolve("char(10)"));
+        assertEquals(ColumnType.DATETIME, ColumnType.resolve("datetime"));
+        assertEquals(ColumnType.DATE, ColumnType.resolve("date"));
+        assertEquals(ColumnType.BIT_VARYING, ColumnType.resolve("bit varying(8)"));
+    }
+
+    @Test
+    @DisplayName("컬럼 계획에 길이/정밀도/고유값 여부가 미리 결정됨")
+    void testCompileResolvesMetadata() {
+        ColumnGenerator id = basicValueGenerator.compile(table.getColumnByName("id"), table);
+        ColumnGenerator code = basicValueGenerator.compile(table.getColumnByName("code"), table);
+        ColumnGenerator price = basicValueGenerator.compile(table.getColumnByName("price"), table);
+
+        assertTrue(id.isUnique());
+        assertTrue(code.isUnique());
+        assertEquals(5, code.getLength());
+        assertFalse(price.isUnique());
+        assertEquals(ColumnType.NUMERIC, price.getType());
+        assertEquals(10, price.getPrecision());
+        assertEquals(2, price.getScale());
+    }
+
+    @Test
+    @DisplayName("AUTO_INCREMENT 컬럼은 타입과 관계없이 1부터 순차 값을 생성함")
+    void testAutoIncrementValues() {
+        Table ticket = new Table("ticket");
+        Column numericId = new Column("id", "numeric(15,0)");
+        numericId.setAutoIncrement(true);
+        Column smallSeq = new Column("seq", "smallint");
+        smallSeq.setAutoIncrement(true);
+        ticket.addColumn(numericId);
+        ticket.addColumn(smallSeq);
+        Constraint pk = new Constraint("pk_ticket_id", Constraint.ConstraintType.PRIMARY_KEY);
+        pk.addColumn("id");
+        ticket.addConstraint(pk);
+
+        ColumnGenerator id = basicValueGenerator.compile(numericId, ticket);
+        ColumnGenerator seq = basicValueGenerator.compile(smallSeq, ticket);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(0, BigDecimal.valueOf(i + 1L).compareTo((BigDecimal) id.generate(i)));
+            assertEquals(i + 1, seq.generate(i));
+        }
+    }
+
+    @Test
+    @DisplayName("고유 컬럼은 행 인덱스마다 다른 값을 생성하고 길이 제한을 지킴")
+    void testUniqueValues() {
+        ColumnGenerator code = basicValueGenerator.compile(table.getColumnByName("code"), table);
+
+        Set<Object> values = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            String value = String.valueOf(code.generate(i));
+            assertTrue(value.length() <= 5, "varchar(5) 길이를 넘지 않아야 함: " + value);
+            values.add(value);
+        }
+        assertEquals(1000, values.size(), "고유값이 중복되지 않아야 함");
+    }
+
+    @Test
+    @DisplayName("같은 시드는 생성 순서와 관계없이 행마다 같은 값을 생성")
+    void testSeededValuesAreRandomAccess() {
+        GenerationSeed seed = GenerationSeed.of(42L);
+        for (String columnName : List.of("amount", "price", "memo", "created_at")) {
+            ColumnGenerator first = basicValueGenerator.compile(table.getColumnByName(columnName), table, seed);
+            ColumnGenerator second = new BasicValueGenerator().compile(table.getColumnByName(columnName), table, seed);
+
+            List<Object> forward = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                forward.add(first.generate(i));
+            }
+            // 역순으로 생성해도 각 행의 값은 같아야 함 (앞 행 생성 여부와 무관)
+            for (int i = 99; i >= 0; i--) {
+                assertEquals(forward.get(i), second.generate(i), columnName + " 행 " + i);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("시드나 컬럼이 다르면 다른 값을 생성")
+    void testSeedAndColumnIndependence() {
+        ColumnGenerator seed1 = basicValueGenerator.compile(table.getColumnByName("amount"), table, GenerationSeed.of(1L));
+        ColumnGenerator seed2 = basicValueGenerator.compile(table.getColumnByName("amount"), table, GenerationSeed.of(2L));
+
+        Table other = new Table("orders");
+        other.addColumn(new Column("amount", "bigint"));
+        ColumnGenerator otherTable = basicValueGenerator.compile(other.getColumnByName("amount"), other, GenerationSeed.of(1L));
+
+        int sameAsSeed2 = 0;
+        int sameAsOtherTable = 0;
+        for (int i = 0; i < 100; i++) {
+            Object value = seed1.generate(i);
+            if (value.equals(seed2.generate(i))) {
+                sameAsSeed2++;
+            }
+            if (value.equals(otherTable.generate(i))) {
+                sameAsOtherTable++;
+            }
+        }
+        assertEquals(0, sameAsSeed2);
+        assertEquals(0, sameAsOtherTable);
+    }
+}
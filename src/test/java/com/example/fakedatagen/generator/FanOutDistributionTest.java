@@ -0,0 +1,59 @@
+package com.example.fakedatagen.generator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FanOutDistribution 테스트 클래스
+ * 자식 인덱스 → 부모 인덱스 배정이 분포별 자식 수와 일치하는지 검증
+ */
+class FanOutDistributionTest {
+
+    @Test
+    @DisplayName("FIXED 분포는 부모마다 같은 수의 자식을 순서대로 배정하고 끝나면 처음 부모로 돌아간다")
+    void fixed_AssignsConsecutiveChildren() {
+        FanOutDistribution fanOut = FanOutDistribution.fixed(4, 3);
+
+        assertEquals(12, fanOut.getTotalChildren());
+        assertEquals(0, fanOut.parentIndex(0));
+        assertEquals(0, fanOut.parentIndex(2));
+        assertEquals(1, fanOut.parentIndex(3));
+        assertEquals(3, fanOut.parentIndex(11));
+        assertEquals(0, fanOut.parentIndex(12));
+    }
+
+    @Test
+    @DisplayName("UNIFORM 분포는 부모별 자식 수가 범위 안에 있고 배정 결과와 일치한다")
+    void uniform_ChildrenWithinRangeAndConsistent() {
+        int parentCount = 1000;
+        FanOutDistribution fanOut = FanOutDistribution.uniform(parentCount, 2, 5, SeededRandom.streamKey(7L, "orders", "user_id"));
+
+        int[] counted = new int[parentCount];
+        for (long child = 0; child < fanOut.getTotalChildren(); child++) {
+            counted[fanOut.parentIndex(child)]++;
+        }
+        for (int p = 0; p < parentCount; p++) {
+            assertTrue(fanOut.childrenOf(p) >= 2 && fanOut.childrenOf(p) <= 5);
+            assertEquals(fanOut.childrenOf(p), counted[p]);
+        }
+
+        FanOutDistribution again = FanOutDistribution.uniform(parentCount, 2, 5, SeededRandom.streamKey(7L, "orders", "user_id"));
+        assertEquals(fanOut.getTotalChildren(), again.getTotalChildren());
+    }
+
+    @Test
+    @DisplayName("ZIPF 분포는 평균 자식 수를 유지하면서 앞쪽 부모에 자식을 더 많이 배정한다")
+    void zipf_SkewsTowardsFirstParents() {
+        int parentCount = 1000;
+        FanOutDistribution fanOut = FanOutDistribution.zipf(parentCount, 3, 1.0);
+
+        assertEquals(3000, fanOut.getTotalChildren());
+        assertTrue(fanOut.childrenOf(0) > fanOut.childrenOf(10));
+        assertTrue(fanOut.childrenOf(10) >= fanOut.childrenOf(parentCount - 1));
+        for (long child = 0; child < fanOut.getTotalChildren(); child += 97) {
+            assertTrue(fanOut.childrenOf(fanOut.parentIndex(child)) > 0);
+        }
+    }
+}
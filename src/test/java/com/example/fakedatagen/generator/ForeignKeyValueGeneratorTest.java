@@ -0,0 +1,66 @@
+package com.example.fakedatagen.generator;
+
+import com.example.fakedatagen.config.FakeDataGenProperties;
+import com.example.fakedatagen.model.ForeignKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ForeignKeyValueGenerator 테스트 클래스
+ * 미리 찾아 둔 부모 키 저장소/데이터로 만든 생성 계획이 올바른 부모 값을 내는지 검증
+ */
+class ForeignKeyValueGeneratorTest {
+
+    private final ForeignKeyValueGenerator generator = new ForeignKeyValueGenerator(new FakeDataGenProperties());
+    private final ForeignKey fk = new ForeignKey("parent_id", "dba.PARENT", "code");
+
+    @Test
+    @DisplayName("스키마명과 대소문자가 달라도 부모 키 저장소를 한 번에 찾아 행 인덱스로 순환 조회한다")
+    void compileFromData_ReadsParentKeys() {
+        Map<String, KeyStore> keys = Map.of("parent", KeyStore.range(10L, 3));
+
+        ColumnGenerator.ValueSource source = generator.compileFromData("child", fk, "parent_id", null, keys, Map.of());
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(10L + i % 3, source.generate(i));
+        }
+        assertEquals(11L, source.generate(4));
+    }
+
+    @Test
+    @DisplayName("부모 키가 0이면 보관된 부모 데이터의 참조 컬럼 값을 사용하고, 부모가 없으면 null을 돌려준다")
+    void compileFromData_FallsBackToRetainedData() {
+        Map<String, KeyStore> keys = Map.of("PARENT", KeyStore.placeholders(2));
+        Map<String, List<Map<String, Object>>> data = Map.of("PARENT", List.of(Map.of("code", "A"), Map.of("code", "B")));
+
+        ColumnGenerator.ValueSource source = generator.compileFromData("child", fk, "parent_id", null, keys, data);
+
+        assertEquals("A", source.generate(0));
+        assertEquals("B", source.generate(3));
+        assertNull(generator.compileFromData("child", fk, "parent_id", null, Map.of(), Map.of()).generate(0));
+    }
+
+    @Test
+    @DisplayName("복합 외래키의 각 컬럼은 따로 만든 생성 계획이라도 같은 행에서 같은 부모 행의 값을 낸다")
+    void compileFromData_CompositeKeyUsesSameParentRow() {
+        ForeignKey composite = new ForeignKey("fk_line_order", List.of("order_no", "shop_id"), "orders",
+                List.of("no", "shop"));
+        Map<String, List<Map<String, Object>>> data = Map.of("orders", List.of(
+                Map.of("no", 1, "shop", "A"), Map.of("no", 1, "shop", "B"), Map.of("no", 2, "shop", "A")));
+        Map<String, KeyStore> keys = Map.of("orders", KeyStore.range(1L, 3));
+
+        ColumnGenerator.ValueSource orderNo = generator.compileFromData("order_line", composite, "order_no", null, keys, data);
+        ColumnGenerator.ValueSource shopId = generator.compileFromData("order_line", composite, "shop_id", null, keys, data);
+
+        for (int i = 0; i < 6; i++) {
+            Map<String, Object> parent = data.get("orders").get(i % 3);
+            assertEquals(parent.get("no"), orderNo.generate(i));
+            assertEquals(parent.get("shop"), shopId.generate(i));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.fakedatagen.generator;
+
+import com.example.fakedatagen.config.FakeDataGenProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GenerationTracer 테스트 클래스
+ * 실행 중 추적 전환, 컬럼별 생성 수 집계와 테이블 완료 시 집계 정리를 검증
+ */
+class GenerationTracerTest {
+
+    private final GenerationTracer tracer = new GenerationTracer(new FakeDataGenProperties());
+
+    @Test
+    @DisplayName("추적이 꺼져 있으면 값만 전달하고, 실행 중에 켜면 다음 값부터 컬럼별로 센다")
+    void trace_CountsOnlyWhileEnabled() {
+        ColumnGenerator.ValueSource source = tracer.trace("child", "parent_id", "FOREIGN_KEY", index -> index + 1L);
+
+        assertEquals(1L, source.generate(0));
+        assertEquals(Map.of("child.parent_id", 0L), tracer.snapshot());
+
+        tracer.configure(true, 0);
+        for (int i = 0; i < 5; i++) {
+            source.generate(i);
+        }
+
+        assertEquals(1, tracer.getSampleEvery());
+        assertEquals(Map.of("child.parent_id", 5L), tracer.snapshot());
+    }
+
+    @Test
+    @DisplayName("테이블 집계를 남기면 해당 테이블의 집계만 비운다")
+    void logSummary_RemovesTableCounters() {
+        tracer.configure(true, 100);
+        tracer.trace("child", "parent_id", "FOREIGN_KEY", index -> null).generate(0);
+        tracer.trace("order_item", "order_id", "RELATIONSHIP", index -> 1L).generate(0);
+
+        tracer.logSummary("child");
+
+        assertEquals(Map.of("order_item.order_id", 1L), tracer.snapshot());
+    }
+}
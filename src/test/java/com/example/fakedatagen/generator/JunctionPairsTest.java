@@ -0,0 +1,132 @@
+package com.example.fakedatagen.generator;
+
+import com.example.fakedatagen.config.FakeDataGenProperties;
+import com.example.fakedatagen.exception.DataGenerationException;
+import com.example.fakedatagen.model.Column;
+import com.example.fakedatagen.model.Constraint;
+import com.example.fakedatagen.model.ForeignKey;
+import com.example.fakedatagen.model.Table;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JunctionPairs / FeistelPermutation / JunctionPairGenerator 테스트 클래스
+ * 순열의 전단사 여부, 연결 테이블 행마다 서로 다른 부모 쌍 배정, 쌍이 부족할 때의 오류를 검증
+ */
+class JunctionPairsTest {
+
+    private static final long STREAM_KEY = SeededRandom.streamKey(7L, "user_roles", "junction");
+
+    @Test
+    @DisplayName("Feistel 순열은 2의 거듭제곱이 아닌 구간에서도 모든 값을 한 번씩만 돌려준다")
+    void feistel_IsBijection() {
+        for (long domain : new long[]{1, 2, 7, 100, 1000}) {
+            FeistelPermutation permutation = new FeistelPermutation(domain, STREAM_KEY);
+            Set<Long> seen = new HashSet<>();
+            for (long i = 0; i < domain; i++) {
+                long value = permutation.apply(i);
+                assertTrue(value >= 0 && value < domain);
+                assertTrue(seen.add(value));
+            }
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> new FeistelPermutation(10, STREAM_KEY).apply(10));
+    }
+
+    @Test
+    @DisplayName("SPREAD는 전체 조합을 중복 없이 채우고, 조합 수를 넘는 행은 오류를 낸다")
+    void spread_FillsAllPairsWithoutDuplicates() {
+        JunctionPairs pairs = JunctionPairs.spread(20, 30, STREAM_KEY);
+
+        assertEquals(600, pairs.getCapacity());
+        assertEquals(600, distinctPairs(pairs, 600).size());
+        assertThrows(DataGenerationException.class, () -> pairs.pairIndex(600));
+    }
+
+    @Test
+    @DisplayName("ZIPF 쌍 수 분포는 오른쪽 부모 수로 제한되고 왼쪽 부모마다 서로 다른 오른쪽 부모를 받는다")
+    void perLeft_CapsPairsAndAvoidsDuplicates() {
+        JunctionPairs pairs = JunctionPairs.perLeft(10, FanOutDistribution.zipf(50, 8, 1.5), STREAM_KEY);
+
+        long capacity = pairs.getCapacity();
+        assertTrue(capacity <= 50 * 10);
+        assertEquals(capacity, distinctPairs(pairs, (int) capacity).size());
+        assertTrue(pairs.leftIndex(0) == 0 && pairs.leftIndex(capacity - 1) < 50);
+        assertEquals(10, FanOutDistribution.fixed(3, 25).capped(10).childrenOf(1));
+    }
+
+    @Test
+    @DisplayName("복합 기본키에 두 외래키 컬럼이 포함된 테이블은 두 컬럼이 같은 부모 쌍을 내보낸다")
+    void generator_CompilesPairSourcesForJunctionTable() {
+        Table table = new Table("", "user_roles");
+        table.addColumn(new Column("user_id", "INTEGER"));
+        table.addColumn(new Column("role_id", "INTEGER"));
+        Constraint pk = new Constraint("pk_user_roles", Constraint.ConstraintType.PRIMARY_KEY);
+        pk.addColumn("user_id");
+        pk.addColumn("role_id");
+        table.addConstraint(pk);
+        table.addForeignKey(new ForeignKey("fk_user", "user_id", "users", "id"));
+        table.addForeignKey(new ForeignKey("fk_role", "role_id", "roles", "id"));
+        Map<String, KeyStore> keys = Map.of("users", KeyStore.range(1, 4), "roles", KeyStore.range(101, 3));
+
+        JunctionPairGenerator generator = new JunctionPairGenerator(new ForeignKeyValueGenerator(new FakeDataGenProperties()), new FakeDataGenProperties());
+        Map<String, ColumnGenerator.ValueSource> sources = generator.compile(table, GenerationSeed.of(7L), keys, Map.of());
+
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < 12; i++) {
+            Object user = sources.get("user_id").generate(i);
+            Object role = sources.get("role_id").generate(i);
+            assertTrue(seen.add(user + "-" + role));
+        }
+        assertThrows(DataGenerationException.class, () -> sources.get("user_id").generate(12));
+
+        table.getConstraints().clear();
+        assertTrue(generator.compile(table, GenerationSeed.of(7L), keys, Map.of()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("연결 테이블 두 컬럼은 조회 순서와 관계없이 행마다 같은 쌍을 나누어 받는다")
+    void generator_SplitsOnePairPerRowInAnyOrder() {
+        Table table = new Table("", "user_roles");
+        table.addColumn(new Column("user_id", "INTEGER"));
+        table.addColumn(new Column("role_id", "INTEGER"));
+        Constraint pk = new Constraint("pk_user_roles", Constraint.ConstraintType.PRIMARY_KEY);
+        pk.addColumn("user_id");
+        pk.addColumn("role_id");
+        table.addConstraint(pk);
+        table.addForeignKey(new ForeignKey("fk_user", "user_id", "users", "id"));
+        table.addForeignKey(new ForeignKey("fk_role", "role_id", "roles", "id"));
+        Map<String, KeyStore> keys = Map.of("users", KeyStore.range(1, 4), "roles", KeyStore.range(101, 3));
+
+        JunctionPairGenerator generator = new JunctionPairGenerator(new ForeignKeyValueGenerator(new FakeDataGenProperties()), new FakeDataGenProperties());
+        Map<String, ColumnGenerator.ValueSource> inOrder = generator.compile(table, GenerationSeed.of(7L), keys, Map.of());
+        Map<String, ColumnGenerator.ValueSource> reversed = generator.compile(table, GenerationSeed.of(7L), keys, Map.of());
+
+        for (int i = 11; i >= 0; i--) {
+            Object role = reversed.get("role_id").generate(i);
+            Object user = reversed.get("user_id").generate(i);
+            assertEquals(inOrder.get("user_id").generate(i), user);
+            assertEquals(inOrder.get("role_id").generate(i), role);
+        }
+        // 같은 행을 다시 조회해도 보관된 쌍 번호와 같은 값
+        assertEquals(inOrder.get("user_id").generate(3), inOrder.get("user_id").generate(3));
+    }
+
+    private static Set<Long> distinctPairs(JunctionPairs pairs, int rows) {
+        List<Long> assigned = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            assertEquals(pairs.pairIndex(i), (long) pairs.leftIndex(i) * pairs.getRightCount() + pairs.rightIndex(i));
+            assertEquals(pairs.leftIndex(i), pairs.leftOf(pairs.pairIndex(i)));
+            assertEquals(pairs.rightIndex(i), pairs.rightOf(pairs.pairIndex(i)));
+            assigned.add(pairs.pairIndex(i));
+        }
+        return new HashSet<>(assigned);
+    }
+}
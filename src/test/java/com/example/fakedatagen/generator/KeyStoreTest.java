@@ -0,0 +1,99 @@
+package com.example.fakedatagen.generator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * KeyStore 테스트 클래스
+ * 연속 키/빈 키의 압축 보관, 불연속 키의 세그먼트 보관과 임시 파일 매핑 조회를 검증
+ */
+class KeyStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("연속 키와 0만 있는 키는 배열 없이 개수만으로 조회한다")
+    void build_CompactsRangeAndPlaceholders() {
+        KeyStore range = KeyStore.builder().addAll(List.of(1L, 2L, 3L, 4L)).build();
+        assertEquals(4, range.size());
+        assertEquals(4L, range.get(3));
+        assertFalse(range.isSpilled());
+
+        KeyStore placeholders = KeyStore.builder().addAll(List.of(0L, 0L, 0L)).build();
+        assertEquals(3, placeholders.size());
+        assertEquals(0L, placeholders.get(2));
+
+        assertTrue(KeyStore.builder().build().isEmpty());
+    }
+
+    @Test
+    @DisplayName("연속이 깨지면 그때까지의 키를 유지한 채 개별 키로 보관한다")
+    void build_MaterializesWhenRangeBreaks() {
+        KeyStore.Builder builder = KeyStore.builder();
+        for (long key = 1; key <= 100000; key++) {
+            builder.add(key);
+        }
+        builder.add(500000L);
+        KeyStore keys = builder.build();
+
+        assertEquals(100001, keys.size());
+        assertEquals(1L, keys.get(0));
+        assertEquals(100000L, keys.get(99999));
+        assertEquals(500000L, keys.get(100000));
+        assertThrows(IndexOutOfBoundsException.class, () -> keys.get(100001));
+    }
+
+    @Test
+    @DisplayName("행 수가 기준을 넘으면 임시 파일에 기록하고 메모리 매핑으로 같은 키를 조회한다")
+    void build_SpillsToMappedFile() throws Exception {
+        KeyStore.Builder builder = KeyStore.builder(1000, directory);
+        for (int i = 0; i < 5000; i++) {
+            builder.add(i * 7L + 3);
+        }
+        builder.add(-1L);
+        KeyStore keys = builder.build();
+
+        assertTrue(keys.isSpilled());
+        assertEquals(5001, keys.size());
+        assertEquals(3L, keys.get(0));
+        assertEquals(999 * 7L + 3, keys.get(999));
+        assertEquals(4999 * 7L + 3, keys.get(4999));
+        assertEquals(-1L, keys.get(5000));
+        try (var files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("build하지 않고 버린 빌더를 닫으면 임시 파일을 지우고, build 후 닫기는 저장소에 영향이 없다")
+    void close_DeletesAbandonedSpillFile() throws Exception {
+        try (KeyStore.Builder abandoned = KeyStore.builder(10, directory)) {
+            for (int i = 0; i < 100; i++) {
+                abandoned.add(i * 3L);
+            }
+            try (var files = Files.list(directory)) {
+                assertEquals(1, files.count());
+            }
+        }
+        try (var files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+
+        KeyStore keys;
+        try (KeyStore.Builder builder = KeyStore.builder(10, directory)) {
+            for (int i = 0; i < 100; i++) {
+                builder.add(i * 3L);
+            }
+            keys = builder.build();
+        }
+        assertEquals(297L, keys.get(99));
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.fakedatagen.generator;
+
+import com.example.fakedatagen.config.FakeDataGenProperties;
+import com.example.fakedatagen.model.Column;
+import com.example.fakedatagen.model.Table;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ParallelRowGenerator 테스트 클래스
+ * 병렬로 나누어 생성한 결과가 행 인덱스 순서대로 합쳐지는지 검증
+ */
+class ParallelRowGeneratorTest {
+
+    private ParallelRowGenerator parallelRowGenerator;
+    private Table table;
+
+    @BeforeEach
+    void setUp() {
+        FakeDataGenProperties properties = new FakeDataGenProperties();
+        properties.getGeneration().setParallelism(4);
+        properties.getGeneration().setMinRowsPerTask(10);
+        parallelRowGenerator = new ParallelRowGenerator(properties);
+
+        table = new Table("item");
+        table.addColumn(new Column("id", "integer"));
+        table.addColumn(new Column("name", "varchar(20)"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        parallelRowGenerator.destroy();
+    }
+
+    private RowBatch generateRows(int startIndex, int rowCount) {
+        RowBatch batch = new RowBatch(table, startIndex, rowCount);
+        for (int i = startIndex; i < startIndex + rowCount; i++) {
+            int row = batch.addRow();
+            batch.set(row, 0, i);
+            batch.set(row, 1, i % 7 == 0 ? null : "name_" + i);
+        }
+        return batch;
+    }
+
+    @Test
+    @DisplayName("병렬 생성 결과가 인덱스 순서로 병합됨")
+    void testGenerateMergesInIndexOrder() {
+        RowBatch batch = parallelRowGenerator.generate(table, 5, 1000, this::generateRows);
+
+        assertEquals(1000, batch.size());
+        assertEquals(5, batch.getStartIndex());
+        for (int row = 0; row < batch.size(); row++) {
+            int index = row + 5;
+            assertEquals(index, batch.getInt(row, 0));
+            if (index % 7 == 0) {
+                assertTrue(batch.isNull(row, 1));
+            } else {
+                assertEquals("name_" + index, batch.getString(row, 1));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("청크 단위 병렬 생성 시 순서와 크기 유지")
+    void testGenerateChunks() {
+        List<RowBatch> chunks = parallelRowGenerator.generateChunks(0, 95, 20, this::generateRows);
+
+        assertEquals(5, chunks.size());
+        assertEquals(20, chunks.get(0).size());
+        assertEquals(15, chunks.get(4).size());
+        assertEquals(80, chunks.get(4).getStartIndex());
+        assertEquals(80, chunks.get(4).getInt(0, 0));
+    }
+
+    @Test
+    @DisplayName("작업 중 예외는 호출자에게 전달됨")
+    void testExceptionPropagation() {
+        assertThrows(IllegalArgumentException.class, () ->
+                parallelRowGenerator.generateChunks(0, 100, 10, (start, count) -> {
+                    if (start == 50) {
+                        throw new IllegalArgumentException("실패");
+                    }
+                    return generateRows(start, count);
+                }));
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.fakedatagen.generator;
+
+import com.example.fakedatagen.config.FakeDataGenProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ParentDistribution 테스트 클래스
+ * 분포별 자식 → 부모 배정 비율, 자식 없는 부모 비율, 컬럼별 설정 선택을 검증
+ */
+class ParentDistributionTest {
+
+    private static final long STREAM_KEY = SeededRandom.streamKey(7L, "orders", "user_id");
+    private static final FakeDataGenProperties.FanOut FAN_OUT = new FakeDataGenProperties.FanOut();
+
+    @Test
+    @DisplayName("ROUND_ROBIN은 기존처럼 자식 인덱스 순서대로 부모를 돌아가며 배정한다")
+    void roundRobin_CyclesParents() {
+        ParentDistribution parents = ParentDistribution.of(new FakeDataGenProperties.FkDistribution(), FAN_OUT, 3, STREAM_KEY);
+
+        assertEquals(0, parents.parentIndex(0));
+        assertEquals(2, parents.parentIndex(2));
+        assertEquals(0, parents.parentIndex(3));
+    }
+
+    @Test
+    @DisplayName("ZIPF는 첫 부모에 1/H(n) 비율로 배정하고 같은 스트림이면 같은 부모를 고른다")
+    void zipf_MatchesHarmonicWeights() {
+        FakeDataGenProperties.FkDistribution config = config(ParentDistribution.Type.ZIPF);
+        ParentDistribution parents = ParentDistribution.of(config, FAN_OUT, 100, STREAM_KEY);
+
+        int[] counted = count(parents, 100, 200_000);
+        double harmonic = 0;
+        for (int r = 1; r <= 100; r++) {
+            harmonic += 1.0 / r;
+        }
+        assertEquals(1.0 / harmonic, counted[0] / 200_000.0, 0.01);
+        assertTrue(counted[0] > counted[1] && counted[1] > counted[9]);
+        assertEquals(parents.parentIndex(12345), ParentDistribution.of(config, FAN_OUT, 100, STREAM_KEY).parentIndex(12345));
+    }
+
+    @Test
+    @DisplayName("HOT_KEY는 앞쪽 부모 비율에 설정한 비율만큼 자식을 몰아 준다")
+    void hotKey_ConcentratesTraffic() {
+        FakeDataGenProperties.FkDistribution config = config(ParentDistribution.Type.HOT_KEY);
+        config.setHotKeyPercent(10);
+        config.setHotTrafficPercent(90);
+
+        int[] counted = count(ParentDistribution.of(config, FAN_OUT, 100, STREAM_KEY), 100, 100_000);
+
+        int hot = 0;
+        for (int p = 0; p < 10; p++) {
+            hot += counted[p];
+        }
+        assertEquals(0.9, hot / 100_000.0, 0.01);
+    }
+
+    @Test
+    @DisplayName("emptyParentPercent만큼의 부모는 자식을 받지 않는다")
+    void emptyParents_ReceiveNoChildren() {
+        FakeDataGenProperties.FkDistribution config = config(ParentDistribution.Type.UNIFORM);
+        config.setEmptyParentPercent(30);
+
+        int[] counted = count(ParentDistribution.of(config, FAN_OUT, 1000, STREAM_KEY), 1000, 50_000);
+
+        int empty = 0;
+        for (int children : counted) {
+            if (children == 0) {
+                empty++;
+            }
+        }
+        assertEquals(300, empty);
+    }
+
+    @Test
+    @DisplayName("테이블.컬럼별 설정이 있으면 대소문자와 관계없이 그 설정을 사용한다")
+    void configFor_PrefersColumnSetting() {
+        FakeDataGenProperties.FkDistribution defaults = new FakeDataGenProperties.FkDistribution();
+        FakeDataGenProperties.FkDistribution zipf = config(ParentDistribution.Type.ZIPF);
+        defaults.getColumns().put("orders.user_id", zipf);
+
+        assertSame(zipf, ParentDistribution.configFor(defaults, "ORDERS", "user_id"));
+        assertSame(defaults, ParentDistribution.configFor(defaults, "orders", "product_id"));
+    }
+
+    private static FakeDataGenProperties.FkDistribution config(ParentDistribution.Type type) {
+        FakeDataGenProperties.FkDistribution config = new FakeDataGenProperties.FkDistribution();
+        config.setType(type);
+        return config;
+    }
+
+    private static int[] count(ParentDistribution parents, int parentCount, int childCount) {
+        int[] counted = new int[parentCount];
+        for (int child = 0; child < childCount; child++) {
+            counted[parents.parentIndex(child)]++;
+        }
+        return counted;
+    }
+}
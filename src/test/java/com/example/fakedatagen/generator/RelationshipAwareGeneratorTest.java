@@ -0,0 +1,127 @@
+package com.example.fakedatagen.generator;
+
+import com.example.fakedatagen.config.FakeDataGenProperties;
+import com.example.fakedatagen.model.*;
+import com.example.fakedatagen.parser.CubridSchemaParser;
+import com.example.fakedatagen.parser.TestSchemaConstants;
+import com.example.fakedatagen.parser.extractor.*;
+import com.example.fakedatagen.parser.builder.*;
+import com.example.fakedatagen.parser.analyzer.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RelationshipAwareGenerator 테스트 클래스
+ * 파싱된 스키마의 관계(N:1) 컬럼에도 fakedatagen.fk-distribution, fan-out 설정이 적용되는지 검증
+ */
+class RelationshipAwareGeneratorTest {
+
+    private static final int PARENT_COUNT = 100;
+    private static final int CHILD_COUNT = 10_000;
+
+    private DatabaseSchema schema;
+    private FakeDataGenProperties properties;
+    private RelationshipAwareGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        CubridSchemaParser parser = new CubridSchemaParser();
+        parser.setTableExtractor(new TableExtractor());
+        parser.setColumnExtractor(new ColumnExtractor());
+        parser.setPkExtractor(new PrimaryKeyExtractor());
+        parser.setFkExtractor(new ForeignKeyExtractor());
+        parser.setUniqueExtractor(new UniqueConstraintExtractor());
+        parser.setTableBuilder(new TableBuilder());
+        parser.setRelationshipAnalyzer(new RelationshipAnalyzer());
+        schema = parser.parseSchema(TestSchemaConstants.FULL_SCHEMA, false);
+
+        properties = new FakeDataGenProperties();
+        BasicValueGenerator basicValueGenerator = new BasicValueGenerator();
+        ForeignKeyValueGenerator foreignKeyValueGenerator = new ForeignKeyValueGenerator(properties);
+        generator = new RelationshipAwareGenerator(new TopologicalSorter(), basicValueGenerator, foreignKeyValueGenerator,
+                new RelationshipValueGenerator(basicValueGenerator, foreignKeyValueGenerator),
+                new ParallelRowGenerator(properties), new GenerationTracer(properties),
+                new JunctionPairGenerator(foreignKeyValueGenerator, properties));
+    }
+
+    @Test
+    @DisplayName("기본 설정이면 관계 컬럼은 부모를 순서대로 돌아가며 배정한다")
+    void roundRobin_ByDefault() {
+        Map<Object, Integer> counts = childCountsPerParent();
+
+        assertEquals(PARENT_COUNT, counts.size());
+        counts.values().forEach(count -> assertEquals(CHILD_COUNT / PARENT_COUNT, count.intValue()));
+    }
+
+    @Test
+    @DisplayName("전역 ZIPF 설정이 관계(N:1) 컬럼에도 적용되어 앞쪽 부모에 자식이 몰린다")
+    void globalZipf_SkewsRelationshipColumn() {
+        assertTrue(schema.getRelationships().stream()
+                .anyMatch(r -> r.getSourceTable().getName().equals("b")
+                        && r.getType() == Relationship.RelationshipType.MANY_TO_ONE));
+        properties.getFkDistribution().setType(ParentDistribution.Type.ZIPF);
+
+        Map<Object, Integer> counts = childCountsPerParent();
+
+        // 균등 배정이면 부모마다 100개, ZIPF(지수 1)면 첫 부모가 약 19%를 받음
+        int first = counts.getOrDefault(1, 0);
+        assertTrue(first > 5 * CHILD_COUNT / PARENT_COUNT, "첫 부모 자식 수: " + first);
+        assertTrue(first > counts.getOrDefault(PARENT_COUNT, 0) * 10);
+    }
+
+    @Test
+    @DisplayName("FAN_OUT이면 fan-out 설정의 부모당 자식 수대로 관계 컬럼을 배정한다")
+    void fanOut_AssignsChildrenPerParent() {
+        properties.getFkDistribution().setType(ParentDistribution.Type.FAN_OUT);
+        properties.getFanOut().setDistribution(FanOutDistribution.Type.FIXED);
+        properties.getFanOut().setChildren(2);
+
+        RowBatch batch = generateChildren();
+        int ordinal = batch.ordinalOf("a_id");
+
+        // 부모당 자식 2개씩 순서대로 배정: 1, 1, 2, 2, ...
+        for (int row = 0; row < 2 * PARENT_COUNT; row++) {
+            assertEquals(row / 2 + 1, batch.get(row, ordinal));
+        }
+    }
+
+    @Test
+    @DisplayName("메모리 생성도 DB 삽입 경로와 같은 구간 생성 작업으로 만들어 같은 값을 낸다")
+    void generateFakeData_MatchesChunkPath() {
+        GenerationSeed seed = GenerationSeed.of(42L);
+        Map<String, List<Map<String, Object>>> fakeData = generator.generateFakeData(schema, 50, seed);
+
+        RowBatch chunk = generator.generateTableChunk(schema, "b", seed, 0, 50, new HashMap<>(), fakeData);
+        assertEquals(chunk.asRecords(), fakeData.get("b"));
+
+        Set<Object> parentIds = new HashSet<>();
+        fakeData.get("a").forEach(record -> parentIds.add(record.get("id")));
+        fakeData.get("b").forEach(record -> assertTrue(parentIds.contains(record.get("a_id"))));
+    }
+
+    private Map<Object, Integer> childCountsPerParent() {
+        RowBatch batch = generateChildren();
+        int ordinal = batch.ordinalOf("a_id");
+        Map<Object, Integer> counts = new HashMap<>();
+        for (int row = 0; row < batch.size(); row++) {
+            counts.merge(batch.get(row, ordinal), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    private RowBatch generateChildren() {
+        Map<String, KeyStore> generatedKeys = new HashMap<>();
+        generatedKeys.put("a", KeyStore.range(1, PARENT_COUNT));
+        return generator.generateTableChunk(schema, "b", GenerationSeed.of(42L), 0, CHILD_COUNT,
+                generatedKeys, new HashMap<>());
+    }
+}
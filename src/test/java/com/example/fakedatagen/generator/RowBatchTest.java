@@ -0,0 +1,149 @@
+package com.example.fakedatagen.generator;
+
+import com.example.fakedatagen.exception.DataGenerationException;
+import com.example.fakedatagen.model.Column;
+import com.example.fakedatagen.model.Table;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RowBatch 테스트 클래스
+ * 컬럼 단위 버퍼가 타입별로 값을 보관하고 Map 뷰로 동일하게 보여주는지 검증
+ */
+class RowBatchTest {
+
+    private Table table;
+
+    @BeforeEach
+    void setUp() {
+        table = new Table("member");
+        table.addColumn(new Column("id", "integer"));
+        table.addColumn(new Column("amount", "bigint"));
+        table.addColumn(new Column("name", "varchar(50)"));
+        table.addColumn(new Column("birth", "date"));
+        table.addColumn(new Column("created_at", "datetime"));
+    }
+
+    @Test
+    @DisplayName("컬럼 타입별 저장 형태 결정")
+    void testKindOf() {
+        RowBatch batch = new RowBatch(table, 0, 1);
+
+        assertEquals(RowBatch.Kind.INT, batch.getKind(batch.ordinalOf("id")));
+        assertEquals(RowBatch.Kind.LONG, batch.getKind(batch.ordinalOf("amount")));
+        assertEquals(RowBatch.Kind.STRING, batch.getKind(batch.ordinalOf("name")));
+        assertEquals(RowBatch.Kind.DATE, batch.getKind(batch.ordinalOf("birth")));
+        assertEquals(RowBatch.Kind.DATETIME, batch.getKind(batch.ordinalOf("created_at")));
+        assertEquals(-1, batch.ordinalOf("unknown"));
+    }
+
+    @Test
+    @DisplayName("값 저장 및 Map 뷰 조회")
+    void testSetAndAsRecords() {
+        RowBatch batch = new RowBatch(table, 10, 2);
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+
+        int row = batch.addRow();
+        batch.set(row, 0, 1);
+        batch.set(row, 1, "12345");
+        batch.set(row, 2, "홍길동");
+        batch.set(row, 3, "2000-01-31");
+        batch.set(row, 4, createdAt);
+
+        row = batch.addRow();
+        batch.set(row, 0, 2);
+        batch.setNull(row, 1);
+        batch.set(row, 2, "kim");
+        batch.setNull(row, 3);
+        batch.setNull(row, 4);
+
+        assertEquals(2, batch.size());
+        assertEquals(10, batch.getStartIndex());
+        assertEquals(12345L, batch.getLong(0, 1));
+        assertEquals("홍길동", batch.getString(0, 2));
+        assertEquals(LocalDate.of(2000, 1, 31), batch.getDate(0, 3));
+        assertEquals(createdAt, batch.getDateTime(0, 4));
+        assertTrue(batch.isNull(1, 1));
+
+        List<Map<String, Object>> records = batch.asRecords();
+        assertEquals(2, records.size());
+        assertEquals(1, records.get(0).get("id"));
+        assertEquals("kim", records.get(1).get("name"));
+        assertNull(records.get(1).get("amount"));
+        assertTrue(records.get(1).containsKey("amount"));
+        assertFalse(records.get(0).containsKey("unknown"));
+        assertEquals(5, records.get(0).size());
+    }
+
+    @Test
+    @DisplayName("앞부분 행만 복사")
+    void testHead() {
+        RowBatch batch = new RowBatch(table, 0, 3);
+        for (int i = 0; i < 3; i++) {
+            int row = batch.addRow();
+            batch.set(row, 0, i);
+            batch.set(row, 2, "name" + i);
+        }
+
+        RowBatch head = batch.head(2);
+
+        assertEquals(2, head.size());
+        assertEquals("name1", head.getString(1, 2));
+        assertEquals(1, head.getInt(1, 0));
+    }
+
+    @Test
+    @DisplayName("참조 컬럼 보관용 배치는 지정한 컬럼만 원시 배열로 이어 붙인다")
+    void testProjection() {
+        RowBatch retained = RowBatch.projection(table, List.of("id", "name"), 4);
+        for (int start = 0; start < 4; start += 2) {
+            RowBatch chunk = new RowBatch(table, start, 2);
+            for (int i = start; i < start + 2; i++) {
+                int row = chunk.addRow();
+                chunk.set(row, 0, i + 1);
+                chunk.set(row, 1, 100L * i);
+                chunk.set(row, 2, i == 2 ? null : "name" + i);
+            }
+            retained.appendProjected(chunk);
+        }
+
+        assertEquals(2, retained.getColumnCount());
+        assertEquals(-1, retained.ordinalOf("amount"));
+        assertEquals(4, retained.size());
+        assertEquals(3, retained.asRecords().get(2).get("id"));
+        assertNull(retained.asRecords().get(2).get("name"));
+        assertEquals("name3", retained.getString(3, retained.ordinalOf("name")));
+    }
+
+    @Test
+    @DisplayName("값 생성기와 같은 컬럼 타입 판별로 저장 형태를 정한다")
+    void testKindOfColumnType() {
+        for (ColumnType type : ColumnType.values()) {
+            assertNotNull(RowBatch.kindOf(type));
+        }
+        assertEquals(RowBatch.Kind.DATETIME, RowBatch.kindOf(new Column("t", "timestamp")));
+        assertEquals(RowBatch.Kind.OBJECT, RowBatch.kindOf(new Column("b", "bit varying(8)")));
+        assertEquals(RowBatch.Kind.DECIMAL, RowBatch.kindOf(new Column("n", "numeric(10,2)")));
+        assertEquals(RowBatch.Kind.STRING, RowBatch.kindOf(new Column("s", "string")));
+    }
+
+    @Test
+    @DisplayName("문자열 버퍼 크기는 long으로 계산하고 최대 크기를 넘으면 예외를 던진다")
+    void testStringBufferGrowthLimit() {
+        assertEquals(64, RowBatch.grownCapacity("name", 32, 40));
+        assertEquals(100, RowBatch.grownCapacity("name", 32, 100));
+        // 두 배가 int 범위를 넘어도 음수가 되지 않고 최대 크기로 제한
+        assertEquals(RowBatch.MAX_STRING_BYTES, RowBatch.grownCapacity("name", 1_500_000_000, 1_600_000_000L));
+        DataGenerationException e = assertThrows(DataGenerationException.class,
+                () -> RowBatch.grownCapacity("name", RowBatch.MAX_STRING_BYTES, RowBatch.MAX_STRING_BYTES + 1L));
+        assertTrue(e.getMessage().contains("name"));
+    }
+}
@@ -283,5 +283,34 @@ class TopologicalSorterTest {
         assertTrue(indexParent >= 0 && indexChild >= 0, "parent와 child가 모두 리스트에 있어야 함");
         assertTrue(indexParent < indexChild, "parent는 child보다 앞에 있어야 함");
     }
-}
 
+    @Test
+    void testGetTableLevels_GroupsIndependentTables() {
+        // Given & When
+        List<List<Table>> levels = topologicalSorter.getTableLevels(schema);
+        List<List<String>> levelNames = levels.stream()
+                .map(level -> level.stream().map(Table::getName).collect(Collectors.toList()))
+                .collect(Collectors.toList());
+
+        // Then - 의존성이 없는 a와 parent는 0단계에 함께 있어야 함
+        assertEquals(3, levels.size(), "a -> b -> c 체인이므로 3단계여야 함");
+        assertTrue(levelNames.get(0).contains("a"), "a는 0단계여야 함");
+        assertTrue(levelNames.get(0).contains("parent"), "parent는 0단계여야 함");
+        assertTrue(levelNames.get(1).contains("b"), "b는 1단계여야 함");
+        assertTrue(levelNames.get(1).contains("child"), "child는 1단계여야 함");
+        assertTrue(levelNames.get(2).contains("c"), "c는 2단계여야 함");
+        assertTrue(levelNames.get(2).contains("grandchild"), "grandchild는 2단계여야 함");
+    }
+
+    @Test
+    void testGetTableLevels_ContainsAllTablesOnce() {
+        // Given & When
+        List<List<Table>> levels = topologicalSorter.getTableLevels(schema);
+
+        // Then
+        long total = levels.stream().mapToLong(List::size).sum();
+        long unique = levels.stream().flatMap(List::stream).map(Table::getName).distinct().count();
+        assertEquals(6, total, "모든 테이블이 포함되어야 함");
+        assertEquals(total, unique, "중복된 테이블이 없어야 함");
+    }
+}
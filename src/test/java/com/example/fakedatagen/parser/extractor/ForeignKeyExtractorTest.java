@@ -41,6 +41,7 @@ public class ForeignKeyExtractorTest {
         assertTrue(fkMap.containsKey("dba.c"), "dba.c 테이블이 있어야 함");
         assertTrue(fkMap.containsKey("dba.child"), "dba.child 테이블이 있어야 함");
         assertTrue(fkMap.containsKey("dba.grandchild"), "dba.grandchild 테이블이 있어야 함");
+        assertEquals("fk_b_a", fkMap.get("dba.b").get(0).getConstraintName(), "FK 제약조건 이름이 있어야 함");
 
         fkMap.forEach((table, fkList) -> {
             System.out.println("테이블: " + table);
@@ -48,5 +49,26 @@ public class ForeignKeyExtractorTest {
             System.out.println("--------------------");
         });
     }
+    
+    @Test
+    @DisplayName("복합 외래키는 컬럼 순서대로 참조 테이블의 기본키 컬럼들을 참조한다")
+    void testExtractCompositeForeignKey() {
+        String schema = "ALTER CLASS [dba].[order_line] ADD CONSTRAINT [fk_line_order] FOREIGN KEY([order_no], [shop_id]) "
+                + "WITH DEDUPLICATE=0 REFERENCES [dba].[orders] ON DELETE RESTRICT ON UPDATE RESTRICT ;\n"
+                + "ALTER CLASS [dba].[note] ADD CONSTRAINT [fk_note_order] FOREIGN KEY([o_no], [o_shop]) "
+                + "REFERENCES [dba].[orders] ([order_no], [shop_id]) ;";
+        Map<String, List<String>> pkMap = Map.of("dba.orders", List.of("order_no", "shop_id"));
+        
+        Map<String, List<ForeignKey>> fkMap = extractor.extract(schema, true, pkMap);
+        
+        ForeignKey line = fkMap.get("dba.order_line").get(0);
+        assertTrue(line.isComposite());
+        assertEquals(List.of("order_no", "shop_id"), line.getColumnNames());
+        assertEquals(List.of("order_no", "shop_id"), line.getReferencedColumnNames());
+        
+        ForeignKey note = fkMap.get("dba.note").get(0);
+        assertEquals(List.of("o_no", "o_shop"), note.getColumnNames());
+        assertEquals("shop_id", note.getReferencedColumnName("o_shop"));
+    }
 }
 
@@ -1,5 +1,6 @@
 package com.example.fakedatagen.parser.extractor;
 
+import com.example.fakedatagen.model.Constraint;
 import com.example.fakedatagen.parser.TestSchemaConstants;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -36,5 +37,21 @@ public class UniqueConstraintExtractorTest {
 
 
     }
+    
+    @Test
+    @DisplayName("UNIQUE 제약조건을 이름과 컬럼 묶음 그대로 추출")
+    void testExtractNamedConstraints() {
+        String schema = "ALTER CLASS [dba].[member] ADD ATTRIBUTE CONSTRAINT [uq_member_email] UNIQUE([email]);\n"
+                + "ALTER CLASS [dba].[member] ADD CONSTRAINT [UQ_MEMBER_NAME] UNIQUE([first_name], [last_name]);\n";
+        
+        Map<String, List<Constraint>> constraintMap = extractor.extractConstraints(schema, true);
+        List<Constraint> constraints = constraintMap.get("dba.member");
+        
+        assertEquals(2, constraints.size());
+        assertEquals("uq_member_email", constraints.get(0).getName());
+        assertEquals(List.of("email"), constraints.get(0).getColumns());
+        assertEquals("uq_member_name", constraints.get(1).getName());
+        assertEquals(List.of("first_name", "last_name"), constraints.get(1).getColumns());
+        assertEquals(List.of("email", "first_name", "last_name"), extractor.extract(schema, true).get("dba.member"));
+    }
 }
-
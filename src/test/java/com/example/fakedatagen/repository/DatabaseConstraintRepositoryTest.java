@@ -0,0 +1,167 @@
+package com.example.fakedatagen.repository;
+
+import com.example.fakedatagen.exception.DataGenerationException;
+import com.example.fakedatagen.model.Column;
+import com.example.fakedatagen.model.Constraint;
+import com.example.fakedatagen.model.DatabaseSchema;
+import com.example.fakedatagen.model.ForeignKey;
+import com.example.fakedatagen.model.Table;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DatabaseConstraintRepository 테스트 클래스
+ * 벌크 적재 전후 제약조건 삭제/재생성 SQL 순서를 검증
+ */
+class DatabaseConstraintRepositoryTest {
+
+    private final List<String> executed = new ArrayList<>();
+    private final DatabaseConstraintRepository repository = new DatabaseConstraintRepository();
+    private DatabaseSchema schema;
+
+    @BeforeEach
+    void setUp() {
+        schema = new DatabaseSchema("test");
+        Table member = new Table("", "member");
+        member.addColumn(new Column("id", "INTEGER"));
+        member.addColumn(new Column("first_name", "VARCHAR(20)"));
+        member.addColumn(new Column("last_name", "VARCHAR(20)"));
+        Constraint unique = new Constraint("uq_member_name", Constraint.ConstraintType.UNIQUE);
+        unique.setColumns(List.of("first_name", "last_name"));
+        member.addConstraint(unique);
+
+        Table orders = new Table("", "orders");
+        orders.addColumn(new Column("member_id", "INTEGER"));
+        orders.addForeignKey(new ForeignKey("fk_orders_member", "member_id", "member", "id"));
+
+        schema.addTable(member);
+        schema.addTable(orders);
+    }
+
+    @Test
+    @DisplayName("FK를 먼저 삭제한 뒤 UNIQUE를 삭제하고, 이미 없는 제약조건은 건너뛴다")
+    void drop_RemovesForeignKeysBeforeUnique() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate() {
+            @Override
+            public void execute(String sql) {
+                executed.add(sql);
+                if (sql.contains("uq_member_name")) {
+                    throw new IllegalStateException("constraint not found");
+                }
+            }
+        };
+
+        DatabaseConstraintRepository.DroppedConstraints dropped =
+                repository.dropSecondaryConstraints(jdbcTemplate, schema, List.of("member", "orders"), false);
+
+        assertEquals(1, dropped.size());
+        assertTrue(dropped.getUniqueConstraints().isEmpty());
+        assertEquals(List.of(
+                "ALTER TABLE [orders] DROP FOREIGN KEY [fk_orders_member]",
+                "ALTER TABLE [member] DROP CONSTRAINT [uq_member_name]"), executed);
+    }
+
+    @Test
+    @DisplayName("UNIQUE를 먼저 만든 뒤 FK를 추가하고 테이블별 시간을 돌려준다")
+    void rebuild_CreatesUniqueBeforeForeignKeys() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate() {
+            @Override
+            public void execute(String sql) {
+                executed.add(sql);
+            }
+        };
+
+        DatabaseConstraintRepository.DroppedConstraints dropped =
+                repository.dropSecondaryConstraints(jdbcTemplate, schema, List.of("member", "orders"), false);
+        executed.clear();
+
+        Map<String, Long> timings = repository.rebuildSecondaryConstraints(jdbcTemplate, dropped);
+
+        assertEquals(List.of(
+                "ALTER TABLE [member] ADD CONSTRAINT [uq_member_name] UNIQUE ([first_name], [last_name])",
+                "ALTER TABLE [orders] ADD CONSTRAINT [fk_orders_member] FOREIGN KEY ([member_id]) REFERENCES [member] ([id])"),
+                executed);
+        assertEquals(List.of("member", "orders"), new ArrayList<>(timings.keySet()));
+    }
+
+    @Test
+    @DisplayName("이름 없는 FK와 이미 없던 제약조건은 다시 추가하지 않는다")
+    void rebuild_OnlyRecreatesDroppedConstraints() {
+        Table payment = new Table("", "payment");
+        payment.addColumn(new Column("member_id", "INTEGER"));
+        payment.addForeignKey(new ForeignKey("member_id", "member", "id"));
+        schema.addTable(payment);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate() {
+            @Override
+            public void execute(String sql) {
+                executed.add(sql);
+                if (sql.contains("DROP CONSTRAINT [uq_member_name]")) {
+                    throw new IllegalStateException("Constraint \"uq_member_name\" does not exist.");
+                }
+            }
+        };
+
+        DatabaseConstraintRepository.DroppedConstraints dropped =
+                repository.dropSecondaryConstraints(jdbcTemplate, schema, List.of("member", "orders", "payment"), false);
+        executed.clear();
+        repository.rebuildSecondaryConstraints(jdbcTemplate, dropped);
+
+        assertEquals(List.of(
+                "ALTER TABLE [orders] ADD CONSTRAINT [fk_orders_member] FOREIGN KEY ([member_id]) REFERENCES [member] ([id])"),
+                executed);
+    }
+
+    @Test
+    @DisplayName("체크포인트 재개 시에는 중단된 실행이 이미 삭제한 제약조건도 다시 만든다")
+    void drop_WhenResumed_KeepsMissingConstraintsForRebuild() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate() {
+            @Override
+            public void execute(String sql) {
+                if (sql.contains(" DROP ")) {
+                    throw new IllegalStateException("constraint not found");
+                }
+            }
+        };
+
+        DatabaseConstraintRepository.DroppedConstraints dropped =
+                repository.dropSecondaryConstraints(jdbcTemplate, schema, List.of("member", "orders"), true);
+
+        assertEquals(2, dropped.size());
+    }
+
+    @Test
+    @DisplayName("제약조건이 없어서가 아닌 삭제 실패는 재개 중이어도 건너뛰지 않고 예외를 던진다")
+    void drop_RethrowsOtherFailures() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate() {
+            @Override
+            public void execute(String sql) {
+                if (sql.contains("DROP CONSTRAINT [uq_member_name]")) {
+                    throw new IllegalStateException("lock timeout", new SQLException("constraint is in use"));
+                }
+            }
+        };
+
+        assertThrows(DataGenerationException.class,
+                () -> repository.dropSecondaryConstraints(jdbcTemplate, schema, List.of("member", "orders"), false));
+        assertThrows(DataGenerationException.class,
+                () -> repository.dropSecondaryConstraints(jdbcTemplate, schema, List.of("member", "orders"), true));
+    }
+
+    @Test
+    @DisplayName("원인 예외의 메시지까지 확인하여 제약조건 없음 오류를 판별한다")
+    void isMissingConstraint_ChecksCauses() {
+        assertTrue(DatabaseConstraintRepository.isMissingConstraint(
+                new RuntimeException("StatementCallback; bad SQL grammar", new SQLException("Constraint 'fk' not found."))));
+        assertFalse(DatabaseConstraintRepository.isMissingConstraint(new RuntimeException("Connection refused")));
+        assertFalse(DatabaseConstraintRepository.isMissingConstraint(new RuntimeException((String) null)));
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.fakedatagen.repository;
+
+import com.example.fakedatagen.config.FakeDataGenProperties;
+import com.example.fakedatagen.generator.RowBatch;
+import com.example.fakedatagen.model.Column;
+import com.example.fakedatagen.model.DatabaseSchema;
+import com.example.fakedatagen.model.Table;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DatabaseInsertRepository 테스트 클래스
+ * 키 할당 모드별로 AUTO_INCREMENT 컬럼을 INSERT하는 방식과 돌려주는 키를 검증
+ */
+class DatabaseInsertRepositoryTest {
+
+    private final List<String> executed = new ArrayList<>();
+    private final List<Object> bound = new ArrayList<>();
+    // 바인딩된 값을 순서대로 기록하는 PreparedStatement
+    private final PreparedStatement statement = (PreparedStatement) Proxy.newProxyInstance(
+            getClass().getClassLoader(), new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                if (method.getName().startsWith("set") && args != null && args.length == 2) {
+                    bound.add(args[1]);
+                }
+                return null;
+            });
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate() {
+        @Override
+        public void execute(String sql) {
+            executed.add(sql);
+        }
+
+        @Override
+        public int[] batchUpdate(String sql, BatchPreparedStatementSetter setter) {
+            executed.add(sql + " x" + setter.getBatchSize());
+            try {
+                for (int i = 0; i < setter.getBatchSize(); i++) {
+                    setter.setValues(statement, i);
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            return new int[setter.getBatchSize()];
+        }
+    };
+    private final FakeDataGenProperties properties = new FakeDataGenProperties();
+    private final DatabaseInsertRepository repository = new DatabaseInsertRepository(jdbcTemplate, properties);
+    private DatabaseSchema schema;
+    private Table table;
+
+    @BeforeEach
+    void setUp() {
+        schema = new DatabaseSchema("test");
+        table = new Table("", "parent");
+        Column id = new Column("id", "INTEGER");
+        id.setPrimaryKey(true);
+        id.setAutoIncrement(true);
+        table.addColumn(id);
+        table.addColumn(new Column("name", "VARCHAR(5)"));
+        schema.addTable(table);
+
+        Table tag = new Table("", "tag");
+        tag.addColumn(new Column("code", "INTEGER"));
+        tag.addColumn(new Column("name", "VARCHAR(5)"));
+        schema.addTable(tag);
+    }
+
+    @Test
+    @DisplayName("CLIENT 모드는 AUTO_INCREMENT 컬럼을 직접 INSERT하고 버퍼의 키를 돌려준다")
+    void insertBatch_ClientModeBindsKeys() {
+        RowBatch batch = batch(3);
+
+        List<Long> keys = repository.insertBatch(jdbcTemplate, "parent", batch, schema);
+
+        assertEquals(List.of("INSERT INTO parent ([id], [name]) VALUES (?, ?), (?, ?), (?, ?) x1"), executed);
+        assertEquals(List.of(1, "name0", 2, "name1", 3, "name2"), bound);
+        assertEquals(List.of(1L, 2L, 3L), keys);
+    }
+
+    @Test
+    @DisplayName("Map 레코드는 컬럼 타입에 맞게 변환하여 바인딩하고, 같은 정의의 테이블은 INSERT 계획을 재사용한다")
+    void insertRecords_ConvertsByColumnType() {
+        Map<String, Object> record = new HashMap<>();
+        record.put("code", "7");
+        record.put("name", "abcdefgh");
+
+        repository.insertRecordsWithJdbcTemplate(jdbcTemplate, "tag", List.of(record), schema);
+        setUp();
+        repository.insertRecordsWithJdbcTemplate(jdbcTemplate, "tag", List.of(record), schema);
+
+        assertEquals(List.of("INSERT INTO tag ([code], [name]) VALUES (?, ?) x1",
+                "INSERT INTO tag ([code], [name]) VALUES (?, ?) x1"), executed);
+        assertEquals(List.of(7, "abcde", 7, "abcde"), bound);
+    }
+
+    @Test
+    @DisplayName("다중 행 INSERT는 파라미터 상한 이내의 행 수로 묶고 남은 행은 짧은 문장 하나로 넣는다")
+    void insertBatch_GroupsRowsPerStatement() {
+        properties.getMultiRowInsert().setRowsPerStatement(100);
+        properties.getMultiRowInsert().setMaxParameters(4);
+
+        repository.insertBatch(jdbcTemplate, "parent", batch(5), schema);
+
+        assertEquals(2, repository.rowsPerStatement(2));
+        assertEquals(List.of(
+                "INSERT INTO parent ([id], [name]) VALUES (?, ?), (?, ?) x2",
+                "INSERT INTO parent ([id], [name]) VALUES (?, ?) x1"), executed);
+    }
+
+    @Test
+    @DisplayName("GENERATED 모드에서는 INSERT를 건너뛴 구간의 키를 알 수 없으므로 0을 돌려준다")
+    void assignedKeys_GeneratedModeReturnsZeros() {
+        properties.getKeyAllocation().setMode(FakeDataGenProperties.KeyAllocation.Mode.GENERATED);
+
+        assertEquals(List.of(0L, 0L), repository.assignedKeys("parent", batch(2), schema));
+    }
+
+    @Test
+    @DisplayName("적재 후 AUTO_INCREMENT 시작값을 마지막 키 다음 값으로 맞춘다")
+    void advanceAutoIncrement_AltersTable() {
+        repository.advanceAutoIncrement(jdbcTemplate, "parent", schema, 101L);
+
+        assertEquals(List.of("ALTER TABLE [parent] AUTO_INCREMENT = 101"), executed);
+    }
+
+    private RowBatch batch(int size) {
+        RowBatch batch = new RowBatch(table, 0, size);
+        for (int i = 0; i < size; i++) {
+            int row = batch.addRow();
+            batch.set(row, batch.ordinalOf("id"), i + 1);
+            batch.set(row, batch.ordinalOf("name"), "name" + i);
+        }
+        return batch;
+    }
+}
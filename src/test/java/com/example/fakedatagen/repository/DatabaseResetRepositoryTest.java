@@ -0,0 +1,91 @@
+package com.example.fakedatagen.repository;
+
+import com.example.fakedatagen.config.FakeDataGenProperties.Reset.Strategy;
+import com.example.fakedatagen.model.Column;
+import com.example.fakedatagen.model.Constraint;
+import com.example.fakedatagen.model.DatabaseSchema;
+import com.example.fakedatagen.model.ForeignKey;
+import com.example.fakedatagen.model.Table;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DatabaseResetRepository 테스트 클래스
+ * 초기화 전략별로 실행하는 SQL 순서와 테이블별 시간 집계를 검증
+ */
+class DatabaseResetRepositoryTest {
+
+    private final List<String> executed = new ArrayList<>();
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate() {
+        @Override
+        public void execute(String sql) {
+            executed.add(sql);
+        }
+    };
+    private final DatabaseResetRepository repository = new DatabaseResetRepository(new DatabaseConstraintRepository());
+    private DatabaseSchema schema;
+
+    @BeforeEach
+    void setUp() {
+        schema = new DatabaseSchema("test");
+        Table parent = new Table("", "parent");
+        Column id = new Column("id", "INTEGER");
+        id.setPrimaryKey(true);
+        id.setAutoIncrement(true);
+        parent.addColumn(id);
+        parent.addColumn(new Column("name", "CHARACTER VARYING(50)"));
+        Constraint pk = new Constraint("pk_parent_id", Constraint.ConstraintType.PRIMARY_KEY);
+        pk.addColumn("id");
+        parent.addConstraint(pk);
+
+        Table child = new Table("", "child");
+        child.addColumn(new Column("parent_id", "INTEGER"));
+        child.addForeignKey(new ForeignKey("fk_child_parent", "parent_id", "parent", "id"));
+
+        schema.addTable(parent);
+        schema.addTable(child);
+    }
+
+    @Test
+    @DisplayName("TRUNCATE 전략은 참조되지 않는 테이블만 TRUNCATE하고 참조되는 테이블은 DELETE한다")
+    void truncate_DeletesReferencedTables() {
+        Map<String, Long> timings = repository.reset(jdbcTemplate, schema, List.of("parent", "child"), Strategy.TRUNCATE);
+
+        assertEquals(List.of("TRUNCATE TABLE [child]", "DELETE FROM [parent]"), executed);
+        assertEquals(List.of("child", "parent"), new ArrayList<>(timings.keySet()));
+    }
+
+    @Test
+    @DisplayName("DISABLE_FOREIGN_KEYS 전략은 FK를 삭제하고 모든 테이블을 TRUNCATE한 뒤 FK를 다시 추가한다")
+    void disableForeignKeys_DropsAndRestoresForeignKeys() {
+        repository.reset(jdbcTemplate, schema, List.of("parent", "child"), Strategy.DISABLE_FOREIGN_KEYS);
+
+        assertEquals(List.of(
+                "ALTER TABLE [child] DROP FOREIGN KEY [fk_child_parent]",
+                "TRUNCATE TABLE [child]",
+                "TRUNCATE TABLE [parent]",
+                "ALTER TABLE [child] ADD CONSTRAINT [fk_child_parent] FOREIGN KEY ([parent_id]) REFERENCES [parent] ([id])"),
+                executed);
+    }
+
+    @Test
+    @DisplayName("RECREATE 전략은 자식부터 DROP하고 파싱한 정의로 부모부터 다시 만든다")
+    void recreate_DropsAndCreatesFromSchema() {
+        repository.reset(jdbcTemplate, schema, List.of("parent", "child"), Strategy.RECREATE);
+
+        assertEquals("DROP TABLE IF EXISTS [child]", executed.get(0));
+        assertEquals("DROP TABLE IF EXISTS [parent]", executed.get(1));
+        assertEquals("CREATE TABLE [parent] ([id] INTEGER AUTO_INCREMENT, [name] CHARACTER VARYING(50), "
+                + "CONSTRAINT [pk_parent_id] PRIMARY KEY ([id]))", executed.get(2));
+        assertEquals("CREATE TABLE [child] ([parent_id] INTEGER)", executed.get(3));
+        assertTrue(executed.get(4).startsWith("ALTER TABLE [child] ADD CONSTRAINT [fk_child_parent]"));
+    }
+}
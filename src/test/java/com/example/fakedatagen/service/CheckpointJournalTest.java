@@ -0,0 +1,85 @@
+package com.example.fakedatagen.service;
+
+import com.example.fakedatagen.generator.GenerationSeed;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CheckpointJournal 테스트 클래스
+ * 커밋 구간/완료 테이블 기록과 같은 작업 재실행 시 이어서 진행하는 동작을 검증
+ */
+class CheckpointJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("같은 작업을 다시 열면 기록된 시드와 커밋 구간, 완료 테이블을 복원한다")
+    void open_ResumesRecordedProgress() {
+        GenerationSeed seed = GenerationSeed.random();
+        try (CheckpointJournal journal = CheckpointJournal.open(directory, "job", seed)) {
+            assertFalse(journal.isResumed());
+            journal.tableCompleted("users", 100);
+            journal.rangeCommitted("orders", 0, 1000);
+        }
+
+        try (CheckpointJournal journal = CheckpointJournal.open(directory, "job", GenerationSeed.random())) {
+            assertTrue(journal.isResumed());
+            assertEquals(seed.getValue(), journal.getSeed().getValue());
+            assertEquals(seed.getReferenceDate(), journal.getSeed().getReferenceDate());
+            assertTrue(journal.isTableComplete("users"));
+            assertEquals(100, journal.getCompletedCount("users"));
+            assertEquals(-1, journal.getCompletedCount("orders"));
+            assertTrue(journal.isRangeCommitted("orders", 500, 1000));
+            assertFalse(journal.isRangeCommitted("orders", 500, 1500));
+        }
+    }
+
+    @Test
+    @DisplayName("다른 시드를 지정하거나 다른 작업이면 새 저널로 시작한다")
+    void open_StartsOverOnDifferentSeedOrJob() {
+        try (CheckpointJournal journal = CheckpointJournal.open(directory, "job", GenerationSeed.of(1L))) {
+            journal.tableCompleted("users", 100);
+        }
+
+        try (CheckpointJournal journal = CheckpointJournal.open(directory, "other-job", GenerationSeed.of(1L))) {
+            assertFalse(journal.isResumed());
+        }
+        try (CheckpointJournal journal = CheckpointJournal.open(directory, "job", GenerationSeed.of(2L))) {
+            assertFalse(journal.isResumed());
+            assertFalse(journal.isTableComplete("users"));
+            assertEquals(2L, journal.getSeed().getValue());
+        }
+    }
+
+    @Test
+    @DisplayName("마지막 줄이 잘려도 앞의 기록은 복원하고, 완료하면 저널 파일을 삭제한다")
+    void open_IgnoresTruncatedLineAndCompleteDeletesFile() throws Exception {
+        Path file;
+        try (CheckpointJournal journal = CheckpointJournal.open(directory, "job", GenerationSeed.of(7L))) {
+            journal.rangeCommitted("orders", 0, 1000);
+            file = journal.getFile();
+        }
+        Files.writeString(file, "RANGE\torders\t10", StandardOpenOption.APPEND);
+
+        CheckpointJournal journal = CheckpointJournal.open(directory, "job", GenerationSeed.of(7L));
+        assertTrue(journal.isResumed());
+        assertTrue(journal.isRangeCommitted("orders", 0, 1000));
+        assertFalse(journal.isRangeCommitted("orders", 1000, 2000));
+        journal.rangeCommitted("orders", 1000, 2000);
+        journal.close();
+
+        journal = CheckpointJournal.open(directory, "job", GenerationSeed.of(7L));
+        assertTrue(journal.isRangeCommitted("orders", 1000, 2000));
+
+        journal.complete();
+        assertFalse(Files.exists(file));
+    }
+}
@@ -1,17 +1,30 @@
 package com.example.fakedatagen.service;
 
+import com.example.fakedatagen.config.FakeDataGenProperties;
+import com.example.fakedatagen.exception.DataGenerationException;
+import com.example.fakedatagen.generator.GenerationSeed;
+import com.example.fakedatagen.generator.KeyStore;
 import com.example.fakedatagen.generator.RelationshipAwareGenerator;
+import com.example.fakedatagen.generator.RowBatch;
+import com.example.fakedatagen.model.Column;
 import com.example.fakedatagen.model.DatabaseConnectionInfo;
 import com.example.fakedatagen.model.DatabaseSchema;
+import com.example.fakedatagen.model.Table;
 import com.example.fakedatagen.repository.DatabaseInsertRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.sql.Connection;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -30,6 +43,10 @@ class DataGenerationServiceTest {
 
     private DatabaseSchema schema;
 
+    private DatabaseSchema ordersSchema;
+
+    private FakeDataGenProperties ordersProperties;
+
     @BeforeEach
     void setUp() {
         schema = new DatabaseSchema("test");
@@ -40,7 +57,7 @@ class DataGenerationServiceTest {
         // given
         Map<String, List<Map<String, Object>>> fakeData = new HashMap<>();
         fakeData.put("a", List.of(Map.of("id", 1)));
-        when(relationshipAwareGenerator.generateFakeData(schema, 2)).thenReturn(fakeData);
+        when(relationshipAwareGenerator.generateFakeData(eq(schema), eq(2), any(GenerationSeed.class))).thenReturn(fakeData);
 
         // when
         DataGenerationService.DataGenerationResult result =
@@ -51,7 +68,7 @@ class DataGenerationServiceTest {
         assertEquals(fakeData, result.getFakeData());
         assertEquals(0, result.getTotalInserted());
         assertEquals("데이터 생성만 완료되었습니다. (INSERT하지 않음)", result.getInsertMessage());
-        verify(relationshipAwareGenerator, times(1)).generateFakeData(schema, 2);
+        verify(relationshipAwareGenerator, times(1)).generateFakeData(eq(schema), eq(2), any(GenerationSeed.class));
         verifyNoInteractions(databaseInsertRepository);
 
         System.out.println("Fake Data: " + result.getFakeData());
@@ -64,7 +81,7 @@ class DataGenerationServiceTest {
         // given
         Map<String, List<Map<String, Object>>> fakeData = new HashMap<>();
         fakeData.put("a", List.of(Map.of("id", 1)));
-        when(relationshipAwareGenerator.generateFakeData(schema, 3)).thenReturn(fakeData);
+        when(relationshipAwareGenerator.generateFakeData(eq(schema), eq(3), any(GenerationSeed.class))).thenReturn(fakeData);
 
         // when
         DataGenerationService.DataGenerationResult result =
@@ -75,7 +92,7 @@ class DataGenerationServiceTest {
         assertEquals(0, result.getTotalInserted());
         assertEquals("데이터베이스 연결 정보가 제공되지 않아 INSERT하지 않았습니다. 데이터 생성만 완료되었습니다.",
                 result.getInsertMessage());
-        verify(relationshipAwareGenerator, times(1)).generateFakeData(schema, 3);
+        verify(relationshipAwareGenerator, times(1)).generateFakeData(eq(schema), eq(3), any(GenerationSeed.class));
         verifyNoInteractions(databaseInsertRepository);
     }
 
@@ -95,7 +112,7 @@ class DataGenerationServiceTest {
                  Map.of("id", 11, "a_id", 2)
          ));
 
-         when(relationshipAwareGenerator.generateFakeData(fkSchema, 2)).thenReturn(fakeData);
+         when(relationshipAwareGenerator.generateFakeData(eq(fkSchema), eq(2), any(GenerationSeed.class))).thenReturn(fakeData);
 
          // when
          DataGenerationService.DataGenerationResult result =
@@ -113,7 +130,7 @@ class DataGenerationServiceTest {
          out.get("b").forEach(r -> assertTrue(aIds.contains(r.get("a_id")), "b.a_id는 a.id를 참조해야 함"));
 
          assertEquals(0, result.getTotalInserted());
-         verify(relationshipAwareGenerator, times(1)).generateFakeData(fkSchema, 2);
+         verify(relationshipAwareGenerator, times(1)).generateFakeData(eq(fkSchema), eq(2), any(GenerationSeed.class));
          verifyNoInteractions(databaseInsertRepository);
      }
 
@@ -128,6 +145,326 @@ class DataGenerationServiceTest {
         // then
         assertFalse(valid);
     }
-}
 
+    @Test
+    void insertTablePartitioned_mergesPartitionsInRowOrder() throws Exception {
+        // given: 1000행을 250행 파티션 4개로 나누어 100행 청크로 삽입 (미리보기는 두 번째 파티션까지 걸침)
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        DataGenerationService service = ordersService();
+        stubOrdersChunks();
+        when(databaseInsertRepository.insertBatch(any(), eq("orders"), any(), any()))
+                .thenAnswer(invocation -> keysOf(invocation.getArgument(2)));
+        Map<String, KeyStore> generatedKeys = new ConcurrentHashMap<>();
+        Map<String, List<Map<String, Object>>> generatedData = new ConcurrentHashMap<>();
+        Map<String, List<Map<String, Object>>> allFakeData = new ConcurrentHashMap<>();
+
+        // when
+        int inserted = service.insertTablePartitioned(new JdbcTemplate(dataSource), ordersSchema, "orders", 1000,
+                GenerationSeed.of(42L), 4, 0, null, Map.of("orders", Set.of("code")),
+                generatedKeys, generatedData, allFakeData);
+
+        // then: 파티션마다 자체 트랜잭션으로 커밋하고, 키/참조 컬럼/미리보기는 행 순서대로 합쳐짐
+        assertEquals(1000, inserted);
+        verify(connection, times(4)).commit();
+        verify(connection, never()).rollback();
+        KeyStore keys = generatedKeys.get("orders");
+        List<Map<String, Object>> retained = generatedData.get("orders");
+        assertEquals(1000, keys.size());
+        assertEquals(1000, retained.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i + 1L, keys.get(i));
+            assertEquals("c" + i, retained.get(i).get("code"));
+        }
+        List<Map<String, Object>> preview = allFakeData.get("orders");
+        assertEquals(300, preview.size());
+        for (int i = 0; i < 300; i++) {
+            assertEquals("c" + i, preview.get(i).get("code"));
+        }
+    }
+
+    @Test
+    void insertTablePartitioned_whenOnePartitionFails_waitsForOthersAndRethrows() throws Exception {
+        // given: 세 번째 파티션 [500, 750)의 첫 청크 INSERT가 실패
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        DataGenerationService service = ordersService();
+        stubOrdersChunks();
+        DataGenerationException failure = new DataGenerationException("INSERT 실패");
+        when(databaseInsertRepository.insertBatch(any(), eq("orders"), any(), any())).thenAnswer(invocation -> {
+            RowBatch batch = invocation.getArgument(2);
+            if (batch.getStartIndex() == 500) {
+                throw failure;
+            }
+            return keysOf(batch);
+        });
+        Map<String, KeyStore> generatedKeys = new ConcurrentHashMap<>();
+
+        // when
+        DataGenerationException thrown = assertThrows(DataGenerationException.class,
+                () -> service.insertTablePartitioned(new JdbcTemplate(dataSource), ordersSchema, "orders", 1000,
+                        GenerationSeed.of(42L), 4, 0, null, Map.of("orders", Set.of("code")),
+                        generatedKeys, new ConcurrentHashMap<>(), new ConcurrentHashMap<>()));
+
+        // then: 나머지 파티션은 끝까지 삽입/커밋된 뒤 실패한 파티션의 예외가 그대로 전달되고 테이블 결과는 남지 않음
+        assertSame(failure, thrown);
+        verify(connection, times(3)).commit();
+        verify(connection, times(1)).rollback();
+        // 성공한 파티션 3개 × 청크 3개 (100, 100, 50행) + 실패한 청크 1개
+        verify(databaseInsertRepository, times(10)).insertBatch(any(), eq("orders"), any(), any());
+        assertFalse(generatedKeys.containsKey("orders"));
+    }
+
+    @Test
+    void streamChunks_withPipeline_deliversChunksInRowOrderOnCallingThread() {
+        // given: 대기열 1칸, 200행 window를 100행 청크로 생성
+        DataGenerationService service = ordersService();
+        ordersProperties.getStreaming().setPipeline(true);
+        ordersProperties.getStreaming().setQueueCapacity(1);
+        stubOrdersChunks();
+        List<Integer> starts = new ArrayList<>();
+        Thread caller = Thread.currentThread();
+
+        // when
+        service.streamChunks(ordersSchema, "orders", GenerationSeed.of(42L), 0, 1000, 100, 200, Map.of(), Map.of(), chunk -> {
+            assertSame(caller, Thread.currentThread());
+            assertEquals("c" + chunk.getStartIndex(), chunk.get(0, 1));
+            starts.add(chunk.getStartIndex());
+        });
+
+        // then: 생성 스레드가 끝난 뒤 남은 마지막 청크까지 순서대로 전달됨
+        assertEquals(List.of(0, 100, 200, 300, 400, 500, 600, 700, 800, 900), starts);
+    }
+
+    @Test
+    void streamChunks_whenProducerFails_rethrowsAfterDeliveredChunks() {
+        // given: 세 번째 window [400, 600) 생성이 실패
+        DataGenerationService service = ordersService();
+        ordersProperties.getStreaming().setPipeline(true);
+        ordersProperties.getStreaming().setQueueCapacity(1);
+        DataGenerationException failure = new DataGenerationException("생성 실패");
+        when(relationshipAwareGenerator.generateTableChunks(any(), eq("orders"), any(), anyInt(), anyInt(), anyInt(), any(), any()))
+                .thenAnswer(invocation -> {
+                    int start = invocation.getArgument(3);
+                    if (start == 400) {
+                        throw failure;
+                    }
+                    return ordersChunks(start, invocation.getArgument(4), invocation.getArgument(5));
+                });
+        List<Integer> starts = new ArrayList<>();
+
+        // when
+        DataGenerationException thrown = assertThrows(DataGenerationException.class,
+                () -> service.streamChunks(ordersSchema, "orders", GenerationSeed.of(42L), 0, 1000, 100, 200, Map.of(), Map.of(),
+                        chunk -> starts.add(chunk.getStartIndex())));
+
+        // then: 실패 전에 만든 청크는 모두 전달되고 생성 스레드의 예외가 그대로 전달됨
+        assertSame(failure, thrown);
+        assertEquals(List.of(0, 100, 200, 300), starts);
+    }
+
+    @Test
+    void streamChunks_whenConsumerFails_stopsProducer() throws Exception {
+        // given: 두 번째 청크 INSERT가 실패하는 동안 생성 스레드는 가득 찬 대기열에서 기다리는 중
+        DataGenerationService service = ordersService();
+        ordersProperties.getStreaming().setPipeline(true);
+        ordersProperties.getStreaming().setQueueCapacity(1);
+        stubOrdersChunks();
+        DataGenerationException failure = new DataGenerationException("INSERT 실패");
+
+        // when
+        DataGenerationException thrown = assertThrows(DataGenerationException.class,
+                () -> service.streamChunks(ordersSchema, "orders", GenerationSeed.of(42L), 0, 1000, 100, 100, Map.of(), Map.of(),
+                        chunk -> {
+                            if (chunk.getStartIndex() == 100) {
+                                throw failure;
+                            }
+                        }));
+
+        // then: 예외가 그대로 전달되고 생성 스레드가 남지 않음
+        assertSame(failure, thrown);
+        long deadline = System.currentTimeMillis() + 5000;
+        while (liveProducerThreads() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(0, liveProducerThreads());
+    }
+
+    @Test
+    void withRowCommits_perRows_commitsEveryCommitRowsAndJournalsCommittedRanges(@TempDir Path directory) throws Exception {
+        // given: commit.rows=250, 100행 청크 10개
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        DataGenerationService service = ordersService();
+
+        try (CheckpointJournal journal = CheckpointJournal.open(directory, "job", GenerationSeed.of(42L))) {
+            // when
+            Integer result = service.withRowCommits(new JdbcTemplate(dataSource), 250, journal, "orders", committer -> {
+                committer.chunkInserted(0, 100);
+                committer.chunkInserted(100, 200);
+                // 커밋 전에는 저널에 기록되지 않음
+                assertEquals(0, commitCount(connection));
+                assertFalse(journal.hasCommittedRanges("orders"));
+                committer.chunkInserted(200, 300);
+                assertEquals(1, commitCount(connection));
+                assertTrue(journal.isRangeCommitted("orders", 0, 300));
+                for (int start = 300; start < 1000; start += 100) {
+                    committer.chunkInserted(start, start + 100);
+                }
+                return 1000;
+            });
+
+            // then: 250행 이상 쌓일 때마다 커밋 (300, 600, 900행) + 마지막 남은 100행 커밋
+            assertEquals(1000, result.intValue());
+            verify(connection, times(4)).commit();
+            verify(connection, never()).rollback();
+            assertTrue(journal.isRangeCommitted("orders", 300, 600));
+            assertTrue(journal.isRangeCommitted("orders", 600, 900));
+            assertTrue(journal.isRangeCommitted("orders", 900, 1000));
+            assertFalse(journal.isRangeCommitted("orders", 0, 600));
+        }
+    }
+
+    @Test
+    void withRowCommits_whenWorkFails_rollsBackOpenTransaction(@TempDir Path directory) throws Exception {
+        // given: commit.rows=150, [0, 200)은 커밋되고 [200, 300) INSERT 후 실패
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        DataGenerationService service = ordersService();
+        DataGenerationException failure = new DataGenerationException("INSERT 실패");
+
+        try (CheckpointJournal journal = CheckpointJournal.open(directory, "job", GenerationSeed.of(42L))) {
+            // when
+            DataGenerationException thrown = assertThrows(DataGenerationException.class,
+                    () -> service.withRowCommits(new JdbcTemplate(dataSource), 150, journal, "orders", committer -> {
+                        committer.chunkInserted(0, 100);
+                        committer.chunkInserted(100, 200);
+                        committer.chunkInserted(200, 300);
+                        throw failure;
+                    }));
+
+            // then: 열려 있던 트랜잭션만 롤백되고 커밋된 범위만 저널에 남음
+            assertSame(failure, thrown);
+            verify(connection, times(1)).commit();
+            verify(connection, times(1)).rollback();
+            assertTrue(journal.isRangeCommitted("orders", 0, 200));
+            assertFalse(journal.isRangeCommitted("orders", 200, 300));
+        }
+    }
+
+    @Test
+    void withRowCommits_perTable_runsInCallerTransaction() {
+        // given: PER_TABLE (commitRows=0)
+        DataSource dataSource = mock(DataSource.class);
+        DataGenerationService service = ordersService();
+
+        // when
+        String result = service.withRowCommits(new JdbcTemplate(dataSource), 0, null, "orders", committer -> {
+            assertNull(committer);
+            return "done";
+        });
+
+        // then: 새 트랜잭션을 열지 않고 호출하는 쪽 트랜잭션에 맡김
+        assertEquals("done", result);
+        verifyNoInteractions(dataSource);
+    }
+
+    @Test
+    void insertTablePartitioned_perTable_journalsOnlyCommittedPartitions(@TempDir Path directory) throws Exception {
+        // given: PER_TABLE, 세 번째 파티션 [500, 750) 실패
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        DataGenerationService service = ordersService();
+        stubOrdersChunks();
+        when(databaseInsertRepository.insertBatch(any(), eq("orders"), any(), any())).thenAnswer(invocation -> {
+            RowBatch batch = invocation.getArgument(2);
+            if (batch.getStartIndex() == 500) {
+                throw new DataGenerationException("INSERT 실패");
+            }
+            return keysOf(batch);
+        });
 
+        try (CheckpointJournal journal = CheckpointJournal.open(directory, "job", GenerationSeed.of(42L))) {
+            // when
+            assertThrows(DataGenerationException.class,
+                    () -> service.insertTablePartitioned(new JdbcTemplate(dataSource), ordersSchema, "orders", 1000,
+                            GenerationSeed.of(42L), 4, 0, journal, Map.of(),
+                            new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), new ConcurrentHashMap<>()));
+
+            // then: 커밋한 파티션마다 그 범위 전체가 한 번에 기록되고 롤백된 파티션은 기록되지 않음
+            verify(connection, times(3)).commit();
+            assertTrue(journal.isRangeCommitted("orders", 0, 250));
+            assertTrue(journal.isRangeCommitted("orders", 250, 500));
+            assertTrue(journal.isRangeCommitted("orders", 750, 1000));
+            assertFalse(journal.isRangeCommitted("orders", 500, 600));
+            assertFalse(journal.isRangeCommitted("orders", 0, 500));
+        }
+    }
+
+    private static long commitCount(Connection connection) {
+        return mockingDetails(connection).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("commit"))
+                .count();
+    }
+
+    private static long liveProducerThreads() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals("fakedatagen-producer-orders") && thread.isAlive())
+                .count();
+    }
+
+    /**
+     * orders(id, code) 테이블을 100행 청크로 삽입하는 서비스 (재시도 없음, 미리보기 300행)
+     */
+    private DataGenerationService ordersService() {
+        ordersSchema = new DatabaseSchema("test");
+        Table orders = new Table("", "orders");
+        orders.addColumn(new Column("id", "INTEGER"));
+        orders.addColumn(new Column("code", "VARCHAR(20)"));
+        ordersSchema.addTable(orders);
+
+        ordersProperties = new FakeDataGenProperties();
+        ordersProperties.setBatchSize(100);
+        ordersProperties.getRetry().setEnabled(false);
+        ordersProperties.getStreaming().setPreviewRowCount(300);
+        return new DataGenerationService(relationshipAwareGenerator, databaseInsertRepository, null, null, null, ordersProperties);
+    }
+
+    /**
+     * generateTableChunks 호출 범위를 청크 크기로 나누어 id = 행 인덱스 + 1, code = "c" + 행 인덱스인 배치를 돌려줌
+     */
+    private void stubOrdersChunks() {
+        when(relationshipAwareGenerator.generateTableChunks(any(), eq("orders"), any(), anyInt(), anyInt(), anyInt(), any(), any()))
+                .thenAnswer(invocation -> ordersChunks(invocation.getArgument(3), invocation.getArgument(4), invocation.getArgument(5)));
+    }
+
+    private List<RowBatch> ordersChunks(int start, int rowCount, int chunkSize) {
+        Table orders = ordersSchema.getTableByName("orders");
+        int end = start + rowCount;
+        List<RowBatch> chunks = new ArrayList<>();
+        for (int chunkStart = start; chunkStart < end; chunkStart += chunkSize) {
+            int chunkEnd = Math.min(chunkStart + chunkSize, end);
+            RowBatch chunk = new RowBatch(orders, chunkStart, chunkEnd - chunkStart);
+            for (int i = chunkStart; i < chunkEnd; i++) {
+                int row = chunk.addRow();
+                chunk.set(row, 0, i + 1);
+                chunk.set(row, 1, "c" + i);
+            }
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    private static List<Long> keysOf(RowBatch batch) {
+        List<Long> keys = new ArrayList<>(batch.size());
+        for (int row = 0; row < batch.size(); row++) {
+            keys.add(batch.getStartIndex() + row + 1L);
+        }
+        return keys;
+    }
+}